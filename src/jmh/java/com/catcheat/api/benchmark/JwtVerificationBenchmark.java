@@ -0,0 +1,66 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.security.auth.TokenRevocationStore;
+import com.catcheat.api.security.config.JwtTokenProvider;
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.JwtClaims;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Duration;
+
+/**
+ *  요청 1건당 JWT 인증 비용 (JwtAuthenticationFilter 가 하는 일에서 서블릿 처리를 뺀 부분)
+ *  - issue        : access 토큰 발급 (로그인/재발급 시 1회)
+ *  - verify       : 캐시 없이 서명(HMAC-SHA256) + payload JSON 파싱 (토큰의 첫 요청)
+ *  - parseCached  : claims 캐시 적중 (같은 토큰의 두 번째 요청부터)
+ *  - authenticate : parseCached + 폐기 여부 확인 (필터의 실제 경로)
+ */
+@State(Scope.Benchmark)
+public class JwtVerificationBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationStore revocationStore;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(new ObjectMapper(), new SimpleMeterRegistry(),
+                "benchmark-secret-benchmark-secret-0123456789",
+                Duration.ofMinutes(15), Duration.ofDays(14), 100_000);
+        revocationStore = new TokenRevocationStore(1_000_000);
+
+        user = new User();
+        user.setUserId(42);
+        user.setProvider("LOCAL");
+        user.setEmail("bench@catcheat.com");
+        token = tokenProvider.createAccessToken(user);
+        tokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public String issue() {
+        return tokenProvider.createAccessToken(user);
+    }
+
+    @Benchmark
+    public JwtClaims verify() {
+        return tokenProvider.verify(token);
+    }
+
+    @Benchmark
+    public JwtClaims parseCached() {
+        return tokenProvider.parse(token);
+    }
+
+    @Benchmark
+    public boolean authenticate() {
+        JwtClaims claims = tokenProvider.parse(token);
+        return claims.isAccessToken() && !revocationStore.isRevoked(claims.tokenId());
+    }
+}
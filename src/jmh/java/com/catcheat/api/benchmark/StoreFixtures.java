@@ -0,0 +1,38 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.Store;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ *  벤치마크용 매장 데이터 생성 (서울 일대 좌표, 시드 고정으로 매번 같은 데이터)
+ */
+final class StoreFixtures {
+
+    private StoreFixtures() {
+    }
+
+    static List<Store> stores(int count) {
+        Random random = new Random(7);
+        List<Store> stores = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            stores.add(Store.builder()
+                    .id((long) i)
+                    .code(String.format("CE%06d", i))
+                    .name("캐치잇 " + i + "호점")
+                    .address("서울특별시 강남구 테헤란로 " + (i % 500) + "길")
+                    .opened(i % 3 != 0)
+                    .province("서울특별시")
+                    .city("강남구")
+                    .district("역삼동")
+                    .roadAddress("서울특별시 강남구 테헤란로 " + (i % 500))
+                    .lotAddress("서울특별시 강남구 역삼동 " + (i % 900) + "-" + (i % 40))
+                    .latitude(37.45 + random.nextDouble() * 0.2)
+                    .longitude(126.90 + random.nextDouble() * 0.25)
+                    .build());
+        }
+        return stores;
+    }
+}
@@ -0,0 +1,83 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.StoreFieldFilter;
+import com.catcheat.api.store.StoreResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ *  매장 목록 응답 포맷별 직렬화 비용과 크기
+ *  - format    : json / smile / cbor
+ *  - gzip      : 직렬화 결과를 gzip 으로 압축 (server.compression 과 같은 처리)
+ *  - projected : ?fields=id,name,latitude,longitude 와 같은 필드 제한
+ *  - 결과의 bytes 보조 카운터 = 응답 1건의 바이트 수 (스레드 1개 기준, 시간 대비 크기 비교용)
+ */
+@State(Scope.Benchmark)
+public class StoreFormatBenchmark {
+
+    static final String PROJECTED_FIELDS = "id,name,latitude,longitude";
+
+    @Param({"json", "smile", "cbor"})
+    String format;
+
+    @Param({"false", "true"})
+    boolean gzip;
+
+    @Param({"false", "true"})
+    boolean projected;
+
+    @Param({"10000"})
+    int size;
+
+    private List<StoreResponseDto> dtos;
+    private ObjectWriter writer;
+
+    /** 호출마다 만들어진 응답 크기 (JMH 결과에 secondary metric 으로 표시) */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Payload {
+        public long bytes;
+    }
+
+    @Setup
+    public void setUp() {
+        dtos = StoreFixtures.stores(size).stream().map(StoreResponseDto::from).collect(Collectors.toList());
+
+        ObjectMapper mapper = switch (format) {
+            case "smile" -> new ObjectMapper(new SmileFactory());
+            case "cbor" -> new ObjectMapper(new CBORFactory());
+            default -> new ObjectMapper();
+        };
+        mapper.addMixIn(StoreResponseDto.class, StoreFieldFilter.class)
+                .setFilterProvider(StoreFieldFilter.allFields());
+        writer = projected ? mapper.writer(StoreFieldFilter.only(PROJECTED_FIELDS)) : mapper.writer();
+    }
+
+    @Benchmark
+    public byte[] serialize(Payload payload) throws IOException {
+        byte[] body = writer.writeValueAsBytes(dtos);
+        if (gzip) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream zip = new GZIPOutputStream(out)) {
+                zip.write(body);
+            }
+            body = out.toByteArray();
+        }
+        payload.bytes = body.length;
+        return body;
+    }
+}
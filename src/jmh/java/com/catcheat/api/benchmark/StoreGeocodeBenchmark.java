@@ -0,0 +1,41 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.geocode.GeocodeResult;
+import com.catcheat.api.store.geocode.StoreGeocoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  주소 한 건의 분석 + 좌표 조회 지연시간 (StoreGeocoder, 번들된 샘플 좌표 데이터)
+ *  - 도로명 주소 / 지번 주소 / 시도가 빠진 주소 / 좌표를 찾을 수 없는 주소
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreGeocodeBenchmark {
+
+    @Param({"서울특별시 강남구 테헤란로 152 (역삼동, 강남파이낸스센터)", "서울 강남구 역삼1동 737-1", "강남구 삼성동 159", "어딘가 알 수 없는 주소"})
+    String address;
+
+    private StoreGeocoder geocoder;
+
+    @Setup
+    public void setUp() throws IOException {
+        geocoder = new StoreGeocoder(new ClassPathResource("geo/address-centroids.csv"), "district", true);
+    }
+
+    @Benchmark
+    public GeocodeResult geocode() {
+        return geocoder.geocode(address);
+    }
+}
@@ -0,0 +1,72 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.StoreResponseDto;
+import com.catcheat.api.store.cache.LocalStoreCacheInvalidationBus;
+import com.catcheat.api.store.cache.StoreJsonCache;
+import com.catcheat.api.store.cache.StoreJsonList;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ *  GET /api/stores JSON 본문 출력 비용 (-prof gc 로 요청당 할당량 비교)
+ *  - jackson   : 목록을 매번 Jackson 으로 직렬화 (기존 방식)
+ *  - fragments : 매장별로 미리 직렬화된 조각을 이어 붙여 출력 (StoreJsonList)
+ *  - 출력은 바이트 수만 세는 스트림 → 네트워크/버퍼 비용 제외
+ */
+@State(Scope.Benchmark)
+public class StoreJsonListBenchmark {
+
+    @Param({"1000", "50000"})
+    int size;
+
+    private List<StoreResponseDto> dtos;
+    private StoreJsonList jsonList;
+    private ObjectWriter writer;
+
+    /** 받은 바이트 수만 세는 출력 스트림 */
+    @State(Scope.Thread)
+    public static class CountingOutputStream extends OutputStream {
+        long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        dtos = StoreFixtures.stores(size).stream().map(StoreResponseDto::from).collect(Collectors.toList());
+        ObjectMapper mapper = new ObjectMapper();
+        writer = mapper.writerFor(mapper.getTypeFactory().constructCollectionType(List.class, StoreResponseDto.class));
+        jsonList = new StoreJsonCache(mapper, new LocalStoreCacheInvalidationBus(), new SimpleMeterRegistry()).list(dtos);
+    }
+
+    @Benchmark
+    public long jackson(CountingOutputStream out) throws IOException {
+        writer.writeValue(out, dtos);
+        return out.count;
+    }
+
+    @Benchmark
+    public long fragments(CountingOutputStream out) throws IOException {
+        jsonList.writeTo(out);
+        return out.count;
+    }
+}
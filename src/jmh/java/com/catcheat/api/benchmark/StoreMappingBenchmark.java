@@ -0,0 +1,55 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreResponseDto;
+import com.catcheat.api.store.geo.GeoDistance;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ *  매장 응답 변환 관련 CPU/할당 비용
+ *  - dtoFrom       : StoreResponseDto.from(Store) 1건
+ *  - haversine     : GeoDistance.haversineKm 1회
+ *  - serializeList : StoreResponseDto 목록 JSON 직렬화 (size 건)
+ */
+@State(Scope.Benchmark)
+public class StoreMappingBenchmark {
+
+    @Param({"100", "10000"})
+    int size;
+
+    private Store store;
+    private List<StoreResponseDto> dtos;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        List<Store> stores = StoreFixtures.stores(size);
+        store = stores.get(0);
+        dtos = stores.stream().map(StoreResponseDto::from).collect(Collectors.toList());
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public StoreResponseDto dtoFrom() {
+        return StoreResponseDto.from(store);
+    }
+
+    @Benchmark
+    public double haversine() {
+        return GeoDistance.haversineKm(37.4979, 127.0276, store.getLatitude(), store.getLongitude());
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(dtos);
+    }
+}
@@ -0,0 +1,43 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.search.StoreSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  매장 검색 색인(StoreSearchIndex) 조회 지연시간
+ *  - 매장명 일부 / 오타 섞인 매장명 / 초성 / 한 글자 검색어를 size 건 색인에서 상위 20건 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreSearchBenchmark {
+
+    @Param({"100000"})
+    int size;
+
+    @Param({"12345호점", "캐치잇 1234호", "캐치잇 1234오점", "ㅋㅊㅇ", "캐"})
+    String query;
+
+    private StoreSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new StoreSearchIndex();
+        StoreFixtures.stores(size).forEach(index::put);
+    }
+
+    @Benchmark
+    public List<StoreSearchIndex.SearchHit> search() {
+        return index.search(query, 20);
+    }
+}
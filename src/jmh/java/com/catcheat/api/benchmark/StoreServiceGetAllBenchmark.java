@@ -0,0 +1,80 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangeRepository;
+import com.catcheat.api.store.StoreRepository;
+import com.catcheat.api.store.StoreResponseDto;
+import com.catcheat.api.store.StoreServiceImpl;
+import com.catcheat.api.store.cache.LocalStoreCacheInvalidationBus;
+import com.catcheat.api.store.cache.StoreCache;
+import com.catcheat.api.store.cache.StoreJsonCache;
+import com.catcheat.api.store.geo.StoreClusterIndex;
+import com.catcheat.api.store.geo.StoreSpatialIndex;
+import com.catcheat.api.store.hours.OpeningHoursIndex;
+import com.catcheat.api.store.search.StoreSearchIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ *  StoreServiceImpl.getAll() 목록 생성 비용 (DB 제외)
+ *  - Repository 는 메모리 목록을 돌려주는 프록시로 대체해서 엔티티 → DTO 변환과 리스트 생성만 측정
+ *  - cached=false : 스냅샷 TTL 0 → 매번 전체 변환 (매장별 JSON 조각은 version 이 같아 재사용)
+ *  - cached=true  : 스냅샷 캐시 적중
+ */
+@State(Scope.Benchmark)
+public class StoreServiceGetAllBenchmark {
+
+    @Param({"1000", "50000"})
+    int size;
+
+    @Param({"false", "true"})
+    boolean cached;
+
+    private StoreServiceImpl storeService;
+
+    @Setup
+    public void setUp() {
+        List<Store> stores = StoreFixtures.stores(size);
+        StoreRepository repository = (StoreRepository) Proxy.newProxyInstance(
+                StoreRepository.class.getClassLoader(),
+                new Class<?>[]{StoreRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && args == null) {
+                        return stores;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+
+        Duration snapshotTtl = cached ? Duration.ofHours(1) : Duration.ZERO;
+        LocalStoreCacheInvalidationBus invalidationBus = new LocalStoreCacheInvalidationBus();
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        StoreCache storeCache = new StoreCache(invalidationBus, meterRegistry,
+                10_000, Duration.ofMinutes(10), snapshotTtl);
+        StoreJsonCache storeJsonCache = new StoreJsonCache(new ObjectMapper(), invalidationBus, meterRegistry);
+        // 변경 기록 위치 조회도 DB 없이 고정값으로
+        StoreChangeRepository changeRepository = new StoreChangeRepository(null) {
+            @Override
+            public Position position() {
+                return new Position("0-0", Cursor.START);
+            }
+        };
+        storeService = new StoreServiceImpl(repository, changeRepository, null,
+                new StoreSpatialIndex(), new StoreClusterIndex(), new StoreSearchIndex(),
+                new OpeningHoursIndex(ZoneId.of("Asia/Seoul")), null, storeCache, storeJsonCache, event -> { }, null);
+    }
+
+    @Benchmark
+    public List<StoreResponseDto> getAll() {
+        return storeService.getAll();
+    }
+}
@@ -0,0 +1,71 @@
+package com.catcheat.api.benchmark;
+
+import com.catcheat.api.CatchEatPreDevApplication;
+import com.catcheat.api.security.auth.CustomUserDetailsService;
+import com.catcheat.api.security.auth.UserLookupCache;
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+
+/**
+ *  CustomUserDetailsService.loadUserByUsername() 비용 (임베디드 H2, PostgreSQL 호환 모드)
+ *  - cache=hit  : UserLookupCache 적중 (DB 조회 없음)
+ *  - cache=miss : 매번 캐시를 비워서 user_info 조회까지 포함
+ *  H2 에는 store_change / store_opening_hours(PostgreSQL 전용 SQL) 가 없으므로 기동 시 매장 적재는 끔
+ */
+@State(Scope.Benchmark)
+public class UserDetailsServiceBenchmark {
+
+    private static final String EMAIL = "bench@catcheat.com";
+
+    @Param({"hit", "miss"})
+    String cache;
+
+    private ConfigurableApplicationContext context;
+    private CustomUserDetailsService userDetailsService;
+    private UserLookupCache userLookupCache;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(CatchEatPreDevApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.username=sa",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "catcheat.store.warm-up.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+
+        User user = new User();
+        user.setProvider("LOCAL");
+        user.setEmail(EMAIL);
+        user.setPassword("{noop}password");
+        context.getBean(UserRepository.class).save(user);
+
+        userDetailsService = context.getBean(CustomUserDetailsService.class);
+        userLookupCache = context.getBean(UserLookupCache.class);
+        userDetailsService.loadUserByUsername(EMAIL);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        if ("miss".equals(cache)) {
+            userLookupCache.invalidate(EMAIL);
+        }
+        return userDetailsService.loadUserByUsername(EMAIL);
+    }
+}
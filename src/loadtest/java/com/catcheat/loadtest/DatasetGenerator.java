@@ -0,0 +1,247 @@
+package com.catcheat.loadtest;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.postgresql.copy.CopyManager;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.SplittableRandom;
+
+/**
+ *  store / user_info 합성 데이터 생성기 (로컬에서 운영 규모 데이터로 성능 확인용)
+ *
+ *  - 매장: KoreanRegions 의 시/도 인구 비율대로 분포, 코드는 LT00000001 부터, 85% 영업 중
+ *  - 사용자: LOCAL(loadtest-{n}@catcheat.test, 공통 비밀번호) + OAuth2(loadtest 제공자, lt-{n}) - SyntheticUsers 참고
+ *    비밀번호 해시는 한 번만 계산해서 모든 LOCAL 사용자가 공유 (수백만 번 bcrypt 를 돌리지 않음)
+ *  - 적재는 COPY FROM STDIN 으로 행을 만들면서 바로 흘려보냄 (임시 파일/INSERT 없음)
+ *    --truncate 이면 같은 트랜잭션에서 비운 테이블이므로 COPY ... FREEZE 로 적재 (나중에 VACUUM 이 다시 쓰지 않음)
+ *  - 적재하는 동안 보조 인덱스(idx_store_region, idx_store_opened)는 지웠다가 끝나고 한 번에 생성,
+ *    변경 기록 트리거(store_change_insert)는 끄고 대신 리셋 표시(op=R) 한 행만 남김
+ *    → 애플리케이션은 그 전에 기록된 매장 스냅샷 파일을 쓰지 않고 store 테이블 전체를 다시 읽음 (StoreSnapshotService)
+ *  - 애플리케이션을 멈춘 상태에서 실행 (실행 중인 인스턴스의 인덱스/캐시에는 반영되지 않음)
+ *
+ *  실행: ./gradlew generateDataset -Pargs="--stores=1000000 --users=100000 --truncate"
+ *  CSV 로만 저장: ./gradlew generateDataset -Pargs="--stores=1000000 --output=build/dataset" (psql \copy 명령 출력)
+ */
+public class DatasetGenerator {
+
+    private static final String STORE_COLUMNS =
+            "code, name, address, opened, province, city, district, road_address, lot_address, latitude, longitude";
+    private static final String USER_COLUMNS = "provider, provider_id, email, password, nickname";
+
+    private static final int CHUNK_SIZE = 1 << 20;                 // COPY 로 한 번에 보내는 크기 (약 1MB)
+    private static final long PROGRESS_INTERVAL = 1_000_000;
+
+    /** 행 하나를 CSV 로 추가 (n 은 1부터) */
+    private interface RowWriter {
+        void append(StringBuilder row, long n);
+    }
+
+    /** 모인 CSV 조각을 COPY 또는 파일로 보냄 */
+    private interface ChunkSink {
+        void write(StringBuilder chunk) throws IOException, SQLException;
+    }
+
+    private final DatasetOptions options;
+
+    DatasetGenerator(DatasetOptions options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        DatasetOptions options = DatasetOptions.parse(args);
+        DatasetGenerator generator = new DatasetGenerator(options);
+        long start = System.nanoTime();
+        if (options.output() != null) {
+            generator.writeFiles(options.output());
+        } else {
+            generator.load();
+        }
+        System.out.printf("Done in %.1fs%n", (System.nanoTime() - start) / 1e9);
+    }
+
+    void load() throws SQLException, IOException {
+        try (Connection connection = DriverManager.getConnection(options.jdbcUrl(), options.dbUser(), options.dbPassword())) {
+            connection.setAutoCommit(false);
+            try {
+                try (Statement statement = connection.createStatement()) {
+                    if (options.truncate()) {
+                        statement.execute("TRUNCATE store, store_change, user_info RESTART IDENTITY CASCADE");
+                    } else {
+                        requireEmpty(statement, "store");
+                        requireEmpty(statement, "user_info");
+                    }
+                    statement.execute("DROP INDEX IF EXISTS idx_store_region");
+                    statement.execute("DROP INDEX IF EXISTS idx_store_opened");
+                    statement.execute("ALTER TABLE store DISABLE TRIGGER store_change_insert");
+                }
+
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                String with = options.truncate() ? " WITH (FORMAT csv, FREEZE)" : " WITH (FORMAT csv)";
+                copy(copyManager, "COPY store (" + STORE_COLUMNS + ") FROM STDIN" + with,
+                        "store", options.stores(), storeRows());
+                copy(copyManager, "COPY user_info (" + USER_COLUMNS + ") FROM STDIN" + with,
+                        "user_info", options.users(), userRows());
+
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("ALTER TABLE store ENABLE TRIGGER store_change_insert");
+                    statement.execute("INSERT INTO store_change (store_id, op) VALUES (0, 'R')");
+                    statement.execute("SET LOCAL maintenance_work_mem = '512MB'");
+                    long start = System.nanoTime();
+                    statement.execute("CREATE INDEX idx_store_region ON store (province, city, district, id)");
+                    statement.execute("CREATE INDEX idx_store_opened ON store (opened, id)");
+                    System.out.printf("  indexes: %.1fs%n", (System.nanoTime() - start) / 1e9);
+                }
+                connection.commit();
+            } catch (SQLException | IOException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+
+            connection.setAutoCommit(true);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("ANALYZE store");
+                statement.execute("ANALYZE user_info");
+            }
+        }
+    }
+
+    void writeFiles(Path directory) throws IOException, SQLException {
+        Files.createDirectories(directory);
+        Path stores = directory.resolve("store.csv");
+        Path users = directory.resolve("user_info.csv");
+        try (Writer writer = Files.newBufferedWriter(stores, StandardCharsets.UTF_8)) {
+            generate("store", options.stores(), storeRows(), writer::append);
+        }
+        try (Writer writer = Files.newBufferedWriter(users, StandardCharsets.UTF_8)) {
+            generate("user_info", options.users(), userRows(), writer::append);
+        }
+        System.out.println("Load with psql:");
+        System.out.printf("  \\copy store (%s) FROM '%s' WITH (FORMAT csv)%n", STORE_COLUMNS, stores.toAbsolutePath());
+        System.out.printf("  \\copy user_info (%s) FROM '%s' WITH (FORMAT csv)%n", USER_COLUMNS, users.toAbsolutePath());
+    }
+
+    private static void requireEmpty(Statement statement, String table) throws SQLException {
+        try (ResultSet resultSet = statement.executeQuery("SELECT EXISTS (SELECT 1 FROM " + table + ")")) {
+            resultSet.next();
+            if (resultSet.getBoolean(1)) {
+                throw new IllegalStateException(table + " is not empty; pass --truncate to replace its rows");
+            }
+        }
+    }
+
+    private static void copy(CopyManager copyManager, String sql, String table, long count, RowWriter rows)
+            throws SQLException, IOException {
+        CopyIn copyIn = copyManager.copyIn(sql);
+        try {
+            generate(table, count, rows, chunk -> {
+                byte[] bytes = chunk.toString().getBytes(StandardCharsets.UTF_8);
+                copyIn.writeToCopy(bytes, 0, bytes.length);
+            });
+            copyIn.endCopy();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+    }
+
+    private static void generate(String table, long count, RowWriter rows, ChunkSink sink)
+            throws IOException, SQLException {
+        StringBuilder buffer = new StringBuilder(CHUNK_SIZE + 1024);
+        long start = System.nanoTime();
+        for (long n = 1; n <= count; n++) {
+            rows.append(buffer, n);
+            if (buffer.length() >= CHUNK_SIZE) {
+                sink.write(buffer);
+                buffer.setLength(0);
+            }
+            if (n % PROGRESS_INTERVAL == 0) {
+                System.out.printf("  %s: %,d / %,d rows (%,.0f rows/s)%n", table, n, count,
+                        n / ((System.nanoTime() - start) / 1e9));
+            }
+        }
+        if (!buffer.isEmpty()) {
+            sink.write(buffer);
+        }
+        System.out.printf("  %s: %,d rows in %.1fs%n", table, count, (System.nanoTime() - start) / 1e9);
+    }
+
+    private RowWriter storeRows() {
+        SplittableRandom random = new SplittableRandom(options.seed());
+        return (row, n) -> {
+            SyntheticStores.SyntheticStore store = SyntheticStores.next(random, String.format("LT%08d", n));
+            field(row, store.code()).append(',');
+            field(row, store.name()).append(',');
+            field(row, store.address()).append(',');
+            row.append(store.opened()).append(',');
+            field(row, store.province()).append(',');
+            field(row, store.city()).append(',');
+            field(row, store.district()).append(',');
+            field(row, store.roadAddress()).append(',');
+            field(row, store.lotAddress()).append(',');
+            row.append(round(store.latitude())).append(',');
+            row.append(round(store.longitude())).append('\n');
+        };
+    }
+
+    private RowWriter userRows() {
+        long localUsers = options.localUsers();
+        String passwordHash = localUsers == 0 ? null
+                : "{bcrypt}" + new BCryptPasswordEncoder(options.bcryptStrength()).encode(options.password());
+        String provider = SyntheticUsers.OAUTH2_REGISTRATION;
+        return (row, n) -> {
+            if (n <= localUsers) {
+                row.append("LOCAL,,");
+                field(row, SyntheticUsers.localEmail(n)).append(',');
+                field(row, passwordHash).append(',');
+                row.append("테스트").append(n).append('\n');
+            } else {
+                String providerId = SyntheticUsers.oauthProviderId(n - localUsers);
+                field(row, provider).append(',');
+                field(row, providerId).append(',');
+                field(row, SyntheticUsers.oauthEmail(providerId)).append(",,");
+                field(row, providerId).append('\n');
+            }
+        };
+    }
+
+    // CSV 값 (null 은 빈 칸 → NULL, 쉼표/따옴표/줄바꿈이 있으면 따옴표로 감쌈)
+    private static StringBuilder field(StringBuilder row, String value) {
+        if (value == null) {
+            return row;
+        }
+        boolean quote = value.isEmpty();
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            return row.append(value);
+        }
+        row.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                row.append('"');
+            }
+            row.append(c);
+        }
+        return row.append('"');
+    }
+
+    // 소수점 6자리 (약 0.1m) - CSV 크기를 줄임
+    private static double round(double degrees) {
+        return Math.round(degrees * 1e6) / 1e6;
+    }
+}
@@ -0,0 +1,88 @@
+package com.catcheat.loadtest;
+
+import java.nio.file.Path;
+
+/**
+ *  합성 데이터 생성 옵션 (--key=value 형식, 값이 없는 --truncate 는 true)
+ *
+ *  --jdbc-url         적재할 PostgreSQL 주소                       (기본값 jdbc:postgresql://localhost:5432/catcheat)
+ *  --db-user          DB 계정                                      (기본값 postgres)
+ *  --db-password      DB 비밀번호                                  (기본값 빈 값)
+ *  --stores           매장 수 (예: 100000, 10000000)                (기본값 100000)
+ *  --users            사용자 수 (LOCAL + OAuth2)                    (기본값 10000)
+ *  --oauth-share      사용자 중 OAuth2(loadtest 제공자)로 가입한 비율 (기본값 0.2)
+ *  --password         LOCAL 사용자 공통 비밀번호                    (기본값 loadtest-password)
+ *  --bcrypt-strength  비밀번호 해시 cost (애플리케이션 catcheat.auth.password.strength 와 같게) (기본값 10)
+ *  --seed             난수 시드 (같은 시드면 같은 데이터)            (기본값 42)
+ *  --truncate         store/user_info(와 딸린 테이블)를 비우고 새로 채움 (없으면 비어 있는 테이블에만 적재)
+ *  --output           DB 대신 CSV 파일로 저장할 디렉터리 (psql \copy 로 직접 적재할 때)
+ */
+record DatasetOptions(String jdbcUrl,
+                      String dbUser,
+                      String dbPassword,
+                      long stores,
+                      long users,
+                      double oauthShare,
+                      String password,
+                      int bcryptStrength,
+                      long seed,
+                      boolean truncate,
+                      Path output) {
+
+    static DatasetOptions parse(String[] args) {
+        String jdbcUrl = "jdbc:postgresql://localhost:5432/catcheat";
+        String dbUser = "postgres";
+        String dbPassword = "";
+        long stores = 100_000;
+        long users = 10_000;
+        double oauthShare = 0.2;
+        String password = SyntheticUsers.DEFAULT_PASSWORD;
+        int bcryptStrength = 10;
+        long seed = 42;
+        boolean truncate = false;
+        Path output = null;
+
+        for (String arg : args) {
+            if (arg.equals("--truncate")) {
+                truncate = true;
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "jdbc-url" -> jdbcUrl = value;
+                case "db-user" -> dbUser = value;
+                case "db-password" -> dbPassword = value;
+                case "stores" -> stores = Long.parseLong(value);
+                case "users" -> users = Long.parseLong(value);
+                case "oauth-share" -> oauthShare = Double.parseDouble(value);
+                case "password" -> password = value;
+                case "bcrypt-strength" -> bcryptStrength = Integer.parseInt(value);
+                case "seed" -> seed = Long.parseLong(value);
+                case "truncate" -> truncate = Boolean.parseBoolean(value);
+                case "output" -> output = Path.of(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+        if (stores < 0 || users < 0) {
+            throw new IllegalArgumentException("--stores and --users must not be negative");
+        }
+        if (oauthShare < 0 || oauthShare > 1) {
+            throw new IllegalArgumentException("--oauth-share must be between 0 and 1: " + oauthShare);
+        }
+        return new DatasetOptions(jdbcUrl, dbUser, dbPassword, stores, users, oauthShare, password,
+                bcryptStrength, seed, truncate, output);
+    }
+
+    long oauthUsers() {
+        return Math.round(users * oauthShare);
+    }
+
+    long localUsers() {
+        return users - oauthUsers();
+    }
+}
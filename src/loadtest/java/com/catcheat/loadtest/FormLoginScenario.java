@@ -0,0 +1,70 @@
+package com.catcheat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  폼 로그인 시나리오: POST /login (LOCAL 사용자 1..loginUsers 중 임의, 비밀번호 해시 검증 포함)
+ *  성공 응답은 JWT 토큰 쌍(200), 비밀번호 불일치는 /login?error 리다이렉트, 해시 큐 포화는 503 → 둘 다 오류로 집계
+ */
+class FormLoginScenario implements Scenario {
+
+    private final URI baseUrl;
+    private final long loginUsers;
+    private final String password;
+
+    FormLoginScenario(URI baseUrl, long loginUsers, String password) {
+        this.baseUrl = baseUrl;
+        this.loginUsers = loginUsers;
+        this.password = password;
+    }
+
+    /**
+     * 로그인해서 access 토큰을 받음 (시나리오 실행 전 API 호출용 토큰 발급)
+     *
+     * @throws IllegalStateException 로그인에 실패한 경우
+     */
+    static String login(HttpClient httpClient, URI baseUrl, String username, String password)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request(baseUrl, username, password),
+                HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Login failed for " + username + ": HTTP " + response.statusCode());
+        }
+        return new ObjectMapper().readTree(response.body()).path("accessToken").asText();
+    }
+
+    private static HttpRequest request(URI baseUrl, String username, String password) {
+        String form = "username=" + URLEncoder.encode(username, StandardCharsets.UTF_8)
+                + "&password=" + URLEncoder.encode(password, StandardCharsets.UTF_8);
+        return HttpRequest.newBuilder(baseUrl.resolve("/login"))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(form))
+                .build();
+    }
+
+    @Override
+    public String name() {
+        return "login";
+    }
+
+    @Override
+    public HttpRequest nextRequest(ThreadLocalRandom random) {
+        return request(baseUrl, SyntheticUsers.localEmail(1 + random.nextLong(loginUsers)), password);
+    }
+
+    @Override
+    public boolean isSuccess(int statusCode) {
+        return statusCode == 200;
+    }
+}
@@ -0,0 +1,42 @@
+package com.catcheat.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  지정한 경로들을 순서대로 번갈아 GET 하는 시나리오
+ */
+class GetScenario implements Scenario {
+
+    private final String name;
+    private final List<HttpRequest> requests;
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    GetScenario(String name, URI baseUrl, List<String> paths, Map<String, String> headers) {
+        this.name = name;
+        this.requests = paths.stream()
+                .map(path -> {
+                    HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path))
+                            .timeout(Duration.ofSeconds(30))
+                            .GET();
+                    headers.forEach(builder::header);
+                    return builder.build();
+                })
+                .toList();
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public HttpRequest nextRequest(ThreadLocalRandom random) {
+        return requests.get(Math.floorMod(sequence.getAndIncrement(), requests.size()));
+    }
+}
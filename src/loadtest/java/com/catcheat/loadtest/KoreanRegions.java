@@ -0,0 +1,138 @@
+package com.catcheat.loadtest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ *  합성 데이터용 지역 분포 (DatasetGenerator, create 시나리오)
+ *
+ *  - 시/도는 주민등록 인구 비율(천분율)로 뽑음 → 서울/경기에 매장이 몰리는 실제 분포와 비슷하게
+ *  - 시/도 안의 시/군/구는 같은 비율, 좌표는 시/군/구 대표 좌표 (geo/address-centroids.csv 와 같은 값 + 주요 도시)
+ *  - 읍/면/동은 흔한 동 이름 중 시/군/구마다 정해진 몇 개 + 시/군/구 중심에서 정해진 거리만큼 떨어진 중심점
+ *    (같은 동의 매장끼리 모여 있어야 nearby/viewport/클러스터 결과가 실제와 비슷함)
+ *  - 세종특별자치시는 시/군/구 없음 (city = null)
+ */
+final class KoreanRegions {
+
+    record District(String name, double latitude, double longitude) {
+    }
+
+    record City(String province, String name, double latitude, double longitude, List<District> districts) {
+    }
+
+    private record Province(String name, int weight, List<City> cities) {
+    }
+
+    private static final String[] DISTRICT_NAMES = {
+            "중앙동", "신흥동", "송정동", "신촌동", "상대동", "대화동", "장안동", "명륜동", "삼성동", "월곡동",
+            "화정동", "도화동", "연산동", "구암동", "신월동", "용산동", "장전동", "매곡동", "효자동", "태평동",
+            "금곡동", "송림동", "옥동", "남산동", "봉명동", "산본동", "관양동", "석촌동", "대림동", "용호동"
+    };
+
+    private static final List<Province> PROVINCES = new ArrayList<>();
+    private static final int TOTAL_WEIGHT;
+
+    static {
+        province("서울특별시", 181,
+                "종로구", 37.5735, 126.9790, "중구", 37.5641, 126.9979, "용산구", 37.5326, 126.9905,
+                "성동구", 37.5634, 127.0369, "광진구", 37.5385, 127.0823, "동대문구", 37.5744, 127.0396,
+                "중랑구", 37.6063, 127.0925, "성북구", 37.5894, 127.0167, "강북구", 37.6397, 127.0256,
+                "도봉구", 37.6688, 127.0471, "노원구", 37.6542, 127.0568, "은평구", 37.6027, 126.9291,
+                "서대문구", 37.5791, 126.9368, "마포구", 37.5663, 126.9019, "양천구", 37.5170, 126.8665,
+                "강서구", 37.5509, 126.8495, "구로구", 37.4954, 126.8874, "금천구", 37.4569, 126.8955,
+                "영등포구", 37.5264, 126.8962, "동작구", 37.5124, 126.9393, "관악구", 37.4784, 126.9516,
+                "서초구", 37.4837, 127.0324, "강남구", 37.5172, 127.0473, "송파구", 37.5145, 127.1059,
+                "강동구", 37.5301, 127.1238);
+        province("부산광역시", 64,
+                "해운대구", 35.1631, 129.1636, "부산진구", 35.1628, 129.0532, "사하구", 35.1046, 128.9749,
+                "북구", 35.1973, 128.9903, "동래구", 35.2049, 129.0837, "남구", 35.1366, 129.0843,
+                "수영구", 35.1456, 129.1131, "중구", 35.1062, 129.0323);
+        province("대구광역시", 46,
+                "중구", 35.8693, 128.6062, "수성구", 35.8582, 128.6306, "달서구", 35.8299, 128.5327,
+                "북구", 35.8858, 128.5828, "동구", 35.8866, 128.6355);
+        province("인천광역시", 58,
+                "남동구", 37.4470, 126.7313, "부평구", 37.5070, 126.7219, "연수구", 37.4102, 126.6783,
+                "서구", 37.5454, 126.6760, "미추홀구", 37.4636, 126.6503, "계양구", 37.5372, 126.7376);
+        province("광주광역시", 28,
+                "북구", 35.1740, 126.9120, "서구", 35.1519, 126.8901, "광산구", 35.1395, 126.7937,
+                "동구", 35.1461, 126.9232, "남구", 35.1330, 126.9025);
+        province("대전광역시", 28,
+                "서구", 36.3554, 127.3838, "유성구", 36.3622, 127.3561, "중구", 36.3256, 127.4214,
+                "동구", 36.3119, 127.4549, "대덕구", 36.3467, 127.4156);
+        province("울산광역시", 21,
+                "남구", 35.5443, 129.3302, "중구", 35.5694, 129.3326, "북구", 35.5827, 129.3613,
+                "울주군", 35.5623, 129.2430, "동구", 35.5049, 129.4166);
+        province("세종특별자치시", 8,
+                null, 36.4800, 127.2890);
+        province("경기도", 268,
+                "수원시", 37.2636, 127.0286, "성남시 분당구", 37.3827, 127.1189, "고양시", 37.6584, 126.8320,
+                "용인시", 37.2411, 127.1776, "부천시", 37.5034, 126.7660, "안산시", 37.3219, 126.8309,
+                "안양시", 37.3943, 126.9568, "화성시", 37.1995, 126.8312, "남양주시", 37.6360, 127.2165,
+                "평택시", 36.9921, 127.1129, "의정부시", 37.7381, 127.0337, "파주시", 37.7600, 126.7800,
+                "김포시", 37.6153, 126.7156, "시흥시", 37.3800, 126.8029, "광명시", 37.4786, 126.8646);
+        province("강원특별자치도", 29,
+                "춘천시", 37.8813, 127.7298, "원주시", 37.3422, 127.9202, "강릉시", 37.7519, 128.8761,
+                "속초시", 38.2070, 128.5918);
+        province("충청북도", 31,
+                "청주시", 36.6424, 127.4890, "충주시", 36.9910, 127.9259, "제천시", 37.1326, 128.1910);
+        province("충청남도", 42,
+                "천안시", 36.8151, 127.1139, "아산시", 36.7898, 127.0018, "서산시", 36.7849, 126.4503,
+                "당진시", 36.8898, 126.6459, "공주시", 36.4465, 127.1190);
+        province("전북특별자치도", 34,
+                "전주시", 35.8242, 127.1480, "익산시", 35.9483, 126.9576, "군산시", 35.9676, 126.7366);
+        province("전라남도", 35,
+                "여수시", 34.7604, 127.6622, "순천시", 34.9507, 127.4872, "목포시", 34.8118, 126.3922,
+                "광양시", 34.9407, 127.6959);
+        province("경상북도", 50,
+                "포항시", 36.0190, 129.3435, "구미시", 36.1195, 128.3446, "경주시", 35.8562, 129.2247,
+                "안동시", 36.5684, 128.7294, "경산시", 35.8251, 128.7414);
+        province("경상남도", 63,
+                "창원시", 35.2280, 128.6811, "김해시", 35.2285, 128.8894, "진주시", 35.1800, 128.1076,
+                "양산시", 35.3350, 129.0373, "거제시", 34.8806, 128.6211);
+        province("제주특별자치도", 13,
+                "제주시", 33.4996, 126.5312, "서귀포시", 33.2541, 126.5601);
+        TOTAL_WEIGHT = PROVINCES.stream().mapToInt(Province::weight).sum();
+    }
+
+    private KoreanRegions() {
+    }
+
+    // cities: 이름, 위도, 경도 반복
+    private static void province(String name, int weight, Object... cities) {
+        List<City> list = new ArrayList<>();
+        for (int i = 0; i < cities.length; i += 3) {
+            String city = (String) cities[i];
+            double latitude = (Double) cities[i + 1];
+            double longitude = (Double) cities[i + 2];
+            list.add(new City(name, city, latitude, longitude, districts(name + city, latitude, longitude)));
+        }
+        PROVINCES.add(new Province(name, weight, List.copyOf(list)));
+    }
+
+    // 시/군/구 이름으로 정해지는 동 5~12개 (실행할 때마다 같은 결과)
+    private static List<District> districts(String seed, double latitude, double longitude) {
+        RandomGenerator random = new SplittableRandom(seed.hashCode());
+        int count = 5 + random.nextInt(8);
+        List<District> districts = new ArrayList<>(count);
+        int first = random.nextInt(DISTRICT_NAMES.length);
+        for (int i = 0; i < count; i++) {
+            districts.add(new District(DISTRICT_NAMES[(first + i * 7) % DISTRICT_NAMES.length],
+                    latitude + random.nextDouble(-0.03, 0.03),
+                    longitude + random.nextDouble(-0.03, 0.03)));
+        }
+        return List.copyOf(districts);
+    }
+
+    static City pickCity(RandomGenerator random) {
+        int ticket = random.nextInt(TOTAL_WEIGHT);
+        for (Province province : PROVINCES) {
+            ticket -= province.weight();
+            if (ticket < 0) {
+                return province.cities().get(random.nextInt(province.cities().size()));
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+}
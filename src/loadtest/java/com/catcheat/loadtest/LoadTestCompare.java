@@ -0,0 +1,63 @@
+package com.catcheat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ *  LoadTestRunner 결과 JSON 여러 개를 나란히 비교 출력
+ *  첫 번째 파일을 기준으로 처리량/p99 변화율을 함께 표시
+ *  시나리오가 여러 개면(--mix) 전체 합계 다음에 시나리오별로 한 번 더 비교
+ */
+public class LoadTestCompare {
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            throw new IllegalArgumentException("Usage: LoadTestCompare <baseline.json> <candidate.json>...");
+        }
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<LoadTestReport> reports = new ArrayList<>();
+        for (String path : args) {
+            reports.add(objectMapper.readValue(new File(path), LoadTestReport.class));
+        }
+
+        print(reports, LoadTestReport::total);
+        List<LoadTestReport.ScenarioResult> scenarios = reports.get(0).scenarios();
+        if (scenarios.size() > 1) {
+            for (LoadTestReport.ScenarioResult scenario : scenarios) {
+                System.out.printf("%n[%s]%n", scenario.name());
+                print(reports, report -> report.scenarios().stream()
+                        .filter(result -> result.name().equals(scenario.name()))
+                        .findFirst()
+                        .orElse(null));
+            }
+        }
+    }
+
+    private static void print(List<LoadTestReport> reports,
+                              Function<LoadTestReport, LoadTestReport.ScenarioResult> selector) {
+        LoadTestReport.ScenarioResult baseline = selector.apply(reports.get(0));
+        System.out.printf("%-16s %12s %10s %10s %10s %10s %12s %12s%n",
+                "label", "concurrency", "req/s", "p50(ms)", "p99(ms)", "errors", "req/s vs 1st", "p99 vs 1st");
+        for (LoadTestReport report : reports) {
+            LoadTestReport.ScenarioResult result = selector.apply(report);
+            if (result == null) {
+                System.out.printf("%-16s %12d %10s%n", report.label(), report.concurrency(), "-");
+                continue;
+            }
+            System.out.printf("%-16s %12d %10.1f %10.2f %10.2f %9.2f%% %11.1f%% %11.1f%%%n",
+                    report.label(), report.concurrency(), result.throughputPerSecond(),
+                    result.p50Millis(), result.p99Millis(), result.errorRate() * 100,
+                    change(baseline.throughputPerSecond(), result.throughputPerSecond()),
+                    change(baseline.p99Millis(), result.p99Millis()));
+        }
+    }
+
+    private static double change(double baseline, double value) {
+        return baseline == 0 ? 0 : (value - baseline) / baseline * 100;
+    }
+}
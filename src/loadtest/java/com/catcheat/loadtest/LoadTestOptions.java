@@ -0,0 +1,129 @@
+package com.catcheat.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  부하 테스트 실행 옵션 (--key=value 형식)
+ *
+ *  --base-url     대상 애플리케이션 주소                      (기본값 http://localhost:8080)
+ *  --concurrency  동시에 요청을 보내는 가상 사용자 수          (기본값 100)
+ *  --duration     측정 시간                                   (기본값 60s)
+ *  --warmup       측정 전 워밍업 시간 (결과에서 제외)          (기본값 10s)
+ *  --path         요청 경로, 여러 번 지정하면 순서대로 번갈아 호출 (기본값 /api/stores)
+ *  --header       모든 요청에 붙일 헤더 "Name: value"          (여러 번 지정 가능)
+ *  --token        Authorization: Bearer {token} 헤더 (--header 의 축약형)
+ *  --label        결과 이름 (예: platform, virtual)           (기본값 run)
+ *  --output       결과 JSON 파일 경로                          (기본값 build/loadtest/{label}.json)
+ *
+ *  혼합 시나리오 (ScenarioMix, DatasetGenerator 로 만든 데이터 기준)
+ *  --mix                시나리오:비중 목록, 지정하면 --path 대신 사용 (예: list:60,get:25,create:5,update:5,login:3,oauth2:2)
+ *  --max-store-id       get/list/update 가 고르는 매장 id 범위 1..N (DatasetGenerator --stores 와 같게) (기본값 100000)
+ *  --username           API 토큰을 받을 LOCAL 사용자 (--token 이 없을 때)  (기본값 loadtest-1@catcheat.test)
+ *  --password           LOCAL 사용자 비밀번호                          (기본값 loadtest-password)
+ *  --login-users        login 시나리오가 고르는 LOCAL 사용자 범위 1..N     (기본값 1000)
+ *  --oauth-users        oauth2 시나리오가 고르는 사용자 범위 lt-1..lt-N     (기본값 4000)
+ *  --oauth-registration OAuth2 클라이언트 등록 id                       (기본값 loadtest)
+ *  --oauth-stub-port    StubOAuth2Provider 포트                        (기본값 8089)
+ */
+record LoadTestOptions(URI baseUrl,
+                       int concurrency,
+                       Duration duration,
+                       Duration warmup,
+                       List<String> paths,
+                       Map<String, String> headers,
+                       String label,
+                       Path output,
+                       Map<String, Integer> mix,
+                       long maxStoreId,
+                       String username,
+                       String password,
+                       long loginUsers,
+                       long oauthUsers,
+                       String oauthRegistration,
+                       int oauthStubPort) {
+
+    static LoadTestOptions parse(String[] args) {
+        URI baseUrl = URI.create("http://localhost:8080");
+        int concurrency = 100;
+        Duration duration = Duration.ofSeconds(60);
+        Duration warmup = Duration.ofSeconds(10);
+        List<String> paths = new ArrayList<>();
+        Map<String, String> headers = new LinkedHashMap<>();
+        String label = "run";
+        Path output = null;
+        Map<String, Integer> mix = new LinkedHashMap<>();
+        long maxStoreId = 100_000;
+        String username = SyntheticUsers.localEmail(1);
+        String password = SyntheticUsers.DEFAULT_PASSWORD;
+        long loginUsers = 1_000;
+        long oauthUsers = 4_000;
+        String oauthRegistration = SyntheticUsers.OAUTH2_REGISTRATION;
+        int oauthStubPort = 8089;
+
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --key=value but got: " + arg);
+            }
+            String key = arg.substring(2, separator);
+            String value = arg.substring(separator + 1);
+            switch (key) {
+                case "base-url" -> baseUrl = URI.create(value);
+                case "concurrency" -> concurrency = Integer.parseInt(value);
+                case "duration" -> duration = parseDuration(value);
+                case "warmup" -> warmup = parseDuration(value);
+                case "path" -> paths.add(value);
+                case "header" -> {
+                    int colon = value.indexOf(':');
+                    headers.put(value.substring(0, colon).trim(), value.substring(colon + 1).trim());
+                }
+                case "token" -> headers.put("Authorization", "Bearer " + value);
+                case "label" -> label = value;
+                case "output" -> output = Path.of(value);
+                case "mix" -> {
+                    for (String entry : value.split(",")) {
+                        int colon = entry.indexOf(':');
+                        mix.put(entry.substring(0, colon).trim(), Integer.parseInt(entry.substring(colon + 1).trim()));
+                    }
+                }
+                case "max-store-id" -> maxStoreId = Long.parseLong(value);
+                case "username" -> username = value;
+                case "password" -> password = value;
+                case "login-users" -> loginUsers = Long.parseLong(value);
+                case "oauth-users" -> oauthUsers = Long.parseLong(value);
+                case "oauth-registration" -> oauthRegistration = value;
+                case "oauth-stub-port" -> oauthStubPort = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Unknown option: --" + key);
+            }
+        }
+        if (paths.isEmpty()) {
+            paths.add("/api/stores");
+        }
+        if (output == null) {
+            output = Path.of("build", "loadtest", label + ".json");
+        }
+        return new LoadTestOptions(baseUrl, concurrency, duration, warmup, List.copyOf(paths),
+                Map.copyOf(headers), label, output, Collections.unmodifiableMap(mix), maxStoreId, username, password,
+                loginUsers, oauthUsers, oauthRegistration, oauthStubPort);
+    }
+
+    // 10s, 500ms, 2m 형식
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        long amount = Long.parseLong(value.substring(0, value.length() - 1));
+        return switch (value.charAt(value.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            default -> throw new IllegalArgumentException("Invalid duration: " + value);
+        };
+    }
+}
@@ -0,0 +1,61 @@
+package com.catcheat.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.PrintStream;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  부하 테스트 결과 (JSON 으로 저장되어 LoadTestCompare 로 비교 가능)
+ *  mix 는 --mix 로 지정한 시나리오 비중 (비교할 때 같은 조건인지 확인용, --mix 없이 실행했으면 비어 있음)
+ */
+record LoadTestReport(String label,
+                      int concurrency,
+                      double durationSeconds,
+                      Map<String, Integer> mix,
+                      List<ScenarioResult> scenarios,
+                      ScenarioResult total) {
+
+    record ScenarioResult(String name,
+                          long requests,
+                          long errors,
+                          double errorRate,
+                          double throughputPerSecond,
+                          double p50Millis,
+                          double p95Millis,
+                          double p99Millis,
+                          double maxMillis) {
+
+        static ScenarioResult of(String name, long successes, long failures,
+                                 Histogram histogram, double durationSeconds) {
+            long requests = successes + failures;
+            return new ScenarioResult(name, requests, failures,
+                    requests == 0 ? 0 : (double) failures / requests,
+                    requests / durationSeconds,
+                    histogram.getValueAtPercentile(50) / 1000.0,
+                    histogram.getValueAtPercentile(95) / 1000.0,
+                    histogram.getValueAtPercentile(99) / 1000.0,
+                    histogram.getMaxValue() / 1000.0);
+        }
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n== %s (concurrency=%d, %.0fs%s) ==%n", label, concurrency, durationSeconds,
+                mix == null || mix.isEmpty() ? "" : ", mix=" + mix);
+        out.printf("%-16s %10s %9s %10s %9s %9s %9s %9s%n",
+                "scenario", "requests", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+        for (ScenarioResult scenario : scenarios) {
+            printRow(out, scenario);
+        }
+        if (scenarios.size() > 1) {
+            printRow(out, total);
+        }
+    }
+
+    private static void printRow(PrintStream out, ScenarioResult row) {
+        out.printf("%-16s %10d %8.2f%% %10.1f %9.2f %9.2f %9.2f %9.2f%n",
+                row.name(), row.requests(), row.errorRate() * 100, row.throughputPerSecond(),
+                row.p50Millis(), row.p95Millis(), row.p99Millis(), row.maxMillis());
+    }
+}
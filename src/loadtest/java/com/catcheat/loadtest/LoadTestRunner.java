@@ -0,0 +1,146 @@
+package com.catcheat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  HTTP 부하 발생기 (폐쇄형 모델: 가상 사용자 concurrency 명이 응답을 받자마자 다음 요청을 보냄)
+ *
+ *  - 가상 사용자마다 가상 스레드 하나 → 수천 명도 가볍게 시뮬레이션
+ *  - 워밍업 구간의 요청은 집계하지 않음
+ *  - 결과: 시나리오별 처리량, 지연시간 p50/p95/p99/max, 오류율 → 콘솔 출력 + JSON 저장
+ *
+ *  예) 스레드 모델 비교 (DB 지연 50ms 를 주입한 애플리케이션에 대해)
+ *   1. catcheat.datasource.simulated-latency=50ms, spring.threads.virtual.enabled=false 로 기동
+ *      ./gradlew loadTest -Pargs="--concurrency=500 --duration=60s --label=platform --token=<액세스 토큰>"
+ *   2. spring.threads.virtual.enabled=true 로 재기동 후 --label=virtual 로 반복
+ *   3. ./gradlew loadTestCompare -Pargs="build/loadtest/platform.json build/loadtest/virtual.json"
+ *
+ *  예) 블로킹(MVC + JPA) / 리액티브(WebFlux + R2DBC) 읽기 비교 (같은 DB 지연, 캐시를 거치지 않는 페이지 조회)
+ *   1. catcheat.datasource.simulated-latency=50ms 로 기동 (서블릿 모드)
+ *      ./gradlew loadTest -Pargs="--concurrency=2000 --duration=60s --path=/api/stores?afterId=0&size=50 --label=blocking --token=<액세스 토큰>"
+ *   2. 같은 설정 + --spring.main.web-application-type=reactive 로 재기동 후 --label=reactive 로 반복
+ *   3. ./gradlew loadTestCompare -Pargs="build/loadtest/blocking.json build/loadtest/reactive.json"
+ *   (블로킹 쪽은 커넥션 풀 크기, 리액티브 쪽은 catcheat.store.reactive.pool-size 를 같게 맞춰야 공정함)
+ *
+ *  예) 합성 데이터 + 혼합 시나리오 (조회/생성/수정/폼 로그인/OAuth2 가입)
+ *   1. ./gradlew generateDataset -Pargs="--stores=1000000 --users=100000 --truncate"
+ *   2. --spring.profiles.active=loadtest 로 기동 (OAuth2 제공자를 StubOAuth2Provider 로 연결, bcrypt cost 를 데이터와 맞춤)
+ *   3. ./gradlew loadTest -Pargs="--mix=list:60,get:25,create:5,update:5,login:3,oauth2:2 --max-store-id=1000000 --label=mixed"
+ *      (API 토큰은 --username/--password 로 시작할 때 로그인해서 받음, oauth2 가 있으면 가짜 제공자를 함께 띄움)
+ *   4. 변경 전/후 결과를 loadTestCompare 로 비교 (시나리오별 처리량/p99/오류율)
+ */
+public class LoadTestRunner {
+
+    private final LoadTestOptions options;
+    private final ScenarioMix mix;
+    private final HttpClient httpClient;
+
+    LoadTestRunner(LoadTestOptions options, ScenarioMix mix, HttpClient httpClient) {
+        this.options = options;
+        this.mix = mix;
+        this.httpClient = httpClient;
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        try (StubOAuth2Provider ignored = options.mix().containsKey("oauth2")
+                ? StubOAuth2Provider.start(options.oauthStubPort()) : null) {
+            ScenarioMix mix = ScenarioMix.create(options, httpClient);
+            LoadTestReport report = new LoadTestRunner(options, mix, httpClient).run();
+            report.print(System.out);
+            write(report, options);
+        }
+    }
+
+    LoadTestReport run() throws InterruptedException {
+        Map<String, ScenarioStats> stats = new LinkedHashMap<>();
+        mix.scenarios().forEach(scenario -> stats.put(scenario.name(), new ScenarioStats()));
+
+        long startNanos = System.nanoTime();
+        long measureFromNanos = startNanos + options.warmup().toNanos();
+        long endNanos = measureFromNanos + options.duration().toNanos();
+
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                users.submit(() -> runUser(stats, measureFromNanos, endNanos));
+            }
+            users.shutdown();
+            users.awaitTermination(options.warmup().plus(options.duration()).plusMinutes(1).toMillis(),
+                    TimeUnit.MILLISECONDS);
+        }
+
+        double durationSeconds = options.duration().toMillis() / 1000.0;
+        List<LoadTestReport.ScenarioResult> results = new ArrayList<>();
+        Histogram total = new Histogram(3);
+        long totalSuccesses = 0;
+        long totalFailures = 0;
+        for (Map.Entry<String, ScenarioStats> entry : stats.entrySet()) {
+            ScenarioStats scenarioStats = entry.getValue();
+            Histogram histogram = scenarioStats.histogram();
+            total.add(histogram);
+            totalSuccesses += scenarioStats.successes();
+            totalFailures += scenarioStats.failures();
+            results.add(LoadTestReport.ScenarioResult.of(entry.getKey(), scenarioStats.successes(),
+                    scenarioStats.failures(), histogram, durationSeconds));
+        }
+        return new LoadTestReport(options.label(), options.concurrency(), durationSeconds, options.mix(), results,
+                LoadTestReport.ScenarioResult.of("total", totalSuccesses, totalFailures, total, durationSeconds));
+    }
+
+    private void runUser(Map<String, ScenarioStats> stats, long measureFromNanos, long endNanos) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < endNanos) {
+            Scenario scenario = mix.pick(random);
+
+            long sentNanos = System.nanoTime();
+            boolean success;
+            try {
+                success = scenario.execute(httpClient, random);
+            } catch (IOException | RuntimeException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long receivedNanos = System.nanoTime();
+
+            if (sentNanos >= measureFromNanos && receivedNanos <= endNanos) {
+                long latencyMicros = (receivedNanos - sentNanos) / 1_000;
+                ScenarioStats scenarioStats = stats.get(scenario.name());
+                if (success) {
+                    scenarioStats.recordSuccess(latencyMicros);
+                } else {
+                    scenarioStats.recordFailure(latencyMicros);
+                }
+            }
+        }
+    }
+
+    static void write(LoadTestReport report, LoadTestOptions options) throws IOException {
+        Files.createDirectories(options.output().toAbsolutePath().getParent());
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(options.output().toFile(), report);
+        System.out.println("Result written to " + options.output());
+    }
+}
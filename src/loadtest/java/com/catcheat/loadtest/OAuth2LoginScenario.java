@@ -0,0 +1,91 @@
+package com.catcheat.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  OAuth2 로그인(가입/갱신) 시나리오 - 브라우저가 하는 리다이렉트를 직접 따라감
+ *
+ *  1. GET /oauth2/authorization/{registration}  → 302 제공자 authorize (인가 요청은 세션에 저장 → 쿠키 보관)
+ *  2. GET 제공자 authorize + login_hint=lt-{n}   → 302 /login/oauth2/code/{registration}?code&state (StubOAuth2Provider)
+ *  3. GET 콜백 (쿠키 포함)                       → 애플리케이션이 제공자에 토큰/사용자 정보 요청 → 회원 upsert → JWT (200)
+ *
+ *  - 사용자는 lt-1..lt-{oauthUsers} 중 임의 → DatasetGenerator 가 만든 범위 안은 기존 회원, 밖은 첫 로그인에 가입
+ *  - 지연시간은 세 단계 전체 (제공자 왕복 포함)
+ */
+class OAuth2LoginScenario implements Scenario {
+
+    private final URI baseUrl;
+    private final String registration;
+    private final long oauthUsers;
+
+    OAuth2LoginScenario(URI baseUrl, String registration, long oauthUsers) {
+        this.baseUrl = baseUrl;
+        this.registration = registration;
+        this.oauthUsers = oauthUsers;
+    }
+
+    @Override
+    public String name() {
+        return "oauth2";
+    }
+
+    @Override
+    public HttpRequest nextRequest(ThreadLocalRandom random) {
+        return get(baseUrl.resolve("/oauth2/authorization/" + registration), null);
+    }
+
+    @Override
+    public boolean execute(HttpClient httpClient, ThreadLocalRandom random) throws IOException, InterruptedException {
+        String user = SyntheticUsers.oauthProviderId(1 + random.nextLong(oauthUsers));
+
+        HttpRequest start = nextRequest(random);
+        HttpResponse<Void> authorizationRedirect = httpClient.send(start, HttpResponse.BodyHandlers.discarding());
+        Optional<String> location = authorizationRedirect.headers().firstValue("Location");
+        if (authorizationRedirect.statusCode() != 302 || location.isEmpty()) {
+            return false;
+        }
+        String cookie = cookies(authorizationRedirect.headers().allValues("Set-Cookie"));
+
+        URI authorize = start.uri().resolve(location.get() + "&login_hint=" + user);
+        HttpResponse<Void> callbackRedirect = httpClient.send(get(authorize, null), HttpResponse.BodyHandlers.discarding());
+        location = callbackRedirect.headers().firstValue("Location");
+        if (callbackRedirect.statusCode() != 302 || location.isEmpty()) {
+            return false;
+        }
+
+        HttpResponse<Void> callback = httpClient.send(get(authorize.resolve(location.get()), cookie),
+                HttpResponse.BodyHandlers.discarding());
+        return callback.statusCode() == 200;
+    }
+
+    private static HttpRequest get(URI uri, String cookie) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri)
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        if (cookie != null && !cookie.isEmpty()) {
+            builder.header("Cookie", cookie);
+        }
+        return builder.build();
+    }
+
+    // Set-Cookie 들 → Cookie 헤더 값 (이름=값 부분만)
+    private static String cookies(List<String> setCookies) {
+        StringBuilder cookie = new StringBuilder();
+        for (String setCookie : setCookies) {
+            int end = setCookie.indexOf(';');
+            if (!cookie.isEmpty()) {
+                cookie.append("; ");
+            }
+            cookie.append(end < 0 ? setCookie : setCookie.substring(0, end));
+        }
+        return cookie.toString();
+    }
+}
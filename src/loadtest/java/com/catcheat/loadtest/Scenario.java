@@ -0,0 +1,29 @@
+package com.catcheat.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  부하 테스트 시나리오: 가상 사용자가 다음에 보낼 요청을 만듦
+ *  결과는 시나리오 이름별로 따로 집계됨
+ */
+interface Scenario {
+
+    String name();
+
+    HttpRequest nextRequest(ThreadLocalRandom random);
+
+    // 응답 코드가 성공으로 간주되는지 (기본: 2xx, 304)
+    default boolean isSuccess(int statusCode) {
+        return (statusCode >= 200 && statusCode < 300) || statusCode == 304;
+    }
+
+    // 한 번 실행 (지연시간은 이 호출 전체로 측정됨) - 여러 요청으로 이루어진 시나리오는 재정의
+    default boolean execute(HttpClient httpClient, ThreadLocalRandom random) throws IOException, InterruptedException {
+        HttpResponse<Void> response = httpClient.send(nextRequest(random), HttpResponse.BodyHandlers.discarding());
+        return isSuccess(response.statusCode());
+    }
+}
@@ -0,0 +1,81 @@
+package com.catcheat.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ *  시나리오와 비중 (가상 사용자가 요청마다 비중에 따라 시나리오 하나를 고름)
+ *
+ *  --mix 이름: list, get, create, update (API 토큰 필요), login, oauth2
+ *  --mix 가 없으면 기존처럼 --path 들을 번갈아 GET 하는 시나리오 하나
+ */
+final class ScenarioMix {
+
+    private static final Set<String> AUTHENTICATED = Set.of("list", "get", "create", "update");
+
+    private final List<Scenario> scenarios;
+    private final int[] cumulativeWeights;
+
+    private ScenarioMix(List<Scenario> scenarios, List<Integer> weights) {
+        this.scenarios = List.copyOf(scenarios);
+        this.cumulativeWeights = new int[weights.size()];
+        int sum = 0;
+        for (int i = 0; i < weights.size(); i++) {
+            sum += weights.get(i);
+            cumulativeWeights[i] = sum;
+        }
+        if (sum <= 0) {
+            throw new IllegalArgumentException("Scenario weights must add up to more than 0");
+        }
+    }
+
+    static ScenarioMix create(LoadTestOptions options, HttpClient httpClient) throws IOException, InterruptedException {
+        if (options.mix().isEmpty()) {
+            return new ScenarioMix(
+                    List.of(new GetScenario("get", options.baseUrl(), options.paths(), options.headers())), List.of(1));
+        }
+
+        Map<String, String> headers = new LinkedHashMap<>(options.headers());
+        if (!headers.containsKey("Authorization") && options.mix().keySet().stream().anyMatch(AUTHENTICATED::contains)) {
+            String token = FormLoginScenario.login(httpClient, options.baseUrl(), options.username(), options.password());
+            headers.put("Authorization", "Bearer " + token);
+        }
+
+        List<Scenario> scenarios = new ArrayList<>();
+        List<Integer> weights = new ArrayList<>();
+        options.mix().forEach((name, weight) -> {
+            scenarios.add(switch (name) {
+                case "list" -> StoreReadScenario.list(options.baseUrl(), options.maxStoreId(), headers);
+                case "get" -> StoreReadScenario.get(options.baseUrl(), options.maxStoreId(), headers);
+                case "create" -> StoreWriteScenario.create(options.baseUrl(), headers);
+                case "update" -> StoreWriteScenario.update(options.baseUrl(), options.maxStoreId(), headers);
+                case "login" -> new FormLoginScenario(options.baseUrl(), options.loginUsers(), options.password());
+                case "oauth2" -> new OAuth2LoginScenario(options.baseUrl(), options.oauthRegistration(),
+                        options.oauthUsers());
+                default -> throw new IllegalArgumentException("Unknown scenario: " + name);
+            });
+            weights.add(weight);
+        });
+        return new ScenarioMix(scenarios, weights);
+    }
+
+    List<Scenario> scenarios() {
+        return scenarios;
+    }
+
+    Scenario pick(ThreadLocalRandom random) {
+        int ticket = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (ticket < cumulativeWeights[i]) {
+                return scenarios.get(i);
+            }
+        }
+        throw new IllegalStateException("Unreachable");
+    }
+}
@@ -0,0 +1,40 @@
+package com.catcheat.loadtest;
+
+import org.HdrHistogram.Recorder;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ *  시나리오 하나의 측정 결과 (지연시간은 마이크로초 단위 HdrHistogram)
+ */
+class ScenarioStats {
+
+    private static final long MAX_LATENCY_MICROS = 60_000_000L;
+
+    private final Recorder latencies = new Recorder(MAX_LATENCY_MICROS, 3);
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    void recordSuccess(long latencyMicros) {
+        latencies.recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+        successes.increment();
+    }
+
+    void recordFailure(long latencyMicros) {
+        latencies.recordValue(Math.min(latencyMicros, MAX_LATENCY_MICROS));
+        failures.increment();
+    }
+
+    long successes() {
+        return successes.sum();
+    }
+
+    long failures() {
+        return failures.sum();
+    }
+
+    Histogram histogram() {
+        return latencies.getIntervalHistogram();
+    }
+}
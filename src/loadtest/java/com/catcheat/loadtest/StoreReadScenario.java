@@ -0,0 +1,56 @@
+package com.catcheat.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ *  매장 조회 시나리오 (--max-store-id 범위에서 임의의 매장)
+ *
+ *  - list: GET /api/stores?afterId={임의}&size=20 (키셋 페이지, 매장 수와 관계없이 응답 크기가 일정)
+ *  - get : GET /api/stores/{임의 id}
+ */
+class StoreReadScenario implements Scenario {
+
+    private static final int PAGE_SIZE = 20;
+
+    private final String name;
+    private final URI baseUrl;
+    private final Function<ThreadLocalRandom, String> path;
+    private final Map<String, String> headers;
+
+    private StoreReadScenario(String name, URI baseUrl, Function<ThreadLocalRandom, String> path,
+                              Map<String, String> headers) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.path = path;
+        this.headers = headers;
+    }
+
+    static StoreReadScenario list(URI baseUrl, long maxStoreId, Map<String, String> headers) {
+        return new StoreReadScenario("list", baseUrl,
+                random -> "/api/stores?afterId=" + random.nextLong(maxStoreId) + "&size=" + PAGE_SIZE, headers);
+    }
+
+    static StoreReadScenario get(URI baseUrl, long maxStoreId, Map<String, String> headers) {
+        return new StoreReadScenario("get", baseUrl,
+                random -> "/api/stores/" + (1 + random.nextLong(maxStoreId)), headers);
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public HttpRequest nextRequest(ThreadLocalRandom random) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path.apply(random)))
+                .timeout(Duration.ofSeconds(30))
+                .GET();
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+}
@@ -0,0 +1,82 @@
+package com.catcheat.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Function;
+
+/**
+ *  매장 쓰기 시나리오
+ *
+ *  - create: POST /api/stores (SyntheticStores 로 만든 새 매장, 코드는 LC + 임의 값이라 겹치지 않음)
+ *  - update: PATCH /api/stores/{임의 id} (이름/영업 여부만, If-Match: * 로 버전 확인 없이 덮어씀)
+ */
+class StoreWriteScenario implements Scenario {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final String name;
+    private final URI baseUrl;
+    private final String method;
+    private final Function<ThreadLocalRandom, String> path;
+    private final Function<ThreadLocalRandom, Object> body;
+    private final Map<String, String> headers;
+
+    private StoreWriteScenario(String name, URI baseUrl, String method, Function<ThreadLocalRandom, String> path,
+                               Function<ThreadLocalRandom, Object> body, Map<String, String> headers) {
+        this.name = name;
+        this.baseUrl = baseUrl;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+        this.headers = headers;
+    }
+
+    static StoreWriteScenario create(URI baseUrl, Map<String, String> headers) {
+        return new StoreWriteScenario("create", baseUrl, "POST", random -> "/api/stores",
+                random -> SyntheticStores.next(random, "LC" + Long.toString(random.nextLong(Long.MAX_VALUE), 36)),
+                headers);
+    }
+
+    static StoreWriteScenario update(URI baseUrl, long maxStoreId, Map<String, String> headers) {
+        return new StoreWriteScenario("update", baseUrl, "PATCH",
+                random -> "/api/stores/" + (1 + random.nextLong(maxStoreId)),
+                random -> Map.of("name", "수정 매장 " + random.nextInt(1_000_000), "opened", random.nextBoolean()),
+                withIfMatchAny(headers));
+    }
+
+    // PATCH 는 버전 조건이 없으면 428 → 부하 테스트에서는 조건 없는 덮어쓰기를 명시
+    private static Map<String, String> withIfMatchAny(Map<String, String> headers) {
+        Map<String, String> withIfMatch = new LinkedHashMap<>(headers);
+        withIfMatch.put("If-Match", "*");
+        return withIfMatch;
+    }
+
+    @Override
+    public String name() {
+        return name;
+    }
+
+    @Override
+    public HttpRequest nextRequest(ThreadLocalRandom random) {
+        byte[] json;
+        try {
+            json = OBJECT_MAPPER.writeValueAsBytes(body.apply(random));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(baseUrl.resolve(path.apply(random)))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofByteArray(json));
+        headers.forEach(builder::header);
+        return builder.build();
+    }
+}
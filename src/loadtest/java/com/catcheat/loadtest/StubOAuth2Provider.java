@@ -0,0 +1,126 @@
+package com.catcheat.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ *  부하 테스트용 가짜 OAuth2 제공자 (LoadTestRunner 가 oauth2 시나리오가 있을 때만 띄움, 127.0.0.1)
+ *
+ *  - GET  /authorize : 로그인 화면 없이 바로 redirect_uri?code={login_hint}&state 로 302
+ *  - POST /token     : code 를 그대로 access_token 으로 돌려줌
+ *  - GET  /userinfo  : Bearer 토큰(= 사용자 id)으로 {sub, email, name} 응답
+ *  - 상태를 저장하지 않으므로 외부 제공자 지연/장애 없이 애플리케이션의 OAuth2 로그인 경로(토큰 교환, 사용자 정보, upsert)만 측정
+ *  - 애플리케이션 쪽 설정은 application-loadtest.properties (--spring.profiles.active=loadtest)
+ */
+final class StubOAuth2Provider implements AutoCloseable {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private StubOAuth2Provider(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.setExecutor(executor);
+        server.createContext("/authorize", this::authorize);
+        server.createContext("/token", this::token);
+        server.createContext("/userinfo", this::userInfo);
+    }
+
+    static StubOAuth2Provider start(int port) throws IOException {
+        StubOAuth2Provider provider = new StubOAuth2Provider(port);
+        provider.server.start();
+        System.out.println("Stub OAuth2 provider listening on http://127.0.0.1:" + port);
+        return provider;
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdown();
+    }
+
+    private void authorize(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parse(exchange.getRequestURI().getRawQuery());
+        String redirectUri = query.get("redirect_uri");
+        String user = query.get("login_hint");
+        if (redirectUri == null || user == null) {
+            respond(exchange, 400, Map.of("error", "invalid_request"));
+            return;
+        }
+        String location = redirectUri + (redirectUri.contains("?") ? "&" : "?")
+                + "code=" + URLEncoder.encode(user, StandardCharsets.UTF_8)
+                + "&state=" + URLEncoder.encode(query.getOrDefault("state", ""), StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Location", location);
+        exchange.sendResponseHeaders(302, -1);
+        exchange.close();
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        Map<String, String> form;
+        try (var body = exchange.getRequestBody()) {
+            form = parse(new String(body.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        String code = form.get("code");
+        if (code == null) {
+            respond(exchange, 400, Map.of("error", "invalid_grant"));
+            return;
+        }
+        Map<String, Object> token = new LinkedHashMap<>();
+        token.put("access_token", code);
+        token.put("token_type", "Bearer");
+        token.put("expires_in", 3600);
+        respond(exchange, 200, token);
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            respond(exchange, 401, Map.of("error", "invalid_token"));
+            return;
+        }
+        String user = authorization.substring("Bearer ".length());
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        attributes.put("sub", user);
+        attributes.put("email", SyntheticUsers.oauthEmail(user));
+        attributes.put("name", user);
+        respond(exchange, 200, attributes);
+    }
+
+    private void respond(HttpExchange exchange, int status, Map<String, ?> body) throws IOException {
+        byte[] json = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, json.length);
+        try (var out = exchange.getResponseBody()) {
+            out.write(json);
+        }
+    }
+
+    // a=1&b=2 (쿼리 문자열, form 본문)
+    private static Map<String, String> parse(String encoded) {
+        Map<String, String> values = new HashMap<>();
+        if (encoded == null || encoded.isEmpty()) {
+            return values;
+        }
+        for (String pair : encoded.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                values.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return values;
+    }
+}
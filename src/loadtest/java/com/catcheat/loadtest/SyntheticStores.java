@@ -0,0 +1,65 @@
+package com.catcheat.loadtest;
+
+import java.util.random.RandomGenerator;
+
+/**
+ *  합성 매장 데이터 (DatasetGenerator 의 store 행, create 시나리오의 요청 본문)
+ *
+ *  - 지역/좌표는 KoreanRegions 분포를 따름 (동 중심점에서 표준편차 약 500m)
+ *  - 도로명/지번 주소는 KoreanAddressParser 가 읽을 수 있는 형식
+ *  - 필드 이름은 StoreRequestDto 와 같음 → 그대로 JSON 으로 직렬화해서 POST /api/stores 본문으로 사용
+ */
+final class SyntheticStores {
+
+    record SyntheticStore(String code,
+                          String name,
+                          String address,
+                          boolean opened,
+                          String province,
+                          String city,
+                          String district,
+                          String roadAddress,
+                          String lotAddress,
+                          double latitude,
+                          double longitude) {
+    }
+
+    private static final String[] BRANDS = {
+            "한솥밥상", "골목분식", "동네치킨", "바다횟집", "할매국밥", "숯불갈비", "마을카페", "우리베이커리",
+            "손칼국수", "한우마당", "초밥정원", "면사랑", "왕족발", "순두부집", "화덕피자", "쌀국수공방"
+    };
+
+    private static final String[] ROADS = {
+            "중앙로", "시청로", "중앙대로", "번영로", "문화로", "평화로", "역전로", "공원로", "대학로", "시장길"
+    };
+
+    private static final double SPREAD_DEGREES = 0.0045;       // 약 500m
+
+    private SyntheticStores() {
+    }
+
+    static SyntheticStore next(RandomGenerator random, String code) {
+        KoreanRegions.City city = KoreanRegions.pickCity(random);
+        KoreanRegions.District district = city.districts().get(random.nextInt(city.districts().size()));
+
+        String region = city.name() == null ? city.province() : city.province() + " " + city.name();
+        String road = ROADS[random.nextInt(ROADS.length)];
+        String roadAddress = region + " " + road + " " + (1 + random.nextInt(300));
+        String lotAddress = region + " " + district.name() + " " + (1 + random.nextInt(2000))
+                + (random.nextInt(3) == 0 ? "-" + (1 + random.nextInt(30)) : "");
+        String branch = district.name().substring(0, district.name().length() - 1);
+
+        return new SyntheticStore(
+                code,
+                BRANDS[random.nextInt(BRANDS.length)] + " " + branch + "점",
+                roadAddress,
+                random.nextInt(100) < 85,
+                city.province(),
+                city.name(),
+                district.name(),
+                roadAddress,
+                lotAddress,
+                district.latitude() + random.nextGaussian() * SPREAD_DEGREES,
+                district.longitude() + random.nextGaussian() * SPREAD_DEGREES);
+    }
+}
@@ -0,0 +1,28 @@
+package com.catcheat.loadtest;
+
+/**
+ *  합성 사용자 규칙 (DatasetGenerator 가 만드는 user_info 행과 login/oauth2 시나리오가 같은 값을 씀)
+ *
+ *  - LOCAL 사용자 n: loadtest-{n}@catcheat.test / 비밀번호는 모두 같음 (--password)
+ *  - OAuth2 사용자 n: provider = 등록 id(loadtest), provider_id = lt-{n}, 이메일은 StubOAuth2Provider 가 주는 값과 같음
+ */
+final class SyntheticUsers {
+
+    static final String DEFAULT_PASSWORD = "loadtest-password";
+    static final String OAUTH2_REGISTRATION = "loadtest";
+
+    private SyntheticUsers() {
+    }
+
+    static String localEmail(long n) {
+        return "loadtest-" + n + "@catcheat.test";
+    }
+
+    static String oauthProviderId(long n) {
+        return "lt-" + n;
+    }
+
+    static String oauthEmail(String providerId) {
+        return providerId + "@oauth.catcheat.test";
+    }
+}
@@ -0,0 +1,127 @@
+package com.catcheat.api.common.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *  커넥션 획득을 세마포어로 제한하는 DataSource 래퍼
+ *
+ *  - 가상 스레드는 요청마다 거의 공짜로 생성되므로, 요청이 몰리면 수천 개가 동시에 Hikari 풀을 기다리게 됨
+ *  - 풀 크기만큼의 허가(permit)를 먼저 얻은 스레드만 getConnection() 으로 진입 → 나머지는 공정(FIFO) 대기
+ *  - acquireTimeout 안에 허가를 얻지 못하면 SQLTransientConnectionException 으로 빠르게 실패 (부하 차단)
+ *  - 커넥션 close() 시 허가 반납
+ *  - simulatedLatency 가 0 보다 크면 커넥션을 얻은 뒤 그만큼 대기 → 느린 DB 를 흉내내는 부하 테스트용
+ */
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final Duration acquireTimeout;
+    private final Duration simulatedLatency;
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConcurrentConnections,
+                                        Duration acquireTimeout, Duration simulatedLatency) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrentConnections, true);
+        this.acquireTimeout = acquireTimeout;
+        this.simulatedLatency = simulatedLatency;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquirePermit();
+        return wrap(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquirePermit();
+        return wrap(() -> super.getConnection(username, password));
+    }
+
+    // 종료 시 감싼 풀(Hikari 등)도 닫히도록 위임
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    public int queueLength() {
+        return permits.getQueueLength();
+    }
+
+    private void acquirePermit() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Timed out after " + acquireTimeout.toMillis() + "ms waiting for a database connection permit");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a database connection permit", e);
+        }
+    }
+
+    private Connection wrap(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        simulateLatency();
+
+        Connection target = connection;
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                        try {
+                            return method.invoke(target, args);
+                        } catch (InvocationTargetException e) {
+                            throw e.getTargetException();
+                        } finally {
+                            permits.release();
+                        }
+                    }
+                    try {
+                        return method.invoke(target, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    private void simulateLatency() {
+        if (simulatedLatency.isZero()) {
+            return;
+        }
+        try {
+            Thread.sleep(simulatedLatency);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
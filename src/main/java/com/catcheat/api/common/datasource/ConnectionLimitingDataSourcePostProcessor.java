@@ -0,0 +1,47 @@
+package com.catcheat.api.common.datasource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ *  애플리케이션의 DataSource 빈을 ConnectionLimitingDataSource 로 감싸는 후처리기
+ *
+ *  - spring.threads.virtual.enabled=true 이면 커넥션 동시 획득 수를 catcheat.datasource.max-concurrent-connections
+ *    (기본값: Hikari 최대 풀 크기)로 제한
+ *  - catcheat.datasource.simulated-latency 가 설정되면 스레드 모델과 상관없이 감싸서 DB 지연을 흉내냄
+ *  - 둘 다 해당하지 않으면 원래 DataSource 를 그대로 사용
+ */
+@Component
+public class ConnectionLimitingDataSourcePostProcessor implements BeanPostProcessor {
+
+    private final Environment environment;
+
+    public ConnectionLimitingDataSourcePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+            return bean;
+        }
+        boolean virtualThreads = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        Duration simulatedLatency = environment.getProperty("catcheat.datasource.simulated-latency",
+                Duration.class, Duration.ZERO);
+        if (!virtualThreads && simulatedLatency.isZero()) {
+            return bean;
+        }
+
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConcurrent = virtualThreads
+                ? environment.getProperty("catcheat.datasource.max-concurrent-connections", Integer.class, poolSize)
+                : Integer.MAX_VALUE;
+        Duration acquireTimeout = environment.getProperty("catcheat.datasource.acquire-timeout",
+                Duration.class, Duration.ofSeconds(5));
+        return new ConnectionLimitingDataSource(dataSource, maxConcurrent, acquireTimeout, simulatedLatency);
+    }
+}
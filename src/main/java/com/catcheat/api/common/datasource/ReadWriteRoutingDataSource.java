@@ -0,0 +1,225 @@
+package com.catcheat.api.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ *  읽기 전용 트랜잭션을 read replica 로 보내는 DataSource
+ *
+ *  - @Transactional(readOnly = true) 안에서 커넥션을 얻으면 replica, 그 외(쓰기, 트랜잭션 밖)는 primary
+ *  - readOnly 여부는 트랜잭션 시작 후에야 알 수 있으므로 반드시 LazyConnectionDataSourceProxy 로 감싸서 사용
+ *    (실제 커넥션을 첫 SQL 실행 시점에 얻음 → ReadWriteRoutingDataSourcePostProcessor 가 처리)
+ *  - replica 선택: round-robin 또는 least-loaded (Hikari 활성 커넥션 수가 가장 적은 replica)
+ *  - 백그라운드에서 lagCheckInterval 마다 replica 지연을 확인해, maxLag 를 넘거나 연결에 실패한 replica 는 제외
+ *  - 사용할 replica 가 없거나 replica 커넥션 획득에 실패하면 primary 로 대체 (요청은 실패하지 않음)
+ *  - 쓰기 트랜잭션이 커밋되면 ReadYourWritesTracker 에 기록 → 같은 요청/사용자/클라이언트의 직후 읽기는 primary
+ *  - replica 지연을 허용할 수 없는 읽기(변경 기록 커서 등)는 readFromPrimary / runOnPrimary 로 감싸서 primary 로 보냄
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    // replica 가 아니면(로컬 테스트용 일반 DB) 0, 수신한 WAL 을 모두 적용했으면 0, 그 외에는 마지막 적용 시각부터 지난 초
+    static final String LAG_QUERY = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                       ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0)
+                   END
+            """;
+
+    public enum Selection {
+        ROUND_ROBIN,
+        LEAST_LOADED
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_ONLY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final Selection selection;
+    private final Duration maxLag;
+    private final ReadYourWritesTracker readYourWrites;
+    private final ScheduledExecutorService lagChecker;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private static final class Replica {
+        final String name;
+        final HikariDataSource dataSource;
+        volatile boolean available;             // 첫 지연 확인이 끝나기 전에는 사용하지 않음
+
+        Replica(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+            return pool == null ? 0 : pool.getActiveConnections();
+        }
+    }
+
+    public ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources,
+                                      Selection selection, Duration maxLag, Duration lagCheckInterval) {
+        this(primary, replicaDataSources, selection, maxLag, lagCheckInterval,
+                new ReadYourWritesTracker(maxLag.plus(lagCheckInterval)));
+    }
+
+    ReadWriteRoutingDataSource(DataSource primary, List<HikariDataSource> replicaDataSources, Selection selection,
+                               Duration maxLag, Duration lagCheckInterval, ReadYourWritesTracker readYourWrites) {
+        this.primary = primary;
+        this.selection = selection;
+        this.maxLag = maxLag;
+        this.readYourWrites = readYourWrites;
+        this.replicas = new ArrayList<>();
+        for (HikariDataSource dataSource : replicaDataSources) {
+            replicas.add(new Replica(dataSource.getPoolName(), dataSource));
+        }
+
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicas, 0,
+                lagCheckInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * action 안에서 얻는 커넥션은 읽기 전용 트랜잭션이어도 primary
+     * 커넥션은 첫 SQL 에서 얻으므로 트랜잭션의 첫 쿼리 전에 감싸야 함 (replica 를 쓰지 않는 설정에서는 그냥 실행)
+     */
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_ONLY.get();
+        PRIMARY_ONLY.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                PRIMARY_ONLY.remove();
+            }
+        }
+    }
+
+    public static void runOnPrimary(Runnable action) {
+        readFromPrimary(() -> {
+            action.run();
+            return null;
+        });
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = chooseReplica();
+        if (replica != null) {
+            try {
+                return replica.dataSource.getConnection();
+            } catch (SQLException e) {
+                markUnavailable(replica, e);
+            }
+        }
+        Connection connection = primary.getConnection();
+        recordWriteOnCommit();
+        return connection;
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    @Override
+    public void close() throws Exception {
+        lagChecker.shutdownNow();
+        for (Replica replica : replicas) {
+            replica.dataSource.close();
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private Replica chooseReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() || PRIMARY_ONLY.get() != null
+                || readYourWrites.mustReadPrimary()) {
+            return null;
+        }
+        List<Replica> candidates = new ArrayList<>(replicas.size());
+        for (Replica replica : replicas) {
+            if (replica.available) {
+                candidates.add(replica);
+            }
+        }
+        if (candidates.isEmpty()) {
+            return null;
+        }
+        if (selection == Selection.LEAST_LOADED) {
+            Replica best = candidates.get(0);
+            for (Replica replica : candidates) {
+                if (replica.activeConnections() < best.activeConnections()) {
+                    best = replica;
+                }
+            }
+            return best;
+        }
+        return candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size()));
+    }
+
+    // 쓰기 트랜잭션이 커밋되면 read-your-writes 기록 (롤백된 트랜잭션은 기록하지 않음)
+    private void recordWriteOnCommit() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWrites.recordWrite();
+            }
+        });
+    }
+
+    private void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement();
+                 ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+                resultSet.next();
+                double lag = resultSet.getDouble(1);
+                boolean available = lag <= maxLag.toMillis() / 1000.0;
+                if (available != replica.available) {
+                    log.info("Read replica {} is now {} (lag {}s, max {}s)", replica.name,
+                            available ? "available" : "lagging", lag, maxLag.toSeconds());
+                }
+                replica.available = available;
+            } catch (SQLException | RuntimeException e) {
+                markUnavailable(replica, e);
+            }
+        }
+    }
+
+    private void markUnavailable(Replica replica, Exception cause) {
+        if (replica.available) {
+            log.warn("Read replica {} is unavailable, falling back to primary: {}", replica.name, cause.getMessage());
+        }
+        replica.available = false;
+    }
+}
@@ -0,0 +1,98 @@
+package com.catcheat.api.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ *  catcheat.datasource.replica.urls 가 설정되면 애플리케이션의 DataSource(primary)를
+ *  LazyConnectionDataSourceProxy(ReadWriteRoutingDataSource(primary, replicas)) 로 감싸는 후처리기
+ *
+ *  - replica 풀은 여기서 직접 만듦 (계정/드라이버는 spring.datasource.* 와 동일, 풀 크기는 replica.pool-size)
+ *  - replica 가 시작 시점에 내려가 있어도 기동은 계속됨 (지연 확인이 성공할 때까지 primary 사용)
+ *  - 이 후처리기가 먼저 실행되므로, 가상 스레드 모드의 ConnectionLimitingDataSource 는 primary/replica 전체 커넥션 수를 제한
+ *  - 설정이 없으면 원래 DataSource 를 그대로 사용
+ */
+@Component
+public class ReadWriteRoutingDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+    private final Environment environment;
+
+    public ReadWriteRoutingDataSourcePostProcessor(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource primary) || bean instanceof RoutingDataSourceProxy
+                || bean instanceof ConnectionLimitingDataSource) {
+            return bean;
+        }
+        String[] urls = environment.getProperty("catcheat.datasource.replica.urls", String[].class, new String[0]);
+        if (urls.length == 0) {
+            return bean;
+        }
+
+        int poolSize = environment.getProperty("catcheat.datasource.replica.pool-size", Integer.class,
+                environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10));
+        List<HikariDataSource> replicas = new ArrayList<>(urls.length);
+        for (int i = 0; i < urls.length; i++) {
+            HikariDataSource replica = new HikariDataSource();
+            replica.setPoolName("replica-" + (i + 1));
+            replica.setJdbcUrl(urls[i].trim());
+            replica.setUsername(environment.getProperty("catcheat.datasource.replica.username",
+                    environment.getProperty("spring.datasource.username")));
+            replica.setPassword(environment.getProperty("catcheat.datasource.replica.password",
+                    environment.getProperty("spring.datasource.password")));
+            String driver = environment.getProperty("spring.datasource.driver-class-name");
+            if (driver != null) {
+                replica.setDriverClassName(driver);
+            }
+            replica.setMaximumPoolSize(poolSize);
+            replica.setReadOnly(true);
+            replica.setConnectionTimeout(environment.getProperty("catcheat.datasource.replica.connection-timeout",
+                    Duration.class, Duration.ofSeconds(2)).toMillis());
+            replica.setInitializationFailTimeout(-1);           // replica 가 내려가 있어도 기동 실패로 만들지 않음
+            replicas.add(replica);
+        }
+
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(primary, replicas,
+                ReadWriteRoutingDataSource.Selection.valueOf(environment.getProperty(
+                        "catcheat.datasource.replica.selection", "round-robin")
+                        .toUpperCase(Locale.ROOT).replace('-', '_')),
+                environment.getProperty("catcheat.datasource.replica.max-lag", Duration.class, Duration.ofSeconds(2)),
+                environment.getProperty("catcheat.datasource.replica.lag-check-interval", Duration.class,
+                        Duration.ofSeconds(1)));
+        return new RoutingDataSourceProxy(routing);
+    }
+
+    /** 종료 시 replica 풀과 primary 풀을 닫을 수 있도록 close() 를 노출하는 지연 커넥션 프록시 */
+    static class RoutingDataSourceProxy extends LazyConnectionDataSourceProxy implements AutoCloseable {
+
+        private final ReadWriteRoutingDataSource routing;
+
+        RoutingDataSourceProxy(ReadWriteRoutingDataSource routing) {
+            super(routing);
+            this.routing = routing;
+        }
+
+        @Override
+        public void close() throws Exception {
+            routing.close();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.catcheat.api.common.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ *  쓰기 직후의 읽기를 primary 로 보내기 위한 기록 (read-your-writes)
+ *
+ *  - 읽기/쓰기 트랜잭션이 커밋되면 세 곳에 "방금 썼음"을 기록하고, 어느 하나라도 해당하면 replica 대신 primary 사용
+ *    1. 현재 요청 (요청 속성, 요청이 끝나면 RequestContextFilter 가 RequestContextHolder 를 해제 → 풀의 다른 요청에 남지 않음)
+ *    2. 인증된 사용자 (인증 이름, 이 인스턴스 메모리에 window 동안)
+ *    3. 클라이언트 (응답 쿠키 catcheat_ryw = window 만료 시각) → 익명 사용자와 다른 인스턴스로 간 다음 요청에도 적용
+ *  - window 는 허용 지연(max-lag) + 지연 확인 주기 → 그 뒤에는 replica 도 그 쓰기를 반영했음이 보장됨
+ *  - 요청 밖(스케줄러 등)의 쓰기는 기록하지 않음 → 그런 작업이 바로 다시 읽어야 하면 ReadWriteRoutingDataSource.readFromPrimary
+ *  - 쿠키는 클라이언트가 임의로 만들 수 있지만, 효과는 그 클라이언트의 읽기가 primary 로 가는 것뿐
+ */
+public class ReadYourWritesTracker {
+
+    static final String COOKIE_NAME = "catcheat_ryw";
+    static final String WRITTEN_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".WRITTEN";
+
+    private final Duration window;
+    private final Clock clock;
+    private final Cache<String, Boolean> recentWriters;              // 인증 이름 → 최근 쓰기 여부
+
+    public ReadYourWritesTracker(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReadYourWritesTracker(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+        this.recentWriters = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(window)
+                .build();
+    }
+
+    public void recordWrite() {
+        ServletRequestAttributes request = currentRequest();
+        if (request != null) {
+            request.setAttribute(WRITTEN_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+            HttpServletResponse response = request.getResponse();
+            if (response != null && !response.isCommitted()) {
+                long seconds = Math.max(1, (window.toMillis() + 999) / 1000);
+                response.addHeader(HttpHeaders.SET_COOKIE, ResponseCookie.from(COOKIE_NAME,
+                                Long.toString(clock.millis() + window.toMillis()))
+                        .path("/")
+                        .maxAge(seconds)
+                        .httpOnly(true)
+                        .sameSite("Lax")
+                        .build()
+                        .toString());
+            }
+        }
+        String user = currentUser();
+        if (user != null) {
+            recentWriters.put(user, Boolean.TRUE);
+        }
+    }
+
+    public boolean mustReadPrimary() {
+        ServletRequestAttributes request = currentRequest();
+        if (request != null) {
+            if (request.getAttribute(WRITTEN_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) != null
+                    || clientWroteRecently(request.getRequest())) {
+                return true;
+            }
+        }
+        String user = currentUser();
+        return user != null && recentWriters.getIfPresent(user) != null;
+    }
+
+    // 쿠키 값 = 만료 시각(epoch ms), 형식이 틀리면 무시
+    private boolean clientWroteRecently(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (COOKIE_NAME.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue()) > clock.millis();
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static ServletRequestAttributes currentRequest() {
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                ? attributes : null;
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
@@ -0,0 +1,38 @@
+package com.catcheat.api.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+/**
+ *  인증 성공/실패 횟수 메트릭
+ *
+ *  - auth.attempts{result=success|failure, reason}
+ *  - 인증 소요시간은 Spring Security 의 Observation 연동으로 기록되는
+ *    spring.security.authentications 타이머(성공/실패는 error 태그로 구분)를 사용
+ */
+@Component
+public class AuthenticationMetricsListener {
+
+    private final MeterRegistry meterRegistry;
+    private final Counter successes;
+
+    public AuthenticationMetricsListener(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successes = meterRegistry.counter("auth.attempts", "result", "success", "reason", "none");
+    }
+
+    @EventListener
+    public void onSuccess(AuthenticationSuccessEvent event) {
+        successes.increment();
+    }
+
+    @EventListener
+    public void onFailure(AbstractAuthenticationFailureEvent event) {
+        meterRegistry.counter("auth.attempts", "result", "failure",
+                "reason", event.getException().getClass().getSimpleName()).increment();
+    }
+}
@@ -0,0 +1,32 @@
+package com.catcheat.api.common.metrics;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ *  Hibernate 세션 이벤트 리스너: JDBC 문장 실행 시간을 현재 요청의 RequestDbStats 에 누적
+ *
+ *  - hibernate.session.events.auto 설정으로 세션마다 자동 등록됨 (Hibernate 가 직접 생성하므로 스프링 빈 아님)
+ *  - Hibernate 를 거치는 쿼리만 집계됨 (JdbcTemplate 로 직접 실행한 쿼리는 제외)
+ */
+public class DbStatementSessionListener implements SessionEventListener {
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        RequestDbStats.current().statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        RequestDbStats.current().statementEnded();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        RequestDbStats.current().statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        RequestDbStats.current().statementEnded();
+    }
+}
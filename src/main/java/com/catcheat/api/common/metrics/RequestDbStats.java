@@ -0,0 +1,58 @@
+package com.catcheat.api.common.metrics;
+
+/**
+ *  현재 스레드에서 처리 중인 요청의 DB 쿼리 수/시간 누적값
+ *
+ *  - RequestMetricsFilter 가 요청 시작 시 begin(), 종료 시 값을 읽어 메트릭으로 기록
+ *  - DbStatementSessionListener 가 Hibernate 의 JDBC 실행 시작/종료마다 값을 누적
+ *  - 스레드마다 객체 하나를 재사용하므로 요청/쿼리마다 새로 할당하지 않음
+ */
+public final class RequestDbStats {
+
+    private static final ThreadLocal<RequestDbStats> CURRENT = ThreadLocal.withInitial(RequestDbStats::new);
+
+    private boolean active;
+    private int statements;
+    private long statementNanos;
+    private long startedAt;
+
+    private RequestDbStats() {
+    }
+
+    public static RequestDbStats current() {
+        return CURRENT.get();
+    }
+
+    void begin() {
+        active = true;
+        statements = 0;
+        statementNanos = 0;
+        startedAt = 0;
+    }
+
+    void end() {
+        active = false;
+    }
+
+    void statementStarted() {
+        if (active) {
+            startedAt = System.nanoTime();
+        }
+    }
+
+    void statementEnded() {
+        if (active && startedAt != 0) {
+            statements++;
+            statementNanos += System.nanoTime() - startedAt;
+            startedAt = 0;
+        }
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    public long statementNanos() {
+        return statementNanos;
+    }
+}
@@ -0,0 +1,92 @@
+package com.catcheat.api.common.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ *  요청 단위 DB 사용량 메트릭 필터
+ *
+ *  - http.server.requests.db.statements{method, uri} : 요청 하나가 실행한 JDBC 문장 수 분포
+ *  - http.server.requests.db.time{method, uri}       : 요청 하나가 DB 문장 실행에 쓴 시간 분포
+ *  - 엔드포인트별 응답시간(http.server.requests)은 Spring Boot 가 기본으로 기록하므로 여기서는 DB 쪽만 기록
+ *  - 미터는 (method, uri 패턴) 별로 한 번만 만들어 캐싱 → 요청마다 태그 객체를 만들지 않음
+ *  - 표준이 아닌 메서드는 OTHER 로 묶음 (클라이언트가 임의 메서드 이름으로 미터를 계속 늘릴 수 없도록)
+ *  - 보안 필터보다 먼저 실행되어 인증 과정의 DB 조회까지 포함
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+    private static final String OTHER_METHOD = "OTHER";
+    private static final Set<String> KNOWN_METHODS =
+            Set.of("GET", "HEAD", "POST", "PUT", "PATCH", "DELETE", "OPTIONS", "TRACE");
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentMap<String, ConcurrentMap<String, RequestMeters>> meters = new ConcurrentHashMap<>();
+
+    private record RequestMeters(DistributionSummary statements, Timer dbTime) {
+    }
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        RequestDbStats stats = RequestDbStats.current();
+        stats.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            stats.end();
+            RequestMeters requestMeters = meters(method(request), uriPattern(request));
+            requestMeters.statements().record(stats.statements());
+            requestMeters.dbTime().record(stats.statementNanos(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private RequestMeters meters(String method, String uri) {
+        return meters.computeIfAbsent(method, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(uri, key -> new RequestMeters(
+                        DistributionSummary.builder("http.server.requests.db.statements")
+                                .description("JDBC statements executed per request")
+                                .tags("method", method, "uri", uri)
+                                .register(meterRegistry),
+                        Timer.builder("http.server.requests.db.time")
+                                .description("Time spent executing JDBC statements per request")
+                                .tags("method", method, "uri", uri)
+                                .publishPercentileHistogram()
+                                .register(meterRegistry)));
+    }
+
+    private static String method(HttpServletRequest request) {
+        String method = request.getMethod();
+        return KNOWN_METHODS.contains(method) ? method : OTHER_METHOD;
+    }
+
+    // 경로 변수 값이 아닌 매핑 패턴(/api/stores/{id})으로 집계해서 태그 수가 늘어나지 않도록 함
+    private static String uriPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern == null ? UNKNOWN_URI : pattern.toString();
+    }
+}
@@ -0,0 +1,32 @@
+package com.catcheat.api.common.web;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+/**
+ *  JSON 외의 바이너리 응답 형식 (Accept 헤더로 선택)
+ *
+ *  - application/cbor            : CBOR
+ *  - application/x-jackson-smile : Smile (필드명 재사용으로 목록 응답이 특히 작음)
+ *  - 스프링 부트가 만든 ObjectMapper 설정(모듈, 믹스인, 필터 등)을 그대로 적용한 빌더로 생성
+ *    → JSON 과 같은 필드/규칙으로 직렬화되고 형식만 다름
+ */
+@Configuration
+public class BinaryFormatConfig {
+
+    // Jackson2ObjectMapperBuilder 빈은 prototype 이라 메서드마다 새 빌더를 받음
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
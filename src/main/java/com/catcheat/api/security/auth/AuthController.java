@@ -0,0 +1,46 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.dto.TokenRefreshRequestDto;
+import com.catcheat.api.security.dto.TokenResponseDto;
+import com.catcheat.api.security.model.JwtClaims;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/auth")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AuthController {
+
+    private final AuthTokenService authTokenService;
+
+    public AuthController(AuthTokenService authTokenService) {
+        this.authTokenService = authTokenService;
+    }
+
+    // refresh 토큰으로 새 access/refresh 토큰 발급 (사용한 refresh 토큰은 폐기)
+    @PostMapping("/refresh")
+    public TokenResponseDto refresh(@RequestBody TokenRefreshRequestDto request) {
+        return authTokenService.refresh(request.getRefreshToken());
+    }
+
+    // 현재 access 토큰(Authorization 헤더)과 본문의 refresh 토큰을 폐기
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@AuthenticationPrincipal JwtClaims claims,
+                                       @RequestBody(required = false) TokenRefreshRequestDto request) {
+        authTokenService.logout(claims, request != null ? request.getRefreshToken() : null);
+        return ResponseEntity.noContent().build();
+    }
+
+    // 토큰이 잘못되었거나 이미 사용/폐기되었으면 401
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Void> handleAuthenticationFailure(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .header(HttpHeaders.WWW_AUTHENTICATE, "Bearer error=\"invalid_token\"")
+                .build();
+    }
+}
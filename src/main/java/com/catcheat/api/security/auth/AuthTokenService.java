@@ -0,0 +1,77 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.config.JwtTokenProvider;
+import com.catcheat.api.security.dto.TokenResponseDto;
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.JwtClaims;
+import com.catcheat.api.security.repository.UserRepository;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AuthTokenService {
+    /** AuthTokenService의 역할
+     *  로그인 성공 후 JWT(access + refresh) 발급, refresh 토큰으로 재발급, 로그아웃 시 폐기를 담당.
+     *
+     *  1. issue   : 폼 로그인/OAuth2 로그인 성공 시 (JwtLoginSuccessHandler) 토큰 쌍 발급
+     *  2. refresh : refresh 토큰을 한 번만 쓸 수 있도록 폐기하고 새 토큰 쌍 발급
+     *               (탈퇴한 회원이 계속 재발급받지 못하도록 이때만 user_info 를 조회)
+     *  3. logout  : 현재 access 토큰과 (보냈다면) refresh 토큰을 폐기
+     */
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationStore revocationStore;
+    private final UserRepository userRepository;
+
+    public AuthTokenService(JwtTokenProvider tokenProvider,
+                            TokenRevocationStore revocationStore,
+                            UserRepository userRepository) {
+        this.tokenProvider = tokenProvider;
+        this.revocationStore = revocationStore;
+        this.userRepository = userRepository;
+    }
+
+    public TokenResponseDto issue(User user) {
+        return new TokenResponseDto(
+                tokenProvider.createAccessToken(user),
+                tokenProvider.createRefreshToken(user),
+                tokenProvider.getAccessTtl().toSeconds());
+    }
+
+    public TokenResponseDto refresh(String refreshToken) {
+        JwtClaims claims = verifyRefreshToken(refreshToken);
+        if (!revocationStore.revokeIfActive(claims)) {
+            throw new BadCredentialsException("Refresh token already used");
+        }
+        User user = userRepository.findById(claims.userId())
+                .orElseThrow(() -> new BadCredentialsException("User not found: " + claims.userId()));
+        return issue(user);
+    }
+
+    public void logout(JwtClaims accessClaims, String refreshToken) {
+        if (accessClaims != null) {
+            revocationStore.revoke(accessClaims);
+        }
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            JwtClaims claims = verifyRefreshToken(refreshToken);
+            if (accessClaims != null && claims.userId() != accessClaims.userId()) {
+                throw new BadCredentialsException("Refresh token belongs to another user");
+            }
+            revocationStore.revoke(claims);
+        }
+    }
+
+    private JwtClaims verifyRefreshToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BadCredentialsException("Refresh token is required");
+        }
+        JwtClaims claims = tokenProvider.verify(refreshToken);
+        if (!claims.isRefreshToken()) {
+            throw new BadCredentialsException("Not a refresh token");
+        }
+        if (revocationStore.isRevoked(claims.tokenId())) {
+            throw new BadCredentialsException("Refresh token revoked");
+        }
+        return claims;
+    }
+}
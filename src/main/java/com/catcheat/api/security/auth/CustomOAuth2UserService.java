@@ -1,14 +1,21 @@
 package com.catcheat.api.security.auth;
 
+import com.catcheat.api.common.datasource.ReadWriteRoutingDataSource;
 import com.catcheat.api.security.entity.User;
 import com.catcheat.api.security.repository.UserRepository;
 import com.catcheat.api.security.model.CustomOAuth2User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.oauth2.client.userinfo.DefaultOAuth2UserService;
 import org.springframework.security.oauth2.client.userinfo.OAuth2UserRequest;
 import org.springframework.stereotype.Service;
 
-import java.util.Optional;
+import java.time.Duration;
 
 @Service
 public class CustomOAuth2UserService extends DefaultOAuth2UserService {
@@ -19,16 +26,28 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
      */
 
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
+    private final Cache<String, User> recentUsers;      // "provider:providerId" → 최근 로그인한 User
 
-    public CustomOAuth2UserService(UserRepository userRepository) {     //Java에서는 생성자의 이름이 클래스 이름과 동일해야 한다.
+    public CustomOAuth2UserService(UserRepository userRepository,     //Java에서는 생성자의 이름이 클래스 이름과 동일해야 한다.
+                                   UserLookupCache userLookupCache,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${catcheat.auth.oauth2-user-cache.ttl:60s}") Duration ttl) {
         this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
+        this.recentUsers = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, recentUsers, "auth.oauth2Users");
     }
 
     /**
      * loadUser() 메서드에서 OAuth2 Provider(Google, Kakao)에서 제공하는 사용자 정보를 받아옴.
-     * 사용자 이메일을 기준으로 DB에서 기존 회원을 찾음.
-     *  1. 기존 회원이면 → 정보 업데이트 가능.
-     *  2. 신규 회원이면 → 자동 회원가입 진행 후 저장.
+     * (provider, providerId) 를 기준으로 회원을 등록/갱신함.
+     *  1. 최근에 로그인한 회원이면 → 캐시에서 바로 반환 (DB 조회 없음)
+     *  2. 그 외에는 → INSERT ... ON CONFLICT DO UPDATE ... RETURNING 한 번으로 신규 가입/기존 회원 갱신
      * CustomOAuth2User 객체를 반환하여 Spring Security가 사용할 수 있도록 변환.
      *
      * @param userRequest OAuth2 로그인 요청
@@ -40,23 +59,36 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
 
         // OAuth2 Provider 정보 (Google, Kakao 등)
         String provider = userRequest.getClientRegistration().getRegistrationId();
-        String email = oAuth2User.getAttribute("email");
-
-        Optional<User> userOptional = userRepository.findByEmail(email);
+        // Provider 의 사용자 고유 ID (Google: "sub", Kakao: "id" → user-name-attribute 로 지정된 값)
+        String providerId = oAuth2User.getName();
 
-        User user;
-        if (userOptional.isPresent()) {
-            // 기존 회원 -> 업데이트
-            user = userOptional.get();
-        } else {
-            // 신규 회원 -> 회원가입 처리
-            user = new User();
-            user.setEmail(email);
-            user.setProvider(provider);
-            userRepository.save(user);
+        // upsert 는 캐시 compute(get(key, mapping)) 밖에서 실행 → DB 왕복 동안 같은 해시 구간의 다른 키가 막히지 않음
+        // 같은 사용자가 동시에 처음 로그인하면 upsert 가 두 번 실행될 수 있지만 DB 가 충돌을 처리하므로 결과는 같음
+        String key = provider + ":" + providerId;
+        User user = recentUsers.getIfPresent(key);
+        if (user == null) {
+            user = provision(provider, providerId, oAuth2User);
+            recentUsers.put(key, user);
         }
 
         // CustomOAuth2User로 변환하여 반환
         return new CustomOAuth2User(user, oAuth2User.getAttributes());
     }
+
+    private User provision(String provider, String providerId, OAuth2User oAuth2User) {
+        String email = oAuth2User.getAttribute("email");
+        User user;
+        try {
+            user = userRepository.upsertOAuth2User(provider, providerId, email,
+                    oAuth2User.getAttribute("name"), oAuth2User.getAttribute("picture"));
+        } catch (DataIntegrityViolationException e) {
+            // 같은 이메일이 다른 provider(예: LOCAL)로 이미 가입된 경우 → 기존 회원으로 로그인
+            // recentUsers 에 남으므로 primary 에서 조회
+            user = ReadWriteRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(email))
+                    .orElseThrow(() -> e);
+        }
+        // 네이티브 쿼리는 엔티티 리스너를 거치지 않으므로 로그인 조회 캐시를 직접 무효화
+        userLookupCache.invalidate(user);
+        return user;
+    }
 }
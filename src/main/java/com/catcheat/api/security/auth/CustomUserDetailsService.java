@@ -1,9 +1,11 @@
 package com.catcheat.api.security.auth;
 
+import com.catcheat.api.common.datasource.ReadWriteRoutingDataSource;
 import com.catcheat.api.security.entity.User;
 import com.catcheat.api.security.repository.UserRepository;
 import com.catcheat.api.security.model.CustomUserDetails;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -11,21 +13,25 @@ import org.springframework.stereotype.Service;
 import java.util.Optional;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     /** CustomUserDetailsService의 역할
      *  폼 로그인(이메일/비밀번호)에서 사용자 정보를 로드하는 핵심 서비스
      *  UserRepository를 통해 이메일 기준으로 User 엔티티 조회
      *  Spring Security에서 인증(Authentication) 처리의 핵심 역할 수행.
      *  UserDetailsService를 구현해서 사용자 정보를 로드하고, 인증 객체로 변환하는 역할을 수행.
+     *  UserDetailsPasswordService를 구현해서 로그인 성공 시 오래된 비밀번호 해시를 새 해시로 교체.
      */
     private final UserRepository userRepository;
+    private final UserLookupCache userLookupCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
+    public CustomUserDetailsService(UserRepository userRepository, UserLookupCache userLookupCache) {
         this.userRepository = userRepository;
+        this.userLookupCache = userLookupCache;
     }
 
     /**
      * loadUserByUsername(String email) 메서드를 통해 DB에서 이메일을 기준으로 사용자 조회.
+     * UserLookupCache 에 최근 조회 결과(없는 이메일 포함)가 있으면 DB 를 조회하지 않음.
      * 사용자가 존재하면 CustomUserDetails 객체로 변환하여 반환.
      * Spring Security가 비밀번호 검증을 수행하도록 도움.
      *
@@ -36,11 +42,40 @@ public class CustomUserDetailsService implements UserDetailsService {
     @Override
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
         // findByEmail은 Optional을 반환하므로 isPresent()로 확인
-        Optional<User> userOptional = userRepository.findByEmail(email);
+        // 캐시에 남는 값(가입 직후의 부재, 변경 전 해시)이 replica 지연에서 오지 않도록 primary 에서 조회
+        Optional<User> userOptional = userLookupCache.findByEmail(email, key ->
+                ReadWriteRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(key)));
 
         User user = userOptional.orElseThrow(() ->
             new UsernameNotFoundException("User not found with email: " + email));
 
         return new CustomUserDetails(user); // UserDetails 구현체 반환
     }
+
+    /**
+     * 로그인에 성공했는데 저장된 해시가 현재 설정(알고리즘/bcrypt cost)보다 오래된 경우 호출됨.
+     * DaoAuthenticationProvider 가 방금 검증한 비밀번호로 만든 새 해시(newPassword)를 저장하고 캐시를 비움.
+     *
+     * @param userDetails 로그인한 사용자
+     * @param newPassword 새로 인코딩된 비밀번호 해시
+     * @return 새 해시를 가진 UserDetails
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = ((CustomUserDetails) userDetails).getUser();
+        userRepository.updatePassword(user.getUserId(), newPassword);
+        userLookupCache.invalidate(user);
+
+        User updated = new User();
+        updated.setUserId(user.getUserId());
+        updated.setProvider(user.getProvider());
+        updated.setProviderId(user.getProviderId());
+        updated.setEmail(user.getEmail());
+        updated.setPassword(newPassword);
+        updated.setNickname(user.getNickname());
+        updated.setProfileImageUrl(user.getProfileImageUrl());
+        updated.setCreatedAt(user.getCreatedAt());
+        updated.setUpdatedAt(user.getUpdatedAt());
+        return new CustomUserDetails(updated);   // 캐시에 공유된 기존 User 객체는 수정하지 않음
+    }
 }
@@ -0,0 +1,46 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.CustomOAuth2User;
+import com.catcheat.api.security.model.CustomUserDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/** JwtLoginSuccessHandler의 역할
+ *  폼 로그인(CustomUserDetailsService) / OAuth2 로그인(CustomOAuth2UserService) 성공 시
+ *  세션 대신 JWT 토큰 쌍(TokenResponseDto)을 JSON 으로 응답.
+ *  이후 요청은 Authorization: Bearer 헤더로 인증 (JwtAuthenticationFilter)
+ */
+@Component
+public class JwtLoginSuccessHandler implements AuthenticationSuccessHandler {
+
+    private final AuthTokenService authTokenService;
+    private final ObjectMapper objectMapper;
+
+    public JwtLoginSuccessHandler(AuthTokenService authTokenService, ObjectMapper objectMapper) {
+        this.authTokenService = authTokenService;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
+                                        Authentication authentication) throws IOException {
+        User user = switch (authentication.getPrincipal()) {
+            case CustomUserDetails details -> details.getUser();
+            case CustomOAuth2User oAuth2User -> oAuth2User.getUser();
+            default -> throw new IllegalStateException(
+                    "Unsupported principal: " + authentication.getPrincipal().getClass().getName());
+        };
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), authTokenService.issue(user));
+    }
+}
@@ -0,0 +1,18 @@
+package com.catcheat.api.security.auth;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ *  비밀번호 해시 작업 큐가 가득 찼거나 대기 시간을 넘겨 로그인을 처리하지 못한 경우
+ *  (비밀번호가 틀린 것과 구분해서 503 으로 응답)
+ */
+public class PasswordHashingRejectedException extends AuthenticationServiceException {
+
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+
+    public PasswordHashingRejectedException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
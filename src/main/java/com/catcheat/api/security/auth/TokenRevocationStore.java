@@ -0,0 +1,65 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.model.JwtClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/** TokenRevocationStore의 역할
+ *  로그아웃/재발급으로 더 이상 쓰면 안 되는 JWT 의 tokenId(jti)를 메모리에 보관.
+ *  항목은 토큰의 원래 만료 시각에 함께 사라짐 → 만료된 토큰은 어차피 검증에서 거절되므로 더 보관할 필요 없음.
+ *
+ *  - 인스턴스마다 따로 보관하므로, 여러 인스턴스로 운영하면 access 토큰 폐기는 해당 인스턴스에만 적용됨
+ *    (access 토큰 수명을 짧게 두는 이유, refresh 토큰은 재발급 시 DB 확인을 함께 함)
+ */
+@Component
+public class TokenRevocationStore {
+
+    private final Cache<String, Long> revoked;          // tokenId → 만료 시각(epoch seconds)
+
+    public TokenRevocationStore(@Value("${catcheat.auth.jwt.revocation.maximum-size:1000000}") long maximumSize) {
+        this.revoked = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Long>() {
+                    @Override
+                    public long expireAfterCreate(String tokenId, Long expiresAt, long currentTime) {
+                        long seconds = Math.max(0, expiresAt - Instant.now().getEpochSecond());
+                        return TimeUnit.SECONDS.toNanos(seconds);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenId, Long expiresAt, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenId, Long expiresAt, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.getIfPresent(tokenId) != null;
+    }
+
+    public void revoke(JwtClaims claims) {
+        revoked.put(claims.tokenId(), claims.expiresAt());
+    }
+
+    /**
+     * 아직 폐기되지 않은 토큰이면 폐기하고 true (refresh 토큰 1회 사용 보장)
+     * 같은 refresh 토큰으로 동시에 재발급을 요청해도 한 요청만 true 를 받음
+     */
+    public boolean revokeIfActive(JwtClaims claims) {
+        return revoked.asMap().putIfAbsent(claims.tokenId(), claims.expiresAt()) == null;
+    }
+}
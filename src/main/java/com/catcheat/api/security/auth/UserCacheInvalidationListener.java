@@ -0,0 +1,33 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.entity.User;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/** UserCacheInvalidationListener의 역할
+ *  User 엔티티가 JPA 로 저장/수정/삭제될 때 UserChangedEvent 를 발행 → 커밋된 뒤 UserLookupCache 에서 해당 사용자를 지움.
+ *  신규 가입(PostPersist) 시에는 "없는 이메일" 네거티브 캐시도 함께 지워져 바로 로그인 가능.
+ *  Post* 콜백은 flush 시점(커밋 전)에 호출되므로 여기서 바로 지우지 않음.
+ *
+ *  Spring Boot 는 Hibernate 가 엔티티 리스너를 스프링 빈으로 생성하도록 설정하므로 생성자 주입 가능.
+ *  JPA 를 거치지 않는 변경(네이티브 쿼리 등)은 호출하는 쪽에서 직접 invalidate 해야 함.
+ */
+@Component
+public class UserCacheInvalidationListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserCacheInvalidationListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user));
+    }
+}
@@ -0,0 +1,10 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.entity.User;
+
+/**
+ *  User 엔티티가 저장/수정/삭제되면 UserCacheInvalidationListener 가 발행하는 이벤트
+ *  커밋된 뒤(AFTER_COMMIT) UserLookupCache 가 받아 해당 사용자 항목을 지움
+ */
+public record UserChangedEvent(User user) {
+}
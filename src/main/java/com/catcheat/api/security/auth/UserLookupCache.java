@@ -0,0 +1,175 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+/** UserLookupCache의 역할
+ *  로그인 시 이메일 → User 조회 결과를 잠시 기억해 두는 캐시.
+ *  로그인 요청이 몰려도 같은 이메일에 대해 매번 user_info 를 조회하지 않도록 함.
+ *
+ *  1. users         : 존재하는 이메일 → 불변 사본 CachedUser (TTL: catcheat.auth.user-cache.ttl)
+ *                     영속성 컨텍스트의 User 엔티티를 공유하지 않음, 조회할 때마다 새 User 로 꺼내므로 호출하는 쪽이 수정해도 캐시는 그대로
+ *  2. unknownEmails : 존재하지 않는 이메일 (네거티브 캐시, 더 짧은 TTL) → 없는 계정으로 반복 로그인 시도해도 DB 조회 없음
+ *  3. User 가 저장/수정/삭제되면 UserCacheInvalidationListener 가 UserChangedEvent 를 발행 → 커밋된 뒤에 해당 항목을 지움
+ *     (커밋 전에 지우면 그 사이 다른 요청이 이전 값을 다시 읽어 TTL 동안 남을 수 있음)
+ *  4. 이메일이 바뀐 경우를 위해 userId → 캐시된 이메일을 따로 들고 있어 키로만 지움 (전체 항목을 훑지 않음)
+ *  5. DB 조회는 캐시 잠금 밖에서 하되, 조회 중에 무효화가 있었으면 결과를 저장하지 않음
+ *     (이메일 해시 구간별 무효화 횟수를 조회 전/저장 시 비교, 저장은 compute 로 무효화와 순서가 정해짐)
+ *     → 로그인 조회가 늦게 끝나도 비밀번호 변경/가입 이전 값이 TTL 동안 되살아나지 않음
+ *
+ *  메트릭
+ *  - auth.user.lookups{result=hit|negative_hit|miss} : 조회 결과별 횟수
+ *  - auth.user.db.roundtrips                          : 실제 DB 조회 횟수
+ *  - auth.user.db.roundtrips.saved                    : 캐시 덕분에 생략된 DB 조회 횟수
+ *  - cache.gets{cache=auth.users|auth.unknownEmails}  : Caffeine 적중률
+ */
+@Component
+public class UserLookupCache {
+
+    private static final int GENERATION_STRIPES = 1024;                 // 2의 거듭제곱
+
+    private final Cache<String, CachedUser> users;
+    private final Cache<String, Boolean> unknownEmails;
+    private final Map<Integer, String> emailsByUserId = new ConcurrentHashMap<>();
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);  // 구간별 무효화 횟수
+
+    private final Counter hits;
+    private final Counter negativeHits;
+    private final Counter misses;
+    private final Counter dbRoundTrips;
+    private final Counter dbRoundTripsSaved;
+
+    public UserLookupCache(MeterRegistry meterRegistry,
+                           @Value("${catcheat.auth.user-cache.maximum-size:50000}") long maximumSize,
+                           @Value("${catcheat.auth.user-cache.ttl:5m}") Duration ttl,
+                           @Value("${catcheat.auth.user-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.users = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .<String, CachedUser>removalListener((email, cached, cause) -> {
+                    if (cached != null) {
+                        emailsByUserId.remove(cached.userId(), email);   // 그 사이 새 이메일로 바뀌었으면 유지
+                    }
+                })
+                .build();
+        this.unknownEmails = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(negativeTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "auth.users");
+        CaffeineCacheMetrics.monitor(meterRegistry, unknownEmails, "auth.unknownEmails");
+
+        this.hits = meterRegistry.counter("auth.user.lookups", "result", "hit");
+        this.negativeHits = meterRegistry.counter("auth.user.lookups", "result", "negative_hit");
+        this.misses = meterRegistry.counter("auth.user.lookups", "result", "miss");
+        this.dbRoundTrips = meterRegistry.counter("auth.user.db.roundtrips");
+        this.dbRoundTripsSaved = meterRegistry.counter("auth.user.db.roundtrips.saved");
+    }
+
+    /**
+     * 캐시에서 먼저 찾고, 없을 때만 loader(DB 조회)를 호출해서 결과(존재/부재)를 저장
+     *
+     * @param email  로그인 이메일
+     * @param loader DB 조회 함수
+     * @return 조회된 User (없으면 Optional.empty())
+     */
+    public Optional<User> findByEmail(String email, Function<String, Optional<User>> loader) {
+        CachedUser cached = users.getIfPresent(email);
+        if (cached != null) {
+            hits.increment();
+            dbRoundTripsSaved.increment();
+            return Optional.of(cached.toUser());
+        }
+        if (unknownEmails.getIfPresent(email) != null) {
+            negativeHits.increment();
+            dbRoundTripsSaved.increment();
+            return Optional.empty();
+        }
+
+        misses.increment();
+        dbRoundTrips.increment();
+        long generation = generations.get(stripe(email));
+        Optional<User> loaded = loader.apply(email);
+        if (loaded.isEmpty()) {
+            unknownEmails.asMap().compute(email, (key, current) ->
+                    generations.get(stripe(key)) == generation ? Boolean.TRUE : current);
+            return loaded;
+        }
+        CachedUser user = CachedUser.from(loaded.get());
+        users.asMap().compute(email, (key, current) -> {
+            if (generations.get(stripe(key)) != generation) {
+                return current;                             // 조회 중에 바뀜 → 읽은 값은 이미 오래됐을 수 있음
+            }
+            emailsByUserId.put(user.userId(), key);
+            return user;
+        });
+        return Optional.of(user.toUser());
+    }
+
+    // 해당 이메일 항목(존재/부재 모두) 제거
+    public void invalidate(String email) {
+        if (email != null) {
+            generations.incrementAndGet(stripe(email));        // 먼저 올려야 진행 중인 조회가 저장하지 않음
+            users.invalidate(email);
+            unknownEmails.invalidate(email);
+        }
+    }
+
+    // 이메일이 바뀐 경우 이전 이메일로 캐시된 항목도 남지 않도록 userId 로 찾은 이메일도 제거
+    public void invalidate(User user) {
+        invalidate(user.getEmail());
+        invalidate(emailsByUserId.get(user.getUserId()));
+    }
+
+    private static int stripe(String email) {
+        return email.hashCode() & (GENERATION_STRIPES - 1);
+    }
+
+    // fallbackExecution: 트랜잭션 밖의 변경은 바로 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        invalidate(event.user());
+    }
+
+    /** 캐시에 보관하는 User 사본 (로그인 비밀번호 검증에 해시가 필요하므로 포함) */
+    private record CachedUser(int userId, String provider, String providerId, String email, String password,
+                              String nickname, String profileImageUrl, Date createdAt, Date updatedAt) {
+
+        static CachedUser from(User user) {
+            return new CachedUser(user.getUserId(), user.getProvider(), user.getProviderId(), user.getEmail(),
+                    user.getPassword(), user.getNickname(), user.getProfileImageUrl(),
+                    user.getCreatedAt(), user.getUpdatedAt());
+        }
+
+        User toUser() {
+            User user = new User();
+            user.setUserId(userId);
+            user.setProvider(provider);
+            user.setProviderId(providerId);
+            user.setEmail(email);
+            user.setPassword(password);
+            user.setNickname(nickname);
+            user.setProfileImageUrl(profileImageUrl);
+            user.setCreatedAt(createdAt);
+            user.setUpdatedAt(updatedAt);
+            return user;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.auth.TokenRevocationStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ *  Authorization: Bearer {accessToken} 헤더로 요청을 인증하는 필터
+ *
+ *  - 서명 검증은 JwtTokenProvider 가 로컬에서 처리 (claims 캐시 적중 시 HMAC 계산도 생략)
+ *  - 인증 정보는 토큰의 claims 로만 만들므로 요청마다 user_info 를 조회하지 않음
+ *  - 토큰이 잘못되었거나 만료/폐기되었으면 바로 401 + WWW-Authenticate: Bearer error="invalid_token"
+ *  - Authorization 헤더가 없으면 그대로 통과 (폼 로그인, /auth/** 등)
+ *  - 스프링 빈으로 등록하지 않음 (서블릿 필터로 한 번 더 등록되지 않도록 SecurityConfig 에서 직접 생성)
+ *
+ *  메트릭: auth.jwt.verifications{result=success|invalid|expired|revoked} (JwtBearerAuthenticator)
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtBearerAuthenticator authenticator;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider,
+                                   TokenRevocationStore revocationStore,
+                                   MeterRegistry meterRegistry) {
+        this.authenticator = new JwtBearerAuthenticator(tokenProvider, revocationStore, meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String token = JwtBearerAuthenticator.bearerToken(request.getHeader(HttpHeaders.AUTHORIZATION));
+        if (token == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication;
+        try {
+            authentication = authenticator.authenticate(token);
+        } catch (AuthenticationException e) {
+            SecurityContextHolder.clearContext();
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, JwtBearerAuthenticator.INVALID_TOKEN_CHALLENGE);
+            response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
+            return;
+        }
+
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(authentication);
+        SecurityContextHolder.setContext(context);
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,87 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.auth.TokenRevocationStore;
+import com.catcheat.api.security.model.JwtClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.List;
+
+/**
+ *  Bearer 액세스 토큰 검증 (서블릿 JwtAuthenticationFilter / 리액티브 ReactiveSecurityConfig 공용)
+ *
+ *  - 서명/만료 확인은 JwtTokenProvider, 폐기 여부는 TokenRevocationStore
+ *  - 검증 결과를 auth.jwt.verifications{result=success|invalid|expired|revoked} 로 기록
+ */
+class JwtBearerAuthenticator {
+
+    static final String BEARER_PREFIX = "Bearer ";
+    static final String INVALID_TOKEN_CHALLENGE = "Bearer error=\"invalid_token\"";
+    private static final List<GrantedAuthority> AUTHORITIES = List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private final JwtTokenProvider tokenProvider;
+    private final TokenRevocationStore revocationStore;
+    private final MeterRegistry meterRegistry;
+    private final Counter successes;
+
+    JwtBearerAuthenticator(JwtTokenProvider tokenProvider,
+                           TokenRevocationStore revocationStore,
+                           MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.revocationStore = revocationStore;
+        this.meterRegistry = meterRegistry;
+        this.successes = meterRegistry.counter("auth.jwt.verifications", "result", "success");
+    }
+
+    /** "Bearer ..." 형식이면 토큰 부분, 아니면 null */
+    static String bearerToken(String authorizationHeader) {
+        if (authorizationHeader == null
+                || !authorizationHeader.regionMatches(true, 0, BEARER_PREFIX, 0, BEARER_PREFIX.length())) {
+            return null;
+        }
+        return authorizationHeader.substring(BEARER_PREFIX.length()).trim();
+    }
+
+    /**
+     * 액세스 토큰을 검증해서 인증 정보(principal = JwtClaims) 생성
+     *
+     * @throws AuthenticationException 토큰이 잘못되었거나 만료/폐기된 경우
+     */
+    Authentication authenticate(String token) {
+        JwtClaims claims;
+        try {
+            claims = tokenProvider.parse(token);
+            if (!claims.isAccessToken()) {
+                throw new BadCredentialsException("Not an access token");
+            }
+            if (revocationStore.isRevoked(claims.tokenId())) {
+                throw new RevokedTokenException();
+            }
+        } catch (AuthenticationException e) {
+            meterRegistry.counter("auth.jwt.verifications", "result", resultOf(e)).increment();
+            throw e;
+        }
+        successes.increment();
+        return UsernamePasswordAuthenticationToken.authenticated(claims, null, AUTHORITIES);
+    }
+
+    private static String resultOf(AuthenticationException e) {
+        if (e instanceof CredentialsExpiredException) {
+            return "expired";
+        }
+        return e instanceof RevokedTokenException ? "revoked" : "invalid";
+    }
+
+    private static class RevokedTokenException extends BadCredentialsException {
+        RevokedTokenException() {
+            super("Token revoked");
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.JwtClaims;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ *  JWT(HS256) 발급 및 검증
+ *
+ *  - 서명 키는 시작할 때 한 번만 만들고 초기화된 Mac 을 복제해서 사용 → 요청마다 키 파싱/초기화 없음
+ *  - 헤더는 항상 {"alg":"HS256","typ":"JWT"} 고정 → 다른 헤더는 서명 계산 전에 거절 (alg 바꿔치기 방지)
+ *  - 검증에 성공한 access 토큰은 claims 캐시에 보관 → 같은 토큰의 다음 요청은 HMAC/JSON 파싱 없이 만료 시각만 확인
+ *  - 서명이 틀린 토큰은 캐시에 넣지 않으므로, 아무 문자열이나 보내서 캐시를 채울 수 없음
+ *  - catcheat.auth.jwt.secret 이 비어 있으면 임의 키를 생성 (재시작하거나 다른 인스턴스로 가면 기존 토큰은 무효)
+ */
+@Slf4j
+@Component
+public class JwtTokenProvider {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.UTF_8));
+
+    private final ObjectMapper objectMapper;
+    private final SecretKeySpec key;
+    private final Mac prototype;
+    private final Duration accessTtl;
+    private final Duration refreshTtl;
+    private final Cache<String, JwtClaims> verified;     // access 토큰 문자열 → 검증된 claims
+
+    public JwtTokenProvider(ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${catcheat.auth.jwt.secret:}") String secret,
+                            @Value("${catcheat.auth.jwt.access-ttl:15m}") Duration accessTtl,
+                            @Value("${catcheat.auth.jwt.refresh-ttl:14d}") Duration refreshTtl,
+                            @Value("${catcheat.auth.jwt.claims-cache-size:100000}") long claimsCacheSize) {
+        this.objectMapper = objectMapper;
+        this.accessTtl = accessTtl;
+        this.refreshTtl = refreshTtl;
+        this.key = secretKey(secret);
+        this.prototype = newMac();
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfterWrite(accessTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "auth.jwtClaims");
+    }
+
+    public Duration getAccessTtl() {
+        return accessTtl;
+    }
+
+    public String createAccessToken(User user) {
+        return create(user, JwtClaims.ACCESS, accessTtl);
+    }
+
+    public String createRefreshToken(User user) {
+        return create(user, JwtClaims.REFRESH, refreshTtl);
+    }
+
+    /**
+     * 요청마다 호출되는 access 토큰 검증 (캐시 우선)
+     *
+     * @param token Authorization 헤더의 Bearer 토큰
+     * @return 검증된 claims
+     * @throws BadCredentialsException     형식/서명이 잘못된 토큰
+     * @throws CredentialsExpiredException 만료된 토큰
+     */
+    public JwtClaims parse(String token) {
+        JwtClaims claims = verified.getIfPresent(token);
+        if (claims == null) {
+            claims = verify(token);
+            if (claims.isAccessToken()) {
+                verified.put(token, claims);
+            }
+        } else if (claims.isExpired(Instant.now().getEpochSecond())) {
+            verified.invalidate(token);
+            throw new CredentialsExpiredException("Token expired");
+        }
+        return claims;
+    }
+
+    /**
+     * 캐시를 거치지 않고 서명과 만료 시각을 검증 (refresh 토큰 검증, 벤치마크에서 사용)
+     */
+    public JwtClaims verify(String token) {
+        int payloadStart = HEADER.length() + 1;
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (!token.startsWith(HEADER) || token.length() <= payloadStart
+                || token.charAt(HEADER.length()) != '.' || signatureStart <= payloadStart) {
+            throw new BadCredentialsException("Malformed token");
+        }
+
+        byte[] expected = sign(token.substring(0, signatureStart - 1));
+        byte[] actual;
+        JsonNode payload;
+        try {
+            actual = DECODER.decode(token.substring(signatureStart));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                throw new BadCredentialsException("Invalid token signature");
+            }
+            payload = objectMapper.readTree(DECODER.decode(token.substring(payloadStart, signatureStart - 1)));
+        } catch (IllegalArgumentException | IOException e) {
+            throw new BadCredentialsException("Malformed token", e);
+        }
+
+        JwtClaims claims = new JwtClaims(
+                payload.path("sub").asInt(),
+                payload.path("email").textValue(),
+                payload.path("prv").textValue(),
+                payload.path("typ").textValue(),
+                payload.path("jti").textValue(),
+                payload.path("iat").asLong(),
+                payload.path("exp").asLong());
+        if (claims.isExpired(Instant.now().getEpochSecond())) {
+            throw new CredentialsExpiredException("Token expired");
+        }
+        return claims;
+    }
+
+    private String create(User user, String type, Duration ttl) {
+        long now = Instant.now().getEpochSecond();
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("sub", String.valueOf(user.getUserId()));
+        if (user.getEmail() != null) {
+            payload.put("email", user.getEmail());
+        }
+        payload.put("prv", user.getProvider());
+        payload.put("typ", type);
+        payload.put("jti", UUID.randomUUID().toString());
+        payload.put("iat", now);
+        payload.put("exp", now + ttl.toSeconds());
+
+        String unsigned;
+        try {
+            unsigned = HEADER + "." + ENCODER.encodeToString(objectMapper.writeValueAsBytes(payload));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return unsigned + "." + ENCODER.encodeToString(sign(unsigned));
+    }
+
+    private byte[] sign(String unsigned) {
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            // 복제를 지원하지 않는 JCE 공급자일 때만 매번 초기화
+            mac = newMac();
+        }
+        return mac.doFinal(unsigned.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot initialize " + ALGORITHM, e);
+        }
+    }
+
+    private static SecretKeySpec secretKey(String secret) {
+        byte[] bytes;
+        if (secret == null || secret.isBlank()) {
+            bytes = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(bytes);
+            log.warn("catcheat.auth.jwt.secret is not set; using a random key (tokens will not survive a restart)");
+        } else {
+            bytes = secret.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("catcheat.auth.jwt.secret must be at least "
+                        + MIN_SECRET_BYTES + " bytes");
+            }
+        }
+        return new SecretKeySpec(bytes, ALGORITHM);
+    }
+}
@@ -0,0 +1,83 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.auth.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ *  비밀번호 해시 설정
+ *
+ *  - 저장 형식은 {bcrypt}$2a$... (DelegatingPasswordEncoder), 접두어 없는 기존 bcrypt 해시도 검증 가능
+ *  - bcrypt cost(strength)는 catcheat.auth.password.strength 로 고정 (기본 12)
+ *    strength=0 이면 시작할 때 측정해서 한 번 해시하는 데 target-latency 를 넘지 않는 가장 큰 값으로 결정
+ *    → 측정값은 기동마다, 장비마다 달라질 수 있고 해시 교체는 cost 를 올리기만 하므로 운영에서는 측정 결과를 고정값으로 옮겨 사용
+ *  - 로그인 성공 시 저장된 해시의 알고리즘/cost 가 현재 설정보다 낮으면 새 해시로 교체
+ *    (DaoAuthenticationProvider → upgradeEncoding → CustomUserDetailsService.updatePassword)
+ *  - 해시 계산은 BoundedPasswordEncoder 의 전용 스레드 풀에서 실행
+ */
+@Slf4j
+@Configuration
+public class PasswordEncoderConfig {
+
+    static final String BCRYPT = "bcrypt";
+    static final int MIN_STRENGTH = 10;
+    static final int MAX_STRENGTH = 16;
+
+    @Bean
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${catcheat.auth.password.strength:12}") int strength,
+                                           @Value("${catcheat.auth.password.target-latency:250ms}") Duration targetLatency,
+                                           @Value("${catcheat.auth.password.threads:0}") int threads,
+                                           @Value("${catcheat.auth.password.queue-capacity:64}") int queueCapacity,
+                                           @Value("${catcheat.auth.password.max-wait:2s}") Duration maxWait) {
+        int cost = strength > 0 ? strength : calibrateStrength(targetLatency);
+        if (strength <= 0) {
+            log.warn("bcrypt strength was calibrated at startup ({}); pin catcheat.auth.password.strength={} "
+                    + "so that restarts on other hardware do not change the cost", cost, cost);
+        }
+        int workers = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        log.info("Password hashing: bcrypt strength={}, threads={}, queue={}", cost, workers, queueCapacity);
+        Gauge.builder("auth.password.strength", () -> cost).register(meterRegistry);
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(BCRYPT, Map.of(
+                BCRYPT, new BCryptPasswordEncoder(cost),
+                "pbkdf2@SpringSecurity_v5_8", Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(cost));   // 접두어 없는 기존 해시
+        return new BoundedPasswordEncoder(encoder, workers, queueCapacity, maxWait, meterRegistry);
+    }
+
+    /**
+     * bcrypt 는 cost 가 1 오를 때마다 시간이 2배 → 최소 cost 로 측정한 시간에서 목표 시간까지 몇 번 2배 할 수 있는지 계산
+     * (JIT 워밍업 영향을 줄이려고 두 번 측정해서 빠른 쪽 사용)
+     */
+    static int calibrateStrength(Duration targetLatency) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(MIN_STRENGTH);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < 2; i++) {
+            long startedAt = System.nanoTime();
+            probe.encode("calibration");
+            best = Math.min(best, System.nanoTime() - startedAt);
+        }
+
+        int strength = MIN_STRENGTH;
+        long estimated = best;
+        while (strength < MAX_STRENGTH && estimated * 2 <= targetLatency.toNanos()) {
+            estimated *= 2;
+            strength++;
+        }
+        log.info("Calibrated bcrypt strength {} (~{}ms per hash, target {}ms)",
+                strength, estimated / 1_000_000, targetLatency.toMillis());
+        return strength;
+    }
+}
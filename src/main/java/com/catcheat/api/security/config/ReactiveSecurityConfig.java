@@ -0,0 +1,78 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.auth.TokenRevocationStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.authentication.AuthenticationWebFilter;
+import org.springframework.security.web.server.authentication.HttpStatusServerEntryPoint;
+import org.springframework.security.web.server.authentication.ServerAuthenticationEntryPointFailureHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 리액티브(WebFlux) 모드의 Spring Security 설정
+ *
+ * - spring.main.web-application-type=reactive 로 기동한 읽기 전용 인스턴스에서만 사용 (서블릿 모드는 SecurityConfig)
+ * - 로그인/토큰 발급은 서블릿 인스턴스가 담당하고, 여기서는 Bearer 액세스 토큰 검증만 수행
+ * - 검증 로직은 서블릿 필터와 같은 JwtBearerAuthenticator 사용 (서명 로컬 검증, user_info 조회 없음)
+ * - 토큰이 잘못되었으면 401 + WWW-Authenticate: Bearer error="invalid_token", 토큰이 없으면 401
+ */
+@Configuration
+@EnableWebFluxSecurity
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    // 이 빈이 있으면 Spring Boot 가 기본 인메모리 사용자(임의 비밀번호)를 만들지 않음
+    @Bean
+    public ReactiveAuthenticationManager jwtAuthenticationManager(JwtTokenProvider jwtTokenProvider,
+                                                                  TokenRevocationStore tokenRevocationStore,
+                                                                  MeterRegistry meterRegistry) {
+        JwtBearerAuthenticator authenticator =
+                new JwtBearerAuthenticator(jwtTokenProvider, tokenRevocationStore, meterRegistry);
+        return authentication -> Mono.fromCallable(
+                () -> authenticator.authenticate((String) authentication.getCredentials()));
+    }
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http,
+                                                         ReactiveAuthenticationManager jwtAuthenticationManager) {
+        AuthenticationWebFilter jwtFilter = new AuthenticationWebFilter(jwtAuthenticationManager);
+        jwtFilter.setServerAuthenticationConverter(exchange -> Mono
+                .justOrEmpty(JwtBearerAuthenticator.bearerToken(
+                        exchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION)))
+                .map(token -> UsernamePasswordAuthenticationToken.unauthenticated(token, token)));
+        jwtFilter.setAuthenticationFailureHandler(new ServerAuthenticationEntryPointFailureHandler(
+                (exchange, e) -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    response.setStatusCode(HttpStatus.UNAUTHORIZED);
+                    response.getHeaders().set(HttpHeaders.WWW_AUTHENTICATE,
+                            JwtBearerAuthenticator.INVALID_TOKEN_CHALLENGE);
+                    return response.setComplete();
+                }));
+
+        return http
+                .csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .logout(ServerHttpSecurity.LogoutSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())   // 세션 사용 안 함
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers("/actuator/health", "/actuator/prometheus").permitAll()
+                        .anyExchange().authenticated())
+                .addFilterAt(jwtFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .exceptionHandling(exception -> exception
+                        .authenticationEntryPoint(new HttpStatusServerEntryPoint(HttpStatus.UNAUTHORIZED)))
+                .build();
+    }
+}
@@ -1,10 +1,26 @@
 package com.catcheat.api.security.config;
 
+import com.catcheat.api.security.auth.CustomOAuth2UserService;
+import com.catcheat.api.security.auth.JwtLoginSuccessHandler;
+import com.catcheat.api.security.auth.PasswordHashingRejectedException;
+import com.catcheat.api.security.auth.TokenRevocationStore;
+import jakarta.servlet.DispatcherType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.client.registration.ClientRegistrationRepository;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
+import org.springframework.security.web.authentication.SimpleUrlAuthenticationFailureHandler;
+import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 
 import static org.springframework.security.config.Customizer.withDefaults;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -15,9 +31,11 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
  * - 인증 및 인가(SecurityFilterChain)를 설정하는 역할을 한다.
  * - CSRF 보호 비활성화 (Spring Security 6.1 기준 최신 방식 적용)
  * - 특정 URL에 대한 접근 권한 설정
- * - JWT 또는 OAuth2를 사용하는 경우 추가 설정 필요
+ * - 로그인(폼/OAuth2) 성공 시 JWT 발급, 이후 요청은 JwtAuthenticationFilter 가 Bearer 토큰으로 인증
+ * - 서블릿(Spring MVC) 모드에서만 사용 (리액티브 모드는 ReactiveSecurityConfig)
  */
 @Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SecurityConfig {
 
     /**
@@ -26,6 +44,8 @@ public class SecurityConfig {
      * - 모든 요청에 대해 기본적으로 인증을 요구하지만, 특정 경로는 허용 가능
      * - CSRF 보호는 비활성화 (JWT 또는 OAuth2 인증 시 필요 없음)
      * - 세션 정책을 STATELESS로 설정하여 세션을 사용하지 않음 (JWT 인증 시 필수)
+     * - JwtAuthenticationFilter 를 UsernamePasswordAuthenticationFilter 앞에 두어 토큰 요청은 DB 조회 없이 인증
+     * - OAuth2 로그인은 클라이언트 등록(spring.security.oauth2.client.registration.*)이 있을 때만 활성화
      *
      * CSRF란?
      * Cross-Site Request Forgery, 사이트 간 요청 위조
@@ -42,19 +62,56 @@ public class SecurityConfig {
      * @throws Exception HttpSecurity 설정 과정에서 예외 발생 시 처리
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   JwtTokenProvider jwtTokenProvider,
+                                                   TokenRevocationStore tokenRevocationStore,
+                                                   JwtLoginSuccessHandler jwtLoginSuccessHandler,
+                                                   CustomOAuth2UserService customOAuth2UserService,
+                                                   ObjectProvider<ClientRegistrationRepository> clientRegistrations,
+                                                   MeterRegistry meterRegistry) throws Exception {
         http
             .csrf(AbstractHttpConfigurer::disable)                                  // CSRF 보호 비활성화 (Spring Security 6.1 기준 최신 방식)
             .authorizeHttpRequests(auth -> auth     // authorizeHttpRequest()는 특정 URL 패턴 별 접근 권한을 설정함
                 .requestMatchers("/", "/auth/**", "/public/**").permitAll()  // 특정 경로는 인증 없이 접근 가능
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()   // 헬스 체크 / Prometheus 수집 (외부 노출은 네트워크 단에서 차단)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()           // SSE/스트리밍 응답 종료 시 재디스패치 (처음 요청에서 이미 인증됨)
                 .anyRequest().authenticated()                                       // 그 외 모든 요청은 인증 필요
             )
             .sessionManagement(session -> session
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)             // JWT 사용 시 세션 비활성화 (세션을 사용하지 않고, JWT 인증을 사용할 경우 필수 설정)
             )
-            .formLogin(withDefaults())                                              // 기본 로그인 폼 활성화 (OAuth2 사용 시 비활성화 가능 / JWT를 사용할 경우, 기본 로그인 폼을 비활성화하는 것이 일반적 / loginPage("/login")으로 커스텀 가능)
-            .logout(withDefaults());                                                // 기본 로그아웃 기능 활성화
+            .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, tokenRevocationStore, meterRegistry),
+                    UsernamePasswordAuthenticationFilter.class)                     // Bearer 토큰 인증 (서명 로컬 검증, user_info 조회 없음)
+            .exceptionHandling(exception -> exception
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                    new AntPathRequestMatcher("/api/**"))                          // API 는 로그인 페이지로 리다이렉트하지 않고 401
+            )
+            .formLogin(form -> form
+                .successHandler(jwtLoginSuccessHandler)                             // 로그인 성공 시 세션 대신 JWT 토큰 쌍 응답
+                .failureHandler(loginFailureHandler())                              // 비밀번호 해시 작업이 밀려 거절되면 503
+            )
+            .logout(withDefaults());                                                // 기본 로그아웃 기능 활성화 (토큰 폐기는 POST /auth/logout)
+
+        if (clientRegistrations.getIfAvailable() != null) {
+            http.oauth2Login(oauth2 -> oauth2
+                .userInfoEndpoint(userInfo -> userInfo.userService(customOAuth2UserService))
+                .successHandler(jwtLoginSuccessHandler)                             // 소셜 로그인 성공 시에도 JWT 발급
+            );
+        }
 
         return http.build();
     }
+
+    // 비밀번호가 틀린 경우는 기본 동작(/login?error), 해시 작업 큐가 가득 찬 경우는 503 + Retry-After
+    private static AuthenticationFailureHandler loginFailureHandler() {
+        AuthenticationFailureHandler defaultHandler = new SimpleUrlAuthenticationFailureHandler("/login?error");
+        return (request, response, exception) -> {
+            if (exception instanceof PasswordHashingRejectedException) {
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                response.sendError(HttpStatus.SERVICE_UNAVAILABLE.value());
+                return;
+            }
+            defaultHandler.onAuthenticationFailure(request, response, exception);
+        };
+    }
 }
@@ -0,0 +1,13 @@
+package com.catcheat.api.security.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ *  POST /auth/refresh, POST /auth/logout 요청 본문
+ */
+@Getter
+@Setter
+public class TokenRefreshRequestDto {
+    private String refreshToken;
+}
@@ -0,0 +1,24 @@
+package com.catcheat.api.security.dto;
+
+import lombok.Getter;
+
+/**
+ *  로그인 / 토큰 재발급 응답
+ *  - accessToken : API 호출 시 Authorization: Bearer {accessToken}
+ *  - refreshToken: POST /auth/refresh 로 새 토큰 쌍을 받을 때 사용 (한 번 쓰면 폐기)
+ *  - expiresIn   : accessToken 유효 시간 (초)
+ */
+@Getter
+public class TokenResponseDto {
+
+    private final String tokenType = "Bearer";
+    private final String accessToken;
+    private final String refreshToken;
+    private final long expiresIn;
+
+    public TokenResponseDto(String accessToken, String refreshToken, long expiresIn) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.expiresIn = expiresIn;
+    }
+}
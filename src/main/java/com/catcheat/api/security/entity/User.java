@@ -1,7 +1,9 @@
 package com.catcheat.api.security.entity;
 
+import com.catcheat.api.security.auth.UserCacheInvalidationListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -15,6 +17,7 @@ import java.sql.Date;
 @Getter
 @Setter
 @Table(name="user_info")
+@EntityListeners(UserCacheInvalidationListener.class)     // 변경 시 로그인 조회 캐시 무효화
 public class User {
 
     /** Entity란?
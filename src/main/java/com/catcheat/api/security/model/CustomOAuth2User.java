@@ -28,7 +28,7 @@ public class CustomOAuth2User implements OAuth2User {
 
     public CustomOAuth2User(User user, Map<String, Object> attributes) {
         this.user = user;
-        this.attributes = this.attributes;
+        this.attributes = attributes;
     }
 
     @Override
@@ -48,6 +48,10 @@ public class CustomOAuth2User implements OAuth2User {
         return attributes.getOrDefault("sub", user.getEmail()).toString();
     }
 
+    public User getUser() {
+        return user;    // 로그인 성공 시 JWT 발급에 사용
+    }
+
     public String getEmail() {
         return user.getEmail();
     }
@@ -0,0 +1,40 @@
+package com.catcheat.api.security.model;
+
+import org.springframework.security.core.AuthenticatedPrincipal;
+
+/**
+ *  검증된 JWT 의 내용 (JwtTokenProvider 가 만들고, JWT 인증 요청의 principal 로 사용)
+ *
+ *  - 토큰에 userId / email / provider 가 들어 있으므로 인증된 요청에서 user_info 를 다시 조회하지 않음
+ *  - type   : access(API 호출용, 짧은 수명) / refresh(토큰 재발급용, 긴 수명)
+ *  - tokenId: 토큰마다 고유한 값(jti) → 로그아웃 시 이 값으로 폐기(TokenRevocationStore)
+ *  - issuedAt / expiresAt 은 epoch seconds
+ */
+public record JwtClaims(int userId,
+                        String email,
+                        String provider,
+                        String type,
+                        String tokenId,
+                        long issuedAt,
+                        long expiresAt) implements AuthenticatedPrincipal {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    public boolean isAccessToken() {
+        return ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH.equals(type);
+    }
+
+    public boolean isExpired(long nowEpochSecond) {
+        return nowEpochSecond >= expiresAt;
+    }
+
+    @Override
+    public String getName() {
+        return email != null ? email : String.valueOf(userId);
+    }
+}
@@ -2,7 +2,11 @@ package com.catcheat.api.security.repository;
 
 import com.catcheat.api.security.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -84,4 +88,40 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return
      */
     Optional<User> findByEmail(String email);  // Optional<User>를 반환하도록 수정
+
+    /**
+     *  OAuth2 로그인 사용자 등록/갱신을 한 번의 SQL 로 처리 (PostgreSQL UPSERT)
+     *  - (provider, provider_id) 가 없으면 INSERT, 있으면 (uq_provider 충돌) 이메일/프로필만 갱신
+     *  - RETURNING * 으로 저장된 행을 바로 돌려받으므로 조회 → 저장 2번 왕복이 1번으로 줄어듦
+     *  - 동시에 같은 사용자가 처음 로그인해도 DB 가 충돌을 처리하므로 중복 INSERT 경쟁이 없음
+     *  - 쓰기 쿼리이므로 기본 읽기 전용 트랜잭션(SimpleJpaRepository 의 readOnly = true) 대신 쓰기 트랜잭션으로 실행
+     *    → ReadWriteRoutingDataSource 가 replica 가 아닌 primary 로 보냄 (읽기 전용 트랜잭션 안에서 호출하면 그 트랜잭션에 합류하므로 금지)
+     *  - @Modifying 은 붙이지 않음: executeUpdate() 로 실행되어 RETURNING 결과 행을 받을 수 없음
+     *  - JPA 엔티티 리스너를 거치지 않으므로, 호출하는 쪽에서 UserLookupCache 를 무효화해야 함
+     */
+    @Transactional(readOnly = false)
+    @Query(value = """
+            INSERT INTO user_info (provider, provider_id, email, nickname, profile_image_url)
+            VALUES (:provider, :providerId, :email, :nickname, :profileImageUrl)
+            ON CONFLICT (provider, provider_id) DO UPDATE
+                SET email             = COALESCE(EXCLUDED.email, user_info.email)
+                  , nickname          = COALESCE(user_info.nickname, EXCLUDED.nickname)
+                  , profile_image_url = COALESCE(EXCLUDED.profile_image_url, user_info.profile_image_url)
+            RETURNING *
+            """, nativeQuery = true)
+    User upsertOAuth2User(@Param("provider") String provider,
+                          @Param("providerId") String providerId,
+                          @Param("email") String email,
+                          @Param("nickname") String nickname,
+                          @Param("profileImageUrl") String profileImageUrl);
+
+    /**
+     *  로그인 성공 시 오래된 해시(낮은 bcrypt cost, 다른 알고리즘)를 새 해시로 교체
+     *  - 비밀번호 컬럼 하나만 UPDATE (엔티티 전체를 읽고 저장하지 않음)
+     *  - JPA 엔티티 리스너를 거치지 않으므로, 호출하는 쪽에서 UserLookupCache 를 무효화해야 함
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.userId = :userId")
+    int updatePassword(@Param("userId") int userId, @Param("password") String password);
 }
@@ -1,4 +1,9 @@
 package com.catcheat.api.security.service;
 
+import com.catcheat.api.security.entity.User;
+
+import java.util.Optional;
+
 public interface IUserService {
+    Optional<User> findByEmail(String email);
 }
@@ -2,10 +2,12 @@ package com.catcheat.api.security.service;
 
 import com.catcheat.api.security.entity.User;
 import com.catcheat.api.security.repository.UserRepository;
-import jakarta.transaction.Transactional;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+@Service
 public class UserServiceImpl implements IUserService {
     /** Service란?
      *  여러 DAO 또는 Repository를 조합하여 비즈니스 로직을 수행.
@@ -20,7 +22,9 @@ public class UserServiceImpl implements IUserService {
         this.userRepository = userRepository;
     }
 
-    @Transactional
+    // 읽기 전용 트랜잭션 → read replica 가 설정되어 있으면 replica 에서 조회
+    @Override
+    @Transactional(readOnly = true)
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
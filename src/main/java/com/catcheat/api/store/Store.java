@@ -1,15 +1,22 @@
 package com.catcheat.api.store;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Getter
 @Setter
@@ -17,14 +24,19 @@ import lombok.Setter;
 @AllArgsConstructor
 @Builder
 @Entity
-@Table(name = "store")
+@Table(name = "store", indexes = {
+        @Index(name = "idx_store_region", columnList = "province, city, district, id"),  // 지역 계층 조회
+        @Index(name = "idx_store_opened", columnList = "opened, id")                      // 영업 여부 조회
+})
 public class Store {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(nullable = false, unique = true, length = 20)
     private String code;        // 매장 코드 (예: CE000001)
+    @Column(nullable = false, length = 100)
     private String name;        // 매장명
     private String address;     // 주소
     private boolean opened;     // 영업 중 여부
@@ -36,4 +48,12 @@ public class Store {
     private String lotAddress;  // 지번 주소 (필요하면)
     private Double latitude;    // 위도 (lat, Y)
     private Double longitude;   // 경도 (lng, X)
+
+    @Version
+    private Long version;       // 수정될 때마다 1 증가 (ETag, 낙관적 잠금)
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
 }
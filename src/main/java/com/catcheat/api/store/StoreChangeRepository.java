@@ -0,0 +1,149 @@
+package com.catcheat.api.store;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ *  store_change(매장 변경 기록) 조회 저장소
+ *
+ *  - store 테이블 트리거가 생성/수정(U)/삭제(D)마다 한 행씩 남김 (JPA, JdbcTemplate 어느 경로로 바뀌어도 기록됨)
+ *  - 영업시간 교체(H)는 StoreHoursRepository 가 직접 한 행 남김 (매장 행은 바뀌지 않지만 영업 여부가 달라질 수 있음)
+ *  - 트리거를 끄고 store 를 통째로 다시 적재하면(DatasetGenerator) 리셋 표시(R) 한 행만 남김
+ *    → 변경분 조회에는 나오지 않고, 그보다 앞선 커서의 스냅샷/변경분 조회(410)를 거부하는 데만 씀 (resetAfter)
+ *  - 보관 기간이 지난 기록을 지울 때(StoreChangeRetention)도 남는 기록 바로 앞 한 행을 리셋 표시로 바꿈
+ *    → 지워진 구간에 걸친 커서도 같은 방법(resetAfter)으로 알아냄
+ *  - 커서는 (트랜잭션 id, 순번) 쌍: 순번만 쓰면 먼저 번호를 받고 늦게 커밋된 변경을 클라이언트가 건너뛸 수 있음
+ *  - 아직 진행 중일 수 있는 트랜잭션(xmin 이상)의 변경은 돌려주지 않음 → 커서 이전에 새 변경이 끼어들 수 없음
+ */
+@Repository
+public class StoreChangeRepository {
+
+    private static final String FIND_AFTER =
+            "SELECT tx_id::text::bigint AS tx, seq, store_id, op FROM store_change"
+                    + " WHERE (tx_id, seq) > (CAST(? AS xid8), ?)"
+                    + " AND tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+                    + " AND op <> 'R'"
+                    + " ORDER BY tx_id, seq LIMIT ?";
+
+    private static final String RESET_AFTER =
+            "SELECT EXISTS (SELECT 1 FROM store_change"
+                    + " WHERE (tx_id, seq) > (CAST(? AS xid8), ?) AND op = 'R')";
+
+    private static final String POSITION =
+            "SELECT (SELECT tx_id::text || '-' || seq FROM store_change"
+                    + "         ORDER BY tx_id DESC, seq DESC LIMIT 1) AS latest,"
+                    + " (SELECT tx_id::text || '-' || seq FROM store_change"
+                    + "         WHERE tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+                    + "         ORDER BY tx_id DESC, seq DESC LIMIT 1) AS safe";
+
+    // 완료된 트랜잭션의 기록 중 보관 기간이 지난 마지막 행을 경계로, 그 행은 리셋 표시로 바꾸고 앞의 행은 삭제
+    private static final String PRUNE =
+            "WITH boundary AS ("
+                    + "   SELECT tx_id, seq FROM store_change"
+                    + "    WHERE changed_at < CURRENT_TIMESTAMP - ? * INTERVAL '1 second'"
+                    + "      AND tx_id < pg_snapshot_xmin(pg_current_snapshot())"
+                    + "    ORDER BY tx_id DESC, seq DESC LIMIT 1"
+                    + " ), marked AS ("
+                    + "   UPDATE store_change c SET op = 'R', store_id = 0 FROM boundary b"
+                    + "    WHERE c.seq = b.seq AND c.op <> 'R' RETURNING c.seq"
+                    + " ), pruned AS ("
+                    + "   DELETE FROM store_change c USING boundary b"
+                    + "    WHERE (c.tx_id, c.seq) < (b.tx_id, b.seq) RETURNING c.seq"
+                    + " )"
+                    + " SELECT count(*) FROM pruned";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /** 변경 기록 한 건 (op: U=생성/수정, D=삭제, H=영업시간 교체) */
+    public record Change(long txId, long seq, long storeId, String op) {
+
+        public boolean deleted() {
+            return "D".equals(op);
+        }
+
+        public boolean hours() {
+            return "H".equals(op);
+        }
+
+        public Cursor cursor() {
+            return new Cursor(txId, seq);
+        }
+    }
+
+    /** 변경분 조회 커서 ("트랜잭션id-순번", 처음부터 받으려면 "0-0") */
+    public record Cursor(long txId, long seq) {
+
+        public static final Cursor START = new Cursor(0, 0);
+
+        public static Cursor parse(String value) {
+            if (value == null || value.isBlank()) {
+                return START;
+            }
+            int dash = value.indexOf('-');
+            try {
+                if (dash > 0) {
+                    return new Cursor(Long.parseLong(value.substring(0, dash)), Long.parseLong(value.substring(dash + 1)));
+                }
+            } catch (NumberFormatException ignored) {
+                // 아래에서 예외로 처리
+            }
+            throw new IllegalArgumentException("Invalid change cursor: " + value);
+        }
+
+        @Override
+        public String toString() {
+            return txId + "-" + seq;
+        }
+    }
+
+    /**
+     * 현재 변경 기록 위치
+     *
+     * @param latest 가장 최근 변경 (목록 ETag 용, 진행 중 트랜잭션과 무관하게 데이터가 바뀌었는지만 판단)
+     * @param safe   변경분 조회를 이어서 시작해도 되는 커서
+     */
+    public record Position(String latest, Cursor safe) {
+    }
+
+    public StoreChangeRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // cursor 이후의 완료된 변경을 순서대로 최대 limit 건 조회
+    public List<Change> findAfter(Cursor cursor, int limit) {
+        return jdbcTemplate.query(FIND_AFTER,
+                (rs, rowNum) -> new Change(rs.getLong("tx"), rs.getLong("seq"), rs.getLong("store_id"),
+                        rs.getString("op")),
+                String.valueOf(cursor.txId()), cursor.seq(), limit);
+    }
+
+    // cursor 이후에 store 가 변경 기록 없이 다시 적재되었는지 (그렇다면 cursor 기준 상태에 변경분을 이어 붙일 수 없음)
+    public boolean resetAfter(Cursor cursor) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(RESET_AFTER, Boolean.class,
+                String.valueOf(cursor.txId()), cursor.seq()));
+    }
+
+    /**
+     * 보관 기간이 지난 변경 기록 삭제
+     * 경계 행은 리셋 표시(R)로 남김 → 그보다 앞선 커서는 resetAfter 가 true (전체 목록부터 다시 받아야 함)
+     *
+     * @param retention 보관 기간
+     * @return 삭제한 행 수
+     */
+    public int prune(Duration retention) {
+        Integer pruned = jdbcTemplate.queryForObject(PRUNE, Integer.class, retention.toSeconds());
+        return pruned == null ? 0 : pruned;
+    }
+
+    public Position position() {
+        return jdbcTemplate.queryForObject(POSITION, (rs, rowNum) -> {
+            String latest = rs.getString("latest");
+            String safe = rs.getString("safe");
+            return new Position(latest == null ? Cursor.START.toString() : latest,
+                    safe == null ? Cursor.START : Cursor.parse(safe));
+        });
+    }
+}
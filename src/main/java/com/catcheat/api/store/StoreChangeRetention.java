@@ -0,0 +1,54 @@
+package com.catcheat.api.store;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ *  store_change(매장 변경 기록) 보관 기간 관리
+ *
+ *  - prune-interval 마다 retention 보다 오래된 기록을 지움 (0 이면 지우지 않음)
+ *  - 남는 기록 바로 앞 한 행은 리셋 표시(R)로 바꿔 둠 → 지워진 구간에 걸친 커서는
+ *    변경분 조회에서 410, 스냅샷 파일은 기동 시 무시 (DatasetGenerator 의 재적재와 같은 신호)
+ *  - 여러 인스턴스가 함께 실행해도 결과는 같음 (경계 이전 행만 지우고 경계 행만 바꿈)
+ *  - retention 은 클라이언트가 변경분을 받지 않고 지낼 수 있는 기간, 스냅샷 파일 max-age 보다 길게 둠
+ *
+ *  메트릭: store.change.pruned
+ */
+@Slf4j
+@Component
+public class StoreChangeRetention {
+
+    private final StoreChangeRepository storeChangeRepository;
+    private final Duration retention;
+    private final Counter pruned;
+
+    public StoreChangeRetention(StoreChangeRepository storeChangeRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${catcheat.store.change.retention:7d}") Duration retention) {
+        this.storeChangeRepository = storeChangeRepository;
+        this.retention = retention;
+        this.pruned = meterRegistry.counter("store.change.pruned");
+    }
+
+    // 트랜잭션 밖의 JdbcTemplate 호출이라 primary 에서 실행
+    @Scheduled(initialDelayString = "${catcheat.store.change.prune-interval:1h}",
+            fixedDelayString = "${catcheat.store.change.prune-interval:1h}")
+    public void prune() {
+        if (retention.isZero() || retention.isNegative()) {
+            return;
+        }
+        long start = System.nanoTime();
+        int deleted = storeChangeRepository.prune(retention);
+        pruned.increment(deleted);
+        if (deleted > 0) {
+            log.info("Store changes pruned: {} rows older than {}, {} ms",
+                    deleted, retention, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
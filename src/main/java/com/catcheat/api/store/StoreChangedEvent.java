@@ -0,0 +1,54 @@
+package com.catcheat.api.store;
+
+import lombok.Getter;
+
+/**
+ *  매장 생성/수정/삭제 시 StoreServiceImpl 이 발행하는 이벤트
+ *  트랜잭션이 커밋된 뒤(AFTER_COMMIT) 인메모리 인덱스 등이 이 이벤트를 받아 자신의 상태를 갱신함
+ *  롤백된 변경은 전달되지 않으므로, 인덱스가 DB 보다 앞서 나가는 일이 없음
+ *
+ *  remote = true: 다른 인스턴스의 변경을 StoreIndexSynchronizer 가 store_change 에서 읽어 트랜잭션 밖에서 발행한 것
+ *  (@TransactionalEventListener 로는 전달되지 않음 → 필요한 쪽만 @EventListener(condition = "#event.remote") 로 받음)
+ */
+@Getter
+public class StoreChangedEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Type type;
+    private final Long storeId;
+    private final Store store;  // 변경 후 엔티티 (DELETED 인 경우 null)
+    private final boolean remote;
+
+    private StoreChangedEvent(Type type, Long storeId, Store store, boolean remote) {
+        this.type = type;
+        this.storeId = storeId;
+        this.store = store;
+        this.remote = remote;
+    }
+
+    public static StoreChangedEvent created(Store store) {
+        return new StoreChangedEvent(Type.CREATED, store.getId(), store, false);
+    }
+
+    public static StoreChangedEvent updated(Store store) {
+        return new StoreChangedEvent(Type.UPDATED, store.getId(), store, false);
+    }
+
+    public static StoreChangedEvent deleted(Long storeId) {
+        return new StoreChangedEvent(Type.DELETED, storeId, null, false);
+    }
+
+    /** 다른 인스턴스에서 생성/수정된 매장 (생성과 수정을 구분할 수 없으므로 UPDATED) */
+    public static StoreChangedEvent remoteUpdated(Store store) {
+        return new StoreChangedEvent(Type.UPDATED, store.getId(), store, true);
+    }
+
+    public static StoreChangedEvent remoteDeleted(Long storeId) {
+        return new StoreChangedEvent(Type.DELETED, storeId, null, true);
+    }
+}
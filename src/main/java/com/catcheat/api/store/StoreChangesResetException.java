@@ -0,0 +1,12 @@
+package com.catcheat.api.store;
+
+/**
+ *  변경분 조회 커서 이후에 store 가 다시 적재되었거나 그 구간의 변경 기록이 지워진 경우
+ *  (StoreController 가 410 으로 응답 → 클라이언트는 전체 목록과 X-Store-Cursor 부터 다시 받음)
+ */
+public class StoreChangesResetException extends IllegalStateException {
+
+    public StoreChangesResetException(StoreChangeRepository.Cursor cursor) {
+        super("Store changes are no longer available after cursor " + cursor);
+    }
+}
@@ -0,0 +1,24 @@
+package com.catcheat.api.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ *  변경분(delta) 조회 응답
+ *  클라이언트는 upserts 를 id 기준으로 덮어쓰고 deletedIds 를 지운 뒤, nextCursor 를 다음 요청의 since 로 넘김
+ *  hasNext 가 true 면 바로 이어서 한 번 더 요청
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreChangesResponseDto {
+    private List<StoreResponseDto> upserts;     // 생성/수정된 매장 (현재 값)
+    private List<Long> deletedIds;              // 삭제된 매장 id (tombstone)
+    private String nextCursor;
+    private boolean hasNext;
+}
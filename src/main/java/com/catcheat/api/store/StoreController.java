@@ -1,6 +1,25 @@
 package com.catcheat.api.store;
 
+import com.catcheat.api.store.stream.StoreChangeBroadcaster;
+import com.catcheat.api.store.stream.StoreStreamFilter;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.MappingJacksonValue;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 /**
@@ -20,12 +39,23 @@ import java.util.List;
  */
 @RestController
 @RequestMapping("/api/stores")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class StoreController {
 
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+    private static final String CURSOR_HEADER = "X-Store-Cursor";
+
     private final StoreService storeService;
+    private final StoreChangeBroadcaster storeChangeBroadcaster;
+    private final ObjectWriter storeWriter;
 
-    public StoreController(StoreService storeService) {
+    public StoreController(StoreService storeService, StoreChangeBroadcaster storeChangeBroadcaster,
+                           ObjectMapper objectMapper) {
         this.storeService = storeService;
+        this.storeChangeBroadcaster = storeChangeBroadcaster;
+        // 스트림을 매 행마다 닫지 않도록 AUTO_CLOSE_TARGET 해제
+        this.storeWriter = objectMapper.writerFor(StoreResponseDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     // 매장 생성
@@ -34,16 +64,131 @@ public class StoreController {
         return storeService.create(requestDto);
     }
 
-    // 매장 단건 조회
+    // 매장 단건 조회 (ETag = "id-version-o|c", If-None-Match 가 같으면 304)
     @GetMapping("/{id}")
-    public StoreResponseDto get(@PathVariable Long id) {
-        return storeService.get(id);
+    public ResponseEntity<StoreResponseDto> get(@PathVariable Long id) {
+        StoreResponseDto store = storeService.get(id);
+        return ResponseEntity.ok()
+                .eTag(eTagOf(store))
+                .body(store);
     }
 
-    // 매장 전체 조회
+    // 매장 전체 조회 (ETag 가 같으면 304, X-Store-Cursor 는 이후 변경분 조회의 시작 커서)
+    // Accept 로 JSON/CBOR/Smile 선택, ?fields=id,name,latitude,longitude 로 필요한 필드만 (모르는 필드명이면 400)
+    // 응답 압축(gzip)을 위해 약한 ETag 사용 (Tomcat 은 강한 ETag 응답을 압축하지 않음)
     @GetMapping
-    public List<StoreResponseDto> getAll() {
-        return storeService.getAll();
+    public ResponseEntity<Object> getAll(@RequestParam(required = false) String fields) {
+        FilterProvider filter = fieldFilter(fields);
+        StoreListSnapshot snapshot = storeService.getAllSnapshot();
+        return ResponseEntity.ok()
+                .eTag("W/\"" + snapshot.etag() + "\"")
+                .varyBy(HttpHeaders.ACCEPT)
+                .header(CURSOR_HEADER, snapshot.cursor())
+                .body(project(snapshot.stores(), filter));
+    }
+
+    // 변경분 조회 (?since=커서&limit=1000, 생성/수정된 매장과 삭제된 id 만 전달)
+    // 커서 이후에 재적재되었거나 보관 기간이 지나 기록이 지워졌으면 410 → 전체 목록부터 다시 받아야 함
+    @GetMapping("/changes")
+    public StoreChangesResponseDto getChanges(@RequestParam(required = false) String since,
+                                              @RequestParam(defaultValue = "1000") int limit) {
+        return storeService.getChanges(since, limit);
+    }
+
+    // 매장 코드로 조회
+    @GetMapping("/code/{code}")
+    public StoreResponseDto getByCode(@PathVariable String code) {
+        return storeService.getByCode(code);
+    }
+
+    // 지역별 매장 조회 (?province=서울특별시&city=강남구&district=역삼동&opened=true, 상위 단계부터 지정)
+    @GetMapping("/region")
+    public List<StoreResponseDto> getByRegion(@RequestParam String province,
+                                              @RequestParam(required = false) String city,
+                                              @RequestParam(required = false) String district,
+                                              @RequestParam(required = false) Boolean opened) {
+        return storeService.getByRegion(province, city, district, opened);
+    }
+
+    // 요청 시각에 영업 중인 매장 (?openNow=true, 영업시간이 없는 매장은 opened 값 사용, DB 조회 없이 메모리에서 판단)
+    @GetMapping(params = "openNow")
+    public List<StoreResponseDto> getByOpenNow(@RequestParam boolean openNow) {
+        return storeService.getByOpenNow(openNow);
+    }
+
+    // 영업 여부로 매장 조회 (?opened=true, DB 에 저장된 수동 설정 값 기준)
+    @GetMapping(params = "opened")
+    public List<StoreResponseDto> getByOpened(@RequestParam boolean opened) {
+        return storeService.getByOpened(opened);
+    }
+
+    // 매장 페이지 조회 (키셋 페이지네이션: ?afterId=마지막id&size=100)
+    @GetMapping(params = "size")
+    public Object getPage(@RequestParam(required = false) Long afterId,
+                          @RequestParam int size,
+                          @RequestParam(required = false) String fields) {
+        FilterProvider filter = fieldFilter(fields);
+        return project(storeService.getPage(afterId, size), filter);
+    }
+
+    // 매장 전체 내보내기 (NDJSON: 한 줄에 매장 하나, DB 커서에서 읽는 대로 바로 전송)
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export() {
+        StreamingResponseBody body = outputStream -> {
+            BufferedOutputStream out = new BufferedOutputStream(outputStream, 64 * 1024);
+            storeService.streamAll(dto -> {
+                try {
+                    storeWriter.writeValue(out, dto);
+                    out.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            out.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    // 근처 매장 조회 (가까운 순, distance 에 km 단위 거리 포함)
+    @GetMapping("/nearby")
+    public List<StoreResponseDto> nearby(@RequestParam double lat,
+                                         @RequestParam double lng,
+                                         @RequestParam(defaultValue = "3") double radiusKm,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return storeService.nearby(lat, lng, radiusKm, limit);
+    }
+
+    // 지도 화면 영역 조회 (zoom 15 이상: 매장 목록 / 그 미만: 격자 클러스터의 매장 수와 좌표 평균)
+    @GetMapping("/viewport")
+    public StoreViewportResponseDto viewport(@RequestParam double minLat,
+                                             @RequestParam double minLng,
+                                             @RequestParam double maxLat,
+                                             @RequestParam double maxLng,
+                                             @RequestParam int zoom) {
+        return storeService.viewport(minLat, minLng, maxLat, maxLng, zoom);
+    }
+
+    // 매장명/주소 검색 (?q=강남역&limit=20, 초성 검색 가능, 관련도 순)
+    @GetMapping("/search")
+    public List<StoreResponseDto> search(@RequestParam String q,
+                                         @RequestParam(defaultValue = "20") int limit) {
+        return storeService.search(q, limit);
+    }
+
+    // 매장 생성/수정/삭제 실시간 구독 (SSE, 지역/좌표 조건 선택, 재연결 시 Last-Event-ID 이후부터 전달)
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam(required = false) String province,
+                             @RequestParam(required = false) String city,
+                             @RequestParam(required = false) String district,
+                             @RequestParam(required = false) Double minLat,
+                             @RequestParam(required = false) Double minLng,
+                             @RequestParam(required = false) Double maxLat,
+                             @RequestParam(required = false) Double maxLng,
+                             @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        StoreStreamFilter filter = new StoreStreamFilter(province, city, district, minLat, minLng, maxLat, maxLng);
+        return storeChangeBroadcaster.subscribe(filter, lastEventId);
     }
 
     // 매장 수정
@@ -53,9 +198,109 @@ public class StoreController {
         return storeService.update(id, requestDto);
     }
 
+    // 매장 부분 수정 (보낸 필드만 수정, body 의 version 이 현재 버전과 다르면 409, If-Match: "id-version[-o|c]" 가 다르면 412)
+    // 둘 다 없으면 428 (조건 없이 덮어쓰려면 If-Match: * 를 명시), null 인 필드는 "보내지 않음"이라 PATCH 로 값을 비울 수는 없음 (PUT 사용)
+    // If-Match 형식이 잘못됐거나 다른 매장의 ETag 이면 400
+    @PatchMapping("/{id}")
+    public ResponseEntity<StoreResponseDto> patch(@PathVariable Long id,
+                                                  @RequestBody StorePatchRequestDto requestDto,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        boolean versionFromIfMatch = false;
+        if (requestDto.getVersion() == null) {
+            if (ifMatch == null || ifMatch.isBlank()) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_REQUIRED).build();
+            }
+            requestDto.setVersion(versionFromETag(id, ifMatch));
+            versionFromIfMatch = requestDto.getVersion() != null;
+        }
+        StoreResponseDto store;
+        try {
+            store = storeService.patch(id, requestDto);
+        } catch (OptimisticLockingFailureException e) {
+            if (versionFromIfMatch) {
+                return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+            }
+            throw e;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTagOf(store))
+                .body(store);
+    }
+
     // 매장 삭제
     @DeleteMapping("/{id}")
     public void delete(@PathVariable Long id) {
         storeService.delete(id);
     }
+
+    // fields 가 있으면 해당 필드만 직렬화하는 필터 (StoreFieldFilter), 없으면 null
+    // 모르는 필드명은 IllegalArgumentException → 400 (조회 전에 확인)
+    private static FilterProvider fieldFilter(String fields) {
+        return fields == null || fields.isBlank() ? null : StoreFieldFilter.only(fields);
+    }
+
+    private static Object project(Object body, FilterProvider filter) {
+        if (filter == null) {
+            return body;
+        }
+        MappingJacksonValue value = new MappingJacksonValue(body);
+        value.setFilters(filter);
+        return value;
+    }
+
+    // 동시 수정으로 버전이 맞지 않으면 409 Conflict
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<Void> onVersionConflict() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    // 변경분 커서를 더 이어갈 수 없으면 410 Gone
+    @ExceptionHandler(StoreChangesResetException.class)
+    public ResponseEntity<Void> onChangesReset() {
+        return ResponseEntity.status(HttpStatus.GONE).build();
+    }
+
+    // 없는 매장이면 404
+    @ExceptionHandler(StoreNotFoundException.class)
+    public ResponseEntity<Void> onStoreNotFound() {
+        return ResponseEntity.notFound().build();
+    }
+
+    // 요청 값 검증 실패 (좌표 범위, 잘못된 If-Match/fields, 수정할 필드 없음 ...) 는 400
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> onInvalidRequest(IllegalArgumentException e) {
+        return ResponseEntity.badRequest()
+                .contentType(MediaType.TEXT_PLAIN)
+                .body(e.getMessage());
+    }
+
+    // 영업시간에 따라 opened 가 버전과 무관하게 바뀌므로 영업 여부(o/c)도 ETag 에 포함
+    private static String eTagOf(StoreResponseDto store) {
+        return store.getId() + "-" + store.getVersion() + (store.isOpened() ? "-o" : "-c");
+    }
+
+    // If-Match: "12-3" 또는 "12-3-o" (W/ 접두어 허용) → 3, "*" 이면 버전 확인 안 함
+    private static Long versionFromETag(Long id, String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        tag = tag.replace("\"", "");
+        String prefix = id + "-";
+        if (tag.startsWith(prefix)) {
+            String version = tag.substring(prefix.length());
+            if (version.endsWith("-o") || version.endsWith("-c")) {
+                version = version.substring(0, version.length() - 2);
+            }
+            try {
+                return Long.parseLong(version);
+            } catch (NumberFormatException ignored) {
+                // 아래에서 예외로 처리
+            }
+        }
+        throw new IllegalArgumentException("Invalid If-Match for store " + id + ": " + ifMatch);
+    }
 }
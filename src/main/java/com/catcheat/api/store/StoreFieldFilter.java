@@ -0,0 +1,62 @@
+package com.catcheat.api.store;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ *  StoreResponseDto 필드 선택(fields=id,name,latitude,longitude) 용 Jackson 믹스인 + 필터
+ *
+ *  - StoreJacksonConfig 가 스프링 ObjectMapper 에 믹스인과 기본 필터(전체 필드)를 등록
+ *  - 요청에 fields 가 있으면 컨트롤러가 MappingJacksonValue 에 해당 필드만 남기는 필터를 지정
+ *  - DTO 를 복사하거나 Map 으로 바꾸지 않고 직렬화 단계에서만 필드를 거름
+ */
+@JsonFilter(StoreFieldFilter.ID)
+public abstract class StoreFieldFilter {
+
+    public static final String ID = "storeFields";
+
+    private static final Set<String> FIELDS = Set.of(
+            "id", "code", "name", "address", "opened", "province", "city", "district",
+            "roadAddress", "lotAddress", "latitude", "longitude", "version", "distance");
+
+    private static final FilterProvider ALL_FIELDS = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll())
+            .setFailOnUnknownId(false);
+
+    private StoreFieldFilter() {
+    }
+
+    // 기본 필터: 모든 필드 직렬화
+    public static FilterProvider allFields() {
+        return ALL_FIELDS;
+    }
+
+    /**
+     * "id,name,latitude" 형태의 필드 목록을 해당 필드만 직렬화하는 필터로 변환
+     *
+     * @param fields 쉼표로 구분한 필드명
+     * @return 필터
+     * @throws IllegalArgumentException 알 수 없는 필드명이 있을 때 (StoreController 가 400 으로 응답)
+     */
+    public static FilterProvider only(String fields) {
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                throw new IllegalArgumentException("Unknown store field: " + name);
+            }
+            selected.add(name);
+        }
+        return new SimpleFilterProvider()
+                .addFilter(ID, SimpleBeanPropertyFilter.filterOutAllExcept(selected))
+                .setFailOnUnknownId(false);
+    }
+}
@@ -0,0 +1,19 @@
+package com.catcheat.api.store;
+
+/**
+ *  Store 데이터를 메모리에 들고 있는 보조 인덱스의 공통 인터페이스
+ *  - 애플리케이션 기동 시 StoreIndexSynchronizer 가 전체 매장을 한 번 읽어 put() 으로 채움
+ *  - 이후에는 StoreChangedEvent 를 받아 변경된 매장만 put()/remove() 로 반영
+ *  - 구현체는 여러 스레드에서 동시에 조회되므로 스레드 안전해야 함
+ */
+public interface StoreIndex {
+
+    // 신규 매장 추가 또는 기존 매장 갱신 (같은 id 가 있으면 교체)
+    void put(Store store);
+
+    // 매장 제거 (없는 id 여도 예외 없이 무시)
+    void remove(Long storeId);
+
+    // 전체 비우기 (재적재 전에 호출)
+    void clear();
+}
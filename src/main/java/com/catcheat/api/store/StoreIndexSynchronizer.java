@@ -0,0 +1,272 @@
+package com.catcheat.api.store;
+
+import com.catcheat.api.common.datasource.ReadWriteRoutingDataSource;
+import com.catcheat.api.store.hours.RemoteStoreHoursChangedEvent;
+import com.catcheat.api.store.snapshot.StoreSnapshotService;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ *  StoreIndex 구현체들을 DB 와 동기화하는 컴포넌트
+ *  1. 기동 완료(ApplicationReadyEvent) 시 store 테이블을 커서로 한 번 읽어 모든 인덱스를 채움
+ *     매장 스냅샷 파일(StoreSnapshotService)이 있으면 파일로 채우고 그 이후의 변경(store_change)만 DB 에서 이어받음
+ *  2. 이후에는 커밋된 StoreChangedEvent 만 받아 해당 매장만 반영 → 요청마다 전체 조회할 필요 없음
+ *  3. 다른 인스턴스의 변경은 이벤트로 오지 않으므로 poll-interval 마다 store_change 를 기동 시 위치부터 이어서 읽음
+ *     - 아직 반영하지 않은 변경만 인덱스에 적용하고 StoreChangedEvent(remote = true) 발행 (SSE 구독자 전달)
+ *     - 매장별로 마지막에 반영한 version 을 기억 → 이 인스턴스가 이미 반영한 변경이나 더 오래된 행은 건너뜀
+ *     - 영업시간 교체(H)는 RemoteStoreHoursChangedEvent 로 넘김 (OpeningHoursScheduler 가 일정을 다시 읽음)
+ *     - 변경 기록과 매장 행은 primary 에서 읽음 (replica 는 변경 기록보다 늦을 수 있음)
+ */
+@Slf4j
+@Component
+public class StoreIndexSynchronizer {
+
+    private static final int CATCH_UP_BATCH = 1000;
+    private static final long DELETED = Long.MAX_VALUE;     // appliedVersions: 삭제된 매장 (id 는 재사용되지 않음)
+
+    private final StoreRepository storeRepository;
+    private final StoreChangeRepository storeChangeRepository;
+    private final StoreSnapshotService snapshotService;
+    private final List<StoreIndex> indexes;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Cache<Long, Long> appliedVersions;        // storeId → 마지막으로 인덱스에 반영한 version
+    private final boolean warmUpEnabled;
+    private volatile StoreChangeRepository.Cursor cursor;   // warmUp 이 끝나기 전에는 null (끄면 polling 도 안 함)
+
+    /** 변경 기록 한 묶음을 매장별 마지막 상태로 정리한 결과 */
+    private record Batch(List<Long> upsertIds, List<Long> deletedIds, Set<Long> hoursIds) {
+    }
+
+    public StoreIndexSynchronizer(StoreRepository storeRepository,
+                                  StoreChangeRepository storeChangeRepository,
+                                  StoreSnapshotService snapshotService,
+                                  List<StoreIndex> indexes,
+                                  EntityManager entityManager,
+                                  TransactionTemplate transactionTemplate,
+                                  ApplicationEventPublisher eventPublisher,
+                                  @Value("${catcheat.store.warm-up.enabled:true}") boolean warmUpEnabled) {
+        this.storeRepository = storeRepository;
+        this.storeChangeRepository = storeChangeRepository;
+        this.snapshotService = snapshotService;
+        this.indexes = indexes;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.warmUpEnabled = warmUpEnabled;
+        this.appliedVersions = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        if (!warmUpEnabled) {
+            log.info("Store index warm-up disabled (catcheat.store.warm-up.enabled=false)");
+            return;
+        }
+        ReadWriteRoutingDataSource.runOnPrimary(this::loadIndexes);
+    }
+
+    // 스냅샷 커서 확인, 전체 조회, 변경 이어받기를 모두 primary 에서 (이후 polling 도 primary 의 커서 기준)
+    private void loadIndexes() {
+        long start = System.nanoTime();
+        indexes.forEach(StoreIndex::clear);
+
+        AtomicInteger loaded = new AtomicInteger();
+        Optional<StoreChangeRepository.Cursor> cursor = snapshotService.load(store -> {
+            for (StoreIndex index : indexes) {
+                index.put(store);
+            }
+            loaded.incrementAndGet();
+        });
+        if (cursor.isPresent()) {
+            AtomicInteger changed = new AtomicInteger();
+            this.cursor = catchUp(cursor.get(), changed);
+            log.info("Store indexes warmed up from snapshot: {} stores + {} changes, {} indexes, {} ms",
+                    loaded.get(), changed.get(), indexes.size(), (System.nanoTime() - start) / 1_000_000);
+            return;
+        }
+        if (loaded.get() > 0) {
+            indexes.forEach(StoreIndex::clear);          // 스냅샷을 읽다가 실패한 경우
+        }
+
+        // 전체 조회 전에 위치를 잡아 둠 → 조회 중에 커밋된 변경은 이후 polling 에서 한 번 더 반영됨 (반영은 멱등)
+        StoreChangeRepository.Cursor resumeFrom = storeChangeRepository.position().safe();
+        AtomicInteger count = new AtomicInteger();
+        try (Stream<Store> stores = storeRepository.streamAllByOrderByIdAsc()) {
+            stores.forEach(store -> {
+                for (StoreIndex index : indexes) {
+                    index.put(store);
+                }
+                entityManager.detach(store);
+                count.incrementAndGet();
+            });
+        }
+        this.cursor = resumeFrom;
+        log.info("Store indexes warmed up: {} stores, {} indexes, {} ms",
+                count.get(), indexes.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    // cursor 이후 완료된 변경을 순서대로 반영 (매장별 마지막 상태만, 생성/수정은 현재 행을 다시 읽음) → 마지막 커서
+    private StoreChangeRepository.Cursor catchUp(StoreChangeRepository.Cursor cursor, AtomicInteger changed) {
+        while (true) {
+            List<StoreChangeRepository.Change> changes = storeChangeRepository.findAfter(cursor, CATCH_UP_BATCH);
+            if (changes.isEmpty()) {
+                return cursor;
+            }
+            Batch batch = toBatch(changes);
+            Set<Long> found = new HashSet<>();
+            for (Store store : storeRepository.findAllById(batch.upsertIds())) {
+                indexes.forEach(index -> index.put(store));
+                found.add(store.getId());
+                entityManager.detach(store);
+            }
+            // 삭제됐거나, 생성/수정 뒤 다시 읽기 전에 삭제된 매장
+            batch.upsertIds().stream()
+                    .filter(storeId -> !found.contains(storeId))
+                    .forEach(storeId -> indexes.forEach(index -> index.remove(storeId)));
+            batch.deletedIds().forEach(storeId -> indexes.forEach(index -> index.remove(storeId)));
+
+            changed.addAndGet(batch.upsertIds().size() + batch.deletedIds().size());
+            cursor = changes.get(changes.size() - 1).cursor();
+            if (changes.size() < CATCH_UP_BATCH) {
+                return cursor;
+            }
+        }
+    }
+
+    /**
+     * 다른 인스턴스의 변경 반영
+     * 한 번에 CATCH_UP_BATCH 건씩, 트랜잭션 밖에서 이벤트를 발행해야 하므로 조회만 TransactionTemplate(쓰기 = primary) 안에서 함
+     */
+    @Scheduled(fixedDelayString = "${catcheat.store.index.poll-interval:1s}")
+    public void pollChanges() {
+        StoreChangeRepository.Cursor from = cursor;
+        if (from == null) {
+            return;
+        }
+        while (true) {
+            StoreChangeRepository.Cursor position = from;
+            List<StoreChangeRepository.Change> changes = transactionTemplate.execute(
+                    status -> storeChangeRepository.findAfter(position, CATCH_UP_BATCH));
+            if (changes == null || changes.isEmpty()) {
+                return;
+            }
+            Batch batch = toBatch(changes);
+            List<Store> stores = batch.upsertIds().isEmpty() ? List.of()
+                    : transactionTemplate.execute(status -> storeRepository.findAllById(batch.upsertIds()));
+
+            Set<Long> found = new HashSet<>();
+            for (Store store : stores) {
+                applyRemote(store);
+                found.add(store.getId());
+            }
+            batch.upsertIds().stream()
+                    .filter(storeId -> !found.contains(storeId))
+                    .forEach(this::applyRemoteDelete);
+            batch.deletedIds().forEach(this::applyRemoteDelete);
+            batch.hoursIds().forEach(storeId -> eventPublisher.publishEvent(new RemoteStoreHoursChangedEvent(storeId)));
+
+            from = changes.get(changes.size() - 1).cursor();
+            cursor = from;
+            if (changes.size() < CATCH_UP_BATCH) {
+                return;
+            }
+        }
+    }
+
+    // 기본 phase 는 AFTER_COMMIT → 롤백된 변경은 반영되지 않음
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> {
+                synchronized (this) {
+                    if (markApplied(event.getStoreId(), versionOf(event.getStore()))) {
+                        indexes.forEach(index -> index.put(event.getStore()));
+                    }
+                }
+            }
+            case DELETED -> {
+                synchronized (this) {
+                    appliedVersions.put(event.getStoreId(), DELETED);
+                    indexes.forEach(index -> index.remove(event.getStoreId()));
+                }
+            }
+        }
+    }
+
+    // 이벤트를 먼저 발행 → StoreChangeBroadcaster 가 인덱스 갱신 전 위치를 읽음
+    private synchronized void applyRemote(Store store) {
+        if (markApplied(store.getId(), versionOf(store))) {
+            eventPublisher.publishEvent(StoreChangedEvent.remoteUpdated(store));
+            indexes.forEach(index -> index.put(store));
+        }
+    }
+
+    private synchronized void applyRemoteDelete(Long storeId) {
+        Long applied = appliedVersions.getIfPresent(storeId);
+        if (applied == null || applied != DELETED) {
+            appliedVersions.put(storeId, DELETED);
+            eventPublisher.publishEvent(StoreChangedEvent.remoteDeleted(storeId));
+            indexes.forEach(index -> index.remove(storeId));
+        }
+    }
+
+    // 이미 같거나 더 새 version(또는 삭제)을 반영했으면 false (늦게 읽은 행이 인덱스를 되돌리지 않도록)
+    private boolean markApplied(Long storeId, long version) {
+        Long applied = appliedVersions.getIfPresent(storeId);
+        if (applied != null && applied >= version) {
+            return false;
+        }
+        appliedVersions.put(storeId, version);
+        return true;
+    }
+
+    private static long versionOf(Store store) {
+        return store.getVersion() == null ? 0 : store.getVersion();
+    }
+
+    // 매장별 마지막 변경만 남김 (영업시간 교체는 따로 모음)
+    private static Batch toBatch(List<StoreChangeRepository.Change> changes) {
+        Map<Long, Boolean> deletedById = new LinkedHashMap<>();
+        Set<Long> hoursIds = new LinkedHashSet<>();
+        for (StoreChangeRepository.Change change : changes) {
+            if (change.hours()) {
+                hoursIds.add(change.storeId());
+            } else {
+                deletedById.put(change.storeId(), change.deleted());
+            }
+        }
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deletedIds = new ArrayList<>();
+        deletedById.forEach((storeId, deleted) -> (deleted ? deletedIds : upsertIds).add(storeId));
+        return new Batch(upsertIds, deletedIds, hoursIds);
+    }
+}
@@ -0,0 +1,26 @@
+package com.catcheat.api.store;
+
+import com.catcheat.api.store.cache.StoreJsonHttpMessageConverter;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ *  스프링 ObjectMapper(JSON/CBOR/Smile 공통)에 매장 응답 필드 선택 기능을 등록
+ *  미리 직렬화된 매장 목록/페이지의 JSON 출력용 컨버터 등록 (기본 Jackson 컨버터보다 앞에 놓임)
+ */
+@Configuration
+public class StoreJacksonConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer storeFieldFilterCustomizer() {
+        return builder -> builder
+                .mixIn(StoreResponseDto.class, StoreFieldFilter.class)
+                .filters(StoreFieldFilter.allFields());
+    }
+
+    @Bean
+    public StoreJsonHttpMessageConverter storeJsonHttpMessageConverter() {
+        return new StoreJsonHttpMessageConverter();
+    }
+}
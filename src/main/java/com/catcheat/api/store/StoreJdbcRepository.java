@@ -0,0 +1,235 @@
+package com.catcheat.api.store;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ *  JPA 로 처리하기 비효율적인 store 테이블 작업을 JdbcTemplate 으로 직접 수행하는 저장소
+ *
+ *  - Store.id 가 IDENTITY 전략이라 Hibernate 는 INSERT 를 한 건씩 실행함 (배치 INSERT 불가)
+ *  - 대량 등록 시에는 시퀀스에서 id 를 미리 받아온 뒤, 여러 행을 하나의 INSERT 문으로 저장
+ *      INSERT INTO store (...) VALUES (...), (...), ...
+ *  - 부분 수정(PATCH)은 보낸 컬럼만 SET 하는 UPDATE ... RETURNING 한 문장으로 처리 (조회 후 수정 없음)
+ *  - 좌표 보정(지오코딩 backfill)은 여러 매장을 UPDATE ... FROM (VALUES ...) RETURNING 한 문장으로 처리
+ *  - 호출하는 쪽의 트랜잭션(@Transactional / TransactionTemplate)에 그대로 참여함
+ */
+@Repository
+public class StoreJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO store (id, code, name, address, opened, province, city, district,"
+                    + " road_address, lot_address, latitude, longitude) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String FIND_WITHOUT_COORDINATES =
+            "SELECT * FROM store WHERE id > ? AND (latitude IS NULL OR longitude IS NULL)"
+                    + " AND (address IS NOT NULL OR road_address IS NOT NULL OR lot_address IS NOT NULL)"
+                    + " ORDER BY id LIMIT ?";
+    // 비어 있는 지역/주소만 채우고 좌표는 아직 없는 행만 수정 (그 사이 다른 요청이 좌표를 넣었으면 건너뜀)
+    private static final String FILL_GEOCODE_PREFIX =
+            "UPDATE store s SET province = COALESCE(s.province, v.province), city = COALESCE(s.city, v.city),"
+                    + " district = COALESCE(s.district, v.district),"
+                    + " road_address = COALESCE(s.road_address, v.road_address),"
+                    + " lot_address = COALESCE(s.lot_address, v.lot_address),"
+                    + " latitude = v.latitude, longitude = v.longitude, version = s.version + 1"
+                    + " FROM (VALUES ";
+    private static final String FILL_GEOCODE_ROW =
+            "(CAST(? AS bigint), CAST(? AS varchar), CAST(? AS varchar), CAST(? AS varchar), CAST(? AS varchar),"
+                    + " CAST(? AS varchar), CAST(? AS double precision), CAST(? AS double precision))";
+    private static final String FILL_GEOCODE_SUFFIX =
+            ") AS v(id, province, city, district, road_address, lot_address, latitude, longitude)"
+                    + " WHERE s.id = v.id AND (s.latitude IS NULL OR s.longitude IS NULL) RETURNING s.*";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StoreJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // store.id 시퀀스에서 count 개의 id 를 한 번에 발급 (1회 왕복)
+    public List<Long> nextIds(int count) {
+        return jdbcTemplate.queryForList(
+                "SELECT nextval(pg_get_serial_sequence('store', 'id')) FROM generate_series(1, ?)",
+                Long.class, count);
+    }
+
+    /**
+     * id 가 채워진 매장 목록을 하나의 multi-row INSERT 로 저장
+     *
+     * @param stores id 가 미리 할당된 매장 목록
+     * @return 저장된 행 수
+     */
+    public int insertAll(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return 0;
+        }
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + stores.size() * (INSERT_ROW.length() + 2))
+                .append(INSERT_PREFIX);
+        for (int i = 0; i < stores.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(INSERT_ROW);
+        }
+
+        return jdbcTemplate.update(sql.toString(), ps -> {
+            int index = 1;
+            for (Store store : stores) {
+                index = bindStore(ps, index, store);
+            }
+        });
+    }
+
+    /**
+     * 보낸 필드만 수정하고 version 을 1 올린 뒤, 수정된 행 전체를 돌려받음 (1회 왕복)
+     * updated_at 은 DB 트리거가 갱신함
+     *
+     * @param id              매장 id
+     * @param patch           수정할 필드 (null 은 변경 없음)
+     * @param expectedVersion 이 버전일 때만 수정 (null 이면 버전 확인 없이 수정)
+     * @return 수정된 매장, 해당 id 가 없거나 버전이 다르면 empty
+     */
+    public Optional<Store> patch(Long id, StorePatchRequestDto patch, Long expectedVersion) {
+        StringBuilder sql = new StringBuilder("UPDATE store SET ");
+        List<Object> values = new ArrayList<>();
+        List<Integer> types = new ArrayList<>();
+        addAssignment(sql, values, types, "code", patch.getCode(), Types.VARCHAR);
+        addAssignment(sql, values, types, "name", patch.getName(), Types.VARCHAR);
+        addAssignment(sql, values, types, "address", patch.getAddress(), Types.VARCHAR);
+        addAssignment(sql, values, types, "opened", patch.getOpened(), Types.BOOLEAN);
+        addAssignment(sql, values, types, "province", patch.getProvince(), Types.VARCHAR);
+        addAssignment(sql, values, types, "city", patch.getCity(), Types.VARCHAR);
+        addAssignment(sql, values, types, "district", patch.getDistrict(), Types.VARCHAR);
+        addAssignment(sql, values, types, "road_address", patch.getRoadAddress(), Types.VARCHAR);
+        addAssignment(sql, values, types, "lot_address", patch.getLotAddress(), Types.VARCHAR);
+        addAssignment(sql, values, types, "latitude", patch.getLatitude(), Types.DOUBLE);
+        addAssignment(sql, values, types, "longitude", patch.getLongitude(), Types.DOUBLE);
+        if (values.isEmpty()) {
+            throw new IllegalArgumentException("No fields to update for store: " + id);
+        }
+
+        sql.append(", version = version + 1 WHERE id = ?");
+        values.add(id);
+        types.add(Types.BIGINT);
+        if (expectedVersion != null) {
+            sql.append(" AND version = ?");
+            values.add(expectedVersion);
+            types.add(Types.BIGINT);
+        }
+        sql.append(" RETURNING *");
+
+        List<Store> updated = jdbcTemplate.query(sql.toString(), ps -> {
+            for (int i = 0; i < values.size(); i++) {
+                ps.setObject(i + 1, values.get(i), types.get(i));
+            }
+        }, STORE_ROW_MAPPER);
+        return updated.stream().findFirst();
+    }
+
+    // 좌표가 없고 주소는 있는 매장을 id 순으로 limit 개 (키셋: afterId 다음부터)
+    public List<Store> findWithoutCoordinates(long afterId, int limit) {
+        return jdbcTemplate.query(FIND_WITHOUT_COORDINATES, STORE_ROW_MAPPER, afterId, limit);
+    }
+
+    /**
+     * 지오코딩 결과를 여러 매장에 한 번에 반영 (version 1 증가)
+     *
+     * @param stores id, 채울 지역/주소, 좌표만 담은 매장 목록
+     * @return 실제로 수정된 매장 (수정 후 전체 행)
+     */
+    public List<Store> fillGeocode(List<Store> stores) {
+        if (stores.isEmpty()) {
+            return List.of();
+        }
+        StringBuilder sql = new StringBuilder(FILL_GEOCODE_PREFIX);
+        for (int i = 0; i < stores.size(); i++) {
+            if (i > 0) {
+                sql.append(", ");
+            }
+            sql.append(FILL_GEOCODE_ROW);
+        }
+        sql.append(FILL_GEOCODE_SUFFIX);
+
+        return jdbcTemplate.query(sql.toString(), ps -> {
+            int index = 1;
+            for (Store store : stores) {
+                ps.setLong(index++, store.getId());
+                ps.setObject(index++, store.getProvince(), Types.VARCHAR);
+                ps.setObject(index++, store.getCity(), Types.VARCHAR);
+                ps.setObject(index++, store.getDistrict(), Types.VARCHAR);
+                ps.setObject(index++, store.getRoadAddress(), Types.VARCHAR);
+                ps.setObject(index++, store.getLotAddress(), Types.VARCHAR);
+                ps.setObject(index++, store.getLatitude(), Types.DOUBLE);
+                ps.setObject(index++, store.getLongitude(), Types.DOUBLE);
+            }
+        }, STORE_ROW_MAPPER);
+    }
+
+    private static void addAssignment(StringBuilder sql, List<Object> values, List<Integer> types,
+                                      String column, Object value, int type) {
+        if (value == null) {
+            return;
+        }
+        if (!values.isEmpty()) {
+            sql.append(", ");
+        }
+        sql.append(column).append(" = ?");
+        values.add(value);
+        types.add(type);
+    }
+
+    private static final RowMapper<Store> STORE_ROW_MAPPER = (rs, rowNum) -> Store.builder()
+            .id(rs.getLong("id"))
+            .code(rs.getString("code"))
+            .name(rs.getString("name"))
+            .address(rs.getString("address"))
+            .opened(rs.getBoolean("opened"))
+            .province(rs.getString("province"))
+            .city(rs.getString("city"))
+            .district(rs.getString("district"))
+            .roadAddress(rs.getString("road_address"))
+            .lotAddress(rs.getString("lot_address"))
+            .latitude(getDouble(rs, "latitude"))
+            .longitude(getDouble(rs, "longitude"))
+            .version(rs.getLong("version"))
+            .createdAt(toLocalDateTime(rs.getTimestamp("created_at")))
+            .updatedAt(toLocalDateTime(rs.getTimestamp("updated_at")))
+            .build();
+
+    private static Double getDouble(ResultSet rs, String column) throws SQLException {
+        double value = rs.getDouble(column);
+        return rs.wasNull() ? null : value;
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp == null ? null : timestamp.toLocalDateTime();
+    }
+
+    // null 값도 타입을 명시해서 바인딩 (드라이버가 파라미터 타입을 추론하느라 왕복하지 않도록)
+    private static int bindStore(PreparedStatement ps, int index, Store store) throws SQLException {
+        ps.setLong(index++, store.getId());
+        ps.setObject(index++, store.getCode(), Types.VARCHAR);
+        ps.setObject(index++, store.getName(), Types.VARCHAR);
+        ps.setObject(index++, store.getAddress(), Types.VARCHAR);
+        ps.setBoolean(index++, store.isOpened());
+        ps.setObject(index++, store.getProvince(), Types.VARCHAR);
+        ps.setObject(index++, store.getCity(), Types.VARCHAR);
+        ps.setObject(index++, store.getDistrict(), Types.VARCHAR);
+        ps.setObject(index++, store.getRoadAddress(), Types.VARCHAR);
+        ps.setObject(index++, store.getLotAddress(), Types.VARCHAR);
+        ps.setObject(index++, store.getLatitude(), Types.DOUBLE);
+        ps.setObject(index++, store.getLongitude(), Types.DOUBLE);
+        return index;
+    }
+}
@@ -0,0 +1,21 @@
+package com.catcheat.api.store;
+
+import com.catcheat.api.store.cache.StoreJsonList;
+
+import java.util.List;
+
+/**
+ *  전체 매장 목록 한 벌과 그 목록을 읽은 시점의 변경 기록 위치
+ *
+ * @param etag   목록 ETag (마지막 변경과 영업시간에 따른 영업 상태가 같으면 같은 값 → If-None-Match 로 304 응답)
+ * @param cursor 이 목록 이후의 변경을 GET /api/stores/changes?since= 로 이어받을 커서
+ * @param stores 매장 목록 (불변, StoreJsonList 면 JSON 조각을 그대로 유지)
+ */
+public record StoreListSnapshot(String etag, String cursor, List<StoreResponseDto> stores) {
+
+    public StoreListSnapshot {
+        if (!(stores instanceof StoreJsonList)) {
+            stores = List.copyOf(stores);
+        }
+    }
+}
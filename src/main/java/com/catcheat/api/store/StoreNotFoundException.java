@@ -0,0 +1,11 @@
+package com.catcheat.api.store;
+
+/**
+ *  요청한 매장이 없는 경우 (StoreController 가 404 로 응답, 다른 IllegalArgumentException 은 400)
+ */
+public class StoreNotFoundException extends IllegalArgumentException {
+
+    public StoreNotFoundException(Object storeKey) {
+        super("Store not found: " + storeKey);
+    }
+}
@@ -0,0 +1,22 @@
+package com.catcheat.api.store;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ *  키셋(커서) 페이지네이션 응답
+ *  다음 페이지는 nextCursor 를 afterId 로 넘겨서 요청함 (hasNext 가 false 면 마지막 페이지)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StorePageResponseDto {
+    private List<StoreResponseDto> content;
+    private Long nextCursor;    // 이번 페이지 마지막 매장 id
+    private boolean hasNext;
+}
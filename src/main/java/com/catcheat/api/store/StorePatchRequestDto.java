@@ -0,0 +1,31 @@
+package com.catcheat.api.store;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ *  PATCH 요청 데이터 그릇
+ *  보낸(null 이 아닌) 필드만 수정하고, 나머지 컬럼은 건드리지 않음
+ *  version 을 보내면 그 버전일 때만 수정 (다른 요청이 먼저 수정했으면 409, If-Match 로 보낸 경우는 412)
+ *  version 과 If-Match 가 모두 없으면 428 → 마지막 요청이 말없이 덮어쓰는 일이 없도록 조건을 반드시 보내야 함
+ *  null 은 "보내지 않은 필드"와 구분되지 않으므로 PATCH 로는 값을 비울(null 로 만들) 수 없음 → 전체 교체(PUT) 사용
+ *  latitude/longitude 는 함께 보내야 하고 범위(-90~90, -180~180)를 벗어나면 400 (대량 등록과 같은 기준)
+ */
+@Getter
+@Setter
+public class StorePatchRequestDto {
+    private String code;
+    private String name;
+    private String address;
+    private Boolean opened;
+
+    private String province;
+    private String city;
+    private String district;
+    private String roadAddress;
+    private String lotAddress;
+    private Double latitude;
+    private Double longitude;
+
+    private Long version;       // 마지막으로 읽은 매장 버전 (If-Match 헤더로 대신 보낼 수 있음)
+}
@@ -1,6 +1,16 @@
 package com.catcheat.api.store;
 
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 🏪 StoreRepository
@@ -42,8 +52,22 @@ import org.springframework.data.jpa.repository.JpaRepository;
  *  - 엔티티 이름(Store)과 필드명(code, name, ...)으로 쿼리 자동 매핑
  *
  * 🧩 커스텀 메서드도 가능 (메서드명만 작성하면 자동 쿼리 생성)
- *  - Optional<Store> findByCode(String code);
- *  - List<Store> findByOpenedTrue();
+ *  - Optional<Store> findByCode(String code);          → uq_store_code (UNIQUE 인덱스)
+ *  - List<Store> findByOpenedOrderByIdAsc(boolean);    → idx_store_opened (opened, id)
+ *
+ * 🗺️ 지역 계층 조회 (idx_store_region: province, city, district, id)
+ *  - 지정한 단계까지만 조건을 거는 메서드를 따로 둠 → 항상 인덱스 앞쪽 컬럼부터 일치 조건으로 범위 스캔
+ *  - (:city is null or s.city = :city) 처럼 하나로 합치면 prepared statement 의 일반 실행계획에서
+ *    인덱스 조건으로 쓰이지 못할 수 있어서 분리함
+ *  - opened 는 null 이면 조건 없음 (인덱스 범위 안에서 걸러지는 필터 조건)
+ *
+ * 📄 대량 조회 (findAll 대신 사용)
+ *  - findByIdGreaterThanOrderByIdAsc(afterId, Limit.of(size))
+ *     - 키셋(커서) 페이지네이션: WHERE id > :afterId ORDER BY id LIMIT :size
+ *     - OFFSET 방식과 달리 뒤쪽 페이지로 갈수록 느려지지 않음 (PK 인덱스 범위 스캔)
+ *  - streamAllByOrderByIdAsc()
+ *     - JDBC 커서(fetch size 단위)로 한 행씩 읽어오는 Stream
+ *     - 반드시 트랜잭션 안에서 사용하고, try-with-resources 로 닫아야 함
  *
  * 💡 요약
  *  - 별도의 구현 클래스 필요 없음
@@ -52,4 +76,34 @@ import org.springframework.data.jpa.repository.JpaRepository;
  */
 public interface StoreRepository extends JpaRepository<Store, Long> {
 
+    List<Store> findByIdGreaterThanOrderByIdAsc(Long afterId, Limit limit);
+
+    Optional<Store> findByCode(String code);
+
+    List<Store> findByOpenedOrderByIdAsc(boolean opened);
+
+    @Query("select s from Store s where s.province = :province"
+            + " and (:opened is null or s.opened = :opened) order by s.id")
+    List<Store> findByRegion(@Param("province") String province,
+                             @Param("opened") Boolean opened);
+
+    @Query("select s from Store s where s.province = :province and s.city = :city"
+            + " and (:opened is null or s.opened = :opened) order by s.id")
+    List<Store> findByRegion(@Param("province") String province,
+                             @Param("city") String city,
+                             @Param("opened") Boolean opened);
+
+    @Query("select s from Store s where s.province = :province and s.city = :city and s.district = :district"
+            + " and (:opened is null or s.opened = :opened) order by s.id")
+    List<Store> findByRegion(@Param("province") String province,
+                             @Param("city") String city,
+                             @Param("district") String district,
+                             @Param("opened") Boolean opened);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select s from Store s order by s.id")
+    Stream<Store> streamAllByOrderByIdAsc();
 }
@@ -23,4 +23,20 @@ public class StoreRequestDto {
     private Double latitude;    // 위도 (lat, Y)
     private Double longitude;   // 경도 (lng, X)
 
+    // 요청 데이터 → 신규 Store 엔티티 (id 는 저장 시 채워짐)
+    public Store toEntity() {
+        return Store.builder()
+                .code(code)
+                .name(name)
+                .address(address)
+                .opened(opened)
+                .province(province)
+                .city(city)
+                .district(district)
+                .roadAddress(roadAddress)
+                .lotAddress(lotAddress)
+                .latitude(latitude)
+                .longitude(longitude)
+                .build();
+    }
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.catcheat.api.store;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -16,7 +17,7 @@ import lombok.Setter;
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class StoreResponseDto {
     private Long id;
     private String code;
@@ -31,9 +32,11 @@ public class StoreResponseDto {
     private String lotAddress;
     private Double latitude;
     private Double longitude;
+    private Long version;       // 매장이 수정될 때마다 증가 (ETag / PATCH 낙관적 잠금에 사용)
 
     // (선택) 나중에 근처 매장 조회 시 사용할 거리 정보
-    private Double distance; // km 단위, 일반 조회에서는 null
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distance; // km 단위, 일반 조회에서는 null (응답에서 생략)
 
     public static StoreResponseDto from(Store store) {
         return StoreResponseDto.builder()
@@ -49,6 +52,7 @@ public class StoreResponseDto {
                 .lotAddress(store.getLotAddress())
                 .latitude(store.getLatitude())
                 .longitude(store.getLongitude())
+                .version(store.getVersion())
                 .build();
     }
     public static StoreResponseDto from(Store store, Double distanceKm) {
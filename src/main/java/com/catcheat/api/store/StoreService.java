@@ -1,11 +1,24 @@
 package com.catcheat.api.store;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface StoreService {
     StoreResponseDto create(StoreRequestDto requestDto);
     StoreResponseDto get(Long id);
     List<StoreResponseDto> getAll();
+    StoreListSnapshot getAllSnapshot();
+    StoreChangesResponseDto getChanges(String since, int limit);
+    StorePageResponseDto getPage(Long afterId, int size);
+    void streamAll(Consumer<StoreResponseDto> consumer);
     StoreResponseDto update(Long id, StoreRequestDto requestDto);
+    StoreResponseDto patch(Long id, StorePatchRequestDto patchDto);
     void delete(Long id);
+    StoreResponseDto getByCode(String code);
+    List<StoreResponseDto> getByRegion(String province, String city, String district, Boolean opened);
+    List<StoreResponseDto> getByOpened(boolean opened);
+    List<StoreResponseDto> getByOpenNow(boolean openNow);
+    List<StoreResponseDto> nearby(double latitude, double longitude, double radiusKm, int limit);
+    List<StoreResponseDto> search(String query, int limit);
+    StoreViewportResponseDto viewport(double minLat, double minLng, double maxLat, double maxLng, int zoom);
 }
\ No newline at end of file
@@ -1,61 +1,265 @@
 package com.catcheat.api.store;
 
+import com.catcheat.api.common.datasource.ReadWriteRoutingDataSource;
+import com.catcheat.api.store.cache.StoreCache;
+import com.catcheat.api.store.cache.StoreJsonCache;
+import com.catcheat.api.store.cache.StoreJsonPage;
+import com.catcheat.api.store.geo.StoreClusterIndex;
+import com.catcheat.api.store.geocode.StoreGeocoder;
+import com.catcheat.api.store.geo.StoreSpatialIndex;
+import com.catcheat.api.store.hours.OpeningHoursIndex;
+import com.catcheat.api.store.search.StoreSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
 public class StoreServiceImpl implements StoreService {
 
+    private static final double MAX_NEARBY_RADIUS_KM = 50;
+    private static final int MAX_NEARBY_LIMIT = 100;
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    static final int STORE_ZOOM = 15;                 // 이 줌 이상이면 클러스터 대신 매장 목록
+    private static final int MAX_ZOOM = 22;
+    private static final int MAX_VIEWPORT_STORES = 500;
+    private static final long MAX_VIEWPORT_CELLS = 400;   // 매장 목록 모드에서 확인할 공간 인덱스 칸 수 상한 (약 0.2° × 0.2°)
+    private static final int MAX_CLUSTER_ROWS = 64;       // 클러스터 모드에서 확인할 격자 행 수 상한
+
     private final StoreRepository storeRepository;
+    private final StoreChangeRepository storeChangeRepository;
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final StoreSpatialIndex spatialIndex;
+    private final StoreClusterIndex clusterIndex;
+    private final StoreSearchIndex searchIndex;
+    private final OpeningHoursIndex openingHoursIndex;
+    private final StoreGeocoder storeGeocoder;
+    private final StoreCache storeCache;
+    private final StoreJsonCache storeJsonCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private volatile OpenStatusView openStatusView;
+
+    // 캐시된 DB 목록(stored)에 statusVersion 시점의 영업 여부를 입힌 응답용 목록
+    private record OpenStatusView(StoreListSnapshot stored, long statusVersion, StoreListSnapshot snapshot) {
+    }
 
-    public StoreServiceImpl(StoreRepository storeRepository) {
+    public StoreServiceImpl(StoreRepository storeRepository,
+                            StoreChangeRepository storeChangeRepository,
+                            StoreJdbcRepository storeJdbcRepository,
+                            StoreSpatialIndex spatialIndex,
+                            StoreClusterIndex clusterIndex,
+                            StoreSearchIndex searchIndex,
+                            OpeningHoursIndex openingHoursIndex,
+                            StoreGeocoder storeGeocoder,
+                            StoreCache storeCache,
+                            StoreJsonCache storeJsonCache,
+                            ApplicationEventPublisher eventPublisher,
+                            EntityManager entityManager) {
         this.storeRepository = storeRepository;
+        this.storeChangeRepository = storeChangeRepository;
+        this.storeJdbcRepository = storeJdbcRepository;
+        this.spatialIndex = spatialIndex;
+        this.clusterIndex = clusterIndex;
+        this.searchIndex = searchIndex;
+        this.openingHoursIndex = openingHoursIndex;
+        this.storeGeocoder = storeGeocoder;
+        this.storeCache = storeCache;
+        this.storeJsonCache = storeJsonCache;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
     }
 
+    /**
+     * 매장 생성
+     * 지역/좌표가 비어 있으면 주소로 채운 뒤 저장 (StoreGeocoder, 메모리 조회만 함)
+     * 보낸 좌표는 PATCH 와 같은 기준으로 검증 (범위 밖이면 인덱스에 들어가기 전에 거부)
+     */
     @Override
     public StoreResponseDto create(StoreRequestDto requestDto) {
-        Store store = Store.builder()
-                .code(requestDto.getCode())
-                .name(requestDto.getName())
-                .address(requestDto.getAddress())
-                .opened(requestDto.isOpened())
-                .province(requestDto.getProvince())
-                .city(requestDto.getCity())
-                .district(requestDto.getDistrict())
-                .roadAddress(requestDto.getRoadAddress())
-                .lotAddress(requestDto.getLotAddress())
-                .latitude(requestDto.getLatitude())
-                .longitude(requestDto.getLongitude())
-                .build();
-
+        validateCoordinates(requestDto.getLatitude(), requestDto.getLongitude());
+        storeGeocoder.fill(requestDto);
+        Store store = requestDto.toEntity();
         Store saved = storeRepository.save(store);
-        return StoreResponseDto.from(saved);
+        eventPublisher.publishEvent(StoreChangedEvent.created(saved));
+        return withOpenStatus(StoreResponseDto.from(saved));
     }
 
+    /**
+     * 캐시 우선 조회 (미적중 시에만 DB 조회)
+     * SUPPORTS: 캐시 적중 시에는 트랜잭션/커넥션을 잡지 않고, 미적중 시 Repository 의 읽기 트랜잭션만 사용
+     * opened 는 요청 시각의 영업 여부 (OpeningHoursIndex)
+     * 미적중 로드는 primary 에서 (모든 클라이언트가 공유하는 캐시이므로 replica 의 이전 값을 TTL 동안 남기지 않음)
+     */
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public StoreResponseDto get(Long id) {
-        Store store = storeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Store not found: " + id));
-        return StoreResponseDto.from(store);
+        return withOpenStatus(storeCache.get(id, key -> ReadWriteRoutingDataSource.readFromPrimary(() ->
+                StoreResponseDto.from(storeRepository.findById(key)
+                        .orElseThrow(() -> new StoreNotFoundException(key))))));
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<StoreResponseDto> getAll() {
-        return storeRepository.findAll().stream()
-                .map(StoreResponseDto::from)
+        return getAllSnapshot().stores();
+    }
+
+    /**
+     * 전체 목록(id 순) + ETag/변경 커서 (캐시 우선)
+     * 변경 기록 위치를 목록보다 먼저 읽음 → 그 사이 바뀐 매장은 목록에도 반영되고 변경분 조회에서도 다시 받음 (중복 적용해도 결과 같음)
+     * 캐시에는 DB 값 그대로의 목록을 두고, 영업시간에 따른 영업 여부는 OpeningHoursIndex.statusVersion 이 바뀔 때만 다시 입힘
+     * → ETag 에도 statusVersion 을 붙여서 스케줄러가 영업 상태를 바꾸면 304 대신 새 목록을 받음
+     * 영업 여부를 입힌 목록의 JSON 조각을 함께 준비 (바뀐 매장만 새로 직렬화, StoreJsonCache)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StoreListSnapshot getAllSnapshot() {
+        // 커서와 목록을 같은 primary 에서 읽음 (replica 목록 + primary 커서면 그 사이 변경이 빠짐)
+        StoreListSnapshot stored = storeCache.getAll(() -> ReadWriteRoutingDataSource.readFromPrimary(() -> {
+            StoreChangeRepository.Position position = storeChangeRepository.position();
+            List<StoreResponseDto> stores = storeRepository.findAll().stream()
+                    .map(StoreResponseDto::from)
+                    .sorted(Comparator.comparing(StoreResponseDto::getId))
+                    .collect(Collectors.toList());
+            return new StoreListSnapshot("all-" + position.latest(), position.safe().toString(), stores);
+        }));
+
+        // 상태 값을 먼저 읽음 → 그 사이 바뀐 매장이 있어도 목록이 ETag 보다 오래된 상태일 수는 없음
+        long statusVersion = openingHoursIndex.statusVersion();
+        OpenStatusView view = openStatusView;
+        if (view == null || view.stored() != stored || view.statusVersion() != statusVersion) {
+            List<StoreResponseDto> stores = stored.stores().stream()
+                    .map(this::withOpenStatus)
+                    .collect(Collectors.toList());
+            view = new OpenStatusView(stored, statusVersion, new StoreListSnapshot(
+                    stored.etag() + "-h" + statusVersion, stored.cursor(), storeJsonCache.list(stores)));
+            openStatusView = view;
+        }
+        return view.snapshot();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StoreResponseDto getByCode(String code) {
+        Store store = storeRepository.findByCode(code)
+                .orElseThrow(() -> new StoreNotFoundException(code));
+        return withOpenStatus(StoreResponseDto.from(store));
+    }
+
+    /**
+     * 지역 계층(도 > 시/구 > 동) 조회
+     * 상위 단계 없이 하위 단계만 지정하면 인덱스를 탈 수 없으므로 거부
+     * opened 조건/값은 DB 컬럼이 아니라 요청 시각의 영업 여부 (OpeningHoursIndex) 기준
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoreResponseDto> getByRegion(String province, String city, String district, Boolean opened) {
+        if (isBlank(province) || (isBlank(city) && !isBlank(district))) {
+            throw new IllegalArgumentException("Region must be given top-down: province > city > district");
+        }
+        List<Store> stores;
+        if (isBlank(city)) {
+            stores = storeRepository.findByRegion(province, null);
+        } else if (isBlank(district)) {
+            stores = storeRepository.findByRegion(province, city, null);
+        } else {
+            stores = storeRepository.findByRegion(province, city, district, null);
+        }
+        return stores.stream()
+                .map(store -> withOpenStatus(StoreResponseDto.from(store)))
+                .filter(dto -> opened == null || dto.isOpened() == opened)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * DB 에 저장된 수동 opened 값으로 조회
+     * 응답의 opened 는 다른 조회와 같이 요청 시각의 영업 여부 (영업시간이 있는 매장은 조건과 다를 수 있음)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoreResponseDto> getByOpened(boolean opened) {
+        return storeRepository.findByOpenedOrderByIdAsc(opened).stream()
+                .map(store -> withOpenStatus(StoreResponseDto.from(store)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 요청 시각에 영업 중인(openNow=true) / 아닌 매장 (id 순)
+     * 영업 여부를 입힌 전체 목록(getAllSnapshot)에서 거름 → 매장 수와 무관하게 DB 조회는 목록을 다시 만들 때뿐
+     * (대상 id 를 한 번에 PK 로 조회하면 매장이 많을 때 바인드 변수 한도를 넘고 단건 캐시도 밀어냄)
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<StoreResponseDto> getByOpenNow(boolean openNow) {
+        return getAllSnapshot().stores().stream()
+                .filter(dto -> dto.isOpened() == openNow)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 키셋 페이지네이션: afterId 보다 큰 id 를 size 개만 조회
+     * size + 1 개를 읽어서 다음 페이지 존재 여부를 판단 (별도 count 쿼리 없음)
+     * 각 매장의 JSON 은 캐시된 조각을 재사용 (StoreJsonCache)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StorePageResponseDto getPage(Long afterId, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid page size: " + size);
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        long cursor = afterId == null ? 0L : afterId;
+
+        List<Store> stores = storeRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pageSize + 1));
+        boolean hasNext = stores.size() > pageSize;
+        List<StoreResponseDto> content = stores.stream()
+                .limit(pageSize)
+                .map(store -> withOpenStatus(StoreResponseDto.from(store)))
+                .collect(Collectors.toList());
+        Long nextCursor = content.isEmpty() ? cursor : content.get(content.size() - 1).getId();
+        return new StoreJsonPage(storeJsonCache.list(content), nextCursor, hasNext);
+    }
+
+    /**
+     * 전체 매장을 JDBC 커서로 한 행씩 읽어 consumer 에 전달
+     * 변환이 끝난 엔티티는 바로 detach 해서 영속성 컨텍스트가 커지지 않도록 함 → 테이블 크기와 무관하게 일정한 메모리
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<StoreResponseDto> consumer) {
+        try (Stream<Store> stores = storeRepository.streamAllByOrderByIdAsc()) {
+            stores.forEach(store -> {
+                consumer.accept(withOpenStatus(StoreResponseDto.from(store)));
+                entityManager.detach(store);
+            });
+        }
+    }
+
     @Override
     public StoreResponseDto update(Long id, StoreRequestDto requestDto) {
+        validateCoordinates(requestDto.getLatitude(), requestDto.getLongitude());
         Store store = storeRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("Store not found: " + id));
+                .orElseThrow(() -> new StoreNotFoundException(id));
 
         store.setCode(requestDto.getCode());
         store.setName(requestDto.getName());
@@ -70,13 +274,208 @@ public class StoreServiceImpl implements StoreService {
         store.setLongitude(requestDto.getLongitude());
 
         // JPA 영속 상태라 save() 없이도 flush 시점에 업데이트 되지만,
-        // 명시적으로 반환값 받고 싶으면 save 호출
-        Store updated = storeRepository.save(store);
-        return StoreResponseDto.from(updated);
+        // 증가된 version 을 응답에 담으려면 여기서 flush 까지 해야 함
+        Store updated = storeRepository.saveAndFlush(store);
+        eventPublisher.publishEvent(StoreChangedEvent.updated(updated));
+        return withOpenStatus(StoreResponseDto.from(updated));
+    }
+
+    /**
+     * 부분 수정: 보낸 필드만 UPDATE ... RETURNING 한 문장으로 반영 (사전 조회 없음)
+     * 수정된 행이 없을 때만 존재 여부를 확인해서 "없는 매장"과 "버전 충돌"을 구분
+     */
+    @Override
+    public StoreResponseDto patch(Long id, StorePatchRequestDto patchDto) {
+        validateCoordinates(patchDto.getLatitude(), patchDto.getLongitude());
+        Store updated = storeJdbcRepository.patch(id, patchDto, patchDto.getVersion())
+                .orElseThrow(() -> storeRepository.existsById(id)
+                        ? new OptimisticLockingFailureException(
+                                "Store was modified by another request: " + id + " (expected version " + patchDto.getVersion() + ")")
+                        : new StoreNotFoundException(id));
+        eventPublisher.publishEvent(StoreChangedEvent.updated(updated));
+        return withOpenStatus(StoreResponseDto.from(updated));
     }
 
     @Override
     public void delete(Long id) {
         storeRepository.deleteById(id);
+        eventPublisher.publishEvent(StoreChangedEvent.deleted(id));
+    }
+
+    /**
+     * since 커서 이후의 변경분 조회 (한 매장이 여러 번 바뀌었으면 마지막 상태만)
+     * 생성/수정은 현재 행을 다시 읽어서 돌려주고, 그 사이 삭제되어 없으면 삭제로 처리
+     * 커서 이후에 재적재/기록 삭제(리셋 표시)가 있으면 이어 붙일 수 없으므로 StoreChangesResetException (410)
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StoreChangesResponseDto getChanges(String since, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Invalid page size: " + limit);
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        StoreChangeRepository.Cursor cursor = StoreChangeRepository.Cursor.parse(since);
+        return ReadWriteRoutingDataSource.readFromPrimary(() -> changesAfter(cursor, pageSize));
+    }
+
+    // 변경 기록과 매장 행을 모두 primary 에서 읽음 → replica 지연 때문에 커서가 아직 안 보이는 변경을 건너뛰지 않음
+    private StoreChangesResponseDto changesAfter(StoreChangeRepository.Cursor cursor, int pageSize) {
+        if (storeChangeRepository.resetAfter(cursor)) {
+            throw new StoreChangesResetException(cursor);
+        }
+        List<StoreChangeRepository.Change> changes = storeChangeRepository.findAfter(cursor, pageSize + 1);
+        boolean hasNext = changes.size() > pageSize;
+        List<StoreChangeRepository.Change> window = hasNext ? changes.subList(0, pageSize) : changes;
+
+        // 매장별 마지막 변경만 남김
+        Map<Long, Boolean> deletedById = new LinkedHashMap<>();
+        for (StoreChangeRepository.Change change : window) {
+            deletedById.put(change.storeId(), change.deleted());
+        }
+        List<Long> upsertIds = new ArrayList<>();
+        Set<Long> deletedIds = new TreeSet<>();
+        deletedById.forEach((storeId, deleted) -> {
+            if (deleted) {
+                deletedIds.add(storeId);
+            } else {
+                upsertIds.add(storeId);
+            }
+        });
+
+        List<StoreResponseDto> upserts = new ArrayList<>(upsertIds.size());
+        Set<Long> found = new HashSet<>();
+        for (Store store : storeRepository.findAllById(upsertIds)) {
+            upserts.add(withOpenStatus(StoreResponseDto.from(store)));
+            found.add(store.getId());
+        }
+        upserts.sort(Comparator.comparing(StoreResponseDto::getId));
+        for (Long storeId : upsertIds) {
+            if (!found.contains(storeId)) {
+                deletedIds.add(storeId);
+            }
+        }
+
+        String nextCursor = window.isEmpty() ? cursor.toString() : window.get(window.size() - 1).cursor().toString();
+        return new StoreChangesResponseDto(upserts, new ArrayList<>(deletedIds), nextCursor, hasNext);
+    }
+
+    /**
+     * 인메모리 공간 인덱스로 가까운 매장 id 를 찾고, 해당 id 들만 PK 로 조회
+     * 반경/개수는 과도한 요청을 막기 위해 상한을 둠
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<StoreResponseDto> nearby(double latitude, double longitude, double radiusKm, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalArgumentException("Invalid coordinates: " + latitude + ", " + longitude);
+        }
+        double radius = Math.min(radiusKm, MAX_NEARBY_RADIUS_KM);
+        int size = Math.min(limit, MAX_NEARBY_LIMIT);
+
+        List<StoreSpatialIndex.NearbyHit> hits = spatialIndex.nearest(latitude, longitude, radius, size);
+        if (hits.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = hits.stream().map(StoreSpatialIndex.NearbyHit::storeId).toList();
+        Map<Long, Store> stores = storeRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Store::getId, Function.identity()));
+
+        // 인덱스가 돌려준 거리순을 유지 (그 사이 삭제된 매장은 건너뜀)
+        List<StoreResponseDto> result = new ArrayList<>(hits.size());
+        for (StoreSpatialIndex.NearbyHit hit : hits) {
+            Store store = stores.get(hit.storeId());
+            if (store != null) {
+                result.add(withOpenStatus(StoreResponseDto.from(store, hit.distanceKm())));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 지도 화면 영역 조회
+     * 확대된 화면이면 영역 안의 매장 목록(캐시 → 없는 것만 PK 일괄 조회), 아니면 미리 집계된 격자 클러스터
+     * 영역이 줌에 비해 너무 넓으면 확인할 칸 수가 상한 안에 들어올 때까지 줌을 낮춤
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public StoreViewportResponseDto viewport(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        if (minLat < -90 || maxLat > 90 || minLng < -180 || maxLng > 180 || minLat > maxLat || minLng > maxLng) {
+            throw new IllegalArgumentException("Invalid viewport: " + minLat + ", " + minLng + ", " + maxLat + ", " + maxLng);
+        }
+        int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+
+        if (level >= STORE_ZOOM && StoreSpatialIndex.cellCount(minLat, minLng, maxLat, maxLng) <= MAX_VIEWPORT_CELLS) {
+            List<Long> ids = spatialIndex.within(minLat, minLng, maxLat, maxLng, MAX_VIEWPORT_STORES + 1);
+            boolean truncated = ids.size() > MAX_VIEWPORT_STORES;
+            if (truncated) {
+                ids = ids.subList(0, MAX_VIEWPORT_STORES);
+            }
+            Map<Long, StoreResponseDto> dtos = cachedStores(ids);
+            List<StoreResponseDto> stores = ids.stream().map(dtos::get).filter(Objects::nonNull)
+                    .map(this::withOpenStatus).toList();
+            return new StoreViewportResponseDto(level, stores, null, truncated);
+        }
+
+        int clusterZoom = Math.min(level, StoreClusterIndex.MAX_ZOOM);
+        while (clusterZoom > 0 && StoreClusterIndex.rows(minLat, maxLat, clusterZoom) > MAX_CLUSTER_ROWS) {
+            clusterZoom--;
+        }
+        List<StoreClusterIndex.Cluster> clusters = clusterIndex.clusters(minLat, minLng, maxLat, maxLng, clusterZoom);
+        return new StoreViewportResponseDto(clusterZoom, null, clusters, false);
+    }
+
+    /**
+     * 매장명/주소 부분 검색 (인메모리 n-gram 색인)
+     * 색인이 돌려준 순서대로 캐시에서 꺼내고(캐시에 없는 것만 PK 일괄 조회), 그 사이 삭제된 매장은 건너뜀
+     */
+    @Override
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
+    public List<StoreResponseDto> search(String query, int limit) {
+        if (isBlank(query)) {
+            throw new IllegalArgumentException("Search query must not be blank");
+        }
+        List<StoreSearchIndex.SearchHit> hits = searchIndex.search(query, Math.min(limit, MAX_SEARCH_LIMIT));
+        Map<Long, StoreResponseDto> dtos = cachedStores(hits.stream().map(StoreSearchIndex.SearchHit::storeId).toList());
+
+        List<StoreResponseDto> result = new ArrayList<>(hits.size());
+        for (StoreSearchIndex.SearchHit hit : hits) {
+            StoreResponseDto dto = dtos.get(hit.storeId());
+            if (dto != null) {
+                result.add(withOpenStatus(dto));
+            }
+        }
+        return result;
+    }
+
+    // 캐시에서 꺼내고 없는 id 만 한 번에 PK 조회 (삭제된 매장은 결과에 없음)
+    // 캐시 미적중 로드는 get 과 같이 primary 에서
+    private Map<Long, StoreResponseDto> cachedStores(List<Long> ids) {
+        return storeCache.getAll(ids, missing -> ReadWriteRoutingDataSource.readFromPrimary(() ->
+                storeRepository.findAllById(new ArrayList<Long>(missing)).stream()
+                        .collect(Collectors.toMap(Store::getId, StoreResponseDto::from))));
+    }
+
+    // 영업시간이 등록된 매장은 지금 시각의 영업 여부로 바꾼 사본 (캐시에 든 객체는 수정하지 않음)
+    private StoreResponseDto withOpenStatus(StoreResponseDto dto) {
+        boolean open = openingHoursIndex.isOpen(dto.getId(), dto.isOpened());
+        return open == dto.isOpened() ? dto : dto.toBuilder().opened(open).build();
+    }
+
+    // 대량 등록(StoreBulkImportServiceImpl)과 같은 기준: 위도/경도는 함께, 범위 안에서만
+    private static void validateCoordinates(Double latitude, Double longitude) {
+        if ((latitude == null) != (longitude == null)) {
+            throw new IllegalArgumentException("latitude and longitude must be given together");
+        }
+        if (latitude != null && !(latitude >= -90 && latitude <= 90)) {
+            throw new IllegalArgumentException("latitude out of range: " + latitude);
+        }
+        if (longitude != null && !(longitude >= -180 && longitude <= 180)) {
+            throw new IllegalArgumentException("longitude out of range: " + longitude);
+        }
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package com.catcheat.api.store;
+
+import com.catcheat.api.store.geo.StoreClusterIndex;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ *  지도 화면(viewport) 조회 응답
+ *  - 확대된 화면(zoom >= StoreServiceImpl.STORE_ZOOM): stores 에 매장 목록 (truncated 면 limit 에서 잘림)
+ *  - 그 외: clusters 에 격자 칸별 매장 수와 좌표 평균
+ *  - zoom 은 실제로 사용한 줌 (화면 영역이 너무 넓으면 요청보다 낮아질 수 있음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class StoreViewportResponseDto {
+    private int zoom;
+    private List<StoreResponseDto> stores;
+    private List<StoreClusterIndex.Cluster> clusters;
+    private boolean truncated;
+}
@@ -0,0 +1,35 @@
+package com.catcheat.api.store.bulk;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ *  대량 등록 결과
+ *  - 실패한 행은 errors 에 행 번호와 사유로 담김 (최대 개수를 넘으면 errorsTruncated = true)
+ *  - rowsPerSecond 는 파싱 ~ 저장까지 전체 소요 시간 기준 처리량
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkImportResultDto {
+    private int totalRows;
+    private int insertedRows;
+    private int failedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+    private List<RowError> errors;
+    private boolean errorsTruncated;
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+        private int row;        // 입력 기준 행 번호
+        private String code;    // 매장 코드 (파싱 실패 시 null)
+        private String message; // 실패 사유
+    }
+}
@@ -0,0 +1,60 @@
+package com.catcheat.api.store.bulk;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ *  매장 대량 등록 API
+ *  - 요청 본문을 @RequestBody 로 한 번에 바인딩하지 않고, 입력 스트림을 그대로 파이프라인에 넘김
+ *
+ *  POST /api/stores/bulk  (Content-Type: application/json)      → JSON 배열
+ *  POST /api/stores/bulk  (Content-Type: text/csv)              → CSV 본문
+ *  POST /api/stores/bulk  (Content-Type: multipart/form-data)   → file 파트 (.csv / .json)
+ */
+@RestController
+@RequestMapping("/api/stores/bulk")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StoreBulkImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    private final StoreBulkImportService bulkImportService;
+
+    public StoreBulkImportController(StoreBulkImportService bulkImportService) {
+        this.bulkImportService = bulkImportService;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public BulkImportResultDto importJson(HttpServletRequest request) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return bulkImportService.importJson(in);
+        }
+    }
+
+    @PostMapping(consumes = TEXT_CSV)
+    public BulkImportResultDto importCsv(HttpServletRequest request) throws IOException {
+        try (InputStream in = request.getInputStream()) {
+            return bulkImportService.importCsv(in);
+        }
+    }
+
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public BulkImportResultDto importFile(@RequestParam("file") MultipartFile file) throws IOException {
+        String filename = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase();
+        try (InputStream in = file.getInputStream()) {
+            if (filename.endsWith(".json") || MediaType.APPLICATION_JSON_VALUE.equals(file.getContentType())) {
+                return bulkImportService.importJson(in);
+            }
+            return bulkImportService.importCsv(in);
+        }
+    }
+}
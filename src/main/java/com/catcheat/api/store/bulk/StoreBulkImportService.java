@@ -0,0 +1,9 @@
+package com.catcheat.api.store.bulk;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public interface StoreBulkImportService {
+    BulkImportResultDto importJson(InputStream in) throws IOException;
+    BulkImportResultDto importCsv(InputStream in) throws IOException;
+}
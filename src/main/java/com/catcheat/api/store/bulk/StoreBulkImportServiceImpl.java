@@ -0,0 +1,172 @@
+package com.catcheat.api.store.bulk;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.StoreJdbcRepository;
+import com.catcheat.api.store.StoreRequestDto;
+import com.catcheat.api.store.geocode.StoreGeocoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ *  매장 대량 등록 파이프라인
+ *
+ *  [입력 스트림] JSON 배열 / CSV
+ *     ↓  한 행씩 파싱 (전체를 메모리에 올리지 않음)
+ *  [보정] 지역/좌표가 비어 있으면 주소로 채움 (StoreGeocoder)
+ *     ↓
+ *  [검증] 필수값, 좌표 범위 → 실패 행은 errors 에 기록하고 건너뜀
+ *     ↓  CHUNK_SIZE 개씩 모음
+ *  [저장] 청크마다 하나의 트랜잭션: 시퀀스에서 id 일괄 발급 → multi-row INSERT 1회
+ *     ↓  청크 저장 실패 시 해당 청크만 행 단위로 재시도해서 실패 행을 특정
+ *  [결과] 성공/실패 건수, 행별 오류, 처리량(rows/sec)
+ */
+@Slf4j
+@Service
+public class StoreBulkImportServiceImpl implements StoreBulkImportService {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final StoreGeocoder storeGeocoder;
+
+    public StoreBulkImportServiceImpl(StoreJdbcRepository storeJdbcRepository,
+                                      TransactionTemplate transactionTemplate,
+                                      ApplicationEventPublisher eventPublisher,
+                                      ObjectMapper objectMapper,
+                                      StoreGeocoder storeGeocoder) {
+        this.storeJdbcRepository = storeJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.storeGeocoder = storeGeocoder;
+    }
+
+    @Override
+    public BulkImportResultDto importJson(InputStream in) throws IOException {
+        return importRows(new StoreJsonArrayReader(objectMapper, in));
+    }
+
+    @Override
+    public BulkImportResultDto importCsv(InputStream in) throws IOException {
+        return importRows(new StoreCsvReader(in));
+    }
+
+    private BulkImportResultDto importRows(Iterator<StoreImportRow> rows) {
+        long start = System.nanoTime();
+        ImportProgress progress = new ImportProgress();
+        List<StoreImportRow> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        while (rows.hasNext()) {
+            StoreImportRow row = rows.next();
+            progress.total++;
+
+            if (row.parseError() == null) {
+                storeGeocoder.fill(row.request());
+            }
+            String error = row.parseError() != null ? row.parseError() : validate(row.request());
+            if (error != null) {
+                progress.fail(row, error);
+                continue;
+            }
+            chunk.add(row);
+            if (chunk.size() == CHUNK_SIZE) {
+                flush(chunk, progress);
+                chunk.clear();
+            }
+        }
+        flush(chunk, progress);
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : progress.inserted * 1_000_000_000.0 / elapsedNanos;
+        log.info("Bulk import finished: total={}, inserted={}, failed={}, {} rows/sec",
+                progress.total, progress.inserted, progress.failed, Math.round(rowsPerSecond));
+
+        return new BulkImportResultDto(progress.total, progress.inserted, progress.failed,
+                elapsedNanos / 1_000_000, rowsPerSecond, progress.errors,
+                progress.failed > progress.errors.size());
+    }
+
+    private void flush(List<StoreImportRow> chunk, ImportProgress progress) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(chunk));
+            progress.inserted += chunk.size();
+        } catch (DataAccessException e) {
+            // 청크 중 한 행이라도 실패하면 청크 전체가 롤백됨 → 행 단위로 다시 저장해서 실패 행만 골라냄
+            log.debug("Bulk chunk failed, retrying row by row: {}", e.getMostSpecificCause().getMessage());
+            for (StoreImportRow row : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertChunk(List.of(row)));
+                    progress.inserted++;
+                } catch (DataAccessException rowError) {
+                    progress.fail(row, rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    // 트랜잭션 안에서 실행: id 일괄 발급 → multi-row INSERT → 커밋 후 인덱스 반영용 이벤트 발행
+    private void insertChunk(List<StoreImportRow> rows) {
+        List<Long> ids = storeJdbcRepository.nextIds(rows.size());
+        List<Store> stores = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Store store = rows.get(i).request().toEntity();
+            store.setId(ids.get(i));
+            stores.add(store);
+        }
+        storeJdbcRepository.insertAll(stores);
+        stores.forEach(store -> eventPublisher.publishEvent(StoreChangedEvent.created(store)));
+    }
+
+    private static String validate(StoreRequestDto request) {
+        if (request.getCode() == null || request.getCode().isBlank()) {
+            return "code is required";
+        }
+        if (request.getName() == null || request.getName().isBlank()) {
+            return "name is required";
+        }
+        if ((request.getLatitude() == null) != (request.getLongitude() == null)) {
+            return "latitude and longitude must be given together";
+        }
+        // 부정형 범위 검사: NaN 은 모든 비교가 false 라 "< 또는 >" 로는 걸러지지 않음 (StoreServiceImpl 과 같은 기준)
+        if (request.getLatitude() != null && !(request.getLatitude() >= -90 && request.getLatitude() <= 90)) {
+            return "latitude out of range: " + request.getLatitude();
+        }
+        if (request.getLongitude() != null && !(request.getLongitude() >= -180 && request.getLongitude() <= 180)) {
+            return "longitude out of range: " + request.getLongitude();
+        }
+        return null;
+    }
+
+    private static class ImportProgress {
+        private int total;
+        private int inserted;
+        private int failed;
+        private final List<BulkImportResultDto.RowError> errors = new ArrayList<>();
+
+        private void fail(StoreImportRow row, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                String code = row.request() == null ? null : row.request().getCode();
+                errors.add(new BulkImportResultDto.RowError(row.rowNumber(), code, message));
+            }
+        }
+    }
+}
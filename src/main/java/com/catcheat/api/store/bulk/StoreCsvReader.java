@@ -0,0 +1,172 @@
+package com.catcheat.api.store.bulk;
+
+import com.catcheat.api.store.StoreRequestDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ *  CSV 를 한 줄씩 읽어 StoreRequestDto 로 변환하는 스트리밍 리더
+ *
+ *  - 첫 줄은 헤더이며, 컬럼명은 StoreRequestDto 필드명과 같음 (순서 무관, 대소문자 무시)
+ *      code,name,address,opened,province,city,district,roadAddress,lotAddress,latitude,longitude
+ *  - 큰따옴표로 감싼 값 안의 쉼표와 "" (따옴표 이스케이프) 를 지원 (값 안의 줄바꿈은 미지원)
+ *  - 빈 값은 null 로 처리, opened 는 true/false/Y/N/1/0 허용, 좌표는 유한한 숫자만 (NaN/Infinity 거부)
+ *  - 뒤쪽 컬럼이 빠진 짧은 행은 빠진 값을 null 로 처리
+ */
+class StoreCsvReader implements Iterator<StoreImportRow> {
+
+    private static final List<String> COLUMNS = List.of(
+            "code", "name", "address", "opened", "province", "city", "district",
+            "roadaddress", "lotaddress", "latitude", "longitude");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columnIndex = new HashMap<>();
+    private int rowNumber;
+    private String nextLine;
+
+    StoreCsvReader(InputStream in) throws IOException {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 64 * 1024);
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV header is missing");
+        }
+        if (header.startsWith("\uFEFF")) {    // 엑셀에서 저장한 UTF-8 BOM 제거
+            header = header.substring(1);
+        }
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim().toLowerCase();
+            if (COLUMNS.contains(name)) {
+                columnIndex.put(name, i);
+            }
+        }
+        if (!columnIndex.containsKey("code") || !columnIndex.containsKey("name")) {
+            throw new IllegalArgumentException("CSV header must contain 'code' and 'name' columns");
+        }
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextLine != null;
+    }
+
+    @Override
+    public StoreImportRow next() {
+        if (nextLine == null) {
+            throw new NoSuchElementException();
+        }
+        String line = nextLine;
+        rowNumber++;
+        advance();
+        try {
+            return StoreImportRow.parsed(rowNumber, toRequest(split(line)));
+        } catch (IllegalArgumentException e) {
+            return StoreImportRow.failed(rowNumber, e.getMessage());
+        }
+    }
+
+    private void advance() {
+        try {
+            do {
+                nextLine = reader.readLine();
+            } while (nextLine != null && nextLine.isBlank());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private StoreRequestDto toRequest(List<String> values) {
+        StoreRequestDto dto = new StoreRequestDto();
+        dto.setCode(value(values, "code"));
+        dto.setName(value(values, "name"));
+        dto.setAddress(value(values, "address"));
+        dto.setOpened(parseBoolean(value(values, "opened")));
+        dto.setProvince(value(values, "province"));
+        dto.setCity(value(values, "city"));
+        dto.setDistrict(value(values, "district"));
+        dto.setRoadAddress(value(values, "roadaddress"));
+        dto.setLotAddress(value(values, "lotaddress"));
+        dto.setLatitude(parseDouble(value(values, "latitude"), "latitude"));
+        dto.setLongitude(parseDouble(value(values, "longitude"), "longitude"));
+        return dto;
+    }
+
+    private String value(List<String> values, String column) {
+        Integer index = columnIndex.get(column);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static boolean parseBoolean(String value) {
+        if (value == null) {
+            return false;
+        }
+        return switch (value.toLowerCase()) {
+            case "true", "y", "1" -> true;
+            case "false", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("Invalid opened value: " + value);
+        };
+    }
+
+    private static Double parseDouble(String value, String column) {
+        if (value == null) {
+            return null;
+        }
+        double parsed;
+        try {
+            parsed = Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + " value: " + value);
+        }
+        if (!Double.isFinite(parsed)) {
+            throw new IllegalArgumentException("Invalid " + column + " value: " + value);
+        }
+        return parsed;
+    }
+
+    // RFC 4180 방식의 한 줄 분리 (따옴표 안의 쉼표는 값으로 취급)
+    static List<String> split(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+}
@@ -0,0 +1,22 @@
+package com.catcheat.api.store.bulk;
+
+import com.catcheat.api.store.StoreRequestDto;
+
+/**
+ *  대량 등록 입력에서 읽은 한 행
+ *  파싱에 실패한 행은 request 대신 parseError 가 채워짐
+ *
+ * @param rowNumber  입력 기준 행 번호 (JSON: 배열 인덱스 1부터, CSV: 헤더 다음 줄이 1)
+ * @param request    파싱된 요청 데이터
+ * @param parseError 파싱 실패 사유
+ */
+public record StoreImportRow(int rowNumber, StoreRequestDto request, String parseError) {
+
+    static StoreImportRow parsed(int rowNumber, StoreRequestDto request) {
+        return new StoreImportRow(rowNumber, request, null);
+    }
+
+    static StoreImportRow failed(int rowNumber, String parseError) {
+        return new StoreImportRow(rowNumber, null, parseError);
+    }
+}
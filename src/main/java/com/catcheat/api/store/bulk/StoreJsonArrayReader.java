@@ -0,0 +1,79 @@
+package com.catcheat.api.store.bulk;
+
+import com.catcheat.api.store.StoreRequestDto;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ *  JSON 배열([{...}, {...}, ...])을 원소 단위로 읽는 스트리밍 리더
+ *  - 배열 전체를 메모리에 올리지 않고 JsonParser 로 객체 하나씩 읽음
+ *  - 객체를 JsonNode 로 먼저 읽기 때문에, 한 행의 타입 오류가 나머지 행 파싱에 영향을 주지 않음
+ */
+class StoreJsonArrayReader implements Iterator<StoreImportRow> {
+
+    private final ObjectMapper objectMapper;
+    private final JsonParser parser;
+    private int rowNumber;
+    private JsonToken nextToken;
+
+    StoreJsonArrayReader(ObjectMapper objectMapper, InputStream in) throws IOException {
+        this.objectMapper = objectMapper;
+        this.parser = objectMapper.getFactory().createParser(in);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Bulk import body must be a JSON array");
+        }
+        advance();
+    }
+
+    @Override
+    public boolean hasNext() {
+        return nextToken != null && nextToken != JsonToken.END_ARRAY;
+    }
+
+    @Override
+    public StoreImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        rowNumber++;
+        StoreImportRow row;
+        try {
+            JsonNode node = objectMapper.readTree(parser);
+            if (node == null || !node.isObject()) {
+                row = StoreImportRow.failed(rowNumber, "Row is not a JSON object");
+            } else {
+                row = parseNode(node);
+            }
+            advance();
+        } catch (IOException e) {
+            // 문법 오류는 이후 위치를 신뢰할 수 없으므로 읽기를 중단
+            nextToken = null;
+            row = StoreImportRow.failed(rowNumber, "Malformed JSON: " + e.getMessage());
+        }
+        return row;
+    }
+
+    private StoreImportRow parseNode(JsonNode node) {
+        try {
+            return StoreImportRow.parsed(rowNumber, objectMapper.treeToValue(node, StoreRequestDto.class));
+        } catch (IOException | IllegalArgumentException e) {
+            return StoreImportRow.failed(rowNumber, "Invalid row: " + e.getMessage());
+        }
+    }
+
+    private void advance() {
+        try {
+            nextToken = parser.nextToken();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.catcheat.api.store.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ *  같은 JVM 안에서만 무효화 메시지를 전달하는 기본 구현
+ *  테스트에서는 StoreCache 여러 개가 이 버스 하나를 공유하게 해서 다중 인스턴스를 흉내낼 수 있음
+ */
+@Component
+@ConditionalOnProperty(name = "catcheat.store.cache.invalidation", havingValue = "local", matchIfMissing = true)
+public class LocalStoreCacheInvalidationBus implements StoreCacheInvalidationBus {
+
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(Long storeId) {
+        listeners.forEach(listener -> listener.accept(storeId));
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,132 @@
+package com.catcheat.api.store.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ *  PostgreSQL LISTEN/NOTIFY 기반 캐시 무효화 버스
+ *
+ *  - publish: SELECT pg_notify('store_cache_invalidation', '<instanceId>:<storeId 또는 *>')
+ *  - 수신: 전용 커넥션 하나로 LISTEN 하고, 백그라운드 스레드가 알림을 폴링해서 리스너에 전달
+ *  - 자기 자신이 보낸 메시지는 instanceId 로 걸러냄 (로컬 캐시는 이미 무효화된 상태)
+ *  - 커넥션이 끊기면 잠시 후 다시 LISTEN (그 사이 놓친 변경은 캐시 TTL 로 회복)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "catcheat.store.cache.invalidation", havingValue = "postgres")
+public class PostgresStoreCacheInvalidationBus implements StoreCacheInvalidationBus {
+
+    private static final String CHANNEL = "store_cache_invalidation";
+    private static final String ALL = "*";
+    private static final int POLL_TIMEOUT_MILLIS = 5_000;
+    private static final long RECONNECT_DELAY_MILLIS = 1_000;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final List<Consumer<Long>> listeners = new CopyOnWriteArrayList<>();
+
+    private volatile boolean running;
+    private Thread listenerThread;
+
+    public PostgresStoreCacheInvalidationBus(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listenLoop, "store-cache-invalidation-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+        }
+    }
+
+    @Override
+    public void publish(Long storeId) {
+        String payload = instanceId + ":" + (storeId == null ? ALL : storeId.toString());
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", (RowCallbackHandler) rs -> { }, CHANNEL, payload);
+    }
+
+    @Override
+    public void subscribe(Consumer<Long> listener) {
+        listeners.add(listener);
+    }
+
+    private void listenLoop() {
+        while (running) {
+            try (Connection connection = dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + CHANNEL);
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                // 재연결 사이에 놓친 메시지가 있을 수 있으므로 전체 무효화로 시작
+                deliver(null);
+
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications == null) {
+                        continue;
+                    }
+                    for (PGNotification notification : notifications) {
+                        handle(notification.getParameter());
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Store cache invalidation listener disconnected, retrying: {}", e.getMessage());
+                    sleepBeforeReconnect();
+                }
+            }
+        }
+    }
+
+    private void handle(String payload) {
+        int separator = payload.lastIndexOf(':');
+        if (separator < 0 || payload.substring(0, separator).equals(instanceId)) {
+            return;
+        }
+        String target = payload.substring(separator + 1);
+        try {
+            deliver(ALL.equals(target) ? null : Long.valueOf(target));
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring malformed store cache invalidation payload: {}", payload);
+        }
+    }
+
+    private void deliver(Long storeId) {
+        listeners.forEach(listener -> listener.accept(storeId));
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(RECONNECT_DELAY_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
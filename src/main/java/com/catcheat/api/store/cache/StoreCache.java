@@ -0,0 +1,155 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.StoreListSnapshot;
+import com.catcheat.api.store.StoreResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ *  매장 조회 결과를 담아두는 인메모리 읽기 캐시 (Caffeine)
+ *
+ *  - byId     : 매장 id → StoreResponseDto (최대 개수 + TTL 로 제거)
+ *  - snapshot : 전체 목록(getAll) 한 벌 + 읽은 시점의 ETag/변경 커서 (짧은 TTL)
+ *  - 매장이 변경되면(커밋 후) 해당 id 항목과 전체 목록만 무효화하고, 버스로 다른 인스턴스에도 전파
+ *  - 여러 id 조회(getAll)는 DB 조회를 캐시 잠금 밖에서 한 번에 하므로, 조회 중에 무효화된 id 는 결과를 저장하지 않음
+ *    (id 구간별 무효화 횟수를 조회 전/저장 시 비교, 저장은 compute 로 무효화와 순서가 정해짐)
+ *  - 적중/미적중 통계는 Micrometer(cache.gets, cache.evictions ...)로 노출
+ *
+ *  ⚠️ 캐시된 DTO 는 여러 요청이 공유하므로 꺼내 쓴 뒤 수정하면 안 됨
+ */
+@Component
+public class StoreCache {
+
+    private static final String SNAPSHOT_KEY = "all";
+    private static final int GENERATION_STRIPES = 1024;                 // 2의 거듭제곱
+
+    private final Cache<Long, StoreResponseDto> byId;
+    private final Cache<String, StoreListSnapshot> snapshot;
+    private final StoreCacheInvalidationBus invalidationBus;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);  // 구간별 무효화 횟수
+
+    public StoreCache(StoreCacheInvalidationBus invalidationBus,
+                      MeterRegistry meterRegistry,
+                      @Value("${catcheat.store.cache.maximum-size:10000}") long maximumSize,
+                      @Value("${catcheat.store.cache.ttl:10m}") Duration ttl,
+                      @Value("${catcheat.store.cache.snapshot-ttl:30s}") Duration snapshotTtl) {
+        this.invalidationBus = invalidationBus;
+        this.byId = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.snapshot = Caffeine.newBuilder()
+                .maximumSize(1)
+                .expireAfterWrite(snapshotTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, byId, "store.byId");
+        CaffeineCacheMetrics.monitor(meterRegistry, snapshot, "store.snapshot");
+
+        // 다른 인스턴스에서 온 무효화는 로컬에만 반영 (다시 전파하지 않음)
+        invalidationBus.subscribe(this::invalidateLocal);
+    }
+
+    // 캐시에 없으면 loader 로 읽어서 저장 (같은 id 에 대한 동시 미적중은 한 번만 로드)
+    public StoreResponseDto get(Long id, Function<Long, StoreResponseDto> loader) {
+        return byId.get(id, loader);
+    }
+
+    // 여러 id 를 한 번에 조회, 캐시에 없는 id 들만 모아서 loader 한 번으로 로드 (결과에 없는 id 는 캐시하지 않음)
+    // Caffeine 의 getAll 은 로드 결과를 무효화와 상관없이 저장하므로 직접 미적중을 모아 조건부로 저장
+    public Map<Long, StoreResponseDto> getAll(Collection<Long> ids,
+                                              Function<Set<? extends Long>, Map<Long, StoreResponseDto>> loader) {
+        Map<Long, StoreResponseDto> present = byId.getAllPresent(ids);
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (!present.containsKey(id)) {
+                missing.add(id);
+            }
+        }
+        if (missing.isEmpty()) {
+            return present;
+        }
+
+        Map<Long, Long> generationsBefore = new HashMap<>();
+        for (Long id : missing) {
+            generationsBefore.put(id, generations.get(stripe(id)));
+        }
+        Map<Long, StoreResponseDto> loaded = loader.apply(missing);
+        loaded.forEach((id, dto) -> {
+            Long before = generationsBefore.get(id);
+            if (before != null) {
+                byId.asMap().compute(id, (key, current) ->
+                        generations.get(stripe(key)) == before ? dto : current);
+            }
+        });
+
+        Map<Long, StoreResponseDto> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            StoreResponseDto dto = present.containsKey(id) ? present.get(id) : loaded.get(id);
+            if (dto != null) {
+                result.put(id, dto);
+            }
+        }
+        return result;
+    }
+
+    public StoreListSnapshot getAll(Supplier<StoreListSnapshot> loader) {
+        return snapshot.get(SNAPSHOT_KEY, key -> loader.get());
+    }
+
+    // 생성/수정/삭제가 커밋된 뒤 해당 매장 항목과 전체 목록만 무효화
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        invalidate(event.getStoreId());
+    }
+
+    public void invalidate(Long storeId) {
+        invalidateLocal(storeId);
+        invalidationBus.publish(storeId);
+    }
+
+    public CacheStats byIdStats() {
+        return byId.stats();
+    }
+
+    public CacheStats snapshotStats() {
+        return snapshot.stats();
+    }
+
+    private static int stripe(Long storeId) {
+        return Long.hashCode(storeId) & (GENERATION_STRIPES - 1);
+    }
+
+    // 무효화 횟수를 먼저 올려야 진행 중인 getAll 이 이전 값을 저장하지 않음
+    private void invalidateLocal(Long storeId) {
+        if (storeId == null) {
+            for (int i = 0; i < GENERATION_STRIPES; i++) {
+                generations.incrementAndGet(i);
+            }
+            byId.invalidateAll();
+        } else {
+            generations.incrementAndGet(stripe(storeId));
+            byId.invalidate(storeId);
+        }
+        snapshot.invalidateAll();
+    }
+}
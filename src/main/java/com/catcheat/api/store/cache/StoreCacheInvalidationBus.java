@@ -0,0 +1,17 @@
+package com.catcheat.api.store.cache;
+
+import java.util.function.Consumer;
+
+/**
+ *  여러 애플리케이션 인스턴스 간 매장 캐시 무효화 메시지를 전달하는 통로
+ *  - catcheat.store.cache.invalidation=local    → 같은 JVM 안에서만 전달 (기본값, 단일 인스턴스/테스트용)
+ *  - catcheat.store.cache.invalidation=postgres → PostgreSQL LISTEN/NOTIFY 로 다른 인스턴스에 전달
+ */
+public interface StoreCacheInvalidationBus {
+
+    // 매장 id 의 캐시 무효화를 전파 (storeId 가 null 이면 전체 무효화)
+    void publish(Long storeId);
+
+    // 다른 인스턴스(또는 같은 버스를 쓰는 캐시)가 보낸 무효화 메시지 수신 등록
+    void subscribe(Consumer<Long> listener);
+}
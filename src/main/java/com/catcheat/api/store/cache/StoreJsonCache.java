@@ -0,0 +1,108 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.StoreResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  매장 한 곳의 JSON 직렬화 결과(byte[])를 들고 있는 캐시
+ *
+ *  - 목록 응답(StoreJsonList)은 이 조각들을 ',' 로 이어 붙여서 바로 출력 → 요청마다 Jackson 직렬화를 다시 하지 않음
+ *  - 조각은 만들 때의 version/opened 와 DTO 값이 같을 때만 재사용, 다르면 그 매장만 다시 직렬화
+ *    → 생성/수정/삭제로 목록이 다시 만들어져도 바뀐 행만 직렬화됨
+ *  - 커밋된 변경(StoreChangedEvent)과 다른 인스턴스의 무효화 메시지로 해당 조각을 지움 (삭제된 매장이 남지 않도록)
+ *  - 스프링 ObjectMapper(믹스인/전체 필드 필터 포함)로 직렬화 → 일반 응답과 같은 JSON
+ *  - distance 가 있는 DTO(근처 조회)는 요청마다 값이 달라서 캐시하지 않음
+ */
+@Component
+public class StoreJsonCache {
+
+    private final ObjectWriter writer;
+    private final Map<Long, Fragment> fragments = new ConcurrentHashMap<>();
+    private final Counter renders;
+
+    // version/opened 는 조각이 아직 유효한지 확인하는 용도
+    private record Fragment(Long version, boolean opened, byte[] json) {
+    }
+
+    public StoreJsonCache(ObjectMapper objectMapper,
+                          StoreCacheInvalidationBus invalidationBus,
+                          MeterRegistry meterRegistry) {
+        this.writer = objectMapper.writerFor(StoreResponseDto.class);
+        this.renders = Counter.builder("store.json.renders")
+                .description("Store JSON fragments serialized (cache misses)")
+                .register(meterRegistry);
+        Gauge.builder("store.json.fragments", fragments, Map::size)
+                .description("Store JSON fragments held in memory")
+                .register(meterRegistry);
+
+        invalidationBus.subscribe(this::evict);
+    }
+
+    /**
+     * 매장 한 곳의 JSON (유효한 조각이 있으면 그대로, 없으면 직렬화 후 저장)
+     * 돌려받은 배열은 여러 응답이 공유하므로 수정하면 안 됨
+     */
+    public byte[] json(StoreResponseDto dto) {
+        if (dto.getId() == null || dto.getDistance() != null) {
+            return render(dto);
+        }
+        Fragment fragment = fragments.get(dto.getId());
+        if (fragment != null && fragment.opened() == dto.isOpened() && Objects.equals(fragment.version(), dto.getVersion())) {
+            return fragment.json();
+        }
+        byte[] json = render(dto);
+        fragments.put(dto.getId(), new Fragment(dto.getVersion(), dto.isOpened(), json));
+        return json;
+    }
+
+    /** 목록의 각 매장 조각을 미리 꺼내 둔 응답용 목록 (목록 스냅샷/페이지를 만들 때 한 번만 호출) */
+    public StoreJsonList list(List<StoreResponseDto> stores) {
+        byte[][] jsons = new byte[stores.size()][];
+        for (int i = 0; i < jsons.length; i++) {
+            jsons[i] = json(stores.get(i));
+        }
+        return new StoreJsonList(stores, jsons);
+    }
+
+    // 생성/수정/삭제가 커밋된 뒤 해당 매장 조각 제거
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        evict(event.getStoreId());
+    }
+
+    public int size() {
+        return fragments.size();
+    }
+
+    // storeId 가 null 이면 전체 제거
+    private void evict(Long storeId) {
+        if (storeId == null) {
+            fragments.clear();
+        } else {
+            fragments.remove(storeId);
+        }
+    }
+
+    private byte[] render(StoreResponseDto dto) {
+        try {
+            renders.increment();
+            return writer.writeValueAsBytes(dto);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.catcheat.api.store.cache;
+
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ *  미리 직렬화된 매장 목록(StoreJsonList)/페이지(StoreJsonPage)를 JSON 으로 그대로 출력하는 컨버터
+ *
+ *  - application/json 응답만 처리, 요청 본문은 읽지 않음
+ *  - 빈으로 등록하면 스프링 부트가 기본 Jackson 컨버터보다 앞에 둠 → 같은 타입의 JSON 응답은 항상 이쪽으로
+ *  - CBOR/Smile 요청이나 ?fields 응답(MappingJacksonValue)은 이 컨버터를 거치지 않음
+ *  - 페이지 필드 순서는 Jackson 출력과 같음 (content, nextCursor, hasNext)
+ */
+public class StoreJsonHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final byte[] PAGE_START = "{\"content\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NEXT_CURSOR = ",\"nextCursor\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] HAS_NEXT = ",\"hasNext\":".getBytes(StandardCharsets.US_ASCII);
+
+    public StoreJsonHttpMessageConverter() {
+        super(MediaType.APPLICATION_JSON);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return StoreJsonList.class.isAssignableFrom(clazz) || StoreJsonPage.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Pre-serialized store JSON is write-only", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(Object body, MediaType contentType) {
+        if (body instanceof StoreJsonList list) {
+            return list.contentLength();
+        }
+        StoreJsonPage page = (StoreJsonPage) body;
+        return PAGE_START.length + page.jsonContent().contentLength()
+                + NEXT_CURSOR.length + String.valueOf(page.getNextCursor()).length()
+                + HAS_NEXT.length + String.valueOf(page.isHasNext()).length() + 1;
+    }
+
+    @Override
+    protected void writeInternal(Object body, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        if (body instanceof StoreJsonList list) {
+            list.writeTo(out);
+            return;
+        }
+        StoreJsonPage page = (StoreJsonPage) body;
+        out.write(PAGE_START);
+        page.jsonContent().writeTo(out);
+        out.write(NEXT_CURSOR);
+        out.write(String.valueOf(page.getNextCursor()).getBytes(StandardCharsets.US_ASCII));
+        out.write(HAS_NEXT);
+        out.write(String.valueOf(page.isHasNext()).getBytes(StandardCharsets.US_ASCII));
+        out.write('}');
+    }
+}
@@ -0,0 +1,60 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StoreResponseDto;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ *  매장 목록 + 각 매장의 JSON 조각 (불변)
+ *
+ *  - 목록으로는 평소처럼 StoreResponseDto 를 돌려줌 → CBOR/Smile, ?fields 응답은 기존대로 Jackson 이 직렬화
+ *  - JSON 응답은 StoreJsonHttpMessageConverter 가 writeTo 로 조각을 이어 붙여 출력 (요청마다 새로 만드는 객체 없음)
+ *  - 응답 크기를 미리 계산해 둠 → Content-Length 로 전송
+ */
+public final class StoreJsonList extends AbstractList<StoreResponseDto> implements RandomAccess {
+
+    private final List<StoreResponseDto> stores;
+    private final byte[][] jsons;
+    private final long contentLength;
+
+    StoreJsonList(List<StoreResponseDto> stores, byte[][] jsons) {
+        this.stores = List.copyOf(stores);
+        this.jsons = jsons;
+        long length = 2 + Math.max(0, jsons.length - 1);     // [ ] 와 구분자 ,
+        for (byte[] json : jsons) {
+            length += json.length;
+        }
+        this.contentLength = length;
+    }
+
+    @Override
+    public StoreResponseDto get(int index) {
+        return stores.get(index);
+    }
+
+    @Override
+    public int size() {
+        return stores.size();
+    }
+
+    /** JSON 배열로 출력할 때의 바이트 수 */
+    public long contentLength() {
+        return contentLength;
+    }
+
+    /** [조각,조각,...] 을 그대로 출력 */
+    public void writeTo(OutputStream out) throws IOException {
+        out.write('[');
+        for (int i = 0; i < jsons.length; i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(jsons[i]);
+        }
+        out.write(']');
+    }
+}
@@ -0,0 +1,18 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StorePageResponseDto;
+
+/**
+ *  페이지 응답 중 content 가 JSON 조각을 들고 있는 StoreJsonList 인 것
+ *  JSON 응답은 StoreJsonHttpMessageConverter 가 조각을 이어 붙여 출력하고, 다른 형식은 부모 타입처럼 Jackson 이 직렬화
+ */
+public class StoreJsonPage extends StorePageResponseDto {
+
+    public StoreJsonPage(StoreJsonList content, Long nextCursor, boolean hasNext) {
+        super(content, nextCursor, hasNext);
+    }
+
+    StoreJsonList jsonContent() {
+        return (StoreJsonList) getContent();
+    }
+}
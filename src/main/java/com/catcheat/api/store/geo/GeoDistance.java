@@ -0,0 +1,25 @@
+package com.catcheat.api.store.geo;
+
+/**
+ *  위경도 좌표 간 거리 계산 유틸
+ *  - 하버사인(haversine) 공식으로 구면 위 두 점 사이의 대원 거리를 km 단위로 계산
+ *  - 매장 검색 반경(수 km) 수준에서는 오차가 무시할 만함
+ */
+public final class GeoDistance {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;  // 지구 평균 반지름
+    public static final double KM_PER_DEGREE_LAT = 111.32;   // 위도 1도당 거리
+
+    private GeoDistance() {
+    }
+
+    public static double haversineKm(double lat1, double lng1, double lat2, double lng2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLng = Math.toRadians(lng2 - lng1);
+        double sinLat = Math.sin(dLat / 2);
+        double sinLng = Math.sin(dLng / 2);
+        double a = sinLat * sinLat
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * sinLng * sinLng;
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
@@ -0,0 +1,183 @@
+package com.catcheat.api.store.geo;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ *  지도 줌 레벨별 매장 클러스터(격자 집계) 인덱스
+ *
+ *  - 웹 메르카토르 타일(256px) 하나를 4×4 칸(칸 하나 ≈ 64px)으로 나누고, 줌 0 ~ MAX_ZOOM 의 모든 칸에 대해
+ *    매장 수 / 좌표 합계를 미리 집계해 둠 → 조회 시 다시 계산하지 않음
+ *  - 매장 추가/수정/삭제 시 줌 레벨마다 해당 칸 하나의 합계만 더하고 빼서 갱신 (전체 재계산 없음)
+ *  - 좌표 합계는 마이크로도(1e-6°) 단위 정수로 보관 → 더하고 빼도 오차가 쌓이지 않음
+ *  - 칸 번호는 행 우선(row, col) 으로 정렬된 TreeMap 에 보관 → 화면 영역 조회는
+ *    행마다 [왼쪽 칸, 오른쪽 칸] 범위만 꺼내므로, 비어 있는 칸은 건너뛰고 결과 수에 비례하는 시간으로 끝남
+ *  - 매장이 1개뿐인 칸은 storeId 도 함께 돌려줌 (id 합계 = 그 매장 id)
+ */
+@Component
+public class StoreClusterIndex implements StoreIndex {
+
+    public static final int MAX_ZOOM = 14;
+    static final int CELL_BITS = 2;                 // 타일 하나를 2^2 × 2^2 칸으로 분할
+    static final double MAX_MERCATOR_LAT = 85.05112878;
+    static final double E6 = 1_000_000.0;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Point> points = new HashMap<>();        // storeId → 마이크로도 좌표
+    private final List<NavigableMap<Long, Cell>> levels = new ArrayList<>(MAX_ZOOM + 1);
+
+    /** 조회 결과 한 건 (칸의 매장 수, 매장 좌표 평균, 매장이 1개면 그 id) */
+    public record Cluster(double latitude, double longitude, int count, Long storeId) {
+    }
+
+    private record Point(long latitudeE6, long longitudeE6) {
+    }
+
+    private static final class Cell {
+        int count;
+        long latitudeSumE6;
+        long longitudeSumE6;
+        long storeIdSum;
+    }
+
+    public StoreClusterIndex() {
+        for (int zoom = 0; zoom <= MAX_ZOOM; zoom++) {
+            levels.add(new TreeMap<>());
+        }
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store == null || store.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(store.getId());
+            if (store.getLatitude() != null && store.getLongitude() != null) {
+                Point point = new Point(Math.round(store.getLatitude() * E6), Math.round(store.getLongitude() * E6));
+                points.put(store.getId(), point);
+                apply(store.getId(), point, 1);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            levels.forEach(Map::clear);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 화면 영역 안에 있는 칸들의 집계 결과
+     *
+     * @param zoom 0 ~ MAX_ZOOM
+     * @return 칸 순서(북→남, 서→동)의 클러스터 목록
+     */
+    public List<Cluster> clusters(double minLat, double minLng, double maxLat, double maxLng, int zoom) {
+        int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        int minCol = col(minLng, level);
+        int maxCol = col(maxLng, level);
+        int minRow = row(maxLat, level);         // 메르카토르 y 는 북쪽이 작음
+        int maxRow = row(minLat, level);
+
+        List<Cluster> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            NavigableMap<Long, Cell> cells = levels.get(level);
+            for (int row = minRow; row <= maxRow; row++) {
+                for (Cell cell : cells.subMap(cellKey(row, minCol), true, cellKey(row, maxCol), true).values()) {
+                    result.add(new Cluster(
+                            cell.latitudeSumE6 / E6 / cell.count,
+                            cell.longitudeSumE6 / E6 / cell.count,
+                            cell.count,
+                            cell.count == 1 ? cell.storeIdSum : null));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 해당 줌에서 화면 영역이 걸치는 격자 행 수 (조회 비용의 상한 확인용)
+     */
+    public static int rows(double minLat, double maxLat, int zoom) {
+        int level = Math.max(0, Math.min(zoom, MAX_ZOOM));
+        return row(minLat, level) - row(maxLat, level) + 1;
+    }
+
+    private void removeInternal(Long storeId) {
+        Point old = points.remove(storeId);
+        if (old != null) {
+            apply(storeId, old, -1);
+        }
+    }
+
+    private void apply(long storeId, Point point, int delta) {
+        double latitude = point.latitudeE6() / E6;
+        double longitude = point.longitudeE6() / E6;
+        for (int level = 0; level <= MAX_ZOOM; level++) {
+            NavigableMap<Long, Cell> cells = levels.get(level);
+            long key = cellKey(row(latitude, level), col(longitude, level));
+            Cell cell = cells.computeIfAbsent(key, k -> new Cell());
+            cell.count += delta;
+            cell.latitudeSumE6 += delta * point.latitudeE6();
+            cell.longitudeSumE6 += delta * point.longitudeE6();
+            cell.storeIdSum += delta * storeId;
+            if (cell.count == 0) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    // 웹 메르카토르 x (0 ~ 1) → 칸 열 번호
+    static int col(double longitude, int level) {
+        int scale = 1 << (level + CELL_BITS);
+        double x = (Math.max(-180, Math.min(180, longitude)) + 180) / 360;
+        return Math.max(0, Math.min(scale - 1, (int) Math.floor(x * scale)));
+    }
+
+    // 웹 메르카토르 y (0 ~ 1, 북쪽이 0) → 칸 행 번호
+    static int row(double latitude, int level) {
+        int scale = 1 << (level + CELL_BITS);
+        double sin = Math.sin(Math.toRadians(Math.max(-MAX_MERCATOR_LAT, Math.min(MAX_MERCATOR_LAT, latitude))));
+        double y = 0.5 - Math.log((1 + sin) / (1 - sin)) / (4 * Math.PI);
+        return Math.max(0, Math.min(scale - 1, (int) Math.floor(y * scale)));
+    }
+
+    static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
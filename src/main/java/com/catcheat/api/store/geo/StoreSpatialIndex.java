@@ -0,0 +1,243 @@
+package com.catcheat.api.store.geo;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ *  매장 좌표(latitude/longitude)에 대한 인메모리 격자(grid) 공간 인덱스
+ *
+ *  - 위경도를 CELL_DEGREES(약 1.1km) 크기의 칸으로 나누고, 칸 번호 → 해당 칸의 매장 좌표 목록으로 보관
+ *  - 근처 매장 조회 시 기준 좌표가 속한 칸에서 시작해 한 겹씩(ring) 바깥으로 넓혀가며 후보를 찾음
+ *  - 남은 칸들의 최소 거리가 반경 또는 현재 k번째 거리보다 멀어지면 탐색 종료 → 전체 스캔 없음
+ *  - 좌표가 없는(null) 매장은 인덱스에 들어가지 않음
+ */
+@Component
+public class StoreSpatialIndex implements StoreIndex {
+
+    static final double CELL_DEGREES = 0.01;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, GeoPoint> points = new HashMap<>();        // storeId → 좌표
+    private final Map<Long, List<GeoPoint>> cells = new HashMap<>();   // 칸 번호 → 칸 안의 좌표들
+
+    /** 조회 결과 한 건 (매장 id + 기준 좌표로부터의 거리) */
+    public record NearbyHit(long storeId, double distanceKm) {
+    }
+
+    private record GeoPoint(long storeId, double latitude, double longitude) {
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store == null || store.getId() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(store.getId());
+            if (store.getLatitude() != null && store.getLongitude() != null) {
+                GeoPoint point = new GeoPoint(store.getId(), store.getLatitude(), store.getLongitude());
+                points.put(point.storeId(), point);
+                cells.computeIfAbsent(cellKey(point.latitude(), point.longitude()), key -> new ArrayList<>())
+                        .add(point);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            points.clear();
+            cells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return points.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기준 좌표에서 radiusKm 이내의 매장을 가까운 순으로 최대 limit 개 반환
+     *
+     * @param latitude  기준 위도
+     * @param longitude 기준 경도
+     * @param radiusKm  검색 반경 (km)
+     * @param limit     최대 결과 수
+     * @return 거리 오름차순으로 정렬된 결과
+     */
+    public List<NearbyHit> nearest(double latitude, double longitude, double radiusKm, int limit) {
+        if (limit <= 0 || radiusKm <= 0) {
+            return List.of();
+        }
+
+        // 가장 가까운 결과가 맨 뒤로 가도록 거리 내림차순 힙 (peek = 현재 k번째 거리)
+        PriorityQueue<NearbyHit> heap = new PriorityQueue<>(limit + 1,
+                Comparator.comparingDouble(NearbyHit::distanceKm).reversed());
+
+        double minCellKm = minCellSizeKm(latitude, radiusKm);
+        int maxRing = (int) Math.ceil(radiusKm / minCellKm) + 1;
+        int centerRow = row(latitude);
+        int centerCol = col(longitude);
+
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                // ring 번째 겹의 칸들은 기준점에서 최소 (ring - 1)칸 이상 떨어져 있음
+                double ringLowerBoundKm = Math.max(0, ring - 1) * minCellKm;
+                if (ringLowerBoundKm > radiusKm) {
+                    break;
+                }
+                if (heap.size() == limit && ringLowerBoundKm > heap.peek().distanceKm()) {
+                    break;
+                }
+
+                if (ring == 0) {
+                    collect(centerRow, centerCol, latitude, longitude, radiusKm, limit, heap);
+                    continue;
+                }
+                for (int dc = -ring; dc <= ring; dc++) {
+                    collect(centerRow - ring, centerCol + dc, latitude, longitude, radiusKm, limit, heap);
+                    collect(centerRow + ring, centerCol + dc, latitude, longitude, radiusKm, limit, heap);
+                }
+                for (int dr = -ring + 1; dr <= ring - 1; dr++) {
+                    collect(centerRow + dr, centerCol - ring, latitude, longitude, radiusKm, limit, heap);
+                    collect(centerRow + dr, centerCol + ring, latitude, longitude, radiusKm, limit, heap);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<NearbyHit> result = new ArrayList<>(heap);
+        result.sort(Comparator.comparingDouble(NearbyHit::distanceKm));
+        return result;
+    }
+
+    /**
+     * 사각형 영역(지도 화면) 안에 있는 매장 id 를 최대 limit 개 반환 (순서 없음)
+     * 영역이 걸치는 칸만 확인하므로, 호출하는 쪽에서 cellCount 로 영역 크기를 먼저 제한해야 함
+     */
+    public List<Long> within(double minLat, double minLng, double maxLat, double maxLng, int limit) {
+        List<Long> result = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int r = row(minLat); r <= row(maxLat) && result.size() < limit; r++) {
+                for (int c = col(minLng); c <= col(maxLng) && result.size() < limit; c++) {
+                    List<GeoPoint> cell = cells.get(cellKey(r, c));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (GeoPoint point : cell) {
+                        if (point.latitude() >= minLat && point.latitude() <= maxLat
+                                && point.longitude() >= minLng && point.longitude() <= maxLng) {
+                            result.add(point.storeId());
+                            if (result.size() == limit) {
+                                break;
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    // 사각형 영역이 걸치는 격자 칸 수
+    public static long cellCount(double minLat, double minLng, double maxLat, double maxLng) {
+        return (long) (row(maxLat) - row(minLat) + 1) * (col(maxLng) - col(minLng) + 1);
+    }
+
+    private void collect(int row, int col, double latitude, double longitude,
+                         double radiusKm, int limit, PriorityQueue<NearbyHit> heap) {
+        List<GeoPoint> cell = cells.get(cellKey(row, col));
+        if (cell == null) {
+            return;
+        }
+        for (GeoPoint point : cell) {
+            double distance = GeoDistance.haversineKm(latitude, longitude, point.latitude(), point.longitude());
+            if (distance > radiusKm) {
+                continue;
+            }
+            if (heap.size() < limit) {
+                heap.offer(new NearbyHit(point.storeId(), distance));
+            } else if (distance < heap.peek().distanceKm()) {
+                heap.poll();
+                heap.offer(new NearbyHit(point.storeId(), distance));
+            }
+        }
+    }
+
+    private void removeInternal(Long storeId) {
+        GeoPoint old = points.remove(storeId);
+        if (old == null) {
+            return;
+        }
+        long key = cellKey(old.latitude(), old.longitude());
+        List<GeoPoint> cell = cells.get(key);
+        if (cell != null) {
+            cell.removeIf(point -> point.storeId() == storeId);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    // 탐색 범위 안에서 가장 좁은 칸의 한 변 길이 (경도 방향 칸은 고위도로 갈수록 좁아짐)
+    private static double minCellSizeKm(double latitude, double radiusKm) {
+        double farthestLat = Math.min(89.0, Math.abs(latitude) + radiusKm / GeoDistance.KM_PER_DEGREE_LAT);
+        double heightKm = CELL_DEGREES * GeoDistance.KM_PER_DEGREE_LAT;
+        double widthKm = heightKm * Math.cos(Math.toRadians(farthestLat));
+        return Math.min(heightKm, widthKm);
+    }
+
+    static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    static int col(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long cellKey(double latitude, double longitude) {
+        return cellKey(row(latitude), col(longitude));
+    }
+
+    private static long cellKey(int row, int col) {
+        return ((long) row << 32) | (col & 0xffffffffL);
+    }
+}
@@ -0,0 +1,233 @@
+package com.catcheat.api.store.geocode;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  행정구역/도로명 → 대표 좌표(중심점) 인덱스 (외부 지오코딩 서비스 없이 메모리에서 조회)
+ *
+ *  - 시/도 > 시/군/구 > 읍/면/동 트라이, 도로명은 시/군/구 노드 아래 별도 맵 (도로는 여러 동에 걸치므로)
+ *  - 시/도나 시/군/구가 빠진 주소는 이름 → 노드 목록 맵으로 찾음 (같은 이름이 여러 곳이면 추측하지 않음)
+ *  - 행정동 이름(역삼1동)이 없으면 숫자를 뺀 법정동 이름(역삼동)으로 한 번 더 찾음
+ *  - 가장 세밀하게 일치한 단계의 좌표를 돌려주고, 그 단계에 좌표가 없으면 상위 단계 좌표 사용 (precision 으로 구분)
+ *  - 데이터: CSV 한 줄에 "시/도,시/군/구,읍/면/동,도로명,위도,경도" (해당 단계까지만 채움, # 으로 시작하면 주석)
+ *    시/군/구가 없는 시/도(세종)는 시/군/구를 비워 둠
+ *  - 적재 후에는 읽기만 하므로 여러 스레드에서 동시에 조회해도 안전
+ */
+public final class AddressCentroidIndex {
+
+    /** 좌표가 나온 단계 (뒤로 갈수록 세밀함) */
+    public enum Precision {
+        PROVINCE, CITY, DISTRICT, ROAD
+    }
+
+    /** 조회 결과: 일치한 행정구역 이름 + 좌표 */
+    public record Location(String province, String city, String district,
+                           double latitude, double longitude, Precision precision) {
+    }
+
+    private static final class Node {
+        final String name;
+        final Node parent;
+        final Precision level;
+        final Map<String, Node> children = new HashMap<>(4);
+        Map<String, Node> roads;                     // 시/군/구 노드만 사용
+        double latitude = Double.NaN;
+        double longitude = Double.NaN;
+
+        Node(String name, Node parent, Precision level) {
+            this.name = name;
+            this.parent = parent;
+            this.level = level;
+        }
+
+        boolean hasCoordinates() {
+            return !Double.isNaN(latitude);
+        }
+    }
+
+    private final Node root = new Node(null, null, null);
+    private final Map<String, List<Node>> citiesByName = new HashMap<>();
+    private final Map<String, List<Node>> districtsByName = new HashMap<>();
+    private int size;
+
+    private AddressCentroidIndex() {
+    }
+
+    /**
+     * CSV 데이터 적재
+     *
+     * @throws IllegalArgumentException 열 개수/시도 이름/좌표가 잘못된 행이 있는 경우 (행 번호 포함)
+     */
+    public static AddressCentroidIndex load(Reader reader) throws IOException {
+        AddressCentroidIndex index = new AddressCentroidIndex();
+        BufferedReader lines = reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader);
+        String line;
+        int lineNumber = 0;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            String trimmed = line.strip();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] columns = trimmed.split(",", -1);
+            if (columns.length != 6) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": expected 6 columns but got " + columns.length);
+            }
+            String province = KoreanAddressParser.province(columns[0]);
+            if (province == null) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": unknown province " + columns[0]);
+            }
+            double latitude;
+            double longitude;
+            try {
+                latitude = Double.parseDouble(columns[4].strip());
+                longitude = Double.parseDouble(columns[5].strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": invalid coordinates " + columns[4] + ", " + columns[5]);
+            }
+            if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+                throw new IllegalArgumentException("Line " + lineNumber + ": coordinates out of range " + latitude + ", " + longitude);
+            }
+            index.add(province, columns[1].strip(), columns[2].strip(), columns[3].strip(), latitude, longitude);
+        }
+        return index;
+    }
+
+    /** 적재된 좌표 수 */
+    public int size() {
+        return size;
+    }
+
+    /** 주소 구성 요소로 가장 세밀한 좌표를 찾음 (시/도조차 찾지 못하면 null) */
+    public Location locate(ParsedAddress address) {
+        Node province = address.province() == null ? null : root.children.get(address.province());
+
+        Node city = null;
+        if (address.city() != null) {
+            city = findCity(province, address.city());
+            int space = address.city().indexOf(' ');
+            if (city == null && space > 0) {
+                city = findCity(province, address.city().substring(0, space));     // 일반구 없이 시만 있는 데이터
+            }
+        } else if (province != null) {
+            city = province.children.get("");                                       // 시/군/구가 없는 시/도
+        }
+
+        Node district = null;
+        if (address.district() != null) {
+            district = findDistrict(province, city, address.district());
+            if (district == null) {
+                String legal = withoutDigits(address.district());
+                if (!legal.equals(address.district())) {
+                    district = findDistrict(province, city, legal);
+                }
+            }
+        }
+        if (city == null && district != null) {
+            city = district.parent;
+        }
+
+        Node road = city != null && city.roads != null && address.road() != null ? city.roads.get(address.road()) : null;
+
+        Node best = road != null ? road : district != null ? district : city != null ? city : province;
+        while (best != null && !best.hasCoordinates()) {
+            best = best.parent == root ? null : best.parent;
+        }
+        if (best == null) {
+            return null;
+        }
+        Node matchedCity = city != null ? city : best.level == Precision.CITY ? best : null;
+        Node matchedProvince = matchedCity != null ? matchedCity.parent : best.level == Precision.PROVINCE ? best : province;
+        return new Location(
+                matchedProvince == null ? null : matchedProvince.name,
+                matchedCity == null || matchedCity.name.isEmpty() ? null : matchedCity.name,
+                district == null ? null : district.name,
+                best.latitude, best.longitude, best.level);
+    }
+
+    private Node findCity(Node province, String name) {
+        if (province != null) {
+            return province.children.get(name);
+        }
+        return unique(citiesByName.get(name), null);
+    }
+
+    private Node findDistrict(Node province, Node city, String name) {
+        if (city != null) {
+            return city.children.get(name);
+        }
+        return unique(districtsByName.get(name), province);
+    }
+
+    // 후보가 하나뿐일 때만 (province 가 있으면 그 시/도 안의 후보만)
+    private static Node unique(List<Node> candidates, Node province) {
+        if (candidates == null) {
+            return null;
+        }
+        Node found = null;
+        for (Node candidate : candidates) {
+            if (province != null && candidate.parent.parent != province) {
+                continue;
+            }
+            if (found != null) {
+                return null;
+            }
+            found = candidate;
+        }
+        return found;
+    }
+
+    private void add(String province, String city, String district, String road, double latitude, double longitude) {
+        Node node = child(root, province, Precision.PROVINCE, null);
+        if (!city.isEmpty() || !district.isEmpty() || !road.isEmpty()) {
+            node = child(node, city, Precision.CITY, city.isEmpty() ? null : citiesByName);
+            if (!road.isEmpty()) {
+                if (node.roads == null) {
+                    node.roads = new HashMap<>();
+                }
+                Node parent = node;
+                node = node.roads.computeIfAbsent(road.intern(), name -> new Node(name, parent, Precision.ROAD));
+            } else if (!district.isEmpty()) {
+                node = child(node, district, Precision.DISTRICT, districtsByName);
+            }
+        }
+        if (!node.hasCoordinates()) {
+            size++;
+        }
+        node.latitude = latitude;
+        node.longitude = longitude;
+    }
+
+    private static Node child(Node parent, String name, Precision level, Map<String, List<Node>> byName) {
+        Node node = parent.children.get(name);
+        if (node == null) {
+            node = new Node(name.intern(), parent, level);
+            parent.children.put(node.name, node);
+            if (byName != null) {
+                byName.computeIfAbsent(node.name, key -> new ArrayList<>(1)).add(node);
+            }
+        }
+        return node;
+    }
+
+    // 역삼1동 → 역삼동, 종로1가 는 그대로 (가 는 숫자까지 법정동 이름)
+    private static String withoutDigits(String district) {
+        if (district.endsWith("가")) {
+            return district;
+        }
+        StringBuilder builder = new StringBuilder(district.length());
+        for (int i = 0; i < district.length(); i++) {
+            char c = district.charAt(i);
+            if (!Character.isDigit(c) && c != '.') {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+}
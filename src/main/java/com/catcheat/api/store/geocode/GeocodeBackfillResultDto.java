@@ -0,0 +1,23 @@
+package com.catcheat.api.store.geocode;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ *  좌표 backfill 결과
+ *  - unresolvedRows: 주소를 분석했지만 min-precision 이상의 좌표를 찾지 못한 매장 (다음 실행 때 다시 시도)
+ *  - rowsPerSecond 는 조회 ~ 저장까지 전체 소요 시간 기준 처리량 (확인한 매장 수 기준)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class GeocodeBackfillResultDto {
+    private int scannedRows;
+    private int updatedRows;
+    private int unresolvedRows;
+    private long elapsedMillis;
+    private double rowsPerSecond;
+}
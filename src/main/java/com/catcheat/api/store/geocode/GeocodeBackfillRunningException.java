@@ -0,0 +1,11 @@
+package com.catcheat.api.store.geocode;
+
+/**
+ *  이 인스턴스에서 좌표 backfill 이 이미 실행 중인 경우 (StoreGeocodeController 가 409 로 응답)
+ */
+public class GeocodeBackfillRunningException extends IllegalStateException {
+
+    public GeocodeBackfillRunningException() {
+        super("Geocode backfill is already running");
+    }
+}
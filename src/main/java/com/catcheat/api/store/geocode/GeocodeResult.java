@@ -0,0 +1,23 @@
+package com.catcheat.api.store.geocode;
+
+/**
+ *  주소 한 건의 정규화/좌표 결과 (GET /api/stores/geocode 응답)
+ *
+ * @param province    시/도 (좌표 데이터에서 찾은 이름, 못 찾으면 주소에 적힌 이름)
+ * @param city        시/군/구
+ * @param district    읍/면/동
+ * @param roadAddress 정규화된 도로명 주소 (도로명 + 건물 번호가 있을 때)
+ * @param lotAddress  정규화된 지번 주소 (읍/면/동 + 지번이 있을 때)
+ * @param latitude    위도 (좌표를 찾지 못하면 null)
+ * @param longitude   경도
+ * @param precision   좌표가 나온 단계 (ROAD 가 가장 세밀함, 좌표가 없으면 null)
+ */
+public record GeocodeResult(String province, String city, String district,
+                            String roadAddress, String lotAddress,
+                            Double latitude, Double longitude,
+                            AddressCentroidIndex.Precision precision) {
+
+    public boolean atLeast(AddressCentroidIndex.Precision minimum) {
+        return precision != null && precision.compareTo(minimum) >= 0;
+    }
+}
@@ -0,0 +1,175 @@
+package com.catcheat.api.store.geocode;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ *  한국 주소 문자열 → 시/도, 시/군/구, 읍/면/동, 도로명 + 건물 번호, 지번
+ *
+ *  - 도로명 주소(서울특별시 강남구 테헤란로 152)와 지번 주소(서울 강남구 역삼동 737) 모두 처리
+ *  - 시/도 약칭과 옛 명칭은 정식 명칭으로 바꿈 (서울 → 서울특별시, 강원도 → 강원특별자치도)
+ *  - 괄호 안 참고항목(역삼동, 건물명)은 읍/면/동이 없을 때만 읍/면/동으로 사용
+ *  - 건물명/층/호수처럼 알 수 없는 단어는 건너뜀
+ *  - 공백 단위 토큰의 끝 글자(시/군/구, 동/읍/면/가, 로/길)로만 판단 → 사전 조회 없이 빠름
+ *  - 시/도가 빠진 주소는 여기서 채우지 않음 → AddressCentroidIndex 가 시/군/구 이름으로 찾아 채움
+ */
+public final class KoreanAddressParser {
+
+    private static final ParsedAddress EMPTY = new ParsedAddress(null, null, null, null, null, null);
+    private static final Map<String, String> PROVINCES = new HashMap<>();
+
+    static {
+        alias("서울특별시", "서울", "서울시");
+        alias("부산광역시", "부산", "부산시");
+        alias("대구광역시", "대구", "대구시");
+        alias("인천광역시", "인천", "인천시");
+        alias("광주광역시", "광주");
+        alias("대전광역시", "대전", "대전시");
+        alias("울산광역시", "울산", "울산시");
+        alias("세종특별자치시", "세종", "세종시");
+        alias("경기도", "경기");
+        alias("강원특별자치도", "강원", "강원도");
+        alias("충청북도", "충북");
+        alias("충청남도", "충남");
+        alias("전북특별자치도", "전북", "전라북도");
+        alias("전라남도", "전남");
+        alias("경상북도", "경북");
+        alias("경상남도", "경남");
+        alias("제주특별자치도", "제주", "제주도");
+    }
+
+    private KoreanAddressParser() {
+    }
+
+    private static void alias(String name, String... aliases) {
+        PROVINCES.put(name, name);
+        for (String alias : aliases) {
+            PROVINCES.put(alias, name);
+        }
+    }
+
+    /** 시/도 약칭 → 정식 명칭 (시/도가 아니면 null) */
+    public static String province(String token) {
+        return token == null ? null : PROVINCES.get(token.trim());
+    }
+
+    public static ParsedAddress parse(String address) {
+        if (address == null || address.isBlank()) {
+            return EMPTY;
+        }
+
+        // 괄호 밖은 본문, 괄호 안은 참고항목
+        StringBuilder body = new StringBuilder(address.length());
+        StringBuilder note = new StringBuilder();
+        int depth = 0;
+        for (int i = 0; i < address.length(); i++) {
+            char c = address.charAt(i);
+            if (c == '(' || c == '（') {
+                depth++;
+                body.append(' ');
+            } else if ((c == ')' || c == '）') && depth > 0) {
+                depth--;
+                note.append(' ');
+            } else if (c == ',') {
+                (depth > 0 ? note : body).append(' ');
+            } else {
+                (depth > 0 ? note : body).append(c);
+            }
+        }
+        String[] tokens = body.toString().trim().split("\\s+");
+
+        int i = 0;
+        String province = province(tokens[i]);
+        if (province != null) {
+            i++;
+        }
+
+        String city = null;
+        if (i < tokens.length && isCity(tokens[i])) {
+            city = tokens[i++];
+            // 일반구가 있는 시 (성남시 분당구)
+            if (city.endsWith("시") && i < tokens.length && tokens[i].endsWith("구") && isCity(tokens[i])) {
+                city = city + " " + tokens[i++];
+            }
+        }
+
+        String district = null;
+        String road = null;
+        String buildingNumber = null;
+        String lotNumber = null;
+        for (; i < tokens.length; i++) {
+            String token = tokens[i];
+            if (road == null && district == null && isRoad(token)) {
+                road = token;
+                int next = i + 1 < tokens.length && tokens[i + 1].equals("지하") ? i + 2 : i + 1;
+                if (next < tokens.length && isNumber(tokens[next])) {
+                    buildingNumber = tokens[next];
+                    i = next;
+                }
+            } else if (district == null && road == null && isDistrict(token)) {
+                district = token;
+                String village = null;
+                if (i + 1 < tokens.length && tokens[i + 1].endsWith("리") && tokens[i + 1].length() >= 2) {
+                    village = tokens[++i];
+                }
+                // 지번: "823", "823-1", "산 12-1", "산12-1"
+                int next = i + 1;
+                String lot = null;
+                if (next + 1 < tokens.length && tokens[next].equals("산") && isNumber(tokens[next + 1])) {
+                    lot = "산 " + tokens[next + 1];
+                    i = next + 1;
+                } else if (next < tokens.length && tokens[next].startsWith("산") && isNumber(tokens[next].substring(1))) {
+                    lot = "산 " + tokens[next].substring(1);
+                    i = next;
+                } else if (next < tokens.length && isNumber(tokens[next])) {
+                    lot = tokens[next];
+                    i = next;
+                }
+                if (lot != null) {
+                    lotNumber = village == null ? lot : village + " " + lot;
+                }
+            }
+        }
+        if (district == null) {
+            for (String token : note.toString().trim().split("\\s+")) {
+                if (isDistrict(token)) {
+                    district = token;
+                    break;
+                }
+            }
+        }
+        return new ParsedAddress(province, city, district, road, buildingNumber, lotNumber);
+    }
+
+    static boolean isCity(String token) {
+        return token.length() >= 2 && (token.endsWith("시") || token.endsWith("군") || token.endsWith("구"))
+                && !Character.isDigit(token.charAt(0)) && !PROVINCES.containsKey(token);
+    }
+
+    static boolean isDistrict(String token) {
+        return token.length() >= 2 && (token.endsWith("동") || token.endsWith("읍") || token.endsWith("면") || token.endsWith("가"))
+                && !Character.isDigit(token.charAt(0));
+    }
+
+    static boolean isRoad(String token) {
+        return token.length() >= 2 && (token.endsWith("로") || token.endsWith("길")) && !Character.isDigit(token.charAt(0));
+    }
+
+    // 123 또는 123-4
+    static boolean isNumber(String token) {
+        int dash = token.indexOf('-');
+        return dash < 0 ? isDigits(token) : isDigits(token.substring(0, dash)) && isDigits(token.substring(dash + 1));
+    }
+
+    private static boolean isDigits(String value) {
+        if (value.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,37 @@
+package com.catcheat.api.store.geocode;
+
+import java.util.StringJoiner;
+
+/**
+ *  KoreanAddressParser 가 주소 문자열에서 읽어낸 구성 요소 (찾지 못한 값은 null)
+ *
+ * @param province       시/도 (정식 명칭, 예: 서울특별시)
+ * @param city           시/군/구 (일반구가 있는 시는 "성남시 분당구" 처럼 함께)
+ * @param district       읍/면/동
+ * @param road           도로명 (예: 테헤란로, 봉은사로86길)
+ * @param buildingNumber 건물 번호 (예: 152, 12-3)
+ * @param lotNumber      지번 (예: 823, 산 12-1, 리가 있으면 "청평리 123")
+ */
+public record ParsedAddress(String province, String city, String district,
+                            String road, String buildingNumber, String lotNumber) {
+
+    /** 도로명 주소 (도로명과 건물 번호가 모두 있을 때만) */
+    public String roadAddress() {
+        return road == null || buildingNumber == null ? null : join(province, city, road, buildingNumber);
+    }
+
+    /** 지번 주소 (읍/면/동과 지번이 모두 있을 때만) */
+    public String lotAddress() {
+        return district == null || lotNumber == null ? null : join(province, city, district, lotNumber);
+    }
+
+    private static String join(String... parts) {
+        StringJoiner joiner = new StringJoiner(" ");
+        for (String part : parts) {
+            if (part != null) {
+                joiner.add(part);
+            }
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,46 @@
+package com.catcheat.api.store.geocode;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *  주소 정규화/좌표 API (외부 지오코딩 서비스 없이 메모리의 좌표 데이터로 처리)
+ *
+ *  GET  /api/stores/geocode?address=...  → 주소 한 건 분석 결과 (저장하지 않음)
+ *  POST /api/stores/geocode/backfill     → 좌표가 비어 있는 기존 매장 일괄 보정 (끝날 때까지 대기, 실행 중이면 409,
+ *                                          catcheat.store.geocode.enabled=false 면 빈 결과)
+ */
+@RestController
+@RequestMapping("/api/stores/geocode")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StoreGeocodeController {
+
+    private final StoreGeocodeService storeGeocodeService;
+
+    public StoreGeocodeController(StoreGeocodeService storeGeocodeService) {
+        this.storeGeocodeService = storeGeocodeService;
+    }
+
+    @GetMapping
+    public GeocodeResult geocode(@RequestParam String address) {
+        return storeGeocodeService.geocode(address);
+    }
+
+    @PostMapping("/backfill")
+    public GeocodeBackfillResultDto backfill() {
+        return storeGeocodeService.backfill();
+    }
+
+    // 이미 backfill 이 실행 중이면 409 Conflict (다른 IllegalStateException 은 그대로 500)
+    @ExceptionHandler(GeocodeBackfillRunningException.class)
+    public ResponseEntity<Void> onAlreadyRunning() {
+        return ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+}
@@ -0,0 +1,6 @@
+package com.catcheat.api.store.geocode;
+
+public interface StoreGeocodeService {
+    GeocodeResult geocode(String address);
+    GeocodeBackfillResultDto backfill();
+}
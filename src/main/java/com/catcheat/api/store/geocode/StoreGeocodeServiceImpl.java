@@ -0,0 +1,131 @@
+package com.catcheat.api.store.geocode;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.StoreJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ *  좌표가 비어 있는 기존 매장의 좌표/지역 backfill
+ *
+ *  [조회] 좌표가 없는 매장을 id 순으로 BATCH_SIZE 개씩 (키셋, 읽기 트랜잭션 없이 한 문장)
+ *     ↓
+ *  [지오코딩] 전용 ForkJoinPool(threads)에서 병렬 처리 (메모리 조회만 하므로 CPU 코어 수만큼)
+ *     ↓  min-precision 미만이면 건너뜀
+ *  [저장] 배치마다 하나의 트랜잭션: UPDATE ... FROM (VALUES ...) RETURNING 1회 → 커밋 후 인덱스/캐시 반영용 이벤트
+ *
+ *  - 같은 인스턴스에서 동시에 두 번 실행되지 않도록 막음 (이미 실행 중이면 GeocodeBackfillRunningException)
+ *  - catcheat.store.geocode.enabled=false 면 매장 생성과 마찬가지로 아무것도 채우지 않음 (조회 없이 빈 결과)
+ */
+@Slf4j
+@Service
+public class StoreGeocodeServiceImpl implements StoreGeocodeService {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final StoreGeocoder geocoder;
+    private final StoreJdbcRepository storeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int threads;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StoreGeocodeServiceImpl(StoreGeocoder geocoder,
+                                   StoreJdbcRepository storeJdbcRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${catcheat.store.geocode.backfill-threads:0}") int threads) {
+        this.geocoder = geocoder;
+        this.storeJdbcRepository = storeJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public GeocodeResult geocode(String address) {
+        if (address == null || address.isBlank()) {
+            throw new IllegalArgumentException("Address must not be blank");
+        }
+        return geocoder.geocode(address);
+    }
+
+    @Override
+    public GeocodeBackfillResultDto backfill() {
+        if (!geocoder.isEnabled()) {
+            log.info("Geocode backfill skipped: catcheat.store.geocode.enabled=false");
+            return new GeocodeBackfillResultDto(0, 0, 0, 0, 0);
+        }
+        if (!running.compareAndSet(false, true)) {
+            throw new GeocodeBackfillRunningException();
+        }
+        long start = System.nanoTime();
+        int scanned = 0;
+        int updated = 0;
+        int unresolved = 0;
+        try (ForkJoinPool pool = new ForkJoinPool(threads)) {
+            long afterId = 0;
+            while (true) {
+                List<Store> stores = storeJdbcRepository.findWithoutCoordinates(afterId, BATCH_SIZE);
+                if (stores.isEmpty()) {
+                    break;
+                }
+                afterId = stores.get(stores.size() - 1).getId();
+                scanned += stores.size();
+
+                List<Store> resolved = pool.submit(() -> stores.parallelStream()
+                        .map(this::resolve)
+                        .filter(Objects::nonNull)
+                        .toList()).join();
+                unresolved += stores.size() - resolved.size();
+
+                if (!resolved.isEmpty()) {
+                    List<Store> saved = transactionTemplate.execute(status -> {
+                        List<Store> rows = storeJdbcRepository.fillGeocode(resolved);
+                        rows.forEach(store -> eventPublisher.publishEvent(StoreChangedEvent.updated(store)));
+                        return rows;
+                    });
+                    updated += saved == null ? 0 : saved.size();
+                }
+                if (stores.size() < BATCH_SIZE) {
+                    break;
+                }
+            }
+        } finally {
+            running.set(false);
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        double rowsPerSecond = elapsedNanos == 0 ? 0 : scanned * 1_000_000_000.0 / elapsedNanos;
+        log.info("Geocode backfill finished: scanned={}, updated={}, unresolved={}, {} rows/sec",
+                scanned, updated, unresolved, Math.round(rowsPerSecond));
+        return new GeocodeBackfillResultDto(scanned, updated, unresolved, elapsedNanos / 1_000_000, rowsPerSecond);
+    }
+
+    // 채울 값만 담은 매장 (좌표를 충분히 세밀하게 찾지 못하면 null)
+    private Store resolve(Store store) {
+        GeocodeResult result = geocoder.geocode(store.getAddress(), store.getRoadAddress(), store.getLotAddress());
+        if (!geocoder.isPrecise(result)) {
+            return null;
+        }
+        return Store.builder()
+                .id(store.getId())
+                .province(result.province())
+                .city(result.city())
+                .district(result.district())
+                .roadAddress(result.roadAddress())
+                .lotAddress(result.lotAddress())
+                .latitude(result.latitude())
+                .longitude(result.longitude())
+                .build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.catcheat.api.store.geocode;
+
+import com.catcheat.api.store.StoreRequestDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+/**
+ *  주소 문자열 → 행정구역 + 좌표 (KoreanAddressParser + AddressCentroidIndex, 외부 호출 없음)
+ *
+ *  - 매장 생성/대량 등록 시 fill() 로 비어 있는 지역/좌표 값만 채움 (클라이언트가 보낸 값은 덮어쓰지 않음)
+ *  - 좌표는 min-precision 이상으로 찾았을 때만 채움 (기본 district: 시/군/구 중심점은 근처 검색에 쓰기엔 너무 거침)
+ *  - 좌표 데이터는 기동 시 한 번 적재 (catcheat.store.geocode.dataset, 기본값은 번들된 샘플 데이터)
+ */
+@Slf4j
+@Component
+public class StoreGeocoder {
+
+    private final AddressCentroidIndex index;
+    private final AddressCentroidIndex.Precision minPrecision;
+    private final boolean enabled;
+
+    public StoreGeocoder(@Value("${catcheat.store.geocode.dataset:classpath:geo/address-centroids.csv}") Resource dataset,
+                         @Value("${catcheat.store.geocode.min-precision:district}") String minPrecision,
+                         @Value("${catcheat.store.geocode.enabled:true}") boolean enabled) throws IOException {
+        long start = System.nanoTime();
+        try (Reader reader = new InputStreamReader(dataset.getInputStream(), StandardCharsets.UTF_8)) {
+            this.index = AddressCentroidIndex.load(reader);
+        }
+        this.minPrecision = AddressCentroidIndex.Precision.valueOf(minPrecision.trim().toUpperCase(Locale.ROOT));
+        this.enabled = enabled;
+        log.info("Address centroids loaded: {} entries from {}, {} ms", index.size(), dataset.getDescription(),
+                (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /** false 면 새 매장에도 기존 매장(backfill)에도 값을 채우지 않음 (주소 분석 API 는 그대로 동작) */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public AddressCentroidIndex.Precision getMinPrecision() {
+        return minPrecision;
+    }
+
+    /**
+     * 주소 후보(전체 주소, 도로명 주소, 지번 주소 순) 중 가장 세밀하게 찾은 결과
+     * 어느 후보로도 좌표를 찾지 못하면 첫 번째 후보를 분석한 결과만 (좌표 null)
+     */
+    public GeocodeResult geocode(String... addresses) {
+        GeocodeResult best = null;
+        for (String address : addresses) {
+            if (address == null || address.isBlank()) {
+                continue;
+            }
+            GeocodeResult result = geocodeOne(address);
+            if (best == null || result.precision() != null
+                    && (best.precision() == null || result.precision().compareTo(best.precision()) > 0)) {
+                best = result;
+            }
+            if (result.precision() == AddressCentroidIndex.Precision.ROAD) {
+                break;
+            }
+        }
+        return best != null ? best : new GeocodeResult(null, null, null, null, null, null, null, null);
+    }
+
+    /** 좌표가 min-precision 이상인지 (좌표를 저장해도 되는지) */
+    public boolean isPrecise(GeocodeResult result) {
+        return result.atLeast(minPrecision);
+    }
+
+    /**
+     * 요청의 비어 있는 지역/주소/좌표만 채움
+     *
+     * @return 하나라도 채웠으면 true
+     */
+    public boolean fill(StoreRequestDto request) {
+        boolean needsCoordinates = request.getLatitude() == null && request.getLongitude() == null;
+        boolean needsRegion = request.getProvince() == null || request.getCity() == null || request.getDistrict() == null;
+        if (!enabled || !needsCoordinates && !needsRegion) {
+            return false;
+        }
+        GeocodeResult result = geocode(request.getAddress(), request.getRoadAddress(), request.getLotAddress());
+        if (result.precision() == null) {
+            return false;
+        }
+        if (request.getProvince() == null) {
+            request.setProvince(result.province());
+        }
+        if (request.getCity() == null) {
+            request.setCity(result.city());
+        }
+        if (request.getDistrict() == null) {
+            request.setDistrict(result.district());
+        }
+        if (request.getRoadAddress() == null) {
+            request.setRoadAddress(result.roadAddress());
+        }
+        if (request.getLotAddress() == null) {
+            request.setLotAddress(result.lotAddress());
+        }
+        if (needsCoordinates && isPrecise(result)) {
+            request.setLatitude(result.latitude());
+            request.setLongitude(result.longitude());
+        }
+        return true;
+    }
+
+    private GeocodeResult geocodeOne(String address) {
+        ParsedAddress parsed = KoreanAddressParser.parse(address);
+        AddressCentroidIndex.Location location = index.locate(parsed);
+        if (location == null) {
+            return new GeocodeResult(parsed.province(), parsed.city(), parsed.district(),
+                    parsed.roadAddress(), parsed.lotAddress(), null, null, null);
+        }
+        // 좌표 데이터에서 찾은 이름(빠진 시/도 포함)으로 주소를 다시 조립
+        ParsedAddress normalized = new ParsedAddress(
+                location.province() != null ? location.province() : parsed.province(),
+                location.city() != null ? location.city() : parsed.city(),
+                location.district() != null ? location.district() : parsed.district(),
+                parsed.road(), parsed.buildingNumber(), parsed.lotNumber());
+        return new GeocodeResult(normalized.province(), normalized.city(), normalized.district(),
+                normalized.roadAddress(), normalized.lotAddress(),
+                location.latitude(), location.longitude(), location.precision());
+    }
+}
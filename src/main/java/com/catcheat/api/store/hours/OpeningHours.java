@@ -0,0 +1,169 @@
+package com.catcheat.api.store.hours;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  매장 한 곳의 영업시간을 분 단위 구간 배열로 미리 변환해 둔 일정
+ *
+ *  - 요일별 영업시간(Weekly): 닫는 시각이 여는 시각보다 이르거나 같으면 다음 날까지 (예: 18:00 ~ 02:00, 00:00 ~ 00:00 은 24시간)
+ *  - 특정 날짜 예외(Holiday): 그 날짜(00:00 ~ 24:00)의 영업시간을 통째로 대체
+ *    open/close 가 없으면 하루 종일 휴무, 닫는 시각이 여는 시각보다 이르면 자정까지만 (다음 날로 넘어가지 않음)
+ *    전날 요일 영업시간이 자정을 넘기더라도 예외 날짜에는 자정에 끝남
+ *  - 하루의 영업 구간은 [시작 분, 끝 분) 쌍을 시작 순으로 정렬/병합한 int 배열 → 조회 시 객체 생성 없이 비교만 함
+ */
+public final class OpeningHours {
+
+    /** 요일별 영업시간 한 구간 */
+    public record Weekly(DayOfWeek day, LocalTime open, LocalTime close) {
+    }
+
+    /** 날짜별 예외 (open/close 가 null 이면 휴무) */
+    public record Holiday(LocalDate date, LocalTime open, LocalTime close) {
+    }
+
+    static final int MINUTES_PER_DAY = 24 * 60;
+    static final int HORIZON_DAYS = 8;             // 다음 변경 시각을 찾는 최대 범위 (요일 일정 한 바퀴 + 하루)
+    private static final int[] CLOSED = new int[0];
+
+    private final int[][] weekly = new int[7][];   // [요일 0(월) ~ 6(일)] → [시작, 끝, 시작, 끝 ...] (끝은 다음 날로 넘어갈 수 있음)
+    private final Map<LocalDate, int[]> holidays = new HashMap<>();
+
+    private OpeningHours() {
+    }
+
+    /**
+     * 영업시간 정의를 구간 배열로 변환
+     *
+     * @throws IllegalArgumentException 요일/날짜/시각이 빠졌거나, 예외 날짜가 중복된 경우
+     */
+    public static OpeningHours of(List<Weekly> weekly, List<Holiday> holidays) {
+        OpeningHours hours = new OpeningHours();
+
+        List<List<int[]>> byDay = new ArrayList<>(7);
+        for (int i = 0; i < 7; i++) {
+            byDay.add(new ArrayList<>());
+        }
+        for (Weekly entry : weekly) {
+            if (entry == null || entry.day() == null || entry.open() == null || entry.close() == null) {
+                throw new IllegalArgumentException("Weekly hours need day, open and close: " + entry);
+            }
+            int open = minuteOf(entry.open());
+            int close = minuteOf(entry.close());
+            byDay.get(entry.day().getValue() - 1).add(new int[]{open, close > open ? close : close + MINUTES_PER_DAY});
+        }
+        for (int i = 0; i < 7; i++) {
+            hours.weekly[i] = merge(byDay.get(i));
+        }
+
+        for (Holiday holiday : holidays) {
+            if (holiday == null || holiday.date() == null || (holiday.open() == null) != (holiday.close() == null)) {
+                throw new IllegalArgumentException("Holiday needs a date and both or neither of open/close: " + holiday);
+            }
+            int[] segments = CLOSED;
+            if (holiday.open() != null) {
+                int open = minuteOf(holiday.open());
+                int close = minuteOf(holiday.close());
+                segments = new int[]{open, close > open ? close : MINUTES_PER_DAY};
+            }
+            if (hours.holidays.put(holiday.date(), segments) != null) {
+                throw new IllegalArgumentException("Duplicate holiday: " + holiday.date());
+            }
+        }
+        return hours;
+    }
+
+    public boolean isOpenAt(LocalDateTime time) {
+        return contains(segments(time.toLocalDate()), minuteOf(time.toLocalTime()));
+    }
+
+    /**
+     * time 이후 처음으로 영업 상태가 바뀌는 시각 (분 단위)
+     *
+     * @return HORIZON_DAYS 안에 바뀌는 시각이 없으면 null (24시간 영업, 영업시간 없음 등)
+     */
+    public LocalDateTime nextChange(LocalDateTime time) {
+        boolean open = isOpenAt(time);
+        int now = minuteOf(time.toLocalTime());
+        for (int day = 0; day <= HORIZON_DAYS; day++) {
+            LocalDate date = time.toLocalDate().plusDays(day);
+            int[] segments = segments(date);
+            // 후보: 자정 + 각 구간의 시작/끝 (오름차순), 실제로 상태가 달라지는 첫 후보가 답
+            for (int i = -1; i < segments.length; i++) {
+                int candidate = i < 0 ? 0 : segments[i];
+                if (candidate >= MINUTES_PER_DAY || (day == 0 && candidate <= now)) {
+                    continue;
+                }
+                if (contains(segments, candidate) != open) {
+                    return date.atStartOfDay().plusMinutes(candidate);
+                }
+            }
+        }
+        return null;
+    }
+
+    // date 하루(00:00 ~ 24:00)의 영업 구간 (전날 요일 일정에서 넘어온 구간 포함)
+    int[] segments(LocalDate date) {
+        int[] holiday = holidays.get(date);
+        if (holiday != null) {
+            return holiday;
+        }
+        int[] today = weekly[date.getDayOfWeek().getValue() - 1];
+        int[] yesterday = holidays.containsKey(date.minusDays(1))
+                ? CLOSED
+                : weekly[date.minusDays(1).getDayOfWeek().getValue() - 1];
+
+        List<int[]> segments = new ArrayList<>();
+        for (int i = 0; i < yesterday.length; i += 2) {
+            if (yesterday[i + 1] > MINUTES_PER_DAY) {
+                segments.add(new int[]{0, yesterday[i + 1] - MINUTES_PER_DAY});
+            }
+        }
+        for (int i = 0; i < today.length; i += 2) {
+            segments.add(new int[]{today[i], Math.min(today[i + 1], MINUTES_PER_DAY)});
+        }
+        return merge(segments);
+    }
+
+    private static boolean contains(int[] segments, int minute) {
+        for (int i = 0; i < segments.length; i += 2) {
+            if (minute < segments[i]) {
+                return false;
+            }
+            if (minute < segments[i + 1]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 시작 순 정렬 후 겹치거나 맞닿은 구간을 합쳐서 [시작, 끝, ...] 배열로
+    private static int[] merge(List<int[]> segments) {
+        if (segments.isEmpty()) {
+            return CLOSED;
+        }
+        segments.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] merged = new int[segments.size() * 2];
+        int size = 0;
+        for (int[] segment : segments) {
+            if (size > 0 && segment[0] <= merged[size - 1]) {
+                merged[size - 1] = Math.max(merged[size - 1], segment[1]);
+            } else {
+                merged[size++] = segment[0];
+                merged[size++] = segment[1];
+            }
+        }
+        return Arrays.copyOf(merged, size);
+    }
+
+    private static int minuteOf(LocalTime time) {
+        return time.getHour() * 60 + time.getMinute();
+    }
+}
@@ -0,0 +1,202 @@
+package com.catcheat.api.store.hours;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ *  매장별 "지금 영업 중" 여부를 메모리에 들고 있는 인덱스
+ *
+ *  - 영업시간(OpeningHours)이 등록된 매장: 다음 상태 변경 시각 순으로 정렬된 우선순위 큐에 한 건씩 보관
+ *    advance(now) 는 변경 시각이 지난 매장만 꺼내서 상태를 뒤집고 다음 변경 시각으로 다시 넣음 → 전체 매장을 다시 훑지 않음
+ *  - 영업시간이 없는 매장: 기존처럼 store.opened 값(수동 설정)을 그대로 사용 (StoreIndex 로 동기화)
+ *  - 조회(isOpen, storeIds)는 잠금 없이 동시 컬렉션만 읽음, 변경(setHours, advance)은 이 객체로 동기화
+ *  - 영업시간은 매장 시간대(zone)의 현지 시각 기준
+ *  - clear() 는 수동 opened 값만 비움 (영업시간은 replaceAll 로 따로 다시 적재)
+ *  - 영업시간 때문에 영업 상태가 바뀔 수 있을 때마다 statusVersion 증가 → 목록 캐시/ETag 가 상태 변경을 알아챔
+ *    (수동 opened 변경은 매장 수정이므로 목록 쪽에서 따로 무효화됨)
+ */
+@Component
+public class OpeningHoursIndex implements StoreIndex {
+
+    private final ZoneId zone;
+    private final Map<Long, Boolean> manual = new ConcurrentHashMap<>();       // storeId → store.opened
+    private final Map<Long, Schedule> schedules = new ConcurrentHashMap<>();   // 영업시간이 등록된 매장
+    private final Set<Long> scheduledOpen = ConcurrentHashMap.newKeySet();     // 그중 지금 영업 중인 매장
+    private final PriorityQueue<Transition> transitions =
+            new PriorityQueue<>(Comparator.comparingLong(Transition::epochSecond));
+    private volatile long statusVersion;                                       // 변경은 이 객체로 동기화
+
+    /** advance() 결과 한 건: 상태가 바뀐 매장과 바뀐 뒤 상태 */
+    public record Change(long storeId, boolean open) {
+    }
+
+    private static final class Schedule {
+        final OpeningHours hours;
+        long nextChange = Long.MAX_VALUE;           // epoch 초, 변경 예정이 없으면 MAX_VALUE
+
+        Schedule(OpeningHours hours) {
+            this.hours = hours;
+        }
+    }
+
+    // 큐 항목: 매장 일정이 교체되었거나 시각이 달라졌으면 꺼낼 때 버림
+    private record Transition(long epochSecond, long storeId, Schedule schedule) {
+    }
+
+    public OpeningHoursIndex(@Value("${catcheat.store.hours.zone:Asia/Seoul}") ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store != null && store.getId() != null) {
+            manual.put(store.getId(), store.isOpened());
+        }
+    }
+
+    @Override
+    public synchronized void remove(Long storeId) {
+        if (storeId != null) {
+            manual.remove(storeId);
+            if (schedules.remove(storeId) != null) {
+                statusVersion++;
+            }
+            scheduledOpen.remove(storeId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        manual.clear();
+    }
+
+    /**
+     * 매장 영업시간 등록/교체 (hours 가 null 이면 해제 → 수동 opened 값으로 돌아감)
+     */
+    public synchronized void setHours(long storeId, OpeningHours hours, Instant now) {
+        statusVersion++;
+        if (hours == null) {
+            schedules.remove(storeId);
+            scheduledOpen.remove(storeId);
+            return;
+        }
+        Schedule schedule = new Schedule(hours);
+        schedules.put(storeId, schedule);
+        refresh(storeId, schedule, now);
+    }
+
+    /** 전체 영업시간 교체 (기동 시 적재) */
+    public synchronized void replaceAll(Map<Long, OpeningHours> hoursByStore, Instant now) {
+        schedules.clear();
+        scheduledOpen.clear();
+        transitions.clear();
+        statusVersion++;
+        hoursByStore.forEach((storeId, hours) -> setHours(storeId, hours, now));
+    }
+
+    /**
+     * 변경 시각이 now 이전인 매장만 상태를 다시 계산
+     *
+     * @return 실제로 영업 상태가 바뀐 매장 목록
+     */
+    public synchronized List<Change> advance(Instant now) {
+        List<Change> changes = new ArrayList<>();
+        long nowSecond = now.getEpochSecond();
+        while (!transitions.isEmpty() && transitions.peek().epochSecond() <= nowSecond) {
+            Transition transition = transitions.poll();
+            Schedule schedule = transition.schedule();
+            if (schedules.get(transition.storeId()) != schedule || schedule.nextChange != transition.epochSecond()) {
+                continue;
+            }
+            boolean wasOpen = scheduledOpen.contains(transition.storeId());
+            boolean open = refresh(transition.storeId(), schedule, now);
+            if (open != wasOpen) {
+                changes.add(new Change(transition.storeId(), open));
+            }
+        }
+        if (!changes.isEmpty()) {
+            statusVersion++;
+        }
+        return changes;
+    }
+
+    /** 영업시간 기준 영업 상태가 바뀌었을 수 있으면 달라지는 값 (같으면 그 사이 바뀐 매장 없음) */
+    public long statusVersion() {
+        return statusVersion;
+    }
+
+    /** 지금 영업 중인지 (영업시간이 없으면 manualOpened) */
+    public boolean isOpen(long storeId, boolean manualOpened) {
+        return schedules.containsKey(storeId) ? scheduledOpen.contains(storeId) : manualOpened;
+    }
+
+    /** 지금 영업 중인지 (영업시간이 없으면 마지막으로 동기화된 store.opened) */
+    public boolean isOpen(long storeId) {
+        return isOpen(storeId, Boolean.TRUE.equals(manual.get(storeId)));
+    }
+
+    public boolean hasHours(long storeId) {
+        return schedules.containsKey(storeId);
+    }
+
+    /** 지금 영업 중(open=true) 또는 영업 종료(open=false)인 매장 id (오름차순) */
+    public List<Long> storeIds(boolean open) {
+        List<Long> ids = new ArrayList<>();
+        manual.forEach((storeId, opened) -> {
+            if (isOpen(storeId, opened) == open) {
+                ids.add(storeId);
+            }
+        });
+        ids.sort(null);
+        return ids;
+    }
+
+    public int openCount() {
+        int count = scheduledOpen.size();
+        for (Map.Entry<Long, Boolean> entry : manual.entrySet()) {
+            if (entry.getValue() && !schedules.containsKey(entry.getKey())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int scheduledCount() {
+        return schedules.size();
+    }
+
+    // now 기준 상태를 반영하고 다음 변경 시각을 큐에 넣음 → 현재 상태 반환
+    private boolean refresh(long storeId, Schedule schedule, Instant now) {
+        LocalDateTime local = LocalDateTime.ofInstant(now, zone);
+        boolean open = schedule.hours.isOpenAt(local);
+        if (open) {
+            scheduledOpen.add(storeId);
+        } else {
+            scheduledOpen.remove(storeId);
+        }
+
+        LocalDateTime next = schedule.hours.nextChange(local);
+        // 범위 안에 변경이 없어도(먼 미래의 예외 날짜 등) 그 범위 끝에서 한 번 더 확인
+        LocalDateTime recheck = next != null ? next : local.toLocalDate().plusDays(OpeningHours.HORIZON_DAYS).atStartOfDay();
+        schedule.nextChange = recheck.atZone(zone).toEpochSecond();
+        transitions.add(new Transition(schedule.nextChange, storeId, schedule));
+        return open;
+    }
+}
@@ -0,0 +1,103 @@
+package com.catcheat.api.store.hours;
+
+import com.catcheat.api.store.stream.StoreChangeBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ *  OpeningHoursIndex 를 적재하고 시간에 맞춰 진행시키는 컴포넌트
+ *
+ *  1. 기동 완료 시 영업시간 테이블을 한 번 읽어 전체 일정 적재
+ *  2. tick 마다 advance() → 변경 시각이 지난 매장만 상태를 뒤집음 (전체 매장 재계산 없음, DB 쓰기 없음)
+ *  3. 영업시간이 교체되면(커밋 후) 해당 매장 일정만 교체
+ *     다른 인스턴스에서 교체된 경우(RemoteStoreHoursChangedEvent)는 그 매장 일정만 DB 에서 다시 읽음
+ *  상태가 바뀐 매장은 SSE 구독자(StoreChangeBroadcaster)에게도 전달
+ *
+ *  메트릭: store.hours.open(지금 영업 중인 매장 수), store.hours.scheduled, store.hours.transitions
+ */
+@Slf4j
+@Component
+public class OpeningHoursScheduler {
+
+    private final OpeningHoursIndex openingHoursIndex;
+    private final StoreHoursRepository storeHoursRepository;
+    private final StoreChangeBroadcaster storeChangeBroadcaster;
+    private final Clock clock = Clock.systemUTC();
+    private final Counter transitions;
+    private final boolean loadEnabled;
+
+    public OpeningHoursScheduler(OpeningHoursIndex openingHoursIndex,
+                                 StoreHoursRepository storeHoursRepository,
+                                 StoreChangeBroadcaster storeChangeBroadcaster,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${catcheat.store.warm-up.enabled:true}") boolean loadEnabled) {
+        this.openingHoursIndex = openingHoursIndex;
+        this.storeHoursRepository = storeHoursRepository;
+        this.storeChangeBroadcaster = storeChangeBroadcaster;
+        this.transitions = meterRegistry.counter("store.hours.transitions");
+        this.loadEnabled = loadEnabled;
+        Gauge.builder("store.hours.open", openingHoursIndex, OpeningHoursIndex::openCount).register(meterRegistry);
+        Gauge.builder("store.hours.scheduled", openingHoursIndex, OpeningHoursIndex::scheduledCount).register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (!loadEnabled) {
+            log.info("Opening hours load disabled (catcheat.store.warm-up.enabled=false)");
+            return;
+        }
+        long start = System.nanoTime();
+        Instant now = clock.instant();
+        // 하루 전 예외까지 읽음 (시간대 차이로 아직 "오늘"일 수 있는 날짜 포함)
+        Map<Long, OpeningHours> hours = storeHoursRepository.findAll(
+                LocalDate.ofInstant(now, openingHoursIndex.getZone()).minusDays(1));
+        openingHoursIndex.replaceAll(hours, now);
+        log.info("Opening hours loaded: {} stores, {} ms", hours.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @Scheduled(fixedDelayString = "${catcheat.store.hours.tick:1s}")
+    public synchronized void tick() {
+        List<OpeningHoursIndex.Change> changes = openingHoursIndex.advance(clock.instant());
+        for (OpeningHoursIndex.Change change : changes) {
+            storeChangeBroadcaster.onOpenStatusChanged(change.storeId(), change.open());
+        }
+        transitions.increment(changes.size());
+    }
+
+    @TransactionalEventListener
+    public void onHoursChanged(StoreHoursChangedEvent event) {
+        setHours(event.storeId(), event.hours(), clock.instant());
+    }
+
+    // 이 인스턴스의 교체도 다시 오지만, 일정이 같으면 영업 상태가 그대로라 이벤트를 보내지 않음
+    @EventListener
+    public void onRemoteHoursChanged(RemoteStoreHoursChangedEvent event) {
+        Instant now = clock.instant();
+        OpeningHours hours = storeHoursRepository.findOpeningHours(event.storeId(),
+                LocalDate.ofInstant(now, openingHoursIndex.getZone()).minusDays(1));
+        setHours(event.storeId(), hours, now);
+    }
+
+    private synchronized void setHours(long storeId, OpeningHours hours, Instant now) {
+        boolean wasOpen = openingHoursIndex.isOpen(storeId);
+        openingHoursIndex.setHours(storeId, hours, now);
+        boolean open = openingHoursIndex.isOpen(storeId);
+        if (open != wasOpen) {
+            storeChangeBroadcaster.onOpenStatusChanged(storeId, open);
+        }
+    }
+}
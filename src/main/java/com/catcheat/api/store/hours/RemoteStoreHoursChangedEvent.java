@@ -0,0 +1,8 @@
+package com.catcheat.api.store.hours;
+
+/**
+ *  다른 인스턴스에서 매장 영업시간이 교체됨 (StoreIndexSynchronizer 가 store_change 의 H 기록을 보고 트랜잭션 밖에서 발행)
+ *  일정은 담지 않음 → OpeningHoursScheduler 가 해당 매장 일정만 다시 읽음
+ */
+public record RemoteStoreHoursChangedEvent(long storeId) {
+}
@@ -0,0 +1,8 @@
+package com.catcheat.api.store.hours;
+
+/**
+ *  매장 영업시간이 교체되면 StoreHoursServiceImpl 이 발행하는 이벤트
+ *  커밋된 뒤(AFTER_COMMIT) OpeningHoursScheduler 가 받아 OpeningHoursIndex 에 반영 (hours 가 null 이면 해제)
+ */
+public record StoreHoursChangedEvent(long storeId, OpeningHours hours) {
+}
@@ -0,0 +1,37 @@
+package com.catcheat.api.store.hours;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ *  매장 영업시간 API
+ *
+ *  GET /api/stores/{id}/hours  → 요일별 영업시간 + 예외 날짜
+ *  PUT /api/stores/{id}/hours  → 전체 교체 (빈 목록이면 해제), 영업 여부는 요청 시각에 메모리에서 계산됨
+ */
+@RestController
+@RequestMapping("/api/stores/{id}/hours")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StoreHoursController {
+
+    private final StoreHoursService storeHoursService;
+
+    public StoreHoursController(StoreHoursService storeHoursService) {
+        this.storeHoursService = storeHoursService;
+    }
+
+    @GetMapping
+    public StoreHoursDto get(@PathVariable Long id) {
+        return storeHoursService.get(id);
+    }
+
+    @PutMapping
+    public StoreHoursDto replace(@PathVariable Long id, @RequestBody StoreHoursDto hours) {
+        return storeHoursService.replace(id, hours);
+    }
+}
@@ -0,0 +1,28 @@
+package com.catcheat.api.store.hours;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ *  매장 영업시간 요청/응답 (PUT, GET /api/stores/{id}/hours)
+ *  예) {"weekly":[{"day":"MONDAY","open":"09:00","close":"22:00"},{"day":"FRIDAY","open":"18:00","close":"02:00"}],
+ *       "holidays":[{"date":"2026-01-01"},{"date":"2026-12-24","open":"10:00","close":"15:00"}]}
+ *  weekly 가 비어 있고 holidays 도 비어 있으면 영업시간 해제 (store.opened 수동 설정으로 돌아감)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class StoreHoursDto {
+    private List<OpeningHours.Weekly> weekly = new ArrayList<>();
+    private List<OpeningHours.Holiday> holidays = new ArrayList<>();
+
+    public boolean isEmpty() {
+        return (weekly == null || weekly.isEmpty()) && (holidays == null || holidays.isEmpty());
+    }
+}
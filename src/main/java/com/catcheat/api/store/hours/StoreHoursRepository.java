@@ -0,0 +1,111 @@
+package com.catcheat.api.store.hours;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ *  store_opening_hours / store_holiday 테이블 저장소 (JdbcTemplate)
+ *  - 교체는 매장 단위로 전부 지우고 다시 넣음 (매장당 행 수가 적어서 비교/부분 수정보다 단순)
+ *  - 교체할 때 store_change 에 H 한 행을 남김 → 다른 인스턴스가 변경 기록을 따라가다 해당 매장 일정만 다시 읽음
+ *  - 기동 시 전체 적재는 테이블마다 한 번씩만 조회, 지난 예외 날짜는 읽지 않음
+ */
+@Repository
+public class StoreHoursRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StoreHoursRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public StoreHoursDto findByStoreId(long storeId) {
+        List<OpeningHours.Weekly> weekly = jdbcTemplate.query(
+                "SELECT day_of_week, open_time, close_time FROM store_opening_hours"
+                        + " WHERE store_id = ? ORDER BY day_of_week, open_time",
+                (rs, rowNum) -> new OpeningHours.Weekly(DayOfWeek.of(rs.getInt("day_of_week")),
+                        toLocalTime(rs.getTime("open_time")), toLocalTime(rs.getTime("close_time"))),
+                storeId);
+        List<OpeningHours.Holiday> holidays = jdbcTemplate.query(
+                "SELECT holiday, open_time, close_time FROM store_holiday WHERE store_id = ? ORDER BY holiday",
+                (rs, rowNum) -> new OpeningHours.Holiday(rs.getDate("holiday").toLocalDate(),
+                        toLocalTime(rs.getTime("open_time")), toLocalTime(rs.getTime("close_time"))),
+                storeId);
+        return new StoreHoursDto(weekly, holidays);
+    }
+
+    /** 영업시간이 등록된 모든 매장의 일정 (since 이전 예외 날짜는 제외) */
+    public Map<Long, OpeningHours> findAll(LocalDate since) {
+        Map<Long, List<OpeningHours.Weekly>> weekly = new HashMap<>();
+        jdbcTemplate.query("SELECT store_id, day_of_week, open_time, close_time FROM store_opening_hours", rs -> {
+            weekly.computeIfAbsent(rs.getLong("store_id"), id -> new ArrayList<>())
+                    .add(new OpeningHours.Weekly(DayOfWeek.of(rs.getInt("day_of_week")),
+                            toLocalTime(rs.getTime("open_time")), toLocalTime(rs.getTime("close_time"))));
+        });
+        Map<Long, List<OpeningHours.Holiday>> holidays = new HashMap<>();
+        jdbcTemplate.query("SELECT store_id, holiday, open_time, close_time FROM store_holiday WHERE holiday >= ?", rs -> {
+            holidays.computeIfAbsent(rs.getLong("store_id"), id -> new ArrayList<>())
+                    .add(new OpeningHours.Holiday(rs.getDate("holiday").toLocalDate(),
+                            toLocalTime(rs.getTime("open_time")), toLocalTime(rs.getTime("close_time"))));
+        }, Date.valueOf(since));
+
+        Set<Long> storeIds = new HashSet<>(weekly.keySet());
+        storeIds.addAll(holidays.keySet());
+        Map<Long, OpeningHours> result = new HashMap<>(storeIds.size() * 2);
+        for (Long storeId : storeIds) {
+            result.put(storeId, OpeningHours.of(weekly.getOrDefault(storeId, List.of()),
+                    holidays.getOrDefault(storeId, List.of())));
+        }
+        return result;
+    }
+
+    // 호출하는 쪽의 트랜잭션 안에서 실행
+    public void replace(long storeId, StoreHoursDto hours) {
+        jdbcTemplate.update("DELETE FROM store_opening_hours WHERE store_id = ?", storeId);
+        jdbcTemplate.update("DELETE FROM store_holiday WHERE store_id = ?", storeId);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO store_opening_hours (store_id, day_of_week, open_time, close_time) VALUES (?, ?, ?, ?)",
+                hours.getWeekly(), hours.getWeekly().size(), (ps, weekly) -> {
+                    ps.setLong(1, storeId);
+                    ps.setInt(2, weekly.day().getValue());
+                    ps.setTime(3, Time.valueOf(weekly.open()));
+                    ps.setTime(4, Time.valueOf(weekly.close()));
+                });
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO store_holiday (store_id, holiday, open_time, close_time) VALUES (?, ?, ?, ?)",
+                hours.getHolidays(), hours.getHolidays().size(), (ps, holiday) -> {
+                    ps.setLong(1, storeId);
+                    ps.setDate(2, Date.valueOf(holiday.date()));
+                    ps.setTime(3, holiday.open() == null ? null : Time.valueOf(holiday.open()));
+                    ps.setTime(4, holiday.close() == null ? null : Time.valueOf(holiday.close()));
+                });
+        jdbcTemplate.update("INSERT INTO store_change (store_id, op) VALUES (?, 'H')", storeId);
+    }
+
+    /** 한 매장의 일정 (영업시간이 없으면 null) */
+    public OpeningHours findOpeningHours(long storeId, LocalDate since) {
+        StoreHoursDto hours = findByStoreId(storeId);
+        List<OpeningHours.Holiday> holidays = hours.getHolidays().stream()
+                .filter(holiday -> !holiday.date().isBefore(since))
+                .toList();
+        if (hours.getWeekly().isEmpty() && holidays.isEmpty()) {
+            return null;
+        }
+        return OpeningHours.of(hours.getWeekly(), holidays);
+    }
+
+    private static LocalTime toLocalTime(Time time) {
+        return time == null ? null : time.toLocalTime();
+    }
+}
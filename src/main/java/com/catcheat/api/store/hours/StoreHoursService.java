@@ -0,0 +1,6 @@
+package com.catcheat.api.store.hours;
+
+public interface StoreHoursService {
+    StoreHoursDto get(Long storeId);
+    StoreHoursDto replace(Long storeId, StoreHoursDto hours);
+}
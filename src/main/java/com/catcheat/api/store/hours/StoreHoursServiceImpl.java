@@ -0,0 +1,56 @@
+package com.catcheat.api.store.hours;
+
+import com.catcheat.api.store.StoreNotFoundException;
+import com.catcheat.api.store.StoreRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+
+@Service
+@Transactional
+public class StoreHoursServiceImpl implements StoreHoursService {
+
+    private final StoreHoursRepository storeHoursRepository;
+    private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public StoreHoursServiceImpl(StoreHoursRepository storeHoursRepository,
+                                 StoreRepository storeRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.storeHoursRepository = storeHoursRepository;
+        this.storeRepository = storeRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StoreHoursDto get(Long storeId) {
+        requireStore(storeId);
+        return storeHoursRepository.findByStoreId(storeId);
+    }
+
+    /**
+     * 영업시간 전체 교체
+     * 저장 전에 OpeningHours 로 변환해서 형식을 검증하고, 커밋 후 OpeningHoursIndex 에 반영 (DB 의 opened 컬럼은 건드리지 않음)
+     */
+    @Override
+    public StoreHoursDto replace(Long storeId, StoreHoursDto hours) {
+        requireStore(storeId);
+        StoreHoursDto normalized = new StoreHoursDto(
+                hours.getWeekly() == null ? new ArrayList<>() : hours.getWeekly(),
+                hours.getHolidays() == null ? new ArrayList<>() : hours.getHolidays());
+        OpeningHours compiled = OpeningHours.of(normalized.getWeekly(), normalized.getHolidays());
+
+        storeHoursRepository.replace(storeId, normalized);
+        eventPublisher.publishEvent(new StoreHoursChangedEvent(storeId, normalized.isEmpty() ? null : compiled));
+        return normalized;
+    }
+
+    private void requireStore(Long storeId) {
+        if (!storeRepository.existsById(storeId)) {
+            throw new StoreNotFoundException(storeId);
+        }
+    }
+}
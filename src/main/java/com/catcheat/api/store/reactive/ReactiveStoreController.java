@@ -0,0 +1,85 @@
+package com.catcheat.api.store.reactive;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreNotFoundException;
+import com.catcheat.api.store.StorePageResponseDto;
+import com.catcheat.api.store.StoreResponseDto;
+import com.catcheat.api.store.hours.OpeningHoursIndex;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ *  /api/stores 읽기 전용 API 의 리액티브(WebFlux + R2DBC) 구현
+ *
+ *  - spring.main.web-application-type=reactive 로 기동하면 StoreController 대신 이 컨트롤러가 등록됨
+ *    (쓰기/검색/캐시 등 나머지 API 는 서블릿 모드 인스턴스가 담당)
+ *  - 응답 형식은 StoreController 와 같음 (StoreResponseDto / StorePageResponseDto)
+ *    opened 도 서블릿 모드처럼 요청 시각의 영업 여부 (OpeningHoursIndex, 같은 JDBC 저장소에서 적재/진행)
+ *  - 전체 목록은 Flux 로 반환 → application/json 은 JSON 배열, application/x-ndjson 은 한 줄에 한 건으로
+ *    모두 모으지 않고 써 나가며, 클라이언트가 느리게 읽으면 DB 커서에서도 그만큼 천천히 가져옴
+ */
+@RestController
+@RequestMapping("/api/stores")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStoreController {
+
+    private static final int MAX_PAGE_SIZE = 1000;
+
+    private final ReactiveStoreRepository storeRepository;
+    private final OpeningHoursIndex openingHoursIndex;
+
+    public ReactiveStoreController(ReactiveStoreRepository storeRepository, OpeningHoursIndex openingHoursIndex) {
+        this.storeRepository = storeRepository;
+        this.openingHoursIndex = openingHoursIndex;
+    }
+
+    // 매장 단건 조회
+    @GetMapping("/{id}")
+    public Mono<StoreResponseDto> get(@PathVariable Long id) {
+        return storeRepository.findById(id)
+                .map(this::toResponse)
+                .switchIfEmpty(Mono.error(() -> new StoreNotFoundException(id)));
+    }
+
+    // 매장 전체 조회 (id 순)
+    @GetMapping
+    public Flux<StoreResponseDto> getAll() {
+        return storeRepository.findAll().map(this::toResponse);
+    }
+
+    // 키셋 페이지네이션 (?afterId=100&size=50)
+    @GetMapping(params = "size")
+    public Mono<StorePageResponseDto> getPage(@RequestParam(required = false) Long afterId,
+                                              @RequestParam int size) {
+        if (size <= 0) {
+            return Mono.error(new IllegalArgumentException("Invalid page size: " + size));
+        }
+        int pageSize = Math.min(size, MAX_PAGE_SIZE);
+        long cursor = afterId == null ? 0L : afterId;
+
+        return storeRepository.findPage(cursor, pageSize + 1)
+                .map(this::toResponse)
+                .collectList()
+                .map(stores -> {
+                    boolean hasNext = stores.size() > pageSize;
+                    List<StoreResponseDto> content = hasNext ? stores.subList(0, pageSize) : stores;
+                    Long nextCursor = content.isEmpty() ? cursor : content.get(content.size() - 1).getId();
+                    return new StorePageResponseDto(content, nextCursor, hasNext);
+                });
+    }
+
+    // 영업시간이 등록된 매장은 지금 시각의 영업 여부로 (StoreServiceImpl 과 같은 기준)
+    private StoreResponseDto toResponse(Store store) {
+        StoreResponseDto dto = StoreResponseDto.from(store);
+        boolean open = openingHoursIndex.isOpen(dto.getId(), dto.isOpened());
+        return open == dto.isOpened() ? dto : dto.toBuilder().opened(open).build();
+    }
+}
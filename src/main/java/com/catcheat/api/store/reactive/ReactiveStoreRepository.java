@@ -0,0 +1,132 @@
+package com.catcheat.api.store.reactive;
+
+import com.catcheat.api.store.Store;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import io.r2dbc.spi.Statement;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
+
+/**
+ *  store 테이블을 R2DBC 로 읽는 논블로킹 저장소 (리액티브 모드 전용)
+ *
+ *  - 쿼리 결과를 기다리는 동안 스레드를 점유하지 않음 → 느린 DB 에서도 동시 요청 수가 스레드 수에 묶이지 않음
+ *  - 전체 조회는 fetchSize 단위로 커서에서 가져옴 → 구독자가 요청(request(n))한 만큼만 DB 에서 읽음 (배압)
+ *  - 커넥션 풀은 이 클래스가 직접 만들고 빈으로 노출하지 않음
+ *    (ConnectionFactory 빈이 있으면 Spring Boot 가 JDBC DataSource 를 만들지 않아 JPA 쓰기 경로가 사라짐)
+ *  - 접속 정보: catcheat.store.reactive.url, 비어 있으면 spring.datasource.url 의 jdbc: 를 r2dbc: 로 바꿔서 사용
+ *  - catcheat.datasource.simulated-latency 가 설정되면 커넥션을 잡은 채 타이머로 대기 (스레드 점유 없이 JDBC 쪽과 같은 지연)
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveStoreRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, code, name, address, opened, province, city, district,"
+            + " road_address, lot_address, latitude, longitude, version, created_at, updated_at";
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final int fetchSize;
+    private final Duration simulatedLatency;
+
+    public ReactiveStoreRepository(@Value("${catcheat.store.reactive.url:}") String url,
+                                   @Value("${spring.datasource.url:}") String jdbcUrl,
+                                   @Value("${catcheat.store.reactive.username:${spring.datasource.username:}}") String username,
+                                   @Value("${catcheat.store.reactive.password:${spring.datasource.password:}}") String password,
+                                   @Value("${catcheat.store.reactive.pool-size:20}") int poolSize,
+                                   @Value("${catcheat.store.reactive.fetch-size:256}") int fetchSize,
+                                   @Value("${catcheat.datasource.simulated-latency:0ms}") Duration simulatedLatency) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(r2dbcUrl(url, jdbcUrl)).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options.build()))
+                .name("store-r2dbc")
+                .initialSize(0)
+                .maxSize(poolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.fetchSize = fetchSize;
+        this.simulatedLatency = simulatedLatency;
+    }
+
+    public Mono<Store> findById(long id) {
+        return query("SELECT " + COLUMNS + " FROM store WHERE id = $1",
+                statement -> statement.bind("$1", id))
+                .next();
+    }
+
+    // 전체 매장 (id 순) - 구독자가 요청한 만큼씩 커서에서 읽음
+    public Flux<Store> findAll() {
+        return query("SELECT " + COLUMNS + " FROM store ORDER BY id",
+                statement -> statement.fetchSize(fetchSize));
+    }
+
+    // id 가 afterId 보다 큰 매장을 id 순으로 limit 개 (키셋 페이지네이션)
+    public Flux<Store> findPage(long afterId, int limit) {
+        return query("SELECT " + COLUMNS + " FROM store WHERE id > $1 ORDER BY id LIMIT $2",
+                statement -> statement.bind("$1", afterId).bind("$2", limit));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    // 풀에서 커넥션을 얻어 쿼리 실행 후 반납 (취소/오류 시에도 반납은 DatabaseClient 가 처리)
+    private Flux<Store> query(String sql, UnaryOperator<Statement> binder) {
+        return databaseClient.inConnectionMany(connection -> {
+            Flux<Store> stores = Flux.from(binder.apply(connection.createStatement(sql)).execute())
+                    .concatMap(result -> result.map(ReactiveStoreRepository::toStore));
+            // 커넥션을 잡은 채로 대기 → JDBC 쪽(ConnectionLimitingDataSource)의 지연 주입과 같은 조건
+            return simulatedLatency.isZero() ? stores : Mono.delay(simulatedLatency).thenMany(stores);
+        });
+    }
+
+    private static String r2dbcUrl(String url, String jdbcUrl) {
+        if (!url.isBlank()) {
+            return url;
+        }
+        if (!jdbcUrl.startsWith("jdbc:")) {
+            throw new IllegalStateException("catcheat.store.reactive.url is required when spring.datasource.url is not a JDBC URL");
+        }
+        return "r2dbc:" + jdbcUrl.substring("jdbc:".length());
+    }
+
+    // StoreJdbcRepository.STORE_ROW_MAPPER 와 같은 매핑 (DTO 변환은 StoreResponseDto.from 을 그대로 사용)
+    private static Store toStore(Readable row) {
+        return Store.builder()
+                .id(row.get("id", Long.class))
+                .code(row.get("code", String.class))
+                .name(row.get("name", String.class))
+                .address(row.get("address", String.class))
+                .opened(Boolean.TRUE.equals(row.get("opened", Boolean.class)))
+                .province(row.get("province", String.class))
+                .city(row.get("city", String.class))
+                .district(row.get("district", String.class))
+                .roadAddress(row.get("road_address", String.class))
+                .lotAddress(row.get("lot_address", String.class))
+                .latitude(row.get("latitude", Double.class))
+                .longitude(row.get("longitude", Double.class))
+                .version(row.get("version", Long.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .build();
+    }
+}
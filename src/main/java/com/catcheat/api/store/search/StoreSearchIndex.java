@@ -0,0 +1,535 @@
+package com.catcheat.api.store.search;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreIndex;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ *  매장명/주소 부분 검색용 인메모리 n-gram 역색인
+ *
+ *  - 매장명(name), 주소(address + roadAddress)를 정규화(소문자, 공백/기호 제거)한 뒤 연속 두 글자(bigram)로 쪼개 색인
+ *  - 매장명은 초성 bigram 도 함께 색인 → "ㄱㄴ" 으로 "강남점" 검색 가능
+ *  - 검색어 bigram 중 절반 이상이 일치하는 매장만 결과에 포함 (한두 글자 오타가 있어도 나머지 bigram 으로 찾음)
+ *  - 점수: (일치 bigram 수 + 매장명 일치 bigram 수 × 2) / 검색어 bigram 수, 매장명이 검색어로 시작하면 가산점
+ *  - 매장마다 작은 정수 번호(ordinal)를 붙이고, 검색 시 색인 목록을 훑으며 번호별 누적 배열에 일치 수를 더함
+ *    (누적 배열은 풀에서 재사용 → 검색마다 매장 수만큼 할당하지 않음)
+ */
+@Component
+public class StoreSearchIndex implements StoreIndex {
+
+    static final double MIN_MATCH_RATIO = 0.5;
+    static final int MAX_QUERY_LENGTH = 64;     // 누적값 한 칸(8비트)에 일치 수가 넘치지 않도록 제한
+    private static final double NAME_BONUS = 2.0;
+    private static final double PREFIX_BONUS = 2.0;
+    private static final int NAME_HIT = 1 << 8;  // 누적값 하위 8비트: 일치 gram 수, 그 위: 매장명 일치 gram 수
+    private static final int PROBE_COST = 16;    // 이진 탐색 한 번 ≈ 목록 순회 16칸으로 간주
+    private static final int MAX_POOLED_ACCUMULATORS = Runtime.getRuntime().availableProcessors() * 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Doc> docs = new HashMap<>();                 // storeId → 색인 문서
+    private final Map<Integer, Postings> anyPostings = new HashMap<>();   // gram → 매장명/주소 어디든 gram 을 가진 문서 번호
+    private final Map<Integer, Postings> namePostings = new HashMap<>();  // gram → 매장명(초성 포함)에 gram 을 가진 문서 번호
+    private final Map<Character, Postings> nameCharPostings = new HashMap<>();  // 글자 → 매장명(초성 포함)에 글자를 가진 문서 번호 (한 글자 검색용)
+    private Doc[] byOrdinal = new Doc[1024];
+    // 후보마다 보는 값은 번호별 기본형 배열로 따로 둠 (문서 객체를 따라가는 메모리 접근을 줄임)
+    private long[] storeIds = new long[1024];
+    private int[] nameLengths = new int[1024];
+    private int[] nameHeads = new int[1024];        // 매장명 첫 bigram (접두어 비교용)
+    private int[] choseongHeads = new int[1024];    // 초성 매장명 첫 bigram
+    private int ordinalLimit;                                             // 지금까지 쓴 가장 큰 번호 + 1
+    private final ArrayDeque<Integer> freeOrdinals = new ArrayDeque<>();                // 삭제된 매장의 번호 (재사용)
+    private final ConcurrentLinkedQueue<Accumulator> accumulators = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pooledAccumulators = new AtomicInteger();
+
+    /** 검색 결과 한 건 (매장 id + 점수) */
+    public record SearchHit(long storeId, double score) {
+    }
+
+    private record Doc(int ordinal, long storeId, String name, String choseongName,
+                       char[] nameChars, int[] nameGrams, int[] allGrams) {
+    }
+
+    private record Candidate(long storeId, double score, int nameLength) {
+    }
+
+    /** 점수가 높을수록, 같으면 매장명이 짧을수록, 같으면 id 가 작을수록 앞 (후보마다 호출되므로 직접 비교) */
+    private static final Comparator<Candidate> BEST_FIRST = StoreSearchIndex::compareBestFirst;
+
+    private static int compareBestFirst(Candidate a, Candidate b) {
+        return compareBestFirst(a.score(), a.nameLength(), a.storeId(), b);
+    }
+
+    private static int compareBestFirst(double score, int nameLength, long storeId, Candidate other) {
+        if (score != other.score()) {
+            return score > other.score() ? -1 : 1;
+        }
+        if (nameLength != other.nameLength()) {
+            return nameLength < other.nameLength() ? -1 : 1;
+        }
+        return Long.compare(storeId, other.storeId());
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store == null || store.getId() == null) {
+            return;
+        }
+        String name = normalize(store.getName());
+        String choseongName = toChoseong(name);
+        int[] nameGrams = choseongName.equals(name)
+                ? grams(name)
+                : distinctSorted(concat(grams(name), grams(choseongName)));
+        int[] allGrams = distinctSorted(concat(nameGrams, concat(
+                grams(normalize(store.getAddress())), grams(normalize(store.getRoadAddress())))));
+
+        char[] nameChars = distinctChars(name + choseongName);
+
+        lock.writeLock().lock();
+        try {
+            removeInternal(store.getId());
+            Doc doc = new Doc(nextOrdinal(), store.getId(), name, choseongName, nameChars, nameGrams, allGrams);
+            docs.put(doc.storeId(), doc);
+            byOrdinal[doc.ordinal()] = doc;
+            storeIds[doc.ordinal()] = doc.storeId();
+            nameLengths[doc.ordinal()] = name.length();
+            nameHeads[doc.ordinal()] = head(name);
+            choseongHeads[doc.ordinal()] = head(choseongName);
+            for (char c : nameChars) {
+                nameCharPostings.computeIfAbsent(c, key -> new Postings()).add(doc.ordinal());
+            }
+            for (int gram : nameGrams) {
+                namePostings.computeIfAbsent(gram, key -> new Postings()).add(doc.ordinal());
+            }
+            for (int gram : allGrams) {
+                anyPostings.computeIfAbsent(gram, key -> new Postings()).add(doc.ordinal());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        if (storeId == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeInternal(storeId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            docs.clear();
+            anyPostings.clear();
+            namePostings.clear();
+            nameCharPostings.clear();
+            Arrays.fill(byOrdinal, null);
+            ordinalLimit = 0;
+            freeOrdinals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return docs.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어와 가장 잘 맞는 매장을 점수 내림차순으로 최대 limit 개 반환
+     *
+     * @param query 검색어 (매장명/주소 일부, 초성만 입력해도 됨)
+     * @param limit 최대 결과 수
+     * @return 점수 내림차순 (같으면 매장명이 짧은 순, id 순)
+     */
+    public List<SearchHit> search(String query, int limit) {
+        String normalized = normalize(query);
+        if (normalized.length() > MAX_QUERY_LENGTH) {
+            normalized = normalized.substring(0, MAX_QUERY_LENGTH);
+        }
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        boolean choseongQuery = isChoseongQuery(normalized);
+        if (choseongQuery) {
+            normalized = toChoseong(normalized);
+        }
+        boolean singleChar = normalized.length() == 1;
+
+        PriorityQueue<Candidate> heap = new PriorityQueue<>(limit + 1, BEST_FIRST.reversed());
+        Accumulator acc = borrowAccumulator();
+        lock.readLock().lock();
+        try {
+            acc.ensureCapacity(ordinalLimit);
+            int[] queryGrams = grams(normalized);
+            int need = Math.max(1, (int) Math.ceil(queryGrams.length * MIN_MATCH_RATIO));
+            if (singleChar) {
+                // 한 글자 검색어는 매장명에 그 글자가 있는 매장 (주소는 한 글자로 찾을 의미가 없어 제외)
+                acc.add(nameCharPostings.get(normalized.charAt(0)), NAME_HIT + 1, true);
+            } else {
+                accumulate(acc, queryGrams, need, choseongQuery);
+            }
+
+            int[] heads = choseongQuery ? choseongHeads : nameHeads;
+            int queryHead = head(normalized);
+            for (int i = 0; i < acc.touchedCount; i++) {
+                int ordinal = acc.touched[i];
+                int value = acc.values[ordinal];
+                int hits = value & 0xff;
+                if (hits < need) {
+                    continue;
+                }
+                int nameHits = value >>> 8;
+                double score = singleChar
+                        ? 1 + NAME_BONUS
+                        : (hits + nameHits * NAME_BONUS) / queryGrams.length;
+                long storeId = storeIds[ordinal];
+                int nameLength = nameLengths[ordinal];
+                // 가산점을 받아도 상위 limit 에 못 드는 후보는 매장명 비교 없이 건너뜀
+                if (heap.size() == limit
+                        && compareBestFirst(score + PREFIX_BONUS, nameLength, storeId, heap.peek()) >= 0) {
+                    continue;
+                }
+                if (startsWith(ordinal, heads[ordinal], queryHead, normalized, choseongQuery)) {
+                    score += PREFIX_BONUS;
+                }
+                offer(heap, limit, storeId, nameLength, score);
+            }
+        } finally {
+            lock.readLock().unlock();
+            releaseAccumulator(acc);
+        }
+
+        List<Candidate> ranked = new ArrayList<>(heap);
+        ranked.sort(BEST_FIRST);
+        List<SearchHit> result = new ArrayList<>(ranked.size());
+        for (Candidate candidate : ranked) {
+            result.add(new SearchHit(candidate.storeId(), candidate.score()));
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 gram 별 색인 목록을 누적 배열에 더함 - 읽기 락을 잡은 상태에서 호출
+     * 드문 gram 부터 처리하고, 앞쪽 (m - need + 1)개 목록만 새 후보를 만들 수 있게 함
+     * (need 개 이상 일치하는 문서는 그중 하나를 반드시 가지므로) → 흔한 gram 은 이미 나온 후보만 갱신
+     */
+    private void accumulate(Accumulator acc, int[] queryGrams, int need, boolean choseongQuery) {
+        int m = queryGrams.length;
+        Postings[] primary = new Postings[m];     // 일치 수를 세는 목록 (초성 검색은 매장명만)
+        Postings[] names = new Postings[m];       // 매장명 일치 수를 세는 목록
+        long[] order = new long[m];               // (목록 크기 << 32 | gram 위치) → 정렬하면 드문 gram 순
+        for (int i = 0; i < m; i++) {
+            names[i] = namePostings.get(queryGrams[i]);
+            primary[i] = choseongQuery ? names[i] : anyPostings.get(queryGrams[i]);
+            order[i] = ((long) (primary[i] == null ? 0 : primary[i].size) << 32) | i;
+        }
+        Arrays.sort(order);
+
+        int sources = m - need + 1;
+        for (int k = 0; k < m; k++) {
+            int i = (int) order[k];
+            if (choseongQuery) {
+                acc.add(primary[i], NAME_HIT + 1, k < sources);
+            } else {
+                acc.add(primary[i], 1, k < sources);
+                acc.add(names[i], NAME_HIT, false);    // 매장명 목록 ⊆ 전체 목록 → 이미 후보에 있음
+            }
+        }
+    }
+
+    // 상위 limit 개만 유지 (힙 맨 위 = 현재 가장 나쁜 결과)
+    private static void offer(PriorityQueue<Candidate> heap, int limit, long storeId, int nameLength, double score) {
+        if (heap.size() < limit) {
+            heap.offer(new Candidate(storeId, score, nameLength));
+        } else if (compareBestFirst(score, nameLength, storeId, heap.peek()) < 0) {
+            heap.poll();
+            heap.offer(new Candidate(storeId, score, nameLength));
+        }
+    }
+
+    // 첫 bigram 이 같을 때만 실제 매장명과 비교 - 읽기 락을 잡은 상태에서 호출
+    private boolean startsWith(int ordinal, int nameHead, int queryHead, String query, boolean choseongQuery) {
+        if (query.length() == 1) {
+            return (nameHead >>> 16) == query.charAt(0) || nameHead == query.charAt(0);
+        }
+        if (nameHead != queryHead) {
+            return false;
+        }
+        if (query.length() == 2) {
+            return true;
+        }
+        Doc doc = byOrdinal[ordinal];
+        return (choseongQuery ? doc.choseongName() : doc.name()).startsWith(query);
+    }
+
+    private Accumulator borrowAccumulator() {
+        Accumulator acc = accumulators.poll();
+        if (acc == null) {
+            return new Accumulator();
+        }
+        pooledAccumulators.decrementAndGet();
+        return acc;
+    }
+
+    // 풀에는 CPU 수의 두 배까지만 보관 (동시 검색이 몰릴 때 만든 여분은 버림)
+    private void releaseAccumulator(Accumulator acc) {
+        acc.reset();
+        if (pooledAccumulators.incrementAndGet() <= MAX_POOLED_ACCUMULATORS) {
+            accumulators.offer(acc);
+        } else {
+            pooledAccumulators.decrementAndGet();
+        }
+    }
+
+    private int nextOrdinal() {
+        if (!freeOrdinals.isEmpty()) {
+            return freeOrdinals.pop();
+        }
+        if (ordinalLimit == byOrdinal.length) {
+            int capacity = ordinalLimit * 2;
+            byOrdinal = Arrays.copyOf(byOrdinal, capacity);
+            storeIds = Arrays.copyOf(storeIds, capacity);
+            nameLengths = Arrays.copyOf(nameLengths, capacity);
+            nameHeads = Arrays.copyOf(nameHeads, capacity);
+            choseongHeads = Arrays.copyOf(choseongHeads, capacity);
+        }
+        return ordinalLimit++;
+    }
+
+    private void removeInternal(long storeId) {
+        Doc old = docs.remove(storeId);
+        if (old == null) {
+            return;
+        }
+        for (char c : old.nameChars()) {
+            Postings list = nameCharPostings.get(c);
+            if (list != null && list.remove(old.ordinal()) && list.size == 0) {
+                nameCharPostings.remove(c);
+            }
+        }
+        removePostings(namePostings, old.nameGrams(), old.ordinal());
+        removePostings(anyPostings, old.allGrams(), old.ordinal());
+        byOrdinal[old.ordinal()] = null;
+        freeOrdinals.push(old.ordinal());
+    }
+
+    private static void removePostings(Map<Integer, Postings> postings, int[] grams, int ordinal) {
+        for (int gram : grams) {
+            Postings list = postings.get(gram);
+            if (list != null && list.remove(ordinal) && list.size == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /** 하나의 gram 을 가진 문서 번호 목록 (오름차순, 기동 시 순서대로 적재하면 뒤에 붙이기만 함) */
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int size;
+
+        void add(int ordinal) {
+            int index = size == 0 || ordinals[size - 1] < ordinal ? -(size + 1) : Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+            }
+            System.arraycopy(ordinals, insertAt, ordinals, insertAt + 1, size - insertAt);
+            ordinals[insertAt] = ordinal;
+            size++;
+        }
+
+        boolean remove(int ordinal) {
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+            size--;
+            return true;
+        }
+    }
+
+    /** 검색 한 번 동안 문서 번호별 일치 수를 누적하는 배열 (사용 후 건드린 칸만 0 으로 되돌려 재사용) */
+    private static final class Accumulator {
+        private int[] values = new int[0];
+        private int[] touched = new int[0];
+        private int touchedCount;
+
+        void ensureCapacity(int capacity) {
+            if (values.length < capacity) {
+                values = new int[capacity];
+                touched = new int[capacity];
+            }
+        }
+
+        /**
+         * 목록의 문서마다 delta 를 더함
+         * openForNew 가 false 면 이미 후보인 문서만 갱신 (후보가 목록보다 훨씬 적으면 목록을 훑지 않고 이진 탐색)
+         */
+        void add(Postings postings, int delta, boolean openForNew) {
+            if (postings == null) {
+                return;
+            }
+            int[] ordinals = postings.ordinals;
+            int size = postings.size;
+            if (openForNew) {
+                for (int i = 0; i < size; i++) {
+                    int ordinal = ordinals[i];
+                    if (values[ordinal] == 0) {
+                        touched[touchedCount++] = ordinal;
+                    }
+                    values[ordinal] += delta;
+                }
+            } else if ((long) touchedCount * PROBE_COST < size) {
+                for (int i = 0; i < touchedCount; i++) {
+                    int ordinal = touched[i];
+                    if (Arrays.binarySearch(ordinals, 0, size, ordinal) >= 0) {
+                        values[ordinal] += delta;
+                    }
+                }
+            } else {
+                for (int i = 0; i < size; i++) {
+                    int ordinal = ordinals[i];
+                    if (values[ordinal] != 0) {
+                        values[ordinal] += delta;
+                    }
+                }
+            }
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                values[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+
+    // ---- 텍스트 처리 ----
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    // 소문자로 바꾸고 글자/숫자만 남김 ("강남역 2호점" → "강남역2호점")
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(lower.length());
+        for (int i = 0; i < lower.length(); i++) {
+            char c = lower.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 연속 두 글자를 int 하나로 (앞 글자 << 16 | 뒷 글자), 한 글자짜리 텍스트는 그 글자 자체
+    static int[] grams(String text) {
+        if (text.isEmpty()) {
+            return new int[0];
+        }
+        if (text.length() == 1) {
+            return new int[]{text.charAt(0)};
+        }
+        int[] grams = new int[text.length() - 1];
+        for (int i = 0; i < grams.length; i++) {
+            grams[i] = (text.charAt(i) << 16) | text.charAt(i + 1);
+        }
+        return distinctSorted(grams);
+    }
+
+    // 텍스트 첫 두 글자의 gram (한 글자면 그 글자, 빈 텍스트면 -1)
+    private static int head(String text) {
+        if (text.isEmpty()) {
+            return -1;
+        }
+        return text.length() == 1 ? text.charAt(0) : (text.charAt(0) << 16) | text.charAt(1);
+    }
+
+    // 한글 음절을 초성 자음으로 바꿈 ("강남점" → "ㄱㄴㅈ"), 그 외 글자는 그대로
+    static String toChoseong(String text) {
+        StringBuilder sb = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                sb.append(CHOSEONG[(c - HANGUL_BASE) / (21 * 28)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    // 자음(ㄱ~ㅎ)이 하나라도 섞여 있으면 초성 검색으로 취급
+    private static boolean isChoseongQuery(String query) {
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static char[] distinctChars(String text) {
+        return text.chars().distinct().collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString().toCharArray();
+    }
+
+    private static int[] concat(int[] a, int[] b) {
+        int[] all = Arrays.copyOf(a, a.length + b.length);
+        System.arraycopy(b, 0, all, a.length, b.length);
+        return all;
+    }
+
+    private static int[] distinctSorted(int[] values) {
+        if (values.length <= 1) {
+            return values;
+        }
+        int[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int count = 1;
+        for (int i = 1; i < sorted.length; i++) {
+            if (sorted[i] != sorted[count - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+}
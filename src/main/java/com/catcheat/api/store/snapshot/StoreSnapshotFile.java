@@ -0,0 +1,265 @@
+package com.catcheat.api.store.snapshot;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangeRepository;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ *  매장 데이터 한 벌을 담는 바이너리 스냅샷 파일 (기동 시 store 전체 조회 대신 사용)
+ *
+ *  - 헤더  : magic, 형식 버전, 기록 시점 변경 커서(tx, seq), 기록 시각(epoch ms)
+ *  - 본문  : 매장 레코드 연속 (플래그 1바이트, id, [version], [위도], [경도], 문자열 8개 = 길이 + UTF-8, null 은 길이 -1)
+ *  - 트레일러: 레코드 수, 본문 CRC32
+ *  - 읽기는 파일을 메모리 매핑해서 디코딩 (읽기 전에 길이/형식 버전/CRC 를 먼저 확인)
+ *  - 쓰기는 임시 파일에 다 쓴 뒤 원자적으로 교체 → 읽는 쪽은 항상 완성된 파일만 봄
+ *  - createdAt/updatedAt 은 담지 않음 (StoreIndex 구현체가 쓰지 않음)
+ */
+public final class StoreSnapshotFile {
+
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int MAGIC = 0x43455353;                    // "CESS"
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 8;
+    private static final int TRAILER_SIZE = 4 + 8;
+
+    private static final int OPENED = 1;
+    private static final int HAS_VERSION = 1 << 1;
+    private static final int HAS_LATITUDE = 1 << 2;
+    private static final int HAS_LONGITUDE = 1 << 3;
+
+    private StoreSnapshotFile() {
+    }
+
+    /** 스냅샷 헤더 (cursor 이후의 변경은 store_change 에서 이어받음) */
+    public record Header(int formatVersion, StoreChangeRepository.Cursor cursor, Instant createdAt, int count) {
+    }
+
+    /**
+     * 새 스냅샷 쓰기 시작 (commit() 전까지는 path 옆의 임시 파일에 기록)
+     */
+    public static Writer writer(Path path, StoreChangeRepository.Cursor cursor, Instant createdAt) throws IOException {
+        return new Writer(path, cursor, createdAt);
+    }
+
+    /**
+     * 스냅샷 파일을 메모리 매핑하고 형식/CRC 를 확인
+     *
+     * @throws IOException 파일이 없거나, 형식 버전이 다르거나, 잘렸거나, CRC 가 맞지 않는 경우
+     */
+    public static Snapshot open(Path path) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_SIZE + TRAILER_SIZE || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid store snapshot size: " + size + " (" + path + ")");
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);      // 채널을 닫아도 매핑은 유지됨
+        }
+
+        int magic = buffer.getInt(0);
+        int formatVersion = buffer.getInt(4);
+        if (magic != MAGIC || formatVersion != FORMAT_VERSION) {
+            throw new IOException("Unsupported store snapshot: magic " + Integer.toHexString(magic)
+                    + ", format version " + formatVersion + " (" + path + ")");
+        }
+        int bodyEnd = buffer.capacity() - TRAILER_SIZE;
+        int count = buffer.getInt(bodyEnd);
+        long expectedCrc = buffer.getLong(bodyEnd + 4);
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(HEADER_SIZE, bodyEnd - HEADER_SIZE));
+        if (count < 0 || crc.getValue() != expectedCrc) {
+            throw new IOException("Corrupted store snapshot: " + path);
+        }
+
+        Header header = new Header(formatVersion,
+                new StoreChangeRepository.Cursor(buffer.getLong(8), buffer.getLong(16)),
+                Instant.ofEpochMilli(buffer.getLong(24)), count);
+        return new Snapshot(header, buffer.slice(HEADER_SIZE, bodyEnd - HEADER_SIZE));
+    }
+
+    /** 매핑된 스냅샷 (forEach 로 매장을 하나씩 디코딩) */
+    public static final class Snapshot {
+
+        private final Header header;
+        private final ByteBuffer body;
+
+        private Snapshot(Header header, ByteBuffer body) {
+            this.header = header;
+            this.body = body;
+        }
+
+        public Header header() {
+            return header;
+        }
+
+        /** 저장된 순서(id 오름차순)대로 매장을 만들어 consumer 에 전달 (호출마다 처음부터 읽음) */
+        public void forEach(Consumer<Store> consumer) throws IOException {
+            Decoder in = new Decoder(body.duplicate());
+            for (int i = 0; i < header.count(); i++) {
+                int flags = in.buffer.get();
+                Store.StoreBuilder store = Store.builder()
+                        .id(in.buffer.getLong())
+                        .opened((flags & OPENED) != 0);
+                if ((flags & HAS_VERSION) != 0) {
+                    store.version(in.buffer.getLong());
+                }
+                if ((flags & HAS_LATITUDE) != 0) {
+                    store.latitude(in.buffer.getDouble());
+                }
+                if ((flags & HAS_LONGITUDE) != 0) {
+                    store.longitude(in.buffer.getDouble());
+                }
+                consumer.accept(store
+                        .code(in.string())
+                        .name(in.string())
+                        .address(in.string())
+                        .province(in.string())
+                        .city(in.string())
+                        .district(in.string())
+                        .roadAddress(in.string())
+                        .lotAddress(in.string())
+                        .build());
+            }
+            if (in.buffer.hasRemaining()) {
+                throw new IOException("Store snapshot has " + in.buffer.remaining() + " trailing bytes");
+            }
+        }
+    }
+
+    // 문자열 디코딩용 임시 배열을 재사용하는 읽기 도우미
+    private static final class Decoder {
+
+        private final ByteBuffer buffer;
+        private byte[] scratch = new byte[256];
+
+        Decoder(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        String string() {
+            int length = buffer.getInt();
+            if (length < 0) {
+                return null;
+            }
+            if (length > scratch.length) {
+                scratch = new byte[length];
+            }
+            buffer.get(scratch, 0, length);
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+    }
+
+    /** 스냅샷 쓰기 (add 로 매장을 id 순으로 넣고 commit, commit 없이 close 하면 임시 파일 삭제) */
+    public static final class Writer implements Closeable {
+
+        private final Path path;
+        private final Path temp;
+        private final FileOutputStream file;
+        private final DataOutputStream out;          // 헤더/트레일러
+        private final DataOutputStream records;      // 본문 (CRC 계산)
+        private final CRC32 crc = new CRC32();
+        private final StoreChangeRepository.Cursor cursor;
+        private final Instant createdAt;
+        private int count;
+        private boolean committed;
+
+        private Writer(Path path, StoreChangeRepository.Cursor cursor, Instant createdAt) throws IOException {
+            this.path = path;
+            this.temp = path.resolveSibling(path.getFileName() + ".tmp");
+            this.cursor = cursor;
+            this.createdAt = createdAt;
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            this.file = new FileOutputStream(temp.toFile());
+            BufferedOutputStream buffered = new BufferedOutputStream(file, 64 * 1024);
+            this.out = new DataOutputStream(buffered);
+            this.records = new DataOutputStream(new CheckedOutputStream(buffered, crc));
+
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(cursor.txId());
+            out.writeLong(cursor.seq());
+            out.writeLong(createdAt.toEpochMilli());
+        }
+
+        public void add(Store store) throws IOException {
+            if (store.getId() == null) {
+                throw new IllegalArgumentException("Store without id cannot be written to a snapshot");
+            }
+            int flags = (store.isOpened() ? OPENED : 0)
+                    | (store.getVersion() != null ? HAS_VERSION : 0)
+                    | (store.getLatitude() != null ? HAS_LATITUDE : 0)
+                    | (store.getLongitude() != null ? HAS_LONGITUDE : 0);
+            records.writeByte(flags);
+            records.writeLong(store.getId());
+            if (store.getVersion() != null) {
+                records.writeLong(store.getVersion());
+            }
+            if (store.getLatitude() != null) {
+                records.writeDouble(store.getLatitude());
+            }
+            if (store.getLongitude() != null) {
+                records.writeDouble(store.getLongitude());
+            }
+            writeString(store.getCode());
+            writeString(store.getName());
+            writeString(store.getAddress());
+            writeString(store.getProvince());
+            writeString(store.getCity());
+            writeString(store.getDistrict());
+            writeString(store.getRoadAddress());
+            writeString(store.getLotAddress());
+            count++;
+        }
+
+        /** 트레일러를 쓰고 디스크에 반영한 뒤 path 로 교체 */
+        public Header commit() throws IOException {
+            records.flush();
+            out.writeInt(count);
+            out.writeLong(crc.getValue());
+            out.flush();
+            file.getFD().sync();
+            out.close();
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            committed = true;
+            return new Header(FORMAT_VERSION, cursor, createdAt, count);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!committed) {
+                out.close();
+                Files.deleteIfExists(temp);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                records.writeInt(-1);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            records.writeInt(bytes.length);
+            records.write(bytes);
+        }
+    }
+}
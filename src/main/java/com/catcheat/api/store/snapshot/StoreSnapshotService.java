@@ -0,0 +1,147 @@
+package com.catcheat.api.store.snapshot;
+
+import com.catcheat.api.common.datasource.ReadWriteRoutingDataSource;
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangeRepository;
+import com.catcheat.api.store.StoreRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ *  매장 스냅샷 파일(StoreSnapshotFile) 적재/기록
+ *
+ *  - 기동 시 StoreIndexSynchronizer 가 load() 로 스냅샷을 읽고, 돌려받은 커서 이후의 변경만 DB 에서 이어받음
+ *  - 스냅샷이 없거나, 깨졌거나, max-age 보다 오래됐거나, DB 의 변경 기록보다 앞서 있으면(다른 DB 의 파일 등),
+ *    또는 기록 이후 store 가 통째로 다시 적재되었으면(변경 기록의 R 표시, DatasetGenerator) 사용하지 않음
+ *    → 기존처럼 store 테이블 전체 조회
+ *  - write-enabled=true 인 인스턴스만 write-interval 마다 새 스냅샷을 기록 (여러 인스턴스가 같은 경로를 공유하면 한 곳만 켬)
+ *  - catcheat.store.snapshot.path 가 비어 있으면 아무것도 하지 않음
+ */
+@Slf4j
+@Component
+public class StoreSnapshotService {
+
+    private final StoreRepository storeRepository;
+    private final StoreChangeRepository storeChangeRepository;
+    private final EntityManager entityManager;
+    private final Path path;
+    private final Duration maxAge;
+    private final boolean writeEnabled;
+    private final Clock clock = Clock.systemUTC();
+
+    public StoreSnapshotService(StoreRepository storeRepository,
+                                StoreChangeRepository storeChangeRepository,
+                                EntityManager entityManager,
+                                @Value("${catcheat.store.snapshot.path:}") String path,
+                                @Value("${catcheat.store.snapshot.max-age:1d}") Duration maxAge,
+                                @Value("${catcheat.store.snapshot.write-enabled:false}") boolean writeEnabled) {
+        this.storeRepository = storeRepository;
+        this.storeChangeRepository = storeChangeRepository;
+        this.entityManager = entityManager;
+        this.path = path == null || path.isBlank() ? null : Path.of(path.trim());
+        this.maxAge = maxAge;
+        this.writeEnabled = writeEnabled;
+    }
+
+    /**
+     * 스냅샷의 매장을 consumer 에 전달
+     *
+     * @return 스냅샷 기록 시점의 변경 커서 (사용할 수 있는 스냅샷이 없으면 empty → consumer 는 호출되지 않음)
+     */
+    public Optional<StoreChangeRepository.Cursor> load(Consumer<Store> consumer) {
+        if (path == null || !Files.isReadable(path)) {
+            return Optional.empty();
+        }
+        try {
+            StoreSnapshotFile.Snapshot snapshot = StoreSnapshotFile.open(path);
+            StoreSnapshotFile.Header header = snapshot.header();
+
+            Duration age = Duration.between(header.createdAt(), clock.instant());
+            if (age.compareTo(maxAge) > 0) {
+                log.info("Store snapshot ignored: {} is older than {} ({})", path, maxAge, age);
+                return Optional.empty();
+            }
+            StoreChangeRepository.Cursor safe = storeChangeRepository.position().safe();
+            if (isAfter(header.cursor(), safe)) {
+                log.warn("Store snapshot ignored: cursor {} is ahead of the database ({})", header.cursor(), safe);
+                return Optional.empty();
+            }
+            if (storeChangeRepository.resetAfter(header.cursor())) {
+                log.info("Store snapshot ignored: store table was reloaded after cursor {}", header.cursor());
+                return Optional.empty();
+            }
+
+            snapshot.forEach(consumer);
+            log.info("Store snapshot loaded: {} stores, cursor {}, written {}", header.count(), header.cursor(),
+                    header.createdAt());
+            return Optional.of(header.cursor());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Store snapshot ignored: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${catcheat.store.snapshot.write-interval:10m}",
+            fixedDelayString = "${catcheat.store.snapshot.write-interval:10m}")
+    @Transactional(readOnly = true)
+    public void writeScheduled() {
+        if (path != null && writeEnabled) {
+            write();
+        }
+    }
+
+    /**
+     * 현재 store 테이블로 새 스냅샷 기록
+     * 변경 기록 위치를 매장보다 먼저 읽음 → 그 사이 바뀐 매장은 다음 기동 때 변경분으로 한 번 더 반영됨 (결과 같음)
+     */
+    @Transactional(readOnly = true)
+    public StoreSnapshotFile.Header write() {
+        if (path == null) {
+            throw new IllegalStateException("catcheat.store.snapshot.path is not set");
+        }
+        return ReadWriteRoutingDataSource.readFromPrimary(this::writeSnapshot);
+    }
+
+    // 커서와 매장을 같은 primary 에서 읽음 (replica 가 뒤처져 있으면 커서 이전의 변경이 파일에서 빠질 수 있음)
+    private StoreSnapshotFile.Header writeSnapshot() {
+        long start = System.nanoTime();
+        StoreChangeRepository.Cursor cursor = storeChangeRepository.position().safe();
+        StoreSnapshotFile.Header header;
+        try (StoreSnapshotFile.Writer writer = StoreSnapshotFile.writer(path, cursor, clock.instant());
+             Stream<Store> stores = storeRepository.streamAllByOrderByIdAsc()) {
+            stores.forEach(store -> {
+                try {
+                    writer.add(store);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                entityManager.detach(store);
+            });
+            header = writer.commit();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write store snapshot: " + path, e);
+        }
+        log.info("Store snapshot written: {} stores, cursor {}, {} ms", header.count(), header.cursor(),
+                (System.nanoTime() - start) / 1_000_000);
+        return header;
+    }
+
+    private static boolean isAfter(StoreChangeRepository.Cursor cursor, StoreChangeRepository.Cursor other) {
+        return cursor.txId() != other.txId() ? cursor.txId() > other.txId() : cursor.seq() > other.seq();
+    }
+}
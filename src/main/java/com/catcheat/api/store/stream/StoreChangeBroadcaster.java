@@ -0,0 +1,370 @@
+package com.catcheat.api.store.stream;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.StoreIndex;
+import com.catcheat.api.store.hours.OpeningHoursIndex;
+import com.catcheat.api.store.stream.StoreStreamFilter.Location;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ *  매장 생성/수정/삭제를 SSE(GET /api/stores/stream) 구독자에게 전달하는 브로드캐스터
+ *
+ *  - 커밋된 StoreChangedEvent 하나를 SSE 프레임(id/event/data) 바이트 배열로 한 번만 직렬화하고,
+ *    조건(StoreStreamFilter)에 맞는 모든 구독자가 같은 배열을 공유해서 전송
+ *  - 구독자마다 크기 제한(queueCapacity)이 있는 대기열 → 전송이 밀려 가득 차면 그 구독자만 연결 종료(slow consumer 제거)
+ *    다른 구독자나 매장 수정 요청은 느린 클라이언트를 기다리지 않음
+ *  - 대기 중인 연결은 스레드를 쓰지 않음 (Servlet 비동기) → 보낼 데이터가 있을 때만 가상 스레드가 잠깐 전송
+ *  - 이벤트 팬아웃은 단일 publisher 스레드에서 순서대로 처리 (요청 스레드는 이벤트만 넘기고 바로 반환)
+ *  - 최근 replayBuffer 개의 프레임을 링 버퍼에 보관 → 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내고,
+ *    버퍼 범위를 벗어났거나 재시작 전 id 이면 reset 이벤트(전체 목록을 다시 받으라는 뜻)를 보냄
+ *  - heartbeat 주기마다 주석 프레임(":")을 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ *  - 지역/좌표 필터를 위해 매장별 위치를 StoreIndex 로 유지 (수정 전 위치와 비교해 조건 밖으로 나간 매장도 전달)
+ *  - 다른 인스턴스의 변경은 StoreIndexSynchronizer 가 store_change 를 따라가며 발행하는 remote 이벤트로 받음 (op=U 또는 D)
+ *  - opened 는 OpeningHoursIndex 기준 (영업시간이 등록된 매장은 영업 시작/종료 시각에도 op=U 이벤트를 보냄, version 없음)
+ *
+ *  메트릭: store.stream.subscribers, store.stream.events, store.stream.evictions{reason=slow|error}
+ */
+@Slf4j
+@Component
+public class StoreChangeBroadcaster implements StoreIndex, DisposableBean {
+
+    private static final MediaType TEXT_PLAIN_UTF8 = new MediaType("text", "plain", StandardCharsets.UTF_8);
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] CONNECTED = ": connected\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final ObjectMapper objectMapper;
+    private final OpeningHoursIndex openingHoursIndex;
+    private final int queueCapacity;
+    private final long timeoutMillis;
+    private final String bootId = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Map<Long, Location> locations = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Semaphore slots;                  // 등록 대기 중인 구독자까지 포함한 한도
+    private final Frame[] recent;                   // publisher 스레드에서만 접근
+    private long sequence;                          // publisher 스레드에서만 접근
+
+    private final ExecutorService publisher;
+    private final ExecutorService writers;
+    private final ScheduledExecutorService heartbeat;
+
+    private final Counter events;
+    private final Counter slowEvictions;
+    private final Counter errorEvictions;
+
+    /** 구독자에게 보내는 이벤트 본문 (op: C=생성, U=수정, D=삭제) */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record StoreChangeMessage(long id, String op, Boolean opened, Long version) {
+    }
+
+    private record Frame(long sequence, byte[] bytes, Location before, Location after) {
+        boolean matches(StoreStreamFilter filter) {
+            return filter.matches(before) || filter.matches(after);
+        }
+    }
+
+    public StoreChangeBroadcaster(ObjectMapper objectMapper,
+                                  OpeningHoursIndex openingHoursIndex,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${catcheat.store.stream.queue-capacity:256}") int queueCapacity,
+                                  @Value("${catcheat.store.stream.replay-buffer:1024}") int replayBuffer,
+                                  @Value("${catcheat.store.stream.timeout:30m}") Duration timeout,
+                                  @Value("${catcheat.store.stream.heartbeat:30s}") Duration heartbeatInterval,
+                                  @Value("${catcheat.store.stream.max-subscribers:50000}") int maxSubscribers) {
+        this.objectMapper = objectMapper;
+        this.openingHoursIndex = openingHoursIndex;
+        this.queueCapacity = queueCapacity;
+        this.timeoutMillis = timeout.toMillis();
+        this.slots = new Semaphore(maxSubscribers);
+        this.recent = new Frame[replayBuffer];
+
+        this.publisher = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-stream-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.writers = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("store-stream-", 0).factory());
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "store-stream-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeat.scheduleAtFixedRate(() -> publisher.execute(this::sendHeartbeat),
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        this.events = meterRegistry.counter("store.stream.events");
+        this.slowEvictions = meterRegistry.counter("store.stream.evictions", "reason", "slow");
+        this.errorEvictions = meterRegistry.counter("store.stream.evictions", "reason", "error");
+        Gauge.builder("store.stream.subscribers", subscribers, Set::size).register(meterRegistry);
+    }
+
+    /**
+     * 새 구독 등록
+     *
+     * @param filter      전달받을 매장 조건
+     * @param lastEventId 재연결 시 마지막으로 받은 이벤트 id (Last-Event-ID 헤더, 없으면 null)
+     * @return 응답으로 돌려줄 SseEmitter
+     */
+    public SseEmitter subscribe(StoreStreamFilter filter, String lastEventId) {
+        // 등록은 publisher 스레드에서 나중에 일어나므로 자리를 여기서 먼저 잡음 (동시 요청이 한도를 넘지 않음)
+        if (!slots.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, "Too many stream subscribers");
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, filter);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // publisher 스레드에서 등록 → 다시 보내기(replay)와 새 이벤트 사이에 빠지거나 겹치는 이벤트가 없음
+        publisher.execute(() -> {
+            replay(subscriber, lastEventId);
+            if (!subscriber.closed) {
+                subscribers.add(subscriber);
+            }
+        });
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    // StoreIndexSynchronizer 보다 먼저 실행되어야 변경 전 위치를 읽을 수 있음
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        broadcast(event);
+    }
+
+    /** 다른 인스턴스의 변경 (StoreIndexSynchronizer 가 인덱스 갱신 전에 발행) */
+    @EventListener(condition = "#event.remote")
+    public void onRemoteStoreChanged(StoreChangedEvent event) {
+        broadcast(event);
+    }
+
+    private void broadcast(StoreChangedEvent event) {
+        Location before = locations.get(event.getStoreId());
+        Store store = event.getStore();
+        Location after = store == null ? null : locationOf(store);
+        StoreChangeMessage message = switch (event.getType()) {
+            case CREATED -> new StoreChangeMessage(event.getStoreId(), "C",
+                    openingHoursIndex.isOpen(event.getStoreId(), store.isOpened()), store.getVersion());
+            case UPDATED -> new StoreChangeMessage(event.getStoreId(), "U",
+                    openingHoursIndex.isOpen(event.getStoreId(), store.isOpened()), store.getVersion());
+            case DELETED -> new StoreChangeMessage(event.getStoreId(), "D", null, null);
+        };
+        publisher.execute(() -> publish(message, before, after));
+    }
+
+    /** 영업시간에 따라 영업 상태만 바뀐 경우 (OpeningHoursScheduler) */
+    public void onOpenStatusChanged(long storeId, boolean opened) {
+        Location location = locations.get(storeId);
+        if (location != null) {
+            publisher.execute(() -> publish(new StoreChangeMessage(storeId, "U", opened, null), location, location));
+        }
+    }
+
+    @Override
+    public void put(Store store) {
+        if (store != null && store.getId() != null) {
+            locations.put(store.getId(), locationOf(store));
+        }
+    }
+
+    @Override
+    public void remove(Long storeId) {
+        if (storeId != null) {
+            locations.remove(storeId);
+        }
+    }
+
+    @Override
+    public void clear() {
+        locations.clear();
+    }
+
+    @Override
+    public void destroy() {
+        heartbeat.shutdownNow();
+        publisher.shutdownNow();
+        subscribers.forEach(Subscriber::complete);
+        writers.shutdownNow();
+    }
+
+    private void publish(StoreChangeMessage message, Location before, Location after) {
+        long seq = ++sequence;
+        byte[] data;
+        try {
+            data = objectMapper.writeValueAsBytes(message);
+        } catch (JsonProcessingException e) {
+            log.warn("Failed to serialize store change {}", message, e);
+            return;
+        }
+        Frame frame = new Frame(seq, sseFrame(bootId + "-" + seq, "store", data), before, after);
+        recent[(int) (seq % recent.length)] = frame;
+        events.increment();
+
+        for (Subscriber subscriber : subscribers) {
+            if (frame.matches(subscriber.filter)) {
+                subscriber.enqueue(frame.bytes());
+            }
+        }
+    }
+
+    private void replay(Subscriber subscriber, String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            subscriber.enqueue(CONNECTED);
+            return;
+        }
+        long lastSeq = parseSequence(lastEventId);
+        long oldest = Math.max(1, sequence - recent.length + 1);
+        if (lastSeq < 0 || lastSeq > sequence || lastSeq + 1 < oldest || sequence - lastSeq > queueCapacity) {
+            // 재시작 전 id 이거나 버퍼 범위를 벗어남 → 클라이언트가 전체 목록을 다시 받아야 함
+            subscriber.enqueue(sseFrame(bootId + "-" + sequence, "reset", "{}".getBytes(StandardCharsets.UTF_8)));
+            return;
+        }
+        for (long seq = lastSeq + 1; seq <= sequence; seq++) {
+            Frame frame = recent[(int) (seq % recent.length)];
+            if (frame.matches(subscriber.filter)) {
+                subscriber.enqueue(frame.bytes());
+            }
+        }
+        subscriber.enqueue(CONNECTED);
+    }
+
+    // "{bootId}-{sequence}" → sequence (다른 부팅의 id 면 -1)
+    private long parseSequence(String eventId) {
+        int dash = eventId.lastIndexOf('-');
+        if (dash < 0 || !eventId.substring(0, dash).equals(bootId)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(dash + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void sendHeartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(HEARTBEAT);
+        }
+    }
+
+    private static byte[] sseFrame(String id, String event, byte[] data) {
+        byte[] head = ("id:" + id + "\nevent:" + event + "\ndata:").getBytes(StandardCharsets.UTF_8);
+        byte[] frame = new byte[head.length + data.length + 2];
+        System.arraycopy(head, 0, frame, 0, head.length);
+        System.arraycopy(data, 0, frame, head.length, data.length);
+        frame[frame.length - 2] = '\n';
+        frame[frame.length - 1] = '\n';
+        return frame;
+    }
+
+    private static Location locationOf(Store store) {
+        return new Location(store.getProvince(), store.getCity(), store.getDistrict(),
+                store.getLatitude(), store.getLongitude());
+    }
+
+    /** 구독자 한 명: 공유 프레임의 대기열 + 한 번에 하나만 실행되는 전송 작업 */
+    private final class Subscriber {
+
+        final SseEmitter emitter;
+        final StoreStreamFilter filter;
+        final Queue<byte[]> queue = new ConcurrentLinkedQueue<>();    // 대기 중일 때만 노드 할당
+        final AtomicInteger size = new AtomicInteger();
+        final AtomicBoolean draining = new AtomicBoolean();
+        final AtomicBoolean released = new AtomicBoolean();
+        volatile boolean closed;
+
+        Subscriber(SseEmitter emitter, StoreStreamFilter filter) {
+            this.emitter = emitter;
+            this.filter = filter;
+        }
+
+        void enqueue(byte[] frame) {
+            if (closed) {
+                return;
+            }
+            if (size.incrementAndGet() > queueCapacity) {
+                size.decrementAndGet();
+                slowEvictions.increment();
+                close();
+                // 막혀 있는 전송이 emitter 잠금을 잡고 있을 수 있음 → publisher 스레드가 기다리지 않도록 writer 에서 종료
+                writers.execute(emitter::complete);
+                return;
+            }
+            queue.offer(frame);
+            if (draining.compareAndSet(false, true)) {
+                writers.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                byte[] frame;
+                while (!closed && (frame = queue.poll()) != null) {
+                    size.decrementAndGet();
+                    try {
+                        emitter.send(Set.of(new ResponseBodyEmitter.DataWithMediaType(frame, TEXT_PLAIN_UTF8)));
+                    } catch (IOException | IllegalStateException e) {
+                        errorEvictions.increment();
+                        close();
+                        return;
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        void complete() {
+            close();
+            emitter.complete();
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+            queue.clear();
+            if (released.compareAndSet(false, true)) {
+                slots.release();
+            }
+        }
+    }
+}
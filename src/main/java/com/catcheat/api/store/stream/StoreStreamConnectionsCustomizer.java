@@ -0,0 +1,42 @@
+package com.catcheat.api.store.stream;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.AbstractProtocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.stereotype.Component;
+
+/**
+ *  Tomcat 최대 연결 수 = SSE 구독자 한도 + 일반 요청용 연결 수
+ *
+ *  - 대기 중인 SSE 연결도 Tomcat 연결 수(server.tomcat.max-connections, 기본 8192)에 포함됨
+ *  - max-connections 는 커넥터 전체 설정이라 /api/stores/stream 에만 따로 줄 수 없음
+ *    → SSE 몫(max-subscribers)은 StoreChangeBroadcaster 가 세고, 나머지 request-connections 만큼이 일반 요청(keep-alive 포함) 몫
+ *  - 두 값을 따로 적어 두면 한쪽만 바뀌기 쉬우므로 server.tomcat.max-connections 대신 여기서 합으로 설정
+ *  - 프로세스 파일 디스크립터 한도(ulimit -n)도 이 합보다 커야 함
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class StoreStreamConnectionsCustomizer implements WebServerFactoryCustomizer<TomcatServletWebServerFactory> {
+
+    private final int maxConnections;
+
+    public StoreStreamConnectionsCustomizer(
+            @Value("${catcheat.store.stream.max-subscribers:50000}") int maxSubscribers,
+            @Value("${catcheat.store.stream.request-connections:8192}") int requestConnections) {
+        this.maxConnections = maxSubscribers + requestConnections;
+    }
+
+    @Override
+    public void customize(TomcatServletWebServerFactory factory) {
+        factory.addConnectorCustomizers(connector -> {
+            if (connector.getProtocolHandler() instanceof AbstractProtocol<?> protocol) {
+                protocol.setMaxConnections(maxConnections);
+                log.info("Tomcat max connections set to {} (stream subscribers + request connections)", maxConnections);
+            }
+        });
+    }
+}
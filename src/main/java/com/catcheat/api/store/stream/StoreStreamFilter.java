@@ -0,0 +1,42 @@
+package com.catcheat.api.store.stream;
+
+/**
+ *  GET /api/stores/stream 구독 조건
+ *  - province/city/district: 지정한 값이 모두 같은 매장만 (null 이면 조건 없음)
+ *  - minLat ~ maxLng       : 네 값을 모두 지정하면 그 사각형 안의 매장만
+ *  - 매장이 조건 밖으로 이동한 경우도 전달되도록 변경 전/후 위치 중 하나라도 맞으면 통과 (StoreChangeBroadcaster)
+ */
+public record StoreStreamFilter(String province, String city, String district,
+                                Double minLat, Double minLng, Double maxLat, Double maxLng) {
+
+    public static final StoreStreamFilter ALL = new StoreStreamFilter(null, null, null, null, null, null, null);
+
+    public StoreStreamFilter {
+        boolean anyBound = minLat != null || minLng != null || maxLat != null || maxLng != null;
+        boolean allBounds = minLat != null && minLng != null && maxLat != null && maxLng != null;
+        if (anyBound && (!allBounds || minLat > maxLat || minLng > maxLng)) {
+            throw new IllegalArgumentException("Invalid bounding box: " + minLat + ", " + minLng + ", " + maxLat + ", " + maxLng);
+        }
+    }
+
+    /** 변경 이벤트를 만들 때 기억해 두는 매장 위치 */
+    public record Location(String province, String city, String district, Double latitude, Double longitude) {
+    }
+
+    public boolean matches(Location location) {
+        if (location == null) {
+            return false;
+        }
+        if (province != null && !province.equals(location.province())
+                || city != null && !city.equals(location.city())
+                || district != null && !district.equals(location.district())) {
+            return false;
+        }
+        if (minLat == null) {
+            return true;
+        }
+        return location.latitude() != null && location.longitude() != null
+                && location.latitude() >= minLat && location.latitude() <= maxLat
+                && location.longitude() >= minLng && location.longitude() <= maxLng;
+    }
+}
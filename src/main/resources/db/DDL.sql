@@ -26,3 +26,105 @@ CREATE TRIGGER update_user_info_updated_at
 BEFORE UPDATE ON user_info
 FOR EACH ROW
 EXECUTE FUNCTION update_updated_at();
+
+CREATE TABLE store (
+    id                  BIGSERIAL PRIMARY KEY               -- 기본 키 (자동 증가)
+    , code              VARCHAR(20) NOT NULL                -- 매장 코드 (예: CE000001)
+    , name              VARCHAR(100) NOT NULL               -- 매장명
+    , address           VARCHAR(255)                        -- 주소 (전체 문자열)
+    , opened            BOOLEAN NOT NULL DEFAULT FALSE      -- 영업 중 여부
+    , province          VARCHAR(20)                         -- 도/광역시/특별시
+    , city              VARCHAR(30)                         -- 시/구/군
+    , district          VARCHAR(30)                         -- 동/읍/면
+    , road_address      VARCHAR(255)                        -- 도로명 주소
+    , lot_address       VARCHAR(255)                        -- 지번 주소
+    , latitude          DOUBLE PRECISION                    -- 위도 (lat, Y)
+    , longitude         DOUBLE PRECISION                    -- 경도 (lng, X)
+    , version           BIGINT NOT NULL DEFAULT 0           -- 수정될 때마다 1 증가 (ETag, 낙관적 잠금)
+    , created_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP -- 생성 시간
+    , updated_at        TIMESTAMP DEFAULT CURRENT_TIMESTAMP -- 수정 시간 >> 트리거로 업데이트
+
+    , CONSTRAINT uq_store_code UNIQUE (code)               -- 매장 코드 단건 조회 (findByCode)
+);
+
+-- 지역 계층 조회 (province → city → district 순으로 앞에서부터 일치 조건, 같은 지역 안에서는 id 순)
+CREATE INDEX idx_store_region ON store (province, city, district, id);
+
+-- 영업 여부 조회 (findByOpenedOrderByIdAsc)
+CREATE INDEX idx_store_opened ON store (opened, id);
+
+CREATE TRIGGER update_store_updated_at
+BEFORE UPDATE ON store
+FOR EACH ROW
+EXECUTE FUNCTION update_updated_at();
+
+-- 매장 변경 기록 (GET /api/stores/changes 변경분 조회용, 아래 트리거가 채움)
+-- 클라이언트 커서는 (tx_id, seq) 순서 → 먼저 번호를 받고 늦게 커밋된 트랜잭션의 변경도 건너뛰지 않음 (PostgreSQL 13+)
+CREATE TABLE store_change (
+    seq                 BIGSERIAL PRIMARY KEY                         -- 변경 순번
+    , tx_id             XID8 NOT NULL DEFAULT pg_current_xact_id()    -- 변경한 트랜잭션 id
+    , store_id          BIGINT NOT NULL                               -- 매장 id
+    , op                CHAR(1) NOT NULL                              -- U: 생성/수정, D: 삭제, H: 영업시간 교체 (애플리케이션이 기록)
+                                                                      -- R: 변경 기록 없이 store 를 다시 적재함 (DatasetGenerator, store_id 0)
+                                                                      --    또는 보관 기간이 지나 그 앞의 기록을 지움 (StoreChangeRetention)
+    , changed_at        TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP  -- 변경 시간
+);
+
+CREATE INDEX idx_store_change_tx ON store_change (tx_id, seq);
+
+-- 문장 단위 트리거: 여러 행을 한 번에 INSERT/UPDATE/DELETE 해도 변경 기록은 INSERT 한 번
+CREATE FUNCTION record_store_upserts()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO store_change (store_id, op) SELECT id, 'U' FROM changed_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE FUNCTION record_store_deletes()
+RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO store_change (store_id, op) SELECT id, 'D' FROM changed_rows;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER store_change_insert
+AFTER INSERT ON store
+REFERENCING NEW TABLE AS changed_rows
+FOR EACH STATEMENT
+EXECUTE FUNCTION record_store_upserts();
+
+CREATE TRIGGER store_change_update
+AFTER UPDATE ON store
+REFERENCING NEW TABLE AS changed_rows
+FOR EACH STATEMENT
+EXECUTE FUNCTION record_store_upserts();
+
+CREATE TRIGGER store_change_delete
+AFTER DELETE ON store
+REFERENCING OLD TABLE AS changed_rows
+FOR EACH STATEMENT
+EXECUTE FUNCTION record_store_deletes();
+
+-- 매장 요일별 영업시간 (OpeningHoursIndex 가 기동 시 전부 읽어서 메모리에서 영업 여부 계산)
+-- close_time <= open_time 이면 다음 날 close_time 까지 (예: 18:00 ~ 02:00, 00:00 ~ 00:00 은 24시간)
+CREATE TABLE store_opening_hours (
+    store_id            BIGINT NOT NULL REFERENCES store (id) ON DELETE CASCADE
+    , day_of_week       SMALLINT NOT NULL CHECK (day_of_week BETWEEN 1 AND 7)    -- 1: 월요일 ~ 7: 일요일
+    , open_time         TIME NOT NULL
+    , close_time        TIME NOT NULL
+);
+
+CREATE INDEX idx_store_opening_hours_store ON store_opening_hours (store_id);
+
+-- 날짜별 예외 (휴무일, 단축 영업) - 그 날짜의 요일 영업시간을 대체
+-- open_time/close_time 이 NULL 이면 하루 종일 휴무
+CREATE TABLE store_holiday (
+    store_id            BIGINT NOT NULL REFERENCES store (id) ON DELETE CASCADE
+    , holiday           DATE NOT NULL
+    , open_time         TIME
+    , close_time        TIME
+    , PRIMARY KEY (store_id, holiday)
+    , CHECK ((open_time IS NULL) = (close_time IS NULL))
+);
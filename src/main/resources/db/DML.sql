@@ -0,0 +1,2 @@
+-- 로컬 성능 확인용 대량 데이터(store, user_info)는 합성 데이터 생성기로 적재
+--   ./gradlew generateDataset -Pargs="--stores=1000000 --users=100000 --truncate"  (src/loadtest/.../DatasetGenerator)
@@ -0,0 +1,153 @@
+package com.catcheat.api.common.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ *  두 번째 로컬 DB 를 replica 로 두고 실제 커넥션이 어느 DB 로 가는지 확인
+ *
+ *  실행: CATCHEAT_TEST_PRIMARY_URL=jdbc:postgresql://localhost:5432/catcheat
+ *        CATCHEAT_TEST_REPLICA_URL=jdbc:postgresql://localhost:5432/catcheat_replica
+ *        (계정은 CATCHEAT_TEST_DB_USERNAME / CATCHEAT_TEST_DB_PASSWORD, 환경 변수가 없으면 건너뜀)
+ */
+@EnabledIfEnvironmentVariable(named = "CATCHEAT_TEST_PRIMARY_URL", matches = ".+")
+@EnabledIfEnvironmentVariable(named = "CATCHEAT_TEST_REPLICA_URL", matches = ".+")
+class ReadWriteRoutingDataSourceTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(3);
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReadWriteRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private String primaryName;
+    private String replicaName;
+
+    private static HikariDataSource pool(String name, String url) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(System.getenv("CATCHEAT_TEST_DB_USERNAME"));
+        dataSource.setPassword(System.getenv("CATCHEAT_TEST_DB_PASSWORD"));
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        primary = pool("test-primary", System.getenv("CATCHEAT_TEST_PRIMARY_URL"));
+        replica = pool("test-replica", System.getenv("CATCHEAT_TEST_REPLICA_URL"));
+        primaryName = new JdbcTemplate(primary).queryForObject("SELECT current_database()", String.class);
+        replicaName = new JdbcTemplate(replica).queryForObject("SELECT current_database()", String.class);
+        assertThat(replicaName).as("replica must be a different database").isNotEqualTo(primaryName);
+
+        routing = new ReadWriteRoutingDataSource(primary, List.of(replica),
+                ReadWriteRoutingDataSource.Selection.ROUND_ROBIN, Duration.ofSeconds(2), Duration.ofMillis(100),
+                new ReadYourWritesTracker(WINDOW));
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+
+        // 첫 지연 확인이 끝나야 replica 를 사용
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!replicaName.equals(readOnlyDatabase()) && System.nanoTime() < deadline) {
+            Thread.sleep(50);
+        }
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        RequestContextHolder.resetRequestAttributes();
+        routing.close();
+    }
+
+    private String readOnlyDatabase() {
+        return readOnly.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private void write() {
+        readWrite.executeWithoutResult(status -> currentDatabase());
+    }
+
+    private static MockHttpServletResponse beginRequest(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplicaAndWritesToPrimary() {
+        assertThat(readOnlyDatabase()).isEqualTo(replicaName);
+        assertThat(readWrite.execute(status -> currentDatabase())).isEqualTo(primaryName);
+        assertThat(currentDatabase()).isEqualTo(primaryName);          // 트랜잭션 밖
+    }
+
+    @Test
+    void readFromPrimaryOverridesReadOnlyRouting() {
+        assertThat(ReadWriteRoutingDataSource.readFromPrimary(this::readOnlyDatabase)).isEqualTo(primaryName);
+        assertThat(readOnlyDatabase()).isEqualTo(replicaName);
+    }
+
+    @Test
+    void readAfterWriteInSameRequestGoesToPrimary() {
+        beginRequest();
+        write();
+        assertThat(readOnlyDatabase()).isEqualTo(primaryName);
+
+        // 같은 스레드의 다음 요청 (다른 클라이언트) 에는 남지 않음
+        beginRequest();
+        assertThat(readOnlyDatabase()).isEqualTo(replicaName);
+    }
+
+    @Test
+    void anonymousClientKeepsReadingPrimaryWithCookie() {
+        MockHttpServletResponse response = beginRequest();
+        write();
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+
+        beginRequest(new Cookie(cookie.getName(), cookie.getValue()));
+        assertThat(readOnlyDatabase()).isEqualTo(primaryName);
+    }
+
+    @Test
+    void rolledBackWriteIsNotRecorded() {
+        beginRequest();
+        readWrite.executeWithoutResult(status -> {
+            currentDatabase();
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyDatabase()).isEqualTo(replicaName);
+    }
+}
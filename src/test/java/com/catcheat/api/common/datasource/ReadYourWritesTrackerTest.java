@@ -0,0 +1,119 @@
+package com.catcheat.api.common.datasource;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T03:00:00Z");
+
+    private final ReadYourWritesTracker tracker =
+            new ReadYourWritesTracker(Duration.ofSeconds(3), Clock.fixed(NOW, ZoneOffset.UTC));
+
+    @AfterEach
+    void clearContext() {
+        RequestContextHolder.resetRequestAttributes();
+        SecurityContextHolder.clearContext();
+    }
+
+    private static MockHttpServletResponse beginRequest(Cookie... cookies) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        if (cookies.length > 0) {
+            request.setCookies(cookies);
+        }
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request, response));
+        return response;
+    }
+
+    private static void authenticate(String name) {
+        SecurityContextHolder.getContext().setAuthentication(
+                UsernamePasswordAuthenticationToken.authenticated(name, null, AuthorityUtils.NO_AUTHORITIES));
+    }
+
+    @Test
+    void writeIsScopedToTheRequestNotTheThread() {
+        beginRequest();
+        assertThat(tracker.mustReadPrimary()).isFalse();
+
+        tracker.recordWrite();
+        assertThat(tracker.mustReadPrimary()).isTrue();
+
+        // 같은 스레드가 다음 요청(쿠키 없는 다른 익명 클라이언트)을 처리
+        beginRequest();
+        assertThat(tracker.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    void anonymousWriterIsRecognisedByCookie() {
+        MockHttpServletResponse response = beginRequest();
+        tracker.recordWrite();
+
+        Cookie cookie = response.getCookie(ReadYourWritesTracker.COOKIE_NAME);
+        assertThat(cookie).isNotNull();
+        assertThat(cookie.getValue()).isEqualTo(Long.toString(NOW.plusSeconds(3).toEpochMilli()));
+        assertThat(cookie.getMaxAge()).isEqualTo(3);
+        assertThat(cookie.isHttpOnly()).isTrue();
+
+        beginRequest(new Cookie(cookie.getName(), cookie.getValue()));
+        assertThat(tracker.mustReadPrimary()).isTrue();
+    }
+
+    @Test
+    void expiredOrMalformedCookieIsIgnored() {
+        beginRequest(new Cookie(ReadYourWritesTracker.COOKIE_NAME, Long.toString(NOW.toEpochMilli())));
+        assertThat(tracker.mustReadPrimary()).isFalse();
+
+        beginRequest(new Cookie(ReadYourWritesTracker.COOKIE_NAME, "not-a-time"));
+        assertThat(tracker.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    void authenticatedWriterIsRecognisedWithoutCookie() {
+        authenticate("user@example.com");
+        beginRequest();
+        tracker.recordWrite();
+
+        beginRequest();
+        assertThat(tracker.mustReadPrimary()).isTrue();
+
+        authenticate("other@example.com");
+        assertThat(tracker.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    void anonymousAuthenticationIsNotAWriterKey() {
+        SecurityContextHolder.getContext().setAuthentication(new AnonymousAuthenticationToken("key", "anonymousUser",
+                AuthorityUtils.createAuthorityList("ROLE_ANONYMOUS")));
+        beginRequest();
+        tracker.recordWrite();
+
+        beginRequest();
+        assertThat(tracker.mustReadPrimary()).isFalse();
+    }
+
+    @Test
+    void writeOutsideRequestLeavesNoMark() {
+        tracker.recordWrite();
+
+        assertThat(tracker.mustReadPrimary()).isFalse();
+        beginRequest();
+        assertThat(tracker.mustReadPrimary()).isFalse();
+    }
+}
@@ -0,0 +1,100 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.config.JwtTokenProvider;
+import com.catcheat.api.security.dto.TokenResponseDto;
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.JwtClaims;
+import com.catcheat.api.security.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AuthTokenServiceTest {
+
+    private JwtTokenProvider tokenProvider;
+    private TokenRevocationStore revocationStore;
+    private UserRepository userRepository;
+    private AuthTokenService authTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = new JwtTokenProvider(new ObjectMapper(), new SimpleMeterRegistry(),
+                "test-secret-test-secret-test-secret!", Duration.ofMinutes(15), Duration.ofDays(14), 1000);
+        revocationStore = new TokenRevocationStore(1000);
+        userRepository = mock(UserRepository.class);
+        authTokenService = new AuthTokenService(tokenProvider, revocationStore, userRepository);
+
+        user = new User();
+        user.setUserId(3);
+        user.setProvider("LOCAL");
+        user.setEmail("user3@example.com");
+        when(userRepository.findById(3)).thenReturn(Optional.of(user));
+    }
+
+    @Test
+    void refreshRotatesTokenPair() {
+        TokenResponseDto issued = authTokenService.issue(user);
+
+        TokenResponseDto refreshed = authTokenService.refresh(issued.getRefreshToken());
+
+        assertThat(tokenProvider.verify(refreshed.getAccessToken()).userId()).isEqualTo(3);
+        assertThat(refreshed.getRefreshToken()).isNotEqualTo(issued.getRefreshToken());
+    }
+
+    @Test
+    void refreshTokenCannotBeReusedAfterRotation() {
+        String refreshToken = authTokenService.issue(user).getRefreshToken();
+        TokenResponseDto rotated = authTokenService.refresh(refreshToken);
+
+        assertThatThrownBy(() -> authTokenService.refresh(refreshToken)).isInstanceOf(BadCredentialsException.class);
+        // 새로 받은 refresh 토큰은 그대로 사용 가능
+        assertThat(authTokenService.refresh(rotated.getRefreshToken())).isNotNull();
+    }
+
+    @Test
+    void accessTokenIsNotAcceptedAsRefreshToken() {
+        String accessToken = authTokenService.issue(user).getAccessToken();
+
+        assertThatThrownBy(() -> authTokenService.refresh(accessToken))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("Not a refresh token");
+        assertThatThrownBy(() -> authTokenService.refresh(" ")).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void logoutRevokesAccessAndRefreshTokens() {
+        TokenResponseDto issued = authTokenService.issue(user);
+        JwtClaims accessClaims = tokenProvider.parse(issued.getAccessToken());
+
+        authTokenService.logout(accessClaims, issued.getRefreshToken());
+
+        assertThat(revocationStore.isRevoked(accessClaims.tokenId())).isTrue();
+        assertThatThrownBy(() -> authTokenService.refresh(issued.getRefreshToken()))
+                .isInstanceOf(BadCredentialsException.class)
+                .hasMessageContaining("revoked");
+    }
+
+    @Test
+    void logoutRejectsAnotherUsersRefreshToken() {
+        User other = new User();
+        other.setUserId(4);
+        other.setProvider("LOCAL");
+        JwtClaims accessClaims = tokenProvider.parse(authTokenService.issue(user).getAccessToken());
+        String otherRefresh = authTokenService.issue(other).getRefreshToken();
+
+        assertThatThrownBy(() -> authTokenService.logout(accessClaims, otherRefresh))
+                .isInstanceOf(BadCredentialsException.class);
+        assertThat(revocationStore.isRevoked(tokenProvider.verify(otherRefresh).tokenId())).isFalse();
+    }
+}
@@ -0,0 +1,113 @@
+package com.catcheat.api.security.auth;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    /** release() 전까지 해시 계산이 끝나지 않는 encoder */
+    private static final class BlockingEncoder implements PasswordEncoder {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "{noop}" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+
+    private static DelegatingPasswordEncoder bcrypt(int strength) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder("bcrypt",
+                Map.of("bcrypt", new BCryptPasswordEncoder(strength)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(strength));
+        return encoder;
+    }
+
+    @Test
+    void rejectsWhenQueueIsFull() throws Exception {
+        BlockingEncoder delegate = new BlockingEncoder();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 1, Duration.ofSeconds(10), registry);
+        try {
+            CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("running"));
+            assertThat(delegate.started.await(5, TimeUnit.SECONDS)).isTrue();
+            CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("queued"));
+            while (registry.get("auth.password.queue.depth").gauge().value() < 1) {
+                Thread.onSpinWait();
+            }
+
+            assertThatThrownBy(() -> encoder.encode("rejected")).isInstanceOf(PasswordHashingRejectedException.class);
+            assertThat(registry.get("auth.password.rejected").tag("reason", "queue_full").counter().count()).isEqualTo(1);
+
+            delegate.release.countDown();
+            assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}running");
+            assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("{noop}queued");
+        } finally {
+            delegate.release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void rejectsWhenResultTakesLongerThanMaxWait() {
+        BlockingEncoder delegate = new BlockingEncoder();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(delegate, 1, 4, Duration.ofMillis(50), registry);
+        try {
+            assertThatThrownBy(() -> encoder.matches("password", "{noop}password"))
+                    .isInstanceOf(PasswordHashingRejectedException.class)
+                    .hasMessageContaining("Timed out");
+            assertThat(registry.get("auth.password.rejected").tag("reason", "timeout").counter().count()).isEqualTo(1);
+        } finally {
+            delegate.release.countDown();
+            encoder.destroy();
+        }
+    }
+
+    @Test
+    void upgradesHashesBelowConfiguredStrength() {
+        BoundedPasswordEncoder current = new BoundedPasswordEncoder(bcrypt(5), 1, 4, Duration.ofSeconds(10),
+                new SimpleMeterRegistry());
+        try {
+            String weak = bcrypt(4).encode("password");
+            String legacy = weak.substring("{bcrypt}".length());    // 접두어 없는 기존 해시
+
+            assertThat(current.matches("password", weak)).isTrue();
+            assertThat(current.matches("password", legacy)).isTrue();
+            assertThat(current.upgradeEncoding(weak)).isTrue();
+
+            String upgraded = current.encode("password");
+            assertThat(upgraded).startsWith("{bcrypt}$2a$05$");
+            assertThat(current.matches("password", upgraded)).isTrue();
+            assertThat(current.upgradeEncoding(upgraded)).isFalse();
+
+            // cost 를 낮춰도 더 강한 해시를 약하게 바꾸지 않음
+            assertThat(bcrypt(4).upgradeEncoding(upgraded)).isFalse();
+        } finally {
+            current.destroy();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.model.JwtClaims;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenRevocationStoreTest {
+
+    private static JwtClaims refreshClaims(String tokenId) {
+        long now = Instant.now().getEpochSecond();
+        return new JwtClaims(1, "user@example.com", "LOCAL", JwtClaims.REFRESH, tokenId, now, now + 3600);
+    }
+
+    @Test
+    void revokedTokenIsRemembered() {
+        TokenRevocationStore store = new TokenRevocationStore(1000);
+
+        assertThat(store.isRevoked("a")).isFalse();
+        store.revoke(refreshClaims("a"));
+
+        assertThat(store.isRevoked("a")).isTrue();
+        assertThat(store.isRevoked("b")).isFalse();
+        assertThat(store.isRevoked(null)).isFalse();
+    }
+
+    @Test
+    void revokeIfActiveSucceedsOnlyOnce() {
+        TokenRevocationStore store = new TokenRevocationStore(1000);
+
+        assertThat(store.revokeIfActive(refreshClaims("a"))).isTrue();
+        assertThat(store.revokeIfActive(refreshClaims("a"))).isFalse();
+        assertThat(store.isRevoked("a")).isTrue();
+
+        store.revoke(refreshClaims("b"));
+        assertThat(store.revokeIfActive(refreshClaims("b"))).isFalse();
+    }
+
+    @Test
+    void concurrentRotationHasOneWinner() throws Exception {
+        TokenRevocationStore store = new TokenRevocationStore(1000);
+        JwtClaims claims = refreshClaims("same");
+        int threads = 16;
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Boolean>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            Callable<Boolean> rotate = () -> {
+                start.await();
+                return store.revokeIfActive(claims);
+            };
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(rotate));
+            }
+            start.countDown();
+            int winners = 0;
+            for (Future<Boolean> result : results) {
+                winners += result.get() ? 1 : 0;
+            }
+            assertThat(winners).isEqualTo(1);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.catcheat.api.security.auth;
+
+import com.catcheat.api.security.entity.User;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLookupCacheTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final UserLookupCache cache =
+            new UserLookupCache(new SimpleMeterRegistry(), 100, Duration.ofMinutes(5), Duration.ofSeconds(30));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static User user(String password) {
+        User user = new User();
+        user.setUserId(1);
+        user.setEmail(EMAIL);
+        user.setPassword(password);
+        return user;
+    }
+
+    private Optional<User> load(Optional<User> result) {
+        return cache.findByEmail(EMAIL, email -> {
+            loads.incrementAndGet();
+            return result;
+        });
+    }
+
+    @Test
+    void loadedUserIsServedFromCache() {
+        load(Optional.of(user("hash-1")));
+        Optional<User> cached = load(Optional.of(user("hash-2")));
+
+        assertThat(cached).map(User::getPassword).contains("hash-1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationDuringLoadDiscardsTheLoadedUser() {
+        // 조회가 끝나기 전에 비밀번호가 바뀐 경우
+        cache.findByEmail(EMAIL, email -> {
+            Optional<User> stale = Optional.of(user("old-hash"));
+            cache.invalidate(email);
+            return stale;
+        });
+
+        assertThat(load(Optional.of(user("new-hash")))).map(User::getPassword).contains("new-hash");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidationDuringLoadDiscardsTheUnknownMarker() {
+        // 조회가 끝나기 전에 가입한 경우
+        cache.findByEmail(EMAIL, email -> {
+            cache.invalidate(email);
+            return Optional.empty();
+        });
+
+        assertThat(load(Optional.of(user("hash")))).isPresent();
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -0,0 +1,110 @@
+package com.catcheat.api.security.config;
+
+import com.catcheat.api.security.entity.User;
+import com.catcheat.api.security.model.JwtClaims;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.CredentialsExpiredException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtTokenProviderTest {
+
+    static final String SECRET = "test-secret-test-secret-test-secret!";
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    static JwtTokenProvider provider(Duration accessTtl, Duration refreshTtl) {
+        return new JwtTokenProvider(new ObjectMapper(), new SimpleMeterRegistry(), SECRET, accessTtl, refreshTtl, 1000);
+    }
+
+    static User user(int userId) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setProvider("LOCAL");
+        user.setEmail("user" + userId + "@example.com");
+        return user;
+    }
+
+    private static String encode(String json) {
+        return ENCODER.encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void issuedTokensVerifyWithTheirType() {
+        JwtTokenProvider provider = provider(Duration.ofMinutes(15), Duration.ofDays(14));
+
+        JwtClaims access = provider.parse(provider.createAccessToken(user(7)));
+        JwtClaims refresh = provider.verify(provider.createRefreshToken(user(7)));
+
+        assertThat(access.userId()).isEqualTo(7);
+        assertThat(access.email()).isEqualTo("user7@example.com");
+        assertThat(access.isAccessToken()).isTrue();
+        assertThat(refresh.isRefreshToken()).isTrue();
+        assertThat(refresh.tokenId()).isNotEqualTo(access.tokenId());
+    }
+
+    @Test
+    void rejectsTamperedSignatureAndPayload() {
+        JwtTokenProvider provider = provider(Duration.ofMinutes(15), Duration.ofDays(14));
+        String token = provider.createAccessToken(user(1));
+        String[] parts = token.split("\\.");
+
+        // 서명 중간 글자 하나 변경 (마지막 글자는 사용하지 않는 비트가 있어 바꿔도 같은 바이트일 수 있음)
+        char[] signature = parts[2].toCharArray();
+        signature[10] = signature[10] == 'A' ? 'B' : 'A';
+        String tamperedSignature = parts[0] + "." + parts[1] + "." + new String(signature);
+        assertThatThrownBy(() -> provider.parse(tamperedSignature)).isInstanceOf(BadCredentialsException.class);
+
+        // 다른 사용자의 payload 에 원래 서명
+        String otherPayload = provider.createAccessToken(user(2)).split("\\.")[1];
+        String tamperedPayload = parts[0] + "." + otherPayload + "." + parts[2];
+        assertThatThrownBy(() -> provider.parse(tamperedPayload)).isInstanceOf(BadCredentialsException.class);
+
+        // 다른 키로 서명한 토큰
+        JwtTokenProvider otherKey = new JwtTokenProvider(new ObjectMapper(), new SimpleMeterRegistry(),
+                "another-secret-another-secret-another", Duration.ofMinutes(15), Duration.ofDays(14), 1000);
+        assertThatThrownBy(() -> provider.verify(otherKey.createAccessToken(user(1))))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void rejectsOtherAlgorithmHeaders() {
+        JwtTokenProvider provider = provider(Duration.ofMinutes(15), Duration.ofDays(14));
+        String token = provider.createAccessToken(user(1));
+        String payloadAndSignature = token.substring(token.indexOf('.'));
+
+        String none = encode("{\"alg\":\"none\",\"typ\":\"JWT\"}");
+        assertThatThrownBy(() -> provider.parse(none + payloadAndSignature)).isInstanceOf(BadCredentialsException.class);
+        String unsigned = none + payloadAndSignature.substring(0, payloadAndSignature.lastIndexOf('.') + 1);
+        assertThatThrownBy(() -> provider.parse(unsigned)).isInstanceOf(BadCredentialsException.class);
+
+        String hs512 = encode("{\"alg\":\"HS512\",\"typ\":\"JWT\"}");
+        assertThatThrownBy(() -> provider.parse(hs512 + payloadAndSignature)).isInstanceOf(BadCredentialsException.class);
+
+        // 같은 alg 라도 헤더 바이트가 다르면 거절 (헤더는 고정 문자열로만 비교)
+        String reordered = encode("{\"typ\":\"JWT\",\"alg\":\"HS256\"}");
+        assertThatThrownBy(() -> provider.parse(reordered + payloadAndSignature)).isInstanceOf(BadCredentialsException.class);
+
+        assertThatThrownBy(() -> provider.parse("not-a-token")).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void rejectsExpiredTokens() {
+        // ttl 0 → exp == iat, 만료 판정은 now >= exp
+        JwtTokenProvider provider = provider(Duration.ZERO, Duration.ZERO);
+
+        String access = provider.createAccessToken(user(1));
+        String refresh = provider.createRefreshToken(user(1));
+
+        assertThatThrownBy(() -> provider.parse(access)).isInstanceOf(CredentialsExpiredException.class);
+        assertThatThrownBy(() -> provider.verify(refresh)).isInstanceOf(CredentialsExpiredException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package com.catcheat.api.store;
+
+import com.catcheat.api.store.stream.StoreChangeBroadcaster;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class StoreControllerTest {
+
+    private StoreService storeService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        storeService = mock(StoreService.class);
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                new StoreController(storeService, mock(StoreChangeBroadcaster.class), new ObjectMapper())).build();
+    }
+
+    @Test
+    void unknownFieldIsBadRequestBeforeLoadingStores() throws Exception {
+        mockMvc.perform(get("/api/stores").param("fields", "id,secret"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("Unknown store field: secret"));
+
+        mockMvc.perform(get("/api/stores").param("size", "10").param("fields", "nope"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(storeService);
+    }
+
+    @Test
+    void knownFieldsAreServed() throws Exception {
+        when(storeService.getPage(null, 10)).thenReturn(new StorePageResponseDto(List.of(), 0L, false));
+
+        mockMvc.perform(get("/api/stores").param("size", "10").param("fields", "id, name"))
+                .andExpect(status().isOk());
+    }
+}
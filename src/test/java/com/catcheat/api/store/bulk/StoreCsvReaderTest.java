@@ -0,0 +1,92 @@
+package com.catcheat.api.store.bulk;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreCsvReaderTest {
+
+    private static List<StoreImportRow> read(String csv) throws IOException {
+        StoreCsvReader reader = new StoreCsvReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+        List<StoreImportRow> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+
+    @Test
+    void quotedValuesKeepCommasAndEscapedQuotes() {
+        assertThat(StoreCsvReader.split("a,\"b,c\",\"say \"\"hi\"\"\",")).containsExactly("a", "b,c", "say \"hi\"", "");
+        assertThat(StoreCsvReader.split("\"\"")).containsExactly("");
+        assertThat(StoreCsvReader.split("")).containsExactly("");
+    }
+
+    @Test
+    void rowsAreMappedByHeaderName() throws IOException {
+        List<StoreImportRow> rows = read("""
+                \uFEFFName,CODE,opened,latitude,longitude,address
+                "Cafe, ""Main\""",S-1,Y,37.5,127.0,"Seoul, Jung-gu"
+                """);
+
+        assertThat(rows).hasSize(1);
+        StoreImportRow row = rows.get(0);
+        assertThat(row.rowNumber()).isEqualTo(1);
+        assertThat(row.parseError()).isNull();
+        assertThat(row.request().getName()).isEqualTo("Cafe, \"Main\"");
+        assertThat(row.request().getCode()).isEqualTo("S-1");
+        assertThat(row.request().isOpened()).isTrue();
+        assertThat(row.request().getLatitude()).isEqualTo(37.5);
+        assertThat(row.request().getAddress()).isEqualTo("Seoul, Jung-gu");
+    }
+
+    @Test
+    void shortRowsLeaveMissingColumnsEmpty() throws IOException {
+        List<StoreImportRow> rows = read("""
+                code,name,address,latitude,longitude
+                S-1,Cafe
+
+                S-2,Bakery,,37.5
+                """);
+
+        assertThat(rows).extracting(StoreImportRow::rowNumber).containsExactly(1, 2);   // 빈 줄은 건너뜀
+        assertThat(rows.get(0).request().getAddress()).isNull();
+        assertThat(rows.get(0).request().getLatitude()).isNull();
+        assertThat(rows.get(1).request().getLatitude()).isEqualTo(37.5);
+        assertThat(rows.get(1).request().getLongitude()).isNull();
+    }
+
+    @Test
+    void invalidValuesFailOnlyThatRow() throws IOException {
+        List<StoreImportRow> rows = read("""
+                code,name,opened,latitude,longitude
+                S-1,Cafe,maybe,,
+                S-2,Cafe,Y,NaN,127.0
+                S-3,Cafe,N,37.5,Infinity
+                S-4,Cafe,N,north,127.0
+                S-5,Cafe,0,37.5,127.0
+                """);
+
+        assertThat(rows).extracting(StoreImportRow::parseError).containsExactly(
+                "Invalid opened value: maybe",
+                "Invalid latitude value: NaN",
+                "Invalid longitude value: Infinity",
+                "Invalid latitude value: north",
+                null);
+    }
+
+    @Test
+    void headerWithoutRequiredColumnsIsRejected() {
+        assertThatThrownBy(() -> read("code,address\nS-1,Seoul\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("'code' and 'name'");
+        assertThatThrownBy(() -> read(""))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("CSV header is missing");
+    }
+}
@@ -0,0 +1,70 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StoreResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreCacheTest {
+
+    private final StoreCache cache = new StoreCache(new LocalStoreCacheInvalidationBus(), new SimpleMeterRegistry(),
+            100, Duration.ofMinutes(10), Duration.ofSeconds(30));
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private static StoreResponseDto store(long id, String name) {
+        return StoreResponseDto.builder().id(id).name(name).build();
+    }
+
+    private Map<Long, StoreResponseDto> getAll(List<Long> ids, String name) {
+        return cache.getAll(ids, missing -> {
+            loads.incrementAndGet();
+            return missing.stream().collect(Collectors.toMap(id -> id, id -> store(id, name)));
+        });
+    }
+
+    @Test
+    void onlyMissingIdsAreLoadedAndOrderIsKept() {
+        getAll(List.of(2L), "first");
+
+        Map<Long, StoreResponseDto> result = getAll(List.of(3L, 2L, 1L), "second");
+
+        assertThat(result.keySet()).containsExactly(3L, 2L, 1L);
+        assertThat(result.get(2L).getName()).isEqualTo("first");
+        assertThat(result.get(3L).getName()).isEqualTo("second");
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void storeInvalidatedDuringLoadIsNotCached() {
+        // 조회가 끝나기 전에 1번 매장이 수정된 경우
+        cache.getAll(List.of(1L, 2L), missing -> {
+            Map<Long, StoreResponseDto> stale = Map.of(1L, store(1L, "old"), 2L, store(2L, "old"));
+            cache.invalidate(1L);
+            return stale;
+        });
+
+        Map<Long, StoreResponseDto> result = getAll(List.of(1L, 2L), "new");
+
+        assertThat(result.get(1L).getName()).isEqualTo("new");
+        assertThat(result.get(2L).getName()).isEqualTo("old");
+    }
+
+    @Test
+    void fullInvalidationDuringLoadDiscardsEveryLoadedStore() {
+        cache.getAll(List.of(1L, 2L), missing -> {
+            Map<Long, StoreResponseDto> stale = Map.of(1L, store(1L, "old"), 2L, store(2L, "old"));
+            cache.invalidate(null);
+            return stale;
+        });
+
+        assertThat(getAll(List.of(1L, 2L), "new").values()).extracting(StoreResponseDto::getName)
+                .containsOnly("new");
+    }
+}
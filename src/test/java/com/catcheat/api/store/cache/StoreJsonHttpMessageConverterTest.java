@@ -0,0 +1,84 @@
+package com.catcheat.api.store.cache;
+
+import com.catcheat.api.store.StorePageResponseDto;
+import com.catcheat.api.store.StoreResponseDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreJsonHttpMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final StoreJsonCache jsonCache =
+            new StoreJsonCache(objectMapper, new LocalStoreCacheInvalidationBus(), new SimpleMeterRegistry());
+    private final StoreJsonHttpMessageConverter converter = new StoreJsonHttpMessageConverter();
+
+    // 한글(UTF-8 3바이트) 값과 null 필드를 포함 → 문자 수가 아니라 바이트 수로 길이를 계산하는지 확인
+    private static StoreResponseDto store(long id) {
+        return StoreResponseDto.builder()
+                .id(id)
+                .code("S-" + id)
+                .name("캐치잇 " + id + "호점")
+                .address("서울특별시 중구 \"세종대로\" 110")
+                .opened(true)
+                .province("서울특별시")
+                .latitude(37.5665)
+                .longitude(126.978)
+                .version(3L)
+                .build();
+    }
+
+    // 컨버터 출력이 Jackson 출력과 같고, Content-Length 헤더가 실제 본문 길이와 같은지
+    private void assertSameAsJackson(Object body, Object jacksonBody) throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(body, MediaType.APPLICATION_JSON, message);
+
+        byte[] written = message.getBodyAsBytes();
+        assertThat(written).isEqualTo(objectMapper.writeValueAsBytes(jacksonBody));
+        assertThat(message.getHeaders().getContentLength()).isEqualTo(written.length);
+    }
+
+    @Test
+    void emptyList() throws IOException {
+        StoreJsonList list = jsonCache.list(List.of());
+
+        assertThat(list.contentLength()).isEqualTo(2);
+        assertSameAsJackson(list, List.of());
+    }
+
+    @Test
+    void singleStoreList() throws IOException {
+        List<StoreResponseDto> stores = List.of(store(1));
+
+        assertSameAsJackson(jsonCache.list(stores), stores);
+    }
+
+    @Test
+    void multipleStoreList() throws IOException {
+        List<StoreResponseDto> stores = List.of(store(1), store(2), store(3));
+
+        assertSameAsJackson(jsonCache.list(stores), stores);
+    }
+
+    @Test
+    void pageWithoutNextCursor() throws IOException {
+        List<StoreResponseDto> stores = List.of(store(1));
+        StoreJsonPage page = new StoreJsonPage(jsonCache.list(stores), null, false);
+
+        assertSameAsJackson(page, new StorePageResponseDto(stores, null, false));
+    }
+
+    @Test
+    void emptyPageWithNextCursor() throws IOException {
+        StoreJsonPage page = new StoreJsonPage(jsonCache.list(List.of()), 120L, true);
+
+        assertSameAsJackson(page, new StorePageResponseDto(List.of(), 120L, true));
+    }
+}
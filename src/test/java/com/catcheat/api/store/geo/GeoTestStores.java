@@ -0,0 +1,28 @@
+package com.catcheat.api.store.geo;
+
+import com.catcheat.api.store.Store;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ *  공간/클러스터 인덱스 테스트용 매장 데이터
+ */
+final class GeoTestStores {
+
+    private GeoTestStores() {
+    }
+
+    static Store store(long id, Double latitude, Double longitude) {
+        return Store.builder().id(id).latitude(latitude).longitude(longitude).build();
+    }
+
+    // 서울 부근(위도 37.4 ~ 37.7, 경도 126.8 ~ 127.2)에 고르게 흩어진 매장, id 는 0 부터
+    static List<Store> aroundSeoul(int count, long seed) {
+        Random random = new Random(seed);
+        return IntStream.range(0, count)
+                .mapToObj(i -> store(i, 37.4 + random.nextDouble() * 0.3, 126.8 + random.nextDouble() * 0.4))
+                .toList();
+    }
+}
@@ -0,0 +1,140 @@
+package com.catcheat.api.store.geo;
+
+import com.catcheat.api.store.Store;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.catcheat.api.store.geo.GeoTestStores.store;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class StoreClusterIndexTest {
+
+    private static int total(List<StoreClusterIndex.Cluster> clusters) {
+        return clusters.stream().mapToInt(StoreClusterIndex.Cluster::count).sum();
+    }
+
+    @Test
+    void clusterCountsCoverEveryStoreInViewport() {
+        StoreClusterIndex index = new StoreClusterIndex();
+        List<Store> stores = GeoTestStores.aroundSeoul(5_000, 42);
+        stores.forEach(index::put);
+
+        // 서울 전체가 들어오는 화면이면 줌과 관계없이 합계 = 전체 매장 수
+        for (int zoom = 0; zoom <= StoreClusterIndex.MAX_ZOOM; zoom++) {
+            assertThat(total(index.clusters(37.3, 126.7, 37.8, 127.3, zoom)))
+                    .as("zoom %d", zoom)
+                    .isEqualTo(stores.size());
+        }
+        // 낮은 줌에서는 한 칸으로 모임 (좌표 평균 = 전체 평균)
+        List<StoreClusterIndex.Cluster> world = index.clusters(-85, -180, 85, 180, 0);
+        assertThat(world).hasSize(1);
+        double averageLat = stores.stream().mapToDouble(Store::getLatitude).average().orElseThrow();
+        assertThat(world.get(0).latitude()).isCloseTo(averageLat, within(1e-5));
+    }
+
+    @Test
+    void zoomIsClampedAndCellEdgesBelongToTheEasternAndSouthernCell() {
+        StoreClusterIndex index = new StoreClusterIndex();
+        GeoTestStores.aroundSeoul(500, 7).forEach(index::put);
+
+        assertThat(index.clusters(37.3, 126.7, 37.8, 127.3, -1)).isEqualTo(index.clusters(37.3, 126.7, 37.8, 127.3, 0));
+        assertThat(index.clusters(37.3, 126.7, 37.8, 127.3, 99))
+                .isEqualTo(index.clusters(37.3, 126.7, 37.8, 127.3, StoreClusterIndex.MAX_ZOOM));
+
+        // 줌 0 은 4×4 칸: 경도 0, 위도 0 이 칸 경계
+        assertThat(StoreClusterIndex.col(0, 0)).isEqualTo(2);
+        assertThat(StoreClusterIndex.col(-0.000001, 0)).isEqualTo(1);
+        assertThat(StoreClusterIndex.row(0, 0)).isEqualTo(2);
+        assertThat(StoreClusterIndex.row(0.000001, 0)).isEqualTo(1);
+        // 범위 밖 좌표는 가장자리 칸으로 (메르카토르 한계 85.05° 너머, 경도 ±180)
+        int last = (1 << (StoreClusterIndex.MAX_ZOOM + StoreClusterIndex.CELL_BITS)) - 1;
+        assertThat(StoreClusterIndex.row(90, StoreClusterIndex.MAX_ZOOM)).isZero();
+        assertThat(StoreClusterIndex.row(-90, StoreClusterIndex.MAX_ZOOM)).isEqualTo(last);
+        assertThat(StoreClusterIndex.col(-180, StoreClusterIndex.MAX_ZOOM)).isZero();
+        assertThat(StoreClusterIndex.col(180, StoreClusterIndex.MAX_ZOOM)).isEqualTo(last);
+    }
+
+    @Test
+    void cellKeysKeepRowMajorOrderAcrossHemispheres() {
+        // 남반구/서반구(음수 위도·경도)도 행/열 번호는 0 이상 → 키 부호가 바뀌지 않고 행 우선 순서 유지
+        int last = (1 << (StoreClusterIndex.MAX_ZOOM + StoreClusterIndex.CELL_BITS)) - 1;
+        assertThat(StoreClusterIndex.cellKey(0, last)).isLessThan(StoreClusterIndex.cellKey(1, 0));
+        assertThat(StoreClusterIndex.cellKey(last, last)).isPositive();
+        assertThat(StoreClusterIndex.cellKey(0, 0)).isZero();
+
+        StoreClusterIndex index = new StoreClusterIndex();
+        index.put(store(1L, 1.0, 1.0));         // 북동
+        index.put(store(2L, 1.0, -1.0));        // 북서
+        index.put(store(3L, -1.0, 1.0));        // 남동
+        index.put(store(4L, -1.0, -1.0));       // 남서
+        index.put(store(5L, 89.0, -179.9));     // 북서 끝 칸
+        index.put(store(6L, -89.0, 179.9));     // 남동 끝 칸
+
+        // 북→남, 서→동 순서
+        for (int zoom : new int[]{0, 5, StoreClusterIndex.MAX_ZOOM}) {
+            assertThat(index.clusters(-90, -180, 90, 180, zoom))
+                    .as("zoom %d", zoom)
+                    .extracting(StoreClusterIndex.Cluster::storeId)
+                    .containsExactly(5L, 2L, 1L, 4L, 3L, 6L);
+        }
+        // 서반구만 보는 화면에는 서쪽 매장만
+        assertThat(index.clusters(-90, -180, 90, -0.5, 3))
+                .extracting(StoreClusterIndex.Cluster::storeId)
+                .containsExactly(5L, 2L, 4L);
+    }
+
+    @Test
+    void countsAndAveragesFollowRemovals() {
+        StoreClusterIndex index = new StoreClusterIndex();
+        index.put(store(1L, 37.5000, 127.0000));
+        index.put(store(2L, 37.5002, 127.0002));
+        index.put(store(3L, 37.5004, 127.0004));
+
+        StoreClusterIndex.Cluster cluster = index.clusters(37.4, 126.9, 37.6, 127.1, 10).get(0);
+        assertThat(cluster.count()).isEqualTo(3);
+        assertThat(cluster.storeId()).isNull();
+        assertThat(cluster.latitude()).isCloseTo(37.5002, within(1e-9));
+
+        index.remove(2L);
+        index.remove(99L);                      // 없는 매장은 무시
+        cluster = index.clusters(37.4, 126.9, 37.6, 127.1, 10).get(0);
+        assertThat(cluster.count()).isEqualTo(2);
+        assertThat(cluster.latitude()).isCloseTo(37.5002, within(1e-9));
+        assertThat(cluster.longitude()).isCloseTo(127.0002, within(1e-9));
+
+        index.remove(3L);
+        index.put(store(1L, 37.5000, 127.0000));  // 같은 좌표로 다시 넣어도 한 번만 집계
+        for (int zoom = 0; zoom <= StoreClusterIndex.MAX_ZOOM; zoom++) {
+            assertThat(index.clusters(-85, -180, 85, 180, zoom))
+                    .as("zoom %d", zoom)
+                    .singleElement()
+                    .satisfies(remaining -> {
+                        assertThat(remaining.count()).isEqualTo(1);
+                        assertThat(remaining.storeId()).isEqualTo(1L);
+                    });
+        }
+
+        index.remove(1L);
+        assertThat(index.clusters(-85, -180, 85, 180, 0)).isEmpty();
+    }
+
+    @Test
+    void putMovesStoresBetweenCells() {
+        StoreClusterIndex index = new StoreClusterIndex();
+        index.put(store(1L, 37.5, 127.0));
+        index.put(store(2L, 37.5001, 127.0001));
+        index.put(store(1L, 35.1, 129.0));   // 부산으로 이동
+        index.put(store(3L, null, null));    // 좌표 없는 매장은 집계하지 않음
+
+        assertThat(index.clusters(37.4, 126.9, 37.6, 127.1, 10)).singleElement()
+                .satisfies(cluster -> {
+                    assertThat(cluster.count()).isEqualTo(1);
+                    assertThat(cluster.storeId()).isEqualTo(2L);   // 매장이 하나뿐인 칸은 id 포함
+                });
+        assertThat(index.clusters(35.0, 128.9, 35.2, 129.1, 10)).singleElement()
+                .satisfies(cluster -> assertThat(cluster.storeId()).isEqualTo(1L));
+        assertThat(total(index.clusters(-85, -180, 85, 180, 0))).isEqualTo(2);
+    }
+}
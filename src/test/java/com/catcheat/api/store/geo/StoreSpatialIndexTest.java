@@ -0,0 +1,51 @@
+package com.catcheat.api.store.geo;
+
+import com.catcheat.api.store.Store;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static com.catcheat.api.store.geo.GeoTestStores.store;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSpatialIndexTest {
+
+    @Test
+    void nearestMatchesBruteForce() {
+        StoreSpatialIndex index = new StoreSpatialIndex();
+        List<Store> stores = GeoTestStores.aroundSeoul(5_000, 42);
+        stores.forEach(index::put);
+
+        double lat = 37.498, lng = 127.027;   // 강남역 부근
+        List<Long> expected = stores.stream()
+                .filter(s -> GeoDistance.haversineKm(lat, lng, s.getLatitude(), s.getLongitude()) <= 3)
+                .sorted(Comparator.comparingDouble(s -> GeoDistance.haversineKm(lat, lng, s.getLatitude(), s.getLongitude())))
+                .limit(20)
+                .map(Store::getId)
+                .collect(Collectors.toList());
+
+        List<Long> actual = index.nearest(lat, lng, 3, 20).stream()
+                .map(StoreSpatialIndex.NearbyHit::storeId)
+                .collect(Collectors.toList());
+
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        StoreSpatialIndex index = new StoreSpatialIndex();
+        index.put(store(1L, 37.5, 127.0));
+        index.put(store(1L, 35.1, 129.0));   // 부산으로 이동
+        index.put(store(2L, null, null));    // 좌표 없는 매장은 인덱싱하지 않음
+
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.nearest(37.5, 127.0, 5, 10)).isEmpty();
+        assertThat(index.nearest(35.1, 129.0, 5, 10)).extracting(StoreSpatialIndex.NearbyHit::storeId)
+                .containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.size()).isZero();
+    }
+}
@@ -0,0 +1,73 @@
+package com.catcheat.api.store.geocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AddressCentroidIndexTest {
+
+    private static final String DATASET = """
+            # 시/도,시/군/구,읍/면/동,도로명,위도,경도
+            서울특별시,,,,37.5665,126.9780
+            서울특별시,강남구,,,37.5172,127.0473
+            서울특별시,강남구,역삼동,,37.5006,127.0366
+            서울특별시,강남구,,테헤란로,37.5045,127.0490
+            서울특별시,중구,명동,,37.5636,126.9850
+            부산광역시,중구,,,35.1063,129.0323
+            세종특별자치시,,한솔동,,36.4830,127.2560
+            """;
+
+    private static AddressCentroidIndex index() throws IOException {
+        return AddressCentroidIndex.load(new StringReader(DATASET));
+    }
+
+    private static AddressCentroidIndex.Location locate(String address) throws IOException {
+        return index().locate(KoreanAddressParser.parse(address));
+    }
+
+    @Test
+    void prefersRoadOverDistrictAndCity() throws IOException {
+        AddressCentroidIndex.Location location = locate("서울 강남구 테헤란로 152 (역삼동)");
+
+        assertThat(location.precision()).isEqualTo(AddressCentroidIndex.Precision.ROAD);
+        assertThat(location.latitude()).isEqualTo(37.5045);
+        assertThat(location.district()).isEqualTo("역삼동");
+    }
+
+    @Test
+    void fillsMissingProvinceFromUniqueNames() throws IOException {
+        AddressCentroidIndex.Location location = locate("강남구 역삼1동 737");
+
+        assertThat(location.province()).isEqualTo("서울특별시");
+        assertThat(location.city()).isEqualTo("강남구");
+        assertThat(location.district()).isEqualTo("역삼동");
+        assertThat(location.precision()).isEqualTo(AddressCentroidIndex.Precision.DISTRICT);
+    }
+
+    @Test
+    void doesNotGuessAmbiguousCity() throws IOException {
+        // 중구는 서울/부산 모두 있음 → 시/도 없이는 명동(서울에만 있음)으로만 찾을 수 있음
+        assertThat(locate("중구 1")).isNull();
+        assertThat(locate("중구 명동 1").province()).isEqualTo("서울특별시");
+    }
+
+    @Test
+    void fallsBackToCoarserLevel() throws IOException {
+        AddressCentroidIndex.Location location = locate("서울특별시 강남구 없는동 1");
+        assertThat(location.precision()).isEqualTo(AddressCentroidIndex.Precision.CITY);
+
+        assertThat(locate("세종시 한솔동 1").precision()).isEqualTo(AddressCentroidIndex.Precision.DISTRICT);
+        assertThat(locate("세종시 한솔동 1").city()).isNull();
+    }
+
+    @Test
+    void rejectsInvalidRows() {
+        assertThatThrownBy(() -> AddressCentroidIndex.load(new StringReader("서울특별시,강남구,,,91,127")))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Line 1");
+    }
+}
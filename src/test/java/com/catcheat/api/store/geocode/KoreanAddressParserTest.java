@@ -0,0 +1,49 @@
+package com.catcheat.api.store.geocode;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KoreanAddressParserTest {
+
+    @Test
+    void parsesRoadAddressWithNote() {
+        ParsedAddress address = KoreanAddressParser.parse("서울특별시 강남구 테헤란로 152 (역삼동, 강남파이낸스센터)");
+
+        assertThat(address).isEqualTo(new ParsedAddress("서울특별시", "강남구", "역삼동", "테헤란로", "152", null));
+        assertThat(address.roadAddress()).isEqualTo("서울특별시 강남구 테헤란로 152");
+    }
+
+    @Test
+    void parsesLotAddressAndNormalizesProvinceAlias() {
+        ParsedAddress address = KoreanAddressParser.parse("서울 강남구 역삼동 737-1 3층");
+
+        assertThat(address).isEqualTo(new ParsedAddress("서울특별시", "강남구", "역삼동", null, null, "737-1"));
+        assertThat(address.lotAddress()).isEqualTo("서울특별시 강남구 역삼동 737-1");
+    }
+
+    @Test
+    void keepsCityWithDistrictWardTogether() {
+        ParsedAddress address = KoreanAddressParser.parse("경기 성남시 분당구 판교역로 235");
+
+        assertThat(address.province()).isEqualTo("경기도");
+        assertThat(address.city()).isEqualTo("성남시 분당구");
+        assertThat(address.road()).isEqualTo("판교역로");
+        assertThat(address.buildingNumber()).isEqualTo("235");
+    }
+
+    @Test
+    void parsesVillageAndMountainLot() {
+        ParsedAddress address = KoreanAddressParser.parse("경기도 가평군 청평면 청평리 산 12-3");
+
+        assertThat(address.district()).isEqualTo("청평면");
+        assertThat(address.lotNumber()).isEqualTo("청평리 산 12-3");
+    }
+
+    @Test
+    void leavesUnknownPartsEmpty() {
+        assertThat(KoreanAddressParser.parse("강남구 삼성동 159").province()).isNull();
+        assertThat(KoreanAddressParser.parse("세종특별자치시 한누리대로 2130").city()).isNull();
+        assertThat(KoreanAddressParser.parse("   ")).isEqualTo(new ParsedAddress(null, null, null, null, null, null));
+    }
+}
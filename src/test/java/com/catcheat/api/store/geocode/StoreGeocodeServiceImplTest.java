@@ -0,0 +1,67 @@
+package com.catcheat.api.store.geocode;
+
+import com.catcheat.api.store.StoreJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StoreGeocodeServiceImplTest {
+
+    private StoreGeocoder geocoder;
+    private StoreJdbcRepository storeJdbcRepository;
+    private StoreGeocodeServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        geocoder = mock(StoreGeocoder.class);
+        storeJdbcRepository = mock(StoreJdbcRepository.class);
+        service = new StoreGeocodeServiceImpl(geocoder, storeJdbcRepository, mock(TransactionTemplate.class),
+                mock(ApplicationEventPublisher.class), 1);
+    }
+
+    @Test
+    void disabledBackfillDoesNotTouchStores() {
+        when(geocoder.isEnabled()).thenReturn(false);
+
+        GeocodeBackfillResultDto result = service.backfill();
+
+        assertThat(result.getScannedRows()).isZero();
+        assertThat(result.getUpdatedRows()).isZero();
+        verifyNoInteractions(storeJdbcRepository);
+    }
+
+    @Test
+    void concurrentBackfillIsRejectedWithDedicatedException() throws Exception {
+        when(geocoder.isEnabled()).thenReturn(true);
+        CountDownLatch scanning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(storeJdbcRepository.findWithoutCoordinates(anyLong(), anyInt())).thenAnswer(invocation -> {
+            scanning.countDown();
+            release.await();
+            return List.of();
+        });
+
+        CompletableFuture<GeocodeBackfillResultDto> first = CompletableFuture.supplyAsync(service::backfill);
+        assertThat(scanning.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(service::backfill).isInstanceOf(GeocodeBackfillRunningException.class);
+
+        release.countDown();
+        assertThat(first.get(5, TimeUnit.SECONDS).getScannedRows()).isZero();
+        assertThat(service.backfill().getScannedRows()).isZero();       // 끝나면 다시 실행 가능
+    }
+}
@@ -0,0 +1,136 @@
+package com.catcheat.api.store.hours;
+
+import com.catcheat.api.store.Store;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OpeningHoursIndexTest {
+
+    private static final ZoneId SEOUL = ZoneId.of("Asia/Seoul");
+
+    private static List<OpeningHours.Weekly> everyDay(String open, String close) {
+        List<OpeningHours.Weekly> weekly = new ArrayList<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            weekly.add(new OpeningHours.Weekly(day, LocalTime.parse(open), LocalTime.parse(close)));
+        }
+        return weekly;
+    }
+
+    private static Store store(long id, boolean opened) {
+        return Store.builder().id(id).opened(opened).build();
+    }
+
+    @Test
+    void overnightHoursContinueIntoNextDay() {
+        // 2026-10-16 은 금요일
+        OpeningHours hours = OpeningHours.of(
+                List.of(new OpeningHours.Weekly(DayOfWeek.FRIDAY, LocalTime.of(18, 0), LocalTime.of(2, 0))), List.of());
+
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 10, 16, 17, 59))).isFalse();
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 10, 16, 23, 0))).isTrue();
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 10, 17, 1, 59))).isTrue();
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 10, 17, 2, 0))).isFalse();
+
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 10, 16, 12, 0))).isEqualTo(LocalDateTime.of(2026, 10, 16, 18, 0));
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 10, 16, 20, 0))).isEqualTo(LocalDateTime.of(2026, 10, 17, 2, 0));
+        // 다음 영업은 일주일 뒤 금요일
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 10, 17, 3, 0))).isEqualTo(LocalDateTime.of(2026, 10, 23, 18, 0));
+    }
+
+    @Test
+    void holidayReplacesWeeklyHoursForThatDate() {
+        OpeningHours hours = OpeningHours.of(everyDay("09:00", "01:00"), List.of(
+                new OpeningHours.Holiday(LocalDate.of(2026, 1, 1), null, null),
+                new OpeningHours.Holiday(LocalDate.of(2026, 1, 2), LocalTime.of(12, 0), LocalTime.of(15, 0))));
+
+        // 전날 영업이 자정을 넘겨도 휴무일에는 자정에 끝남
+        assertThat(hours.isOpenAt(LocalDateTime.of(2025, 12, 31, 23, 30))).isTrue();
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 1, 1, 0, 30))).isFalse();
+        assertThat(hours.nextChange(LocalDateTime.of(2025, 12, 31, 23, 30))).isEqualTo(LocalDateTime.of(2026, 1, 1, 0, 0));
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 1, 1, 10, 0))).isEqualTo(LocalDateTime.of(2026, 1, 2, 12, 0));
+        // 단축 영업일 다음 날은 다시 요일 영업시간
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 1, 2, 16, 0))).isFalse();
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 1, 2, 16, 0))).isEqualTo(LocalDateTime.of(2026, 1, 3, 9, 0));
+    }
+
+    @Test
+    void roundTheClockStoreNeverChanges() {
+        OpeningHours hours = OpeningHours.of(everyDay("00:00", "00:00"), List.of());
+
+        assertThat(hours.isOpenAt(LocalDateTime.of(2026, 10, 18, 3, 0))).isTrue();
+        assertThat(hours.nextChange(LocalDateTime.of(2026, 10, 18, 3, 0))).isNull();
+    }
+
+    @Test
+    void advanceFlipsOnlyStoresWhoseBoundaryPassed() {
+        OpeningHoursIndex index = new OpeningHoursIndex(SEOUL);
+        Map<Long, OpeningHours> hoursByStore = new HashMap<>();
+        OpeningHours opensAtNine = OpeningHours.of(everyDay("09:00", "18:00"), List.of());
+        OpeningHours opensAtTen = OpeningHours.of(everyDay("10:00", "18:00"), List.of());
+        for (long id = 1; id <= 1_000; id++) {
+            index.put(store(id, false));
+            hoursByStore.put(id, id % 2 == 0 ? opensAtNine : opensAtTen);
+        }
+        index.replaceAll(hoursByStore, LocalDateTime.of(2026, 10, 18, 8, 0).atZone(SEOUL).toInstant());
+        assertThat(index.storeIds(true)).isEmpty();
+
+        List<OpeningHoursIndex.Change> changes =
+                index.advance(LocalDateTime.of(2026, 10, 18, 9, 0, 30).atZone(SEOUL).toInstant());
+        assertThat(changes).hasSize(500).allMatch(change -> change.storeId() % 2 == 0 && change.open());
+        assertThat(index.isOpen(2L)).isTrue();
+        assertThat(index.isOpen(3L)).isFalse();
+
+        // 다음 경계 전에는 아무것도 바뀌지 않음
+        assertThat(index.advance(LocalDateTime.of(2026, 10, 18, 9, 59).atZone(SEOUL).toInstant())).isEmpty();
+        assertThat(index.advance(LocalDateTime.of(2026, 10, 18, 10, 0).atZone(SEOUL).toInstant())).hasSize(500);
+        assertThat(index.openCount()).isEqualTo(1_000);
+    }
+
+    @Test
+    void storesWithoutHoursUseManualFlag() {
+        OpeningHoursIndex index = new OpeningHoursIndex(SEOUL);
+        index.put(store(1L, true));
+        index.put(store(2L, false));
+        index.setHours(2L, OpeningHours.of(everyDay("00:00", "00:00"), List.of()),
+                LocalDateTime.of(2026, 10, 18, 12, 0).atZone(SEOUL).toInstant());
+
+        assertThat(index.storeIds(true)).containsExactly(1L, 2L);
+
+        index.setHours(2L, null, LocalDateTime.of(2026, 10, 18, 12, 0).atZone(SEOUL).toInstant());
+        assertThat(index.storeIds(true)).containsExactly(1L);
+        assertThat(index.storeIds(false)).containsExactly(2L);
+    }
+
+    @Test
+    void statusVersionChangesOnlyWhenOpenStatusMayChange() {
+        OpeningHoursIndex index = new OpeningHoursIndex(SEOUL);
+        index.put(store(1L, false));
+        index.setHours(1L, OpeningHours.of(everyDay("09:00", "18:00"), List.of()),
+                LocalDateTime.of(2026, 10, 18, 8, 0).atZone(SEOUL).toInstant());
+        long loaded = index.statusVersion();
+
+        index.put(store(2L, true));                 // 수동 값은 매장 수정으로 따로 반영됨
+        assertThat(index.advance(LocalDateTime.of(2026, 10, 18, 8, 59).atZone(SEOUL).toInstant())).isEmpty();
+        assertThat(index.statusVersion()).isEqualTo(loaded);
+
+        assertThat(index.advance(LocalDateTime.of(2026, 10, 18, 9, 0).atZone(SEOUL).toInstant())).hasSize(1);
+        long opened = index.statusVersion();
+        assertThat(opened).isNotEqualTo(loaded);
+
+        index.remove(2L);                           // 영업시간이 없는 매장
+        assertThat(index.statusVersion()).isEqualTo(opened);
+        index.remove(1L);
+        assertThat(index.statusVersion()).isNotEqualTo(opened);
+    }
+}
@@ -0,0 +1,64 @@
+package com.catcheat.api.store.search;
+
+import com.catcheat.api.store.Store;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StoreSearchIndexTest {
+
+    private static Store store(long id, String name, String address, String roadAddress) {
+        return Store.builder().id(id).name(name).address(address).roadAddress(roadAddress).build();
+    }
+
+    private static List<Long> ids(List<StoreSearchIndex.SearchHit> hits) {
+        return hits.stream().map(StoreSearchIndex.SearchHit::storeId).toList();
+    }
+
+    private static StoreSearchIndex sampleIndex() {
+        StoreSearchIndex index = new StoreSearchIndex();
+        index.put(store(1L, "캐치잇 강남역점", "서울특별시 강남구 역삼동 823", "서울특별시 강남구 강남대로 396"));
+        index.put(store(2L, "캐치잇 역삼점", "서울특별시 강남구 역삼동 736", "서울특별시 강남구 테헤란로 201"));
+        index.put(store(3L, "캐치잇 홍대점", "서울특별시 마포구 서교동 1", "서울특별시 마포구 양화로 1"));
+        return index;
+    }
+
+    @Test
+    void nameMatchRanksAboveAddressMatch() {
+        // 1번은 매장명, 2번은 주소(강남구)에만 "강남" 이 있음
+        assertThat(ids(sampleIndex().search("강남", 10))).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void toleratesTypoAndSpacing() {
+        StoreSearchIndex index = sampleIndex();
+        assertThat(ids(index.search("캐치잇홍대", 10))).first().isEqualTo(3L);
+        assertThat(ids(index.search("캐치잇 홍데점", 10))).first().isEqualTo(3L);   // 한 글자 오타
+    }
+
+    @Test
+    void searchesByChoseongAndSingleCharacter() {
+        StoreSearchIndex index = sampleIndex();
+        assertThat(ids(index.search("ㅎㄷ", 10))).containsExactly(3L);
+        assertThat(ids(index.search("홍", 10))).containsExactly(3L);
+    }
+
+    @Test
+    void putReplacesAndRemoveDeletes() {
+        StoreSearchIndex index = sampleIndex();
+        index.put(store(2L, "캐치잇 신논현점", "서울특별시 강남구 논현동 1", null));
+        index.remove(1L);
+
+        assertThat(index.search("역삼점", 10)).isEmpty();
+        assertThat(ids(index.search("신논현", 10))).containsExactly(2L);
+        assertThat(ids(index.search("강남", 10))).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void blankQueryReturnsNothing() {
+        assertThat(sampleIndex().search("  !! ", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.catcheat.api.store.snapshot;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangeRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StoreSnapshotFileTest {
+
+    private static final StoreChangeRepository.Cursor CURSOR = new StoreChangeRepository.Cursor(812L, 3L);
+    private static final Instant CREATED_AT = Instant.parse("2026-10-18T03:00:00Z");
+
+    @TempDir
+    Path dir;
+
+    private static Store full(long id) {
+        return Store.builder().id(id).code("CE" + id).name("캐치잇 " + id + "호점").address("서울특별시 강남구 역삼동 " + id)
+                .opened(id % 2 == 0).province("서울특별시").city("강남구").district("역삼동")
+                .roadAddress("서울특별시 강남구 테헤란로 " + id).lotAddress("역삼동 " + id)
+                .latitude(37.5 + id / 1000.0).longitude(127.03).version(id + 1).build();
+    }
+
+    private Path write(List<Store> stores) throws IOException {
+        Path path = dir.resolve("stores.snapshot");
+        try (StoreSnapshotFile.Writer writer = StoreSnapshotFile.writer(path, CURSOR, CREATED_AT)) {
+            for (Store store : stores) {
+                writer.add(store);
+            }
+            writer.commit();
+        }
+        return path;
+    }
+
+    private static List<Store> read(Path path) throws IOException {
+        List<Store> stores = new ArrayList<>();
+        StoreSnapshotFile.open(path).forEach(stores::add);
+        return stores;
+    }
+
+    @Test
+    void roundTripsStoresAndHeader() throws IOException {
+        Store sparse = Store.builder().id(3L).code("CE3").name("좌표 없는 매장").build();
+        Path path = write(List.of(full(1L), full(2L), sparse));
+
+        StoreSnapshotFile.Header header = StoreSnapshotFile.open(path).header();
+        assertThat(header.formatVersion()).isEqualTo(StoreSnapshotFile.FORMAT_VERSION);
+        assertThat(header.cursor()).isEqualTo(CURSOR);
+        assertThat(header.createdAt()).isEqualTo(CREATED_AT);
+        assertThat(header.count()).isEqualTo(3);
+
+        List<Store> stores = read(path);
+        assertThat(stores).hasSize(3);
+        assertThat(stores.get(1)).usingRecursiveComparison().isEqualTo(full(2L));
+        assertThat(stores.get(2)).usingRecursiveComparison().isEqualTo(sparse);
+        assertThat(Files.exists(dir.resolve("stores.snapshot.tmp"))).isFalse();
+    }
+
+    @Test
+    void rejectsCorruptedBody() throws IOException {
+        Path path = write(List.of(full(1L), full(2L)));
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x5A;
+        Files.write(path, bytes);
+
+        assertThatThrownBy(() -> StoreSnapshotFile.open(path)).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void uncommittedWriterKeepsPreviousFile() throws IOException {
+        Path path = write(List.of(full(1L)));
+        try (StoreSnapshotFile.Writer writer = StoreSnapshotFile.writer(path, CURSOR, CREATED_AT)) {
+            writer.add(full(2L));
+        }
+
+        assertThat(read(path)).extracting(Store::getId).containsExactly(1L);
+        assertThat(Files.exists(dir.resolve("stores.snapshot.tmp"))).isFalse();
+    }
+}
@@ -0,0 +1,268 @@
+package com.catcheat.api.store.stream;
+
+import com.catcheat.api.store.Store;
+import com.catcheat.api.store.StoreChangedEvent;
+import com.catcheat.api.store.hours.OpeningHoursIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+class StoreChangeBroadcasterTest {
+
+    private static final int QUEUE_CAPACITY = 4;
+    private static final int MAX_SUBSCRIBERS = 2;
+    private static final String SLOW_CLIENT = "X-Slow-Client";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicBoolean blockSlowClients = new AtomicBoolean();
+    private final CountDownLatch unblock = new CountDownLatch(1);
+
+    private StoreChangeBroadcaster broadcaster;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new StoreChangeBroadcaster(new ObjectMapper(), new OpeningHoursIndex(ZoneId.of("Asia/Seoul")),
+                meterRegistry, QUEUE_CAPACITY, 16, Duration.ofMinutes(1), Duration.ofHours(1), MAX_SUBSCRIBERS);
+        mockMvc = MockMvcBuilders.standaloneSetup(new StreamController(broadcaster))
+                .addFilters(new SlowClientFilter())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        unblock.countDown();
+        broadcaster.destroy();
+    }
+
+    @RestController
+    static class StreamController {
+
+        private final StoreChangeBroadcaster broadcaster;
+
+        StreamController(StoreChangeBroadcaster broadcaster) {
+            this.broadcaster = broadcaster;
+        }
+
+        @GetMapping("/stream")
+        SseEmitter stream(@RequestParam(name = "province", required = false) String province,
+                          @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId) {
+            return broadcaster.subscribe(new StoreStreamFilter(province, null, null, null, null, null, null),
+                    lastEventId);
+        }
+    }
+
+    private static Store store(long id, String province) {
+        return Store.builder().id(id).province(province).opened(true).version(1L).build();
+    }
+
+    // 다른 인스턴스에서 온 수정처럼 발행하고, StoreIndexSynchronizer 처럼 위치를 갱신
+    private void update(Store store) {
+        broadcaster.onRemoteStoreChanged(StoreChangedEvent.remoteUpdated(store));
+        broadcaster.put(store);
+    }
+
+    private MockHttpServletResponse subscribe(MockHttpServletRequestBuilder builder) throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+        awaitContent(response, ": connected");
+        return response;
+    }
+
+    private static void awaitContent(MockHttpServletResponse response, String text) {
+        await().atMost(Duration.ofSeconds(5)).until(() -> response.getContentAsString().contains(text));
+    }
+
+    private static List<String> eventIds(MockHttpServletResponse response) throws IOException {
+        return response.getContentAsString().lines()
+                .filter(line -> line.startsWith("id:"))
+                .map(line -> line.substring("id:".length()))
+                .toList();
+    }
+
+    private static long countEvents(MockHttpServletResponse response) throws IOException {
+        return response.getContentAsString().lines().filter(line -> line.equals("event:store")).count();
+    }
+
+    @Test
+    void reconnectReplaysEventsAfterLastEventId() throws Exception {
+        MockHttpServletResponse first = subscribe(get("/stream"));
+        update(store(1, "Seoul"));
+        update(store(2, "Seoul"));
+        update(store(3, "Seoul"));
+        awaitContent(first, "\"id\":3,");
+        List<String> ids = eventIds(first);
+        assertThat(ids).hasSize(3);
+
+        MockHttpServletResponse reconnected = subscribe(get("/stream").header("Last-Event-ID", ids.get(0)));
+        String content = reconnected.getContentAsString();
+        assertThat(eventIds(reconnected)).containsExactly(ids.get(1), ids.get(2));
+        assertThat(content.indexOf("\"id\":3,")).isLessThan(content.indexOf(": connected"));
+    }
+
+    @Test
+    void unknownLastEventIdAsksForReset() throws Exception {
+        update(store(1, "Seoul"));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/stream").header("Last-Event-ID", "previous-boot-1"))
+                .andExpect(request().asyncStarted())
+                .andReturn()
+                .getResponse();
+
+        awaitContent(response, "event:reset");
+        assertThat(response.getContentAsString()).doesNotContain("event:store");
+    }
+
+    @Test
+    void filterDeliversMatchingStoresAndStoresMovingOut() throws Exception {
+        broadcaster.put(store(1, "Seoul"));
+        MockHttpServletResponse seoul = subscribe(get("/stream").param("province", "Seoul"));
+
+        update(store(2, "Busan"));                  // 조건 밖
+        update(store(1, "Busan"));                  // 서울에서 부산으로 이동 → 전달
+        update(store(1, "Busan"));                  // 이미 조건 밖
+        update(store(3, "Seoul"));                  // 마지막 표시
+        awaitContent(seoul, "\"id\":3,");
+
+        String content = seoul.getContentAsString();
+        assertThat(content).doesNotContain("\"id\":2,");
+        assertThat(countEvents(seoul)).isEqualTo(2);
+    }
+
+    @Test
+    void slowSubscriberIsEvictedWithoutHoldingBackOthers() throws Exception {
+        MockHttpServletResponse fast = subscribe(get("/stream"));
+        subscribe(get("/stream").header(SLOW_CLIENT, "true"));
+        await().atMost(Duration.ofSeconds(5)).until(() -> broadcaster.subscriberCount() == 2);
+
+        blockSlowClients.set(true);
+        int published = QUEUE_CAPACITY + 6;
+        for (int i = 1; i <= published; i++) {
+            update(store(i, "Seoul"));
+        }
+
+        await().atMost(Duration.ofSeconds(5)).until(() -> broadcaster.subscriberCount() == 1);
+        assertThat(meterRegistry.get("store.stream.evictions").tag("reason", "slow").counter().count())
+                .isEqualTo(1);
+        await().atMost(Duration.ofSeconds(5)).until(() -> countEvents(fast) == published);
+
+        // 제거된 구독자의 자리는 반환됨
+        broadcaster.subscribe(StoreStreamFilter.ALL, null);
+    }
+
+    @Test
+    void subscriberLimitIsReservedBeforeRegistration() {
+        broadcaster.subscribe(StoreStreamFilter.ALL, null);
+        broadcaster.subscribe(StoreStreamFilter.ALL, null);
+
+        // 앞의 두 구독이 아직 publisher 스레드에서 등록되지 않았어도 한도에 포함
+        assertThatThrownBy(() -> broadcaster.subscribe(StoreStreamFilter.ALL, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .hasMessageContaining("Too many stream subscribers");
+    }
+
+    /** X-Slow-Client 요청은 blockSlowClients 가 켜지면 응답 쓰기가 테스트 끝까지 막힘 (소켓 버퍼가 가득 찬 클라이언트) */
+    private final class SlowClientFilter implements Filter {
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
+                throws IOException, ServletException {
+            if (((HttpServletRequest) request).getHeader(SLOW_CLIENT) == null) {
+                chain.doFilter(request, response);
+                return;
+            }
+            chain.doFilter(request, new HttpServletResponseWrapper((HttpServletResponse) response) {
+                @Override
+                public ServletOutputStream getOutputStream() throws IOException {
+                    return new BlockingOutputStream(super.getOutputStream());
+                }
+            });
+        }
+    }
+
+    private final class BlockingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        BlockingOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            awaitUnblocked();
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            awaitUnblocked();
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        private void awaitUnblocked() throws InterruptedIOException {
+            if (!blockSlowClients.get()) {
+                return;
+            }
+            try {
+                unblock.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException();
+            }
+        }
+    }
+}